@@ -0,0 +1,86 @@
+package org.apollo.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apollo.game.model.Direction;
+import org.apollo.game.model.Position;
+import org.apollo.game.model.area.collision.CollisionManager;
+import org.apollo.game.model.entity.EntityType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link CollisionManager#traversable} for random tiles and directions (half of which are diagonal) in a
+ * partially-blocked area.
+ *
+ * @author Major
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g", "-XX:+AlwaysPreTouch" })
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class CollisionBenchmark {
+
+	/**
+	 * The amount of queries, which must be a power of two.
+	 */
+	private static final int QUERIES = 1_024;
+
+	/**
+	 * The Directions of the queries.
+	 */
+	private final Direction[] directions = new Direction[QUERIES];
+
+	/**
+	 * The Positions of the queries.
+	 */
+	private final Position[] positions = new Position[QUERIES];
+
+	/**
+	 * The CollisionManager.
+	 */
+	private CollisionManager collisionManager;
+
+	/**
+	 * The index of the next query.
+	 */
+	private int query;
+
+	/**
+	 * Checks whether a tile is traversable.
+	 *
+	 * @return Whether or not the tile is traversable.
+	 */
+	@Benchmark
+	public boolean traversable() {
+		query = query + 1 & QUERIES - 1;
+		return collisionManager.traversable(positions[query], EntityType.PLAYER, directions[query]);
+	}
+
+	/**
+	 * Creates the terrain and the queries.
+	 */
+	@Setup
+	public void setUp() {
+		Terrain terrain = new Terrain(128, 0.2, 0);
+		collisionManager = terrain.getCollisionManager();
+
+		Random random = new Random(0);
+		for (int index = 0; index < QUERIES; index++) {
+			positions[index] = terrain.randomPosition(random);
+			directions[index] = Direction.values()[1 + random.nextInt(Direction.values().length - 1)];
+		}
+	}
+
+}
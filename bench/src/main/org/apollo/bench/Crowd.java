@@ -0,0 +1,93 @@
+package org.apollo.bench;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apollo.game.model.Position;
+import org.apollo.game.model.World;
+import org.apollo.game.model.area.Region;
+import org.apollo.game.model.entity.Player;
+import org.apollo.game.session.GameSession;
+import org.apollo.util.security.PlayerCredentials;
+
+/**
+ * A synthetic crowd of {@link Player}s, registered to a {@link World} and standing within a square area.
+ * <p>
+ * Every Player has a {@link GameSession} bound to a closed channel, so messages sent to them are discarded.
+ *
+ * @author Major
+ */
+final class Crowd {
+
+	/**
+	 * The centre of the area the crowd stands in.
+	 */
+	private static final Position CENTRE = new Position(3222, 3222);
+
+	/**
+	 * The Players in this crowd.
+	 */
+	private final Player[] players;
+
+	/**
+	 * The World the Players are registered to.
+	 */
+	private final World world = new World();
+
+	/**
+	 * Creates the Crowd.
+	 *
+	 * @param size The amount of Players.
+	 * @param radius The maximum distance of each Player from the centre of the area, on each axis.
+	 * @param seed The seed used to position the Players.
+	 */
+	public Crowd(int size, int radius, long seed) {
+		Logger.getLogger(World.class.getName()).setLevel(Level.WARNING);
+
+		Random random = new Random(seed);
+		EmbeddedChannel channel = new EmbeddedChannel();
+		channel.close();
+
+		players = new Player[size];
+		for (int index = 0; index < size; index++) {
+			int x = CENTRE.getX() + random.nextInt(radius * 2 + 1) - radius;
+			int y = CENTRE.getY() + random.nextInt(radius * 2 + 1) - radius;
+			Position position = new Position(x, y);
+
+			PlayerCredentials credentials = new PlayerCredentials("bot" + index, "password", 0, 0, "127.0.0.1");
+			Player player = new Player(world, credentials, position);
+
+			player.setSession(new GameSession(channel, null, player, false, null, null));
+			player.setLastKnownRegion(position);
+			player.setRegionChanged(false);
+
+			world.register(player);
+			Region region = world.getRegionRepository().fromPosition(position);
+			region.addEntity(player, false);
+
+			players[index] = player;
+		}
+	}
+
+	/**
+	 * Gets the Players in this crowd.
+	 *
+	 * @return The Players.
+	 */
+	public Player[] getPlayers() {
+		return players;
+	}
+
+	/**
+	 * Gets the World the Players are registered to.
+	 *
+	 * @return The World.
+	 */
+	public World getWorld() {
+		return world;
+	}
+
+}
@@ -0,0 +1,258 @@
+package org.apollo.bench;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apollo.cache.FileSystemConstants;
+import org.apollo.cache.IndexedFileSystem;
+import org.apollo.cache.archive.Archive;
+import org.apollo.util.CompressionUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link IndexedFileSystem#getFile} and {@link Archive#decode}, using a synthetic cache written to a
+ * temporary directory (so that the benchmarks do not depend on a cache being present in {@code data/fs}).
+ *
+ * @author Major
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g", "-XX:+AlwaysPreTouch" })
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class FileSystemBenchmark {
+
+	/**
+	 * The amount of entries in each archive.
+	 */
+	private static final int ENTRIES = 16;
+
+	/**
+	 * The size of each archive entry, in bytes.
+	 */
+	private static final int ENTRY_SIZE = 4_096;
+
+	/**
+	 * The type of the files read by {@link #getFile}.
+	 */
+	private static final int FILE_TYPE = 4;
+
+	/**
+	 * The amount of files of {@link #FILE_TYPE}.
+	 */
+	private static final int FILES = 64;
+
+	/**
+	 * The size of each file of {@link #FILE_TYPE}, in bytes.
+	 */
+	private static final int FILE_SIZE = 16_384;
+
+	/**
+	 * The archive decoded by {@link #decodeArchive}.
+	 */
+	private ByteBuffer archive;
+
+	/**
+	 * The temporary directory containing the cache.
+	 */
+	private Path directory;
+
+	/**
+	 * The id of the next file read by {@link #getFile}.
+	 */
+	private int file;
+
+	/**
+	 * The IndexedFileSystem.
+	 */
+	private IndexedFileSystem fs;
+
+	/**
+	 * Whether or not the archive is compressed as a whole, rather than entry-by-entry.
+	 */
+	@Param({ "true", "false" })
+	private boolean whole;
+
+	/**
+	 * Decodes an archive.
+	 *
+	 * @return The archive.
+	 * @throws IOException If the archive could not be decoded.
+	 */
+	@Benchmark
+	public Archive decodeArchive() throws IOException {
+		return Archive.decode(archive.duplicate());
+	}
+
+	/**
+	 * Reads a file from the IndexedFileSystem.
+	 *
+	 * @return The file.
+	 * @throws IOException If the file could not be read.
+	 */
+	@Benchmark
+	public ByteBuffer getFile() throws IOException {
+		file = (file + 1) % FILES;
+		return fs.getFile(FILE_TYPE, file);
+	}
+
+	/**
+	 * Writes the synthetic cache and opens the IndexedFileSystem.
+	 *
+	 * @throws IOException If the cache could not be written.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		Random random = new Random(0);
+		archive = createArchive(random, whole);
+		directory = Files.createTempDirectory("apollo-bench");
+
+		try (RandomAccessFile data = new RandomAccessFile(directory.resolve("main_file_cache.dat").toFile(), "rw")) {
+			int block = 1;
+
+			for (int type = 0; type <= FILE_TYPE; type++) {
+				try (RandomAccessFile index = new RandomAccessFile(directory.resolve("main_file_cache.idx" + type)
+					.toFile(), "rw")) {
+					if (type == FILE_TYPE) {
+						for (int file = 0; file < FILES; file++) {
+							byte[] contents = new byte[FILE_SIZE];
+							random.nextBytes(contents);
+							block = writeFile(data, index, type, file, contents, block);
+						}
+					} else if (type == 0) {
+						byte[] contents = new byte[archive.remaining()];
+						archive.duplicate().get(contents);
+						block = writeFile(data, index, type, 1, contents, block);
+					}
+				}
+			}
+		}
+
+		fs = new IndexedFileSystem(directory, true);
+	}
+
+	/**
+	 * Closes the IndexedFileSystem and deletes the synthetic cache.
+	 *
+	 * @throws IOException If the cache could not be deleted.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		fs.close();
+
+		for (Path path : Files.newDirectoryStream(directory)) {
+			Files.delete(path);
+		}
+
+		Files.delete(directory);
+	}
+
+	/**
+	 * Creates an archive of {@link #ENTRIES} text-like entries.
+	 *
+	 * @param random The {@link Random} used to create the entries.
+	 * @param whole Whether or not the archive should be compressed as a whole.
+	 * @return The encoded archive.
+	 * @throws IOException If the archive could not be compressed.
+	 */
+	private static ByteBuffer createArchive(Random random, boolean whole) throws IOException {
+		byte[][] entries = new byte[ENTRIES][ENTRY_SIZE];
+		byte[][] stored = new byte[ENTRIES][];
+
+		for (int entry = 0; entry < ENTRIES; entry++) {
+			for (int index = 0; index < ENTRY_SIZE; index++) {
+				entries[entry][index] = (byte) ('a' + random.nextInt(8));
+			}
+
+			stored[entry] = whole ? entries[entry] : CompressionUtil.bzip2(entries[entry]);
+		}
+
+		ByteBuffer contents = ByteBuffer.allocate(2 + ENTRIES * 10 + ENTRIES * ENTRY_SIZE);
+		contents.putShort((short) ENTRIES);
+
+		for (int entry = 0; entry < ENTRIES; entry++) {
+			contents.putInt(entry);
+			putMedium(contents, ENTRY_SIZE);
+			putMedium(contents, stored[entry].length);
+		}
+
+		for (byte[] entry : stored) {
+			contents.put(entry);
+		}
+
+		byte[] uncompressed = new byte[contents.position()];
+		contents.flip();
+		contents.get(uncompressed);
+
+		byte[] body = whole ? CompressionUtil.bzip2(uncompressed) : uncompressed;
+		ByteBuffer buffer = ByteBuffer.allocate(6 + body.length);
+		putMedium(buffer, uncompressed.length);
+		putMedium(buffer, whole ? body.length : uncompressed.length);
+		buffer.put(body);
+
+		buffer.flip();
+		return buffer.asReadOnlyBuffer();
+	}
+
+	/**
+	 * Puts a three-byte value into the specified buffer.
+	 *
+	 * @param buffer The buffer.
+	 * @param value The value.
+	 */
+	private static void putMedium(ByteBuffer buffer, int value) {
+		buffer.put((byte) (value >> 16)).put((byte) (value >> 8)).put((byte) value);
+	}
+
+	/**
+	 * Writes a file to the cache, in consecutive blocks.
+	 *
+	 * @param data The data file.
+	 * @param index The index file of the type of the file.
+	 * @param type The type of the file.
+	 * @param file The id of the file.
+	 * @param contents The contents of the file.
+	 * @param block The first block to write the file to.
+	 * @return The first block after the file.
+	 * @throws IOException If the file could not be written.
+	 */
+	private static int writeFile(RandomAccessFile data, RandomAccessFile index, int type, int file, byte[] contents,
+			int block) throws IOException {
+		index.seek(file * FileSystemConstants.INDEX_SIZE);
+		index.write(new byte[] { (byte) (contents.length >> 16), (byte) (contents.length >> 8), (byte) contents.length,
+			(byte) (block >> 16), (byte) (block >> 8), (byte) block });
+
+		for (int chunk = 0, written = 0; written < contents.length; chunk++, block++) {
+			int length = Math.min(FileSystemConstants.CHUNK_SIZE, contents.length - written);
+			int next = written + length < contents.length ? block + 1 : 0;
+
+			data.seek((long) block * FileSystemConstants.BLOCK_SIZE);
+			data.write(new byte[] { (byte) (file >> 8), (byte) file, (byte) (chunk >> 8), (byte) chunk,
+				(byte) (next >> 16), (byte) (next >> 8), (byte) next, (byte) (type + 1) });
+			data.write(contents, written, length);
+
+			written += length;
+		}
+
+		return block;
+	}
+
+}
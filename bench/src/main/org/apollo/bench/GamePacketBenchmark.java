@@ -0,0 +1,139 @@
+package org.apollo.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apollo.net.codec.game.DataOrder;
+import org.apollo.net.codec.game.DataTransformation;
+import org.apollo.net.codec.game.DataType;
+import org.apollo.net.codec.game.GamePacket;
+import org.apollo.net.codec.game.GamePacketBuilder;
+import org.apollo.net.codec.game.GamePacketReader;
+import org.apollo.net.meta.PacketType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks writing and reading packets with the {@link GamePacketBuilder} and {@link GamePacketReader}, using the
+ * mix of byte- and bit-access operations found in the synchronization packets.
+ *
+ * @author Major
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g", "-XX:+AlwaysPreTouch" })
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class GamePacketBenchmark {
+
+	/**
+	 * The amount of values written by each operation.
+	 */
+	private static final int VALUES = 64;
+
+	/**
+	 * The packet that is read.
+	 */
+	private GamePacket packet;
+
+	/**
+	 * Builds a packet containing bit-access values, as the movement section of the synchronization packets does.
+	 *
+	 * @return The packet.
+	 */
+	@Benchmark
+	public GamePacket buildBits() {
+		GamePacketBuilder builder = new GamePacketBuilder(81, PacketType.VARIABLE_SHORT);
+		builder.switchToBitAccess();
+
+		for (int index = 0; index < VALUES; index++) {
+			builder.putBits(2, index & 3);
+			builder.putBits(3, index & 7);
+			builder.putBits(1, index & 1);
+		}
+
+		builder.switchToByteAccess();
+		return builder.toGamePacket();
+	}
+
+	/**
+	 * Builds a packet containing byte-access values with transformations, as the update blocks do.
+	 *
+	 * @return The packet.
+	 */
+	@Benchmark
+	public GamePacket buildBytes() {
+		GamePacketBuilder builder = new GamePacketBuilder(81, PacketType.VARIABLE_SHORT);
+
+		for (int index = 0; index < VALUES; index++) {
+			builder.put(DataType.SHORT, DataOrder.LITTLE, DataTransformation.ADD, index);
+			builder.put(DataType.BYTE, DataTransformation.NEGATE, index);
+			builder.put(DataType.INT, DataOrder.MIDDLE, index);
+		}
+
+		builder.putString("Benchmark");
+		return builder.toGamePacket();
+	}
+
+	/**
+	 * Reads the bit- and byte-access values of the packet.
+	 *
+	 * @param blackhole The {@link Blackhole} consuming the values.
+	 */
+	@Benchmark
+	public void read(Blackhole blackhole) {
+		GamePacket copy = new GamePacket(packet.getOpcode(), packet.getType(), packet.getPayload().duplicate());
+		GamePacketReader reader = new GamePacketReader(copy);
+
+		reader.switchToBitAccess();
+		for (int index = 0; index < VALUES; index++) {
+			blackhole.consume(reader.getBits(2));
+			blackhole.consume(reader.getBits(3));
+			blackhole.consume(reader.getBits(1));
+		}
+
+		reader.switchToByteAccess();
+		for (int index = 0; index < VALUES; index++) {
+			blackhole.consume(reader.getUnsigned(DataType.SHORT, DataOrder.LITTLE, DataTransformation.ADD));
+			blackhole.consume(reader.getSigned(DataType.BYTE, DataTransformation.NEGATE));
+			blackhole.consume(reader.getUnsigned(DataType.INT, DataOrder.MIDDLE));
+		}
+
+		blackhole.consume(reader.getString());
+	}
+
+	/**
+	 * Builds the packet that is read.
+	 */
+	@Setup
+	public void setUp() {
+		GamePacketBuilder builder = new GamePacketBuilder(81, PacketType.VARIABLE_SHORT);
+		builder.switchToBitAccess();
+
+		for (int index = 0; index < VALUES; index++) {
+			builder.putBits(2, index & 3);
+			builder.putBits(3, index & 7);
+			builder.putBits(1, index & 1);
+		}
+
+		builder.switchToByteAccess();
+		for (int index = 0; index < VALUES; index++) {
+			builder.put(DataType.SHORT, DataOrder.LITTLE, DataTransformation.ADD, index);
+			builder.put(DataType.BYTE, DataTransformation.NEGATE, index);
+			builder.put(DataType.INT, DataOrder.MIDDLE, index);
+		}
+
+		builder.putString("Benchmark");
+		packet = builder.toGamePacket();
+	}
+
+}
@@ -0,0 +1,113 @@
+package org.apollo.bench;
+
+import java.util.Deque;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apollo.game.model.Position;
+import org.apollo.game.model.area.collision.CollisionManager;
+import org.apollo.game.model.entity.path.AStarPathfindingAlgorithm;
+import org.apollo.game.model.entity.path.EuclideanHeuristic;
+import org.apollo.game.model.entity.path.SimplePathfindingAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the {@link AStarPathfindingAlgorithm} and {@link SimplePathfindingAlgorithm}, finding paths between random
+ * tiles of a partially-blocked area.
+ *
+ * @author Major
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g", "-XX:+AlwaysPreTouch" })
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class PathfindingBenchmark {
+
+	/**
+	 * The amount of paths, which must be a power of two.
+	 */
+	private static final int PATHS = 256;
+
+	/**
+	 * The origins of the paths.
+	 */
+	private final Position[] origins = new Position[PATHS];
+
+	/**
+	 * The targets of the paths.
+	 */
+	private final Position[] targets = new Position[PATHS];
+
+	/**
+	 * The A* algorithm.
+	 */
+	private AStarPathfindingAlgorithm astar;
+
+	/**
+	 * The length of each side of the terrain the paths are found in.
+	 */
+	@Param({ "16", "64" })
+	private int size;
+
+	/**
+	 * The index of the next path.
+	 */
+	private int path;
+
+	/**
+	 * The simple algorithm.
+	 */
+	private SimplePathfindingAlgorithm simple;
+
+	/**
+	 * Finds a path using the A* algorithm.
+	 *
+	 * @return The path.
+	 */
+	@Benchmark
+	public Deque<Position> astar() {
+		path = path + 1 & PATHS - 1;
+		return astar.find(origins[path], targets[path]);
+	}
+
+	/**
+	 * Creates the terrain, algorithms, and paths.
+	 */
+	@Setup
+	public void setUp() {
+		Terrain terrain = new Terrain(size, 0.1, 0);
+		CollisionManager collisionManager = terrain.getCollisionManager();
+		astar = new AStarPathfindingAlgorithm(collisionManager, new EuclideanHeuristic());
+		simple = new SimplePathfindingAlgorithm(collisionManager);
+
+		Random random = new Random(0);
+		for (int index = 0; index < PATHS; index++) {
+			origins[index] = terrain.randomPosition(random);
+			targets[index] = terrain.randomPosition(random);
+		}
+	}
+
+	/**
+	 * Finds a path using the simple algorithm.
+	 *
+	 * @return The path.
+	 */
+	@Benchmark
+	public Deque<Position> simple() {
+		path = path + 1 & PATHS - 1;
+		return simple.find(origins[path], targets[path]);
+	}
+
+}
@@ -0,0 +1,68 @@
+package org.apollo.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apollo.game.model.entity.Player;
+import org.apollo.game.sync.task.PlayerSynchronizationTask;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks a pulse of {@link PlayerSynchronizationTask}s (one for every player) for a crowd of players standing
+ * within viewing distance of each other. After the first few pulses every player has a full local player list, so this
+ * measures the steady state of a busy area.
+ *
+ * @author Major
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g", "-XX:+AlwaysPreTouch" })
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class PlayerSynchronizationTaskBenchmark {
+
+	/**
+	 * The distance from the centre of the crowd that players may stand at.
+	 */
+	private static final int RADIUS = 12;
+
+	/**
+	 * The amount of players in the crowd.
+	 */
+	@Param({ "50", "250", "1000" })
+	private int players;
+
+	/**
+	 * The crowd.
+	 */
+	private Crowd crowd;
+
+	/**
+	 * Runs a PlayerSynchronizationTask for every player in the crowd.
+	 */
+	@Benchmark
+	public void pulse() {
+		for (Player player : crowd.getPlayers()) {
+			new PlayerSynchronizationTask(player).run();
+		}
+	}
+
+	/**
+	 * Creates the crowd.
+	 */
+	@Setup
+	public void setUp() {
+		crowd = new Crowd(players, RADIUS, 0);
+	}
+
+}
@@ -0,0 +1,190 @@
+package org.apollo.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apollo.game.message.impl.NpcSynchronizationMessage;
+import org.apollo.game.message.impl.PlayerSynchronizationMessage;
+import org.apollo.game.model.Animation;
+import org.apollo.game.model.Direction;
+import org.apollo.game.model.Graphic;
+import org.apollo.game.model.Position;
+import org.apollo.game.model.entity.Player;
+import org.apollo.game.sync.block.SynchronizationBlock;
+import org.apollo.game.sync.block.SynchronizationBlockSet;
+import org.apollo.game.sync.seg.AddNpcSegment;
+import org.apollo.game.sync.seg.AddPlayerSegment;
+import org.apollo.game.sync.seg.MovementSegment;
+import org.apollo.game.sync.seg.SynchronizationSegment;
+import org.apollo.net.codec.game.GamePacket;
+import org.apollo.net.release.MessageEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the {@code PlayerSynchronizationMessageEncoder} and {@code NpcSynchronizationMessageEncoder} of each
+ * release, encoding a message for a player surrounded by moving mobs, some of which have update blocks, and some of
+ * which are being added.
+ *
+ * @author Major
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g", "-XX:+AlwaysPreTouch" })
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class SynchronizationEncoderBenchmark {
+
+	/**
+	 * The amount of mobs added in the message (the most the synchronization tasks add in a single pulse).
+	 */
+	private static final int ADDED = 20;
+
+	/**
+	 * The position of the player the messages are for.
+	 */
+	private static final Position POSITION = new Position(3222, 3222);
+
+	/**
+	 * The amount of local mobs, excluding those being added.
+	 */
+	@Param({ "50", "235" })
+	private int locals;
+
+	/**
+	 * The release.
+	 */
+	@Param({ "317", "377" })
+	private int release;
+
+	/**
+	 * The NpcSynchronizationMessage.
+	 */
+	private NpcSynchronizationMessage npcMessage;
+
+	/**
+	 * The MessageEncoder for NpcSynchronizationMessages.
+	 */
+	private MessageEncoder<NpcSynchronizationMessage> npcEncoder;
+
+	/**
+	 * The PlayerSynchronizationMessage.
+	 */
+	private PlayerSynchronizationMessage playerMessage;
+
+	/**
+	 * The MessageEncoder for PlayerSynchronizationMessages.
+	 */
+	private MessageEncoder<PlayerSynchronizationMessage> playerEncoder;
+
+	/**
+	 * Encodes the NpcSynchronizationMessage.
+	 *
+	 * @return The encoded packet.
+	 */
+	@Benchmark
+	public GamePacket npc() {
+		return npcEncoder.encode(npcMessage);
+	}
+
+	/**
+	 * Encodes the PlayerSynchronizationMessage.
+	 *
+	 * @return The encoded packet.
+	 */
+	@Benchmark
+	public GamePacket player() {
+		return playerEncoder.encode(playerMessage);
+	}
+
+	/**
+	 * Creates the encoders and messages.
+	 */
+	@Setup
+	public void setUp() {
+		if (release == 317) {
+			playerEncoder = new org.apollo.game.release.r317.PlayerSynchronizationMessageEncoder();
+			npcEncoder = new org.apollo.game.release.r317.NpcSynchronizationMessageEncoder();
+		} else {
+			playerEncoder = new org.apollo.game.release.r377.PlayerSynchronizationMessageEncoder();
+			npcEncoder = new org.apollo.game.release.r377.NpcSynchronizationMessageEncoder();
+		}
+
+		Random random = new Random(0);
+		Player[] added = new Crowd(ADDED, 10, 0).getPlayers();
+
+		List<SynchronizationSegment> players = createMovement(random);
+		for (Player player : added) {
+			SynchronizationBlockSet blocks = new SynchronizationBlockSet();
+			blocks.add(SynchronizationBlock.createAppearanceBlock(player));
+			players.add(new AddPlayerSegment(blocks, player.getIndex(), player.getPosition()));
+		}
+
+		SynchronizationSegment self = new MovementSegment(createBlocks(random), new Direction[] { Direction.NORTH });
+		playerMessage = new PlayerSynchronizationMessage(POSITION, POSITION, false, self, locals, players);
+
+		List<SynchronizationSegment> npcs = createMovement(random);
+		for (int index = 0; index < ADDED; index++) {
+			Position position = new Position(POSITION.getX() + random.nextInt(31) - 15, POSITION.getY() +
+				random.nextInt(31) - 15);
+			npcs.add(new AddNpcSegment(createBlocks(random), locals + index + 1, position, random.nextInt(1000)));
+		}
+
+		npcMessage = new NpcSynchronizationMessage(POSITION, npcs, locals);
+	}
+
+	/**
+	 * Creates a {@link SynchronizationBlockSet} which, one time in four, contains an animation, graphic and forced chat
+	 * message.
+	 *
+	 * @param random The {@link Random} used to decide the blocks.
+	 * @return The SynchronizationBlockSet.
+	 */
+	private static SynchronizationBlockSet createBlocks(Random random) {
+		SynchronizationBlockSet blocks = new SynchronizationBlockSet();
+
+		if (random.nextInt(4) == 0) {
+			blocks.add(SynchronizationBlock.createAnimationBlock(new Animation(random.nextInt(1000))));
+			blocks.add(SynchronizationBlock.createGraphicBlock(new Graphic(random.nextInt(500))));
+			blocks.add(SynchronizationBlock.createForceChatBlock("Benchmark"));
+		}
+
+		return blocks;
+	}
+
+	/**
+	 * Creates the {@link MovementSegment}s of the local mobs, which are standing still, walking or running.
+	 *
+	 * @param random The {@link Random} used to decide the movement.
+	 * @return The {@link List} of segments.
+	 */
+	private List<SynchronizationSegment> createMovement(Random random) {
+		List<SynchronizationSegment> segments = new ArrayList<>(locals + ADDED);
+
+		for (int index = 0; index < locals; index++) {
+			int steps = random.nextInt(3);
+			Direction[] directions = new Direction[steps];
+
+			for (int step = 0; step < steps; step++) {
+				directions[step] = Direction.WNES[random.nextInt(Direction.WNES.length)];
+			}
+
+			segments.add(new MovementSegment(createBlocks(random), directions));
+		}
+
+		return segments;
+	}
+
+}
@@ -0,0 +1,74 @@
+package org.apollo.bench;
+
+import java.util.Random;
+
+import org.apollo.game.model.Position;
+import org.apollo.game.model.World;
+import org.apollo.game.model.area.collision.CollisionManager;
+
+/**
+ * A synthetic square of terrain, a proportion of whose tiles are blocked, with a built {@link CollisionManager}.
+ *
+ * @author Major
+ */
+final class Terrain {
+
+	/**
+	 * The south-western corner of the terrain.
+	 */
+	private static final Position ORIGIN = new Position(3200, 3200);
+
+	/**
+	 * The CollisionManager of the World containing the terrain.
+	 */
+	private final CollisionManager collisionManager;
+
+	/**
+	 * The length of each side of the terrain, in tiles.
+	 */
+	private final int size;
+
+	/**
+	 * Creates the Terrain.
+	 *
+	 * @param size The length of each side of the terrain, in tiles.
+	 * @param density The proportion of tiles that are blocked, between 0 and 1.
+	 * @param seed The seed used to decide the blocked tiles.
+	 */
+	public Terrain(int size, double density, long seed) {
+		this.size = size;
+		World world = new World();
+		collisionManager = world.getCollisionManager();
+
+		Random random = new Random(seed);
+		for (int x = 0; x < size; x++) {
+			for (int y = 0; y < size; y++) {
+				if (random.nextDouble() < density) {
+					collisionManager.block(new Position(ORIGIN.getX() + x, ORIGIN.getY() + y));
+				}
+			}
+		}
+
+		collisionManager.build(false);
+	}
+
+	/**
+	 * Gets the CollisionManager of the World containing the terrain.
+	 *
+	 * @return The CollisionManager.
+	 */
+	public CollisionManager getCollisionManager() {
+		return collisionManager;
+	}
+
+	/**
+	 * Gets the {@link Position} of a random tile in the terrain.
+	 *
+	 * @param random The {@link Random} used to pick the tile.
+	 * @return The Position.
+	 */
+	public Position randomPosition(Random random) {
+		return new Position(ORIGIN.getX() + random.nextInt(size), ORIGIN.getY() + random.nextInt(size));
+	}
+
+}
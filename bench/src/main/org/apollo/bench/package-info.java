@@ -0,0 +1,4 @@
+/**
+ * Contains JMH benchmarks of the hot paths of the server.
+ */
+package org.apollo.bench;
\ No newline at end of file
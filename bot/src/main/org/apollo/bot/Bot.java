@@ -0,0 +1,347 @@
+package org.apollo.bot;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apollo.net.codec.game.DataOrder;
+import org.apollo.net.codec.game.DataTransformation;
+import org.apollo.net.codec.game.DataType;
+import org.apollo.net.codec.game.GamePacket;
+import org.apollo.net.codec.game.GamePacketBuilder;
+import org.apollo.net.codec.game.GamePacketEncoder;
+import org.apollo.net.codec.game.GamePacketReader;
+import org.apollo.net.codec.handshake.HandshakeConstants;
+import org.apollo.net.codec.login.LoginConstants;
+import org.apollo.net.codec.login.LoginResponse;
+import org.apollo.net.meta.PacketType;
+import org.apollo.util.BufferUtil;
+import org.apollo.util.NameUtil;
+import org.apollo.util.TextUtil;
+import org.apollo.util.security.IsaacRandom;
+
+/**
+ * A headless player that logs in using the 377 login protocol and then walks, chats, and clicks items once per pulse,
+ * as decided by a {@link Random}.
+ *
+ * @author Major
+ */
+public final class Bot extends ChannelInboundHandlerAdapter {
+
+	/**
+	 * The lines that bots chat.
+	 */
+	private static final String[] CHAT = { "hello", "anyone selling lobsters", "buying logs", "lol", "where is the bank",
+			"nice", "what level are you" };
+
+	/**
+	 * The id of the inventory interface.
+	 */
+	private static final int INVENTORY_ID = 3214;
+
+	/**
+	 * The maximum length of a compressed chat message, in bytes.
+	 */
+	private static final int MAXIMUM_CHAT_LENGTH = 100;
+
+	/**
+	 * The password of every bot.
+	 */
+	private static final String PASSWORD = "password";
+
+	/**
+	 * The delay between actions, in milliseconds (the same as the pulse delay of the server).
+	 */
+	private static final int PULSE_DELAY = 600;
+
+	/**
+	 * The release the bot speaks.
+	 */
+	public static final int RELEASE = 377;
+
+	/**
+	 * The distance from the centre of the current region that the bot walks to.
+	 */
+	private static final int WALK_RADIUS = 8;
+
+	/**
+	 * The scheduled actions of this bot, or {@code null} if the bot is not logged in.
+	 */
+	private ScheduledFuture<?> actions;
+
+	/**
+	 * The archive CRCs sent in the login request.
+	 */
+	private final int[] crcs;
+
+	/**
+	 * The time at which this bot connected, in nanoseconds.
+	 */
+	private long connected;
+
+	/**
+	 * The public key used to encrypt the secure block of the login request.
+	 */
+	private final RSAPublicKey key;
+
+	/**
+	 * The time at which the last player synchronization packet was received, in nanoseconds, or {@code 0} if none has
+	 * been received.
+	 */
+	private long lastSynchronization;
+
+	/**
+	 * The random number generator deciding what this bot does.
+	 */
+	private final Random random;
+
+	/**
+	 * The x coordinate of the centre of the current region, or {@code -1} if the region is not yet known.
+	 */
+	private int regionX = -1;
+
+	/**
+	 * The y coordinate of the centre of the current region.
+	 */
+	private int regionY;
+
+	/**
+	 * The LoadStatistics this bot records to.
+	 */
+	private final LoadStatistics statistics;
+
+	/**
+	 * The username of this bot.
+	 */
+	private final String username;
+
+	/**
+	 * Creates the Bot.
+	 *
+	 * @param username The username.
+	 * @param key The public key used to encrypt the secure block of the login request.
+	 * @param crcs The archive CRCs sent in the login request.
+	 * @param statistics The {@link LoadStatistics} to record to.
+	 * @param seed The seed of the random number generator deciding what the bot does.
+	 */
+	public Bot(String username, RSAPublicKey key, int[] crcs, LoadStatistics statistics, long seed) {
+		this.username = username;
+		this.key = key;
+		this.crcs = crcs;
+		this.statistics = statistics;
+		random = new Random(seed);
+	}
+
+	@Override
+	public void channelActive(ChannelHandlerContext ctx) {
+		connected = System.nanoTime();
+		int usernameHash = (int) (NameUtil.encodeBase37(username) >> 16 & 31);
+
+		ByteBuf buffer = ctx.alloc().buffer(2);
+		buffer.writeByte(HandshakeConstants.SERVICE_GAME);
+		buffer.writeByte(usernameHash);
+		ctx.writeAndFlush(buffer);
+	}
+
+	@Override
+	public void channelInactive(ChannelHandlerContext ctx) {
+		if (actions != null) {
+			actions.cancel(false);
+			actions = null;
+			statistics.loggedOut();
+		}
+	}
+
+	@Override
+	public void channelRead(ChannelHandlerContext ctx, Object msg) {
+		try {
+			if (msg instanceof KeyExchange) {
+				sendLoginRequest(ctx, ((KeyExchange) msg).getServerSeed());
+			} else if (msg instanceof LoginResponse) {
+				handleLoginResponse(ctx, (LoginResponse) msg);
+			} else if (msg instanceof GamePacket) {
+				handlePacket((GamePacket) msg);
+			}
+		} finally {
+			if (msg instanceof GamePacket) {
+				ReferenceCountUtil.release(((GamePacket) msg).getPayload());
+			}
+		}
+	}
+
+	@Override
+	public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+		statistics.error();
+		ctx.close();
+	}
+
+	/**
+	 * Performs the action of this bot for the current pulse.
+	 *
+	 * @param ctx The context of the channel.
+	 */
+	private void act(ChannelHandlerContext ctx) {
+		int roll = random.nextInt(100);
+
+		if (roll < 30 && regionX != -1) {
+			walk(ctx);
+		} else if (roll < 35) {
+			chat(ctx);
+		} else if (roll < 40) {
+			clickItem(ctx);
+		}
+	}
+
+	/**
+	 * Sends a public chat message.
+	 *
+	 * @param ctx The context of the channel.
+	 */
+	private void chat(ChannelHandlerContext ctx) {
+		byte[] compressed = new byte[MAXIMUM_CHAT_LENGTH];
+		int length = TextUtil.compress(CHAT[random.nextInt(CHAT.length)], compressed);
+
+		GamePacketBuilder builder = new GamePacketBuilder(49, PacketType.VARIABLE_BYTE);
+		builder.put(DataType.BYTE, DataTransformation.NEGATE, random.nextInt(12));
+		builder.put(DataType.BYTE, DataTransformation.ADD, 0);
+		builder.putBytes(Arrays.copyOf(compressed, length));
+
+		ctx.writeAndFlush(builder.toGamePacket());
+	}
+
+	/**
+	 * Clicks the first option of an item in the inventory (which the server ignores if the inventory does not contain
+	 * the item, as the inventory of a new player does not).
+	 *
+	 * @param ctx The context of the channel.
+	 */
+	private void clickItem(ChannelHandlerContext ctx) {
+		GamePacketBuilder builder = new GamePacketBuilder(203);
+		builder.put(DataType.SHORT, DataTransformation.ADD, INVENTORY_ID);
+		builder.put(DataType.SHORT, DataOrder.LITTLE, random.nextInt(28));
+		builder.put(DataType.SHORT, DataOrder.LITTLE, 1_511);
+
+		ctx.writeAndFlush(builder.toGamePacket());
+	}
+
+	/**
+	 * Handles the response to the login request.
+	 *
+	 * @param ctx The context of the channel.
+	 * @param response The {@link LoginResponse}.
+	 */
+	private void handleLoginResponse(ChannelHandlerContext ctx, LoginResponse response) {
+		int status = response.getStatus();
+		statistics.login(status, System.nanoTime() - connected);
+
+		if (status == LoginConstants.STATUS_OK) {
+			actions = ctx.executor().scheduleAtFixedRate(() -> act(ctx), random.nextInt(PULSE_DELAY), PULSE_DELAY,
+				TimeUnit.MILLISECONDS);
+		} else {
+			ctx.close();
+		}
+	}
+
+	/**
+	 * Handles a {@link GamePacket} sent by the server.
+	 *
+	 * @param packet The packet.
+	 */
+	private void handlePacket(GamePacket packet) {
+		switch (packet.getOpcode()) {
+			case 90:
+				long now = System.nanoTime();
+				if (lastSynchronization != 0) {
+					statistics.tick(now - lastSynchronization);
+				}
+
+				lastSynchronization = now;
+				break;
+			case 222:
+				GamePacketReader reader = new GamePacketReader(packet);
+				int centralY = (int) reader.getUnsigned(DataType.SHORT);
+				int centralX = (int) reader.getUnsigned(DataType.SHORT, DataOrder.LITTLE, DataTransformation.ADD);
+
+				regionX = centralX * 8 + 4;
+				regionY = centralY * 8 + 4;
+				break;
+		}
+	}
+
+	/**
+	 * Sends the login request.
+	 *
+	 * @param ctx The context of the channel.
+	 * @param serverSeed The server half of the ISAAC seed.
+	 */
+	private void sendLoginRequest(ChannelHandlerContext ctx, long serverSeed) {
+		long clientSeed = random.nextLong();
+
+		ByteBuf secure = ctx.alloc().heapBuffer();
+		secure.writeByte(10);
+		secure.writeLong(clientSeed);
+		secure.writeLong(serverSeed);
+		secure.writeInt(random.nextInt());
+		secure.writeBytes(username.getBytes(StandardCharsets.US_ASCII)).writeByte(BufferUtil.STRING_TERMINATOR);
+		secure.writeBytes(PASSWORD.getBytes(StandardCharsets.US_ASCII)).writeByte(BufferUtil.STRING_TERMINATOR);
+
+		byte[] plaintext = new byte[secure.readableBytes()];
+		secure.readBytes(plaintext);
+		secure.release();
+
+		BigInteger value = new BigInteger(plaintext).modPow(key.getPublicExponent(), key.getModulus());
+		byte[] encrypted = value.toByteArray();
+
+		ByteBuf request = ctx.alloc().buffer();
+		request.writeByte(LoginConstants.TYPE_STANDARD);
+		request.writeByte(41 + encrypted.length);
+		request.writeByte(255);
+		request.writeShort(RELEASE);
+		request.writeByte(0);
+		for (int crc : crcs) {
+			request.writeInt(crc);
+		}
+
+		request.writeByte(encrypted.length);
+		request.writeBytes(encrypted);
+
+		int[] seed = { (int) (clientSeed >> 32), (int) clientSeed, (int) (serverSeed >> 32), (int) serverSeed };
+		IsaacRandom encodingRandom = new IsaacRandom(seed);
+		for (int index = 0; index < seed.length; index++) {
+			seed[index] += 50;
+		}
+
+		IsaacRandom decodingRandom = new IsaacRandom(seed);
+
+		ctx.pipeline().get(BotDecoder.class).setRandom(decodingRandom);
+		ctx.pipeline().addBefore(ctx.name(), "encoder", new GamePacketEncoder(encodingRandom));
+		ctx.writeAndFlush(request);
+	}
+
+	/**
+	 * Walks to a random tile near the centre of the current region.
+	 *
+	 * @param ctx The context of the channel.
+	 */
+	private void walk(ChannelHandlerContext ctx) {
+		int x = regionX + random.nextInt(WALK_RADIUS * 2 + 1) - WALK_RADIUS;
+		int y = regionY + random.nextInt(WALK_RADIUS * 2 + 1) - WALK_RADIUS;
+
+		GamePacketBuilder builder = new GamePacketBuilder(28, PacketType.VARIABLE_BYTE);
+		builder.put(DataType.SHORT, DataOrder.LITTLE, DataTransformation.ADD, x);
+		builder.put(DataType.BYTE, random.nextBoolean() ? 1 : 0);
+		builder.put(DataType.SHORT, DataOrder.LITTLE, DataTransformation.ADD, y);
+
+		ctx.writeAndFlush(builder.toGamePacket());
+	}
+
+}
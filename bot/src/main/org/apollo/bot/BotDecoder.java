@@ -0,0 +1,216 @@
+package org.apollo.bot;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.apollo.net.codec.game.GamePacket;
+import org.apollo.net.codec.login.LoginConstants;
+import org.apollo.net.codec.login.LoginResponse;
+import org.apollo.net.meta.PacketMetaData;
+import org.apollo.net.meta.PacketMetaDataGroup;
+import org.apollo.net.meta.PacketType;
+import org.apollo.util.StatefulFrameDecoder;
+import org.apollo.util.security.IsaacRandom;
+
+/**
+ * A {@link StatefulFrameDecoder} which decodes the frames the server sends to a bot: the {@link KeyExchange}, the
+ * {@link LoginResponse}, and then {@link GamePacket}s.
+ *
+ * @author Major
+ */
+public final class BotDecoder extends StatefulFrameDecoder<BotDecoderState> {
+
+	/**
+	 * The length of the key exchange, in bytes.
+	 */
+	private static final int EXCHANGE_LENGTH = 17;
+
+	/**
+	 * The logger for this class.
+	 */
+	private static final Logger logger = Logger.getLogger(BotDecoder.class.getName());
+
+	/**
+	 * The length of the current packet.
+	 */
+	private int length;
+
+	/**
+	 * The opcode of the current packet.
+	 */
+	private int opcode;
+
+	/**
+	 * The meta data of the packets sent by the server.
+	 */
+	private final PacketMetaDataGroup packets;
+
+	/**
+	 * The random number generator used to decode opcodes.
+	 */
+	private IsaacRandom random;
+
+	/**
+	 * The type of the current packet.
+	 */
+	private PacketType type;
+
+	/**
+	 * Creates the BotDecoder.
+	 *
+	 * @param packets The {@link PacketMetaDataGroup} of the packets sent by the server.
+	 */
+	public BotDecoder(PacketMetaDataGroup packets) {
+		super(BotDecoderState.LOGIN_EXCHANGE);
+		this.packets = packets;
+	}
+
+	/**
+	 * Sets the random number generator used to decode opcodes. This must be called before the login response is
+	 * received.
+	 *
+	 * @param random The random number generator.
+	 */
+	public void setRandom(IsaacRandom random) {
+		this.random = random;
+	}
+
+	@Override
+	protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out, BotDecoderState state) {
+		switch (state) {
+			case LOGIN_EXCHANGE:
+				decodeExchange(in, out);
+				break;
+			case LOGIN_RESPONSE:
+				decodeResponse(in, out);
+				break;
+			case GAME_OPCODE:
+				decodeOpcode(in, out);
+				break;
+			case GAME_LENGTH:
+				decodeLength(in, out);
+				break;
+			case GAME_PAYLOAD:
+				decodePayload(in, out);
+				break;
+			case DISCARD:
+				in.skipBytes(in.readableBytes());
+				break;
+			default:
+				throw new IllegalStateException("Invalid bot decoder state: " + state);
+		}
+	}
+
+	/**
+	 * Decodes in the login exchange state.
+	 *
+	 * @param buffer The buffer.
+	 * @param out The {@link List} of objects to pass forward through the pipeline.
+	 */
+	private void decodeExchange(ByteBuf buffer, List<Object> out) {
+		if (buffer.readableBytes() >= EXCHANGE_LENGTH) {
+			buffer.skipBytes(Byte.BYTES + Long.BYTES);
+			out.add(new KeyExchange(buffer.readLong()));
+			setState(BotDecoderState.LOGIN_RESPONSE);
+		}
+	}
+
+	/**
+	 * Decodes in the game length state.
+	 *
+	 * @param buffer The buffer.
+	 * @param out The {@link List} of objects to pass forward through the pipeline.
+	 */
+	private void decodeLength(ByteBuf buffer, List<Object> out) {
+		int size = type == PacketType.VARIABLE_BYTE ? Byte.BYTES : Short.BYTES;
+
+		if (buffer.readableBytes() >= size) {
+			length = size == Byte.BYTES ? buffer.readUnsignedByte() : buffer.readUnsignedShort();
+
+			if (length == 0) {
+				setState(BotDecoderState.GAME_OPCODE);
+				out.add(new GamePacket(opcode, type, Unpooled.EMPTY_BUFFER));
+			} else {
+				setState(BotDecoderState.GAME_PAYLOAD);
+			}
+		}
+	}
+
+	/**
+	 * Decodes in the game opcode state.
+	 *
+	 * @param buffer The buffer.
+	 * @param out The {@link List} of objects to pass forward through the pipeline.
+	 */
+	private void decodeOpcode(ByteBuf buffer, List<Object> out) {
+		if (buffer.isReadable()) {
+			opcode = buffer.readUnsignedByte() - random.nextInt() & 0xFF;
+			PacketMetaData metaData = packets.getMetaData(opcode);
+
+			if (metaData == null) {
+				logger.warning("Unknown opcode " + opcode + " received, so the rest of the stream cannot be framed and "
+						+ "will be discarded.");
+				setState(BotDecoderState.DISCARD);
+				buffer.skipBytes(buffer.readableBytes());
+				return;
+			}
+
+			type = metaData.getType();
+			if (type != PacketType.FIXED) {
+				setState(BotDecoderState.GAME_LENGTH);
+				return;
+			}
+
+			length = metaData.getLength();
+			if (length == 0) {
+				out.add(new GamePacket(opcode, type, Unpooled.EMPTY_BUFFER));
+			} else {
+				setState(BotDecoderState.GAME_PAYLOAD);
+			}
+		}
+	}
+
+	/**
+	 * Decodes in the game payload state.
+	 *
+	 * @param buffer The buffer.
+	 * @param out The {@link List} of objects to pass forward through the pipeline.
+	 */
+	private void decodePayload(ByteBuf buffer, List<Object> out) {
+		if (buffer.readableBytes() >= length) {
+			ByteBuf payload = buffer.readSlice(length).retain();
+			setState(BotDecoderState.GAME_OPCODE);
+			out.add(new GamePacket(opcode, type, payload));
+		}
+	}
+
+	/**
+	 * Decodes in the login response state.
+	 *
+	 * @param buffer The buffer.
+	 * @param out The {@link List} of objects to pass forward through the pipeline.
+	 */
+	private void decodeResponse(ByteBuf buffer, List<Object> out) {
+		if (!buffer.isReadable()) {
+			return;
+		}
+
+		int status = buffer.getUnsignedByte(buffer.readerIndex());
+		if (status != LoginConstants.STATUS_OK) {
+			buffer.skipBytes(Byte.BYTES);
+			out.add(new LoginResponse(status, 0, false));
+		} else if (buffer.readableBytes() >= 3) {
+			buffer.skipBytes(Byte.BYTES);
+			int rights = buffer.readUnsignedByte();
+			boolean flagged = buffer.readUnsignedByte() == 1;
+
+			setState(BotDecoderState.GAME_OPCODE);
+			out.add(new LoginResponse(status, rights, flagged));
+		}
+	}
+
+}
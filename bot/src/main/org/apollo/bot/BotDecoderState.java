@@ -0,0 +1,42 @@
+package org.apollo.bot;
+
+/**
+ * An enumeration with the different states the {@link BotDecoder} can be in.
+ *
+ * @author Major
+ */
+public enum BotDecoderState {
+
+	/**
+	 * The login exchange state will wait for the key exchange sent in response to the login handshake.
+	 */
+	LOGIN_EXCHANGE,
+
+	/**
+	 * The login response state will wait for the response code (and, if the login succeeded, the rights and flagged
+	 * status of the player).
+	 */
+	LOGIN_RESPONSE,
+
+	/**
+	 * The game opcode state will wait for the opcode of the next game packet.
+	 */
+	GAME_OPCODE,
+
+	/**
+	 * The game length state will wait for the length of a variably-sized game packet.
+	 */
+	GAME_LENGTH,
+
+	/**
+	 * The game payload state will wait for the payload of a game packet.
+	 */
+	GAME_PAYLOAD,
+
+	/**
+	 * The discard state will skip everything that is received, as it is entered after a game packet with an unknown
+	 * opcode, whose length (and therefore where the next packet starts) cannot be known.
+	 */
+	DISCARD;
+
+}
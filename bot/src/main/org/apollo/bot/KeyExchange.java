@@ -0,0 +1,34 @@
+package org.apollo.bot;
+
+/**
+ * The key exchange sent by the server in response to the login handshake, containing the server half of the ISAAC
+ * seed.
+ *
+ * @author Major
+ */
+public final class KeyExchange {
+
+	/**
+	 * The server seed.
+	 */
+	private final long serverSeed;
+
+	/**
+	 * Creates the KeyExchange.
+	 *
+	 * @param serverSeed The server seed.
+	 */
+	public KeyExchange(long serverSeed) {
+		this.serverSeed = serverSeed;
+	}
+
+	/**
+	 * Gets the server seed.
+	 *
+	 * @return The server seed.
+	 */
+	public long getServerSeed() {
+		return serverSeed;
+	}
+
+}
@@ -0,0 +1,205 @@
+package org.apollo.bot;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.GlobalEventExecutor;
+
+import java.io.FileReader;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.KeyFactory;
+import java.security.Security;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.concurrent.TimeUnit;
+
+import org.apollo.cache.IndexedFileSystem;
+import org.apollo.net.NetworkConstants;
+import org.apollo.net.meta.PacketMetaDataGroup;
+import org.apollo.net.release.schema.ReleaseSchemaParser;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.util.io.pem.PemObject;
+import org.bouncycastle.util.io.pem.PemReader;
+
+/**
+ * A load generator, which logs {@link Bot}s in to a running server (at a fixed rate, so that the login service is not
+ * just measuring a burst), lets them play for a period of time, and periodically reports:
+ * <ul>
+ * <li>The login latency (from connection to login response) of every bot so far.</li>
+ * <li>The interval between player synchronization packets, which the server sends once per pulse, so overrunning
+ * pulses appear as intervals longer than 600ms.</li>
+ * <li>The bytes read and written per logged-in bot, per second.</li>
+ * </ul>
+ * The generator must be run from the root of the repository, as it reads the public key from {@code data/rsa.pem},
+ * the archive CRCs from the cache, and the lengths of the packets sent by the server from the packet schema in
+ * {@code game/src/schema}.
+ *
+ * @author Major
+ */
+public final class LoadGenerator {
+
+	/**
+	 * The delay between reports, in seconds.
+	 */
+	private static final int REPORT_INTERVAL = 10;
+
+	/**
+	 * The entry point of the LoadGenerator.
+	 *
+	 * @param args The application arguments: the amount of bots (default 100), the amount of logins per second
+	 *            (default 25), the amount of seconds to run for after every bot has connected (default 60), and the
+	 *            host (default {@code localhost}) and port (default from {@code data/net.xml}) of the server.
+	 * @throws Exception If the key, cache or packet schema could not be read, or the generator is interrupted.
+	 */
+	public static void main(String[] args) throws Exception {
+		int bots = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+		int rate = args.length > 1 ? Integer.parseInt(args[1]) : 25;
+		int duration = args.length > 2 ? Integer.parseInt(args[2]) : 60;
+		String host = args.length > 3 ? args[3] : "localhost";
+		int port = args.length > 4 ? Integer.parseInt(args[4]) : NetworkConstants.SERVICE_PORT;
+
+		RSAPublicKey key = readPublicKey("data/rsa.pem");
+		int[] crcs;
+		try (IndexedFileSystem fs = new IndexedFileSystem(Paths.get("data/fs", Integer.toString(Bot.RELEASE)), true)) {
+			crcs = fs.getCrcs();
+		}
+
+		PacketMetaDataGroup packets;
+		try (InputStream is = Files.newInputStream(Paths.get("game/src/schema", "r" + Bot.RELEASE + ".xml"))) {
+			packets = new ReleaseSchemaParser(is).parse().getOutgoingMetaData();
+		}
+
+		new LoadGenerator(key, crcs, packets).run(host, port, bots, rate, duration);
+	}
+
+	/**
+	 * Reads the public half of the RSA key pair in the specified pem file.
+	 *
+	 * @param file The path of the file.
+	 * @return The public key.
+	 * @throws Exception If the file could not be read, or does not contain a private CRT key.
+	 */
+	private static RSAPublicKey readPublicKey(String file) throws Exception {
+		try (PemReader reader = new PemReader(new FileReader(file))) {
+			PemObject pem = reader.readPemObject();
+			PKCS8EncodedKeySpec spec = new PKCS8EncodedKeySpec(pem.getContent());
+
+			Security.addProvider(new BouncyCastleProvider());
+			KeyFactory factory = KeyFactory.getInstance("RSA", "BC");
+			RSAPrivateCrtKey privateKey = (RSAPrivateCrtKey) factory.generatePrivate(spec);
+
+			RSAPublicKeySpec publicSpec = new RSAPublicKeySpec(privateKey.getModulus(), privateKey.getPublicExponent());
+			return (RSAPublicKey) factory.generatePublic(publicSpec);
+		}
+	}
+
+	/**
+	 * The archive CRCs sent by each bot.
+	 */
+	private final int[] crcs;
+
+	/**
+	 * The public key used by each bot.
+	 */
+	private final RSAPublicKey key;
+
+	/**
+	 * The meta data of the packets sent by the server.
+	 */
+	private final PacketMetaDataGroup packets;
+
+	/**
+	 * The LoadStatistics the bots record to.
+	 */
+	private final LoadStatistics statistics = new LoadStatistics();
+
+	/**
+	 * Creates the LoadGenerator.
+	 *
+	 * @param key The public key used by each bot.
+	 * @param crcs The archive CRCs sent by each bot.
+	 * @param packets The {@link PacketMetaDataGroup} of the packets sent by the server.
+	 */
+	public LoadGenerator(RSAPublicKey key, int[] crcs, PacketMetaDataGroup packets) {
+		this.key = key;
+		this.crcs = crcs;
+		this.packets = packets;
+	}
+
+	/**
+	 * Connects the bots, runs them for the specified duration, and then disconnects them.
+	 *
+	 * @param host The host of the server.
+	 * @param port The port of the server.
+	 * @param bots The amount of bots.
+	 * @param rate The amount of bots to connect per second.
+	 * @param duration The amount of seconds to run for after every bot has connected.
+	 * @throws InterruptedException If the generator is interrupted.
+	 */
+	public void run(String host, int port, int bots, int rate, int duration) throws InterruptedException {
+		EventLoopGroup group = new NioEventLoopGroup();
+		ChannelGroup channels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+
+		try {
+			Bootstrap bootstrap = new Bootstrap().group(group).channel(NioSocketChannel.class).option(
+				ChannelOption.TCP_NODELAY, true);
+
+			long start = System.nanoTime();
+			long report = start + TimeUnit.SECONDS.toNanos(REPORT_INTERVAL);
+
+			for (int index = 0; index < bots; index++) {
+				Bot bot = new Bot("bot" + index, key, crcs, statistics, index);
+
+				Channel channel = bootstrap.handler(new ChannelInitializer<SocketChannel>() {
+					@Override
+					protected void initChannel(SocketChannel channel) {
+						channel.pipeline().addLast("traffic", statistics.getTraffic());
+						channel.pipeline().addLast("decoder", new BotDecoder(packets));
+						channel.pipeline().addLast("bot", bot);
+					}
+				}).connect(host, port).channel();
+				channels.add(channel);
+
+				long next = start + TimeUnit.SECONDS.toNanos(index + 1) / rate;
+				TimeUnit.NANOSECONDS.sleep(next - System.nanoTime());
+
+				if (System.nanoTime() >= report) {
+					report(start);
+					report += TimeUnit.SECONDS.toNanos(REPORT_INTERVAL);
+				}
+			}
+
+			long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(duration);
+			while (System.nanoTime() < end) {
+				TimeUnit.NANOSECONDS.sleep(Math.min(end, report) - System.nanoTime());
+				report(start);
+				report += TimeUnit.SECONDS.toNanos(REPORT_INTERVAL);
+			}
+		} finally {
+			channels.close().awaitUninterruptibly();
+			group.shutdownGracefully();
+		}
+	}
+
+	/**
+	 * Prints a report of the statistics recorded since the last report.
+	 *
+	 * @param start The time at which the generator started, in nanoseconds.
+	 */
+	private void report(long start) {
+		long elapsed = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start);
+		System.out.println("[" + elapsed + "s] " + statistics.summarise());
+	}
+
+}
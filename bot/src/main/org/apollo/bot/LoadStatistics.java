@@ -0,0 +1,140 @@
+package org.apollo.bot;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apollo.net.codec.login.LoginConstants;
+
+/**
+ * The statistics recorded by the bots of a {@link LoadGenerator}.
+ *
+ * @author Major
+ */
+public final class LoadStatistics {
+
+	/**
+	 * The amount of bytes read at the time of the last summary.
+	 */
+	private long lastRead;
+
+	/**
+	 * The time of the last summary, in nanoseconds.
+	 */
+	private long lastSummary = System.nanoTime();
+
+	/**
+	 * The amount of bytes written at the time of the last summary.
+	 */
+	private long lastWritten;
+
+	/**
+	 * The amount of bots that disconnected or failed due to an error.
+	 */
+	private final LongAdder errors = new LongAdder();
+
+	/**
+	 * The amount of failed logins, by response code.
+	 */
+	private final Map<Integer, LongAdder> failures = new ConcurrentHashMap<>();
+
+	/**
+	 * The login latencies, measured from connection to the login response.
+	 */
+	private final Samples logins = new Samples();
+
+	/**
+	 * The amount of bots that are logged in.
+	 */
+	private final AtomicInteger online = new AtomicInteger();
+
+	/**
+	 * The intervals between successive player synchronization packets, which are sent once per pulse.
+	 */
+	private final Samples ticks = new Samples();
+
+	/**
+	 * The handler counting the traffic of every bot.
+	 */
+	private final TrafficHandler traffic = new TrafficHandler();
+
+	/**
+	 * Records that a bot disconnected or failed due to an error.
+	 */
+	public void error() {
+		errors.increment();
+	}
+
+	/**
+	 * Gets the amount of bots that are logged in.
+	 *
+	 * @return The amount of bots.
+	 */
+	public int getOnline() {
+		return online.get();
+	}
+
+	/**
+	 * Gets the handler counting the traffic of every bot.
+	 *
+	 * @return The handler.
+	 */
+	TrafficHandler getTraffic() {
+		return traffic;
+	}
+
+	/**
+	 * Records that a bot that was logged in has disconnected.
+	 */
+	public void loggedOut() {
+		online.decrementAndGet();
+	}
+
+	/**
+	 * Records the response to a login attempt.
+	 *
+	 * @param status The status code of the response.
+	 * @param latency The time between connecting and receiving the response, in nanoseconds.
+	 */
+	public void login(int status, long latency) {
+		logins.add(latency);
+
+		if (status == LoginConstants.STATUS_OK) {
+			online.incrementAndGet();
+		} else {
+			failures.computeIfAbsent(status, key -> new LongAdder()).increment();
+		}
+	}
+
+	/**
+	 * Records the interval between two successive player synchronization packets.
+	 *
+	 * @param interval The interval, in nanoseconds.
+	 */
+	public void tick(long interval) {
+		ticks.add(interval);
+	}
+
+	/**
+	 * Summarises the statistics recorded since the last call to this method, apart from login latency, which is
+	 * summarised for the whole run. This method must only be called by a single thread.
+	 *
+	 * @return The summary.
+	 */
+	public String summarise() {
+		long now = System.nanoTime(), read = traffic.getRead(), written = traffic.getWritten();
+		double seconds = (now - lastSummary) / 1E9;
+		int players = Math.max(1, online.get());
+
+		double in = (read - lastRead) / seconds / players;
+		double out = (written - lastWritten) / seconds / players;
+		lastSummary = now;
+		lastRead = read;
+		lastWritten = written;
+
+		return String.format("online %d, failed %s, errors %d | login %s | tick %s | per player %.0f B/s in, %.0f B/s out",
+			online.get(), failures, errors.sum(), logins.summarise(), ticks.drain(), in, out);
+	}
+
+}
@@ -0,0 +1,85 @@
+package org.apollo.bot;
+
+import java.util.Arrays;
+
+/**
+ * A thread-safe collection of timing samples, in nanoseconds, that can be summarised as percentiles.
+ *
+ * @author Major
+ */
+final class Samples {
+
+	/**
+	 * The amount of samples.
+	 */
+	private int size;
+
+	/**
+	 * The samples.
+	 */
+	private long[] values = new long[1_024];
+
+	/**
+	 * Adds a sample.
+	 *
+	 * @param nanos The sample, in nanoseconds.
+	 */
+	public synchronized void add(long nanos) {
+		if (size == values.length) {
+			values = Arrays.copyOf(values, size * 2);
+		}
+
+		values[size++] = nanos;
+	}
+
+	/**
+	 * Summarises the samples, and then removes them.
+	 *
+	 * @return The summary.
+	 */
+	public String drain() {
+		long[] sorted;
+
+		synchronized (this) {
+			sorted = Arrays.copyOf(values, size);
+			size = 0;
+		}
+
+		return summarise(sorted);
+	}
+
+	/**
+	 * Summarises the samples, without removing them.
+	 *
+	 * @return The summary.
+	 */
+	public String summarise() {
+		long[] sorted;
+
+		synchronized (this) {
+			sorted = Arrays.copyOf(values, size);
+		}
+
+		return summarise(sorted);
+	}
+
+	/**
+	 * Summarises the specified samples as the 50th and 99th percentiles and the maximum, in milliseconds.
+	 *
+	 * @param samples The samples. This array will be sorted.
+	 * @return The summary.
+	 */
+	private static String summarise(long[] samples) {
+		if (samples.length == 0) {
+			return "-";
+		}
+
+		Arrays.sort(samples);
+		long median = samples[samples.length / 2];
+		long high = samples[Math.min(samples.length - 1, samples.length * 99 / 100)];
+		long max = samples[samples.length - 1];
+
+		return String.format("%.1f/%.1f/%.1fms", median / 1E6, high / 1E6, max / 1E6);
+	}
+
+}
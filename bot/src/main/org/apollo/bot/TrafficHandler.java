@@ -0,0 +1,65 @@
+package org.apollo.bot;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandler.Sharable;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link ChannelDuplexHandler} that counts the bytes read and written by every bot channel.
+ *
+ * @author Major
+ */
+@Sharable
+final class TrafficHandler extends ChannelDuplexHandler {
+
+	/**
+	 * The amount of bytes read.
+	 */
+	private final LongAdder read = new LongAdder();
+
+	/**
+	 * The amount of bytes written.
+	 */
+	private final LongAdder written = new LongAdder();
+
+	@Override
+	public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+		if (msg instanceof ByteBuf) {
+			read.add(((ByteBuf) msg).readableBytes());
+		}
+
+		ctx.fireChannelRead(msg);
+	}
+
+	/**
+	 * Gets the amount of bytes read.
+	 *
+	 * @return The amount of bytes.
+	 */
+	public long getRead() {
+		return read.sum();
+	}
+
+	/**
+	 * Gets the amount of bytes written.
+	 *
+	 * @return The amount of bytes.
+	 */
+	public long getWritten() {
+		return written.sum();
+	}
+
+	@Override
+	public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+		if (msg instanceof ByteBuf) {
+			written.add(((ByteBuf) msg).readableBytes());
+		}
+
+		ctx.write(msg, promise);
+	}
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains a headless load generator, which logs in bots that speak the login and game protocol of the server.
+ */
+package org.apollo.bot;
\ No newline at end of file
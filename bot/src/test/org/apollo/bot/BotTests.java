@@ -0,0 +1,193 @@
+package org.apollo.bot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+
+import org.apollo.net.codec.game.DataType;
+import org.apollo.net.codec.game.GamePacket;
+import org.apollo.net.codec.game.GamePacketBuilder;
+import org.apollo.net.codec.game.GamePacketEncoder;
+import org.apollo.net.codec.handshake.HandshakeConstants;
+import org.apollo.net.codec.login.LoginConstants;
+import org.apollo.net.codec.login.LoginResponse;
+import org.apollo.net.meta.PacketMetaDataGroup;
+import org.apollo.net.meta.PacketType;
+import org.apollo.util.BufferUtil;
+import org.apollo.util.security.IsaacRandom;
+import org.junit.Test;
+
+/**
+ * Contains unit tests for {@link Bot}s and the {@link BotDecoder}.
+ *
+ * @author Major
+ */
+public final class BotTests {
+
+	/**
+	 * The server seed used by the tests.
+	 */
+	private static final long SERVER_SEED = 0x1234_5678_9ABC_DEF0L;
+
+	/**
+	 * The meta data of the packets sent by the server in the tests.
+	 */
+	private static final PacketMetaDataGroup PACKETS;
+
+	static {
+		int[] lengths = new int[256];
+		Arrays.fill(lengths, -3);
+		lengths[5] = 0;
+		lengths[63] = -1;
+		lengths[90] = -2;
+		lengths[222] = 4;
+		PACKETS = PacketMetaDataGroup.createFromArray(lengths);
+	}
+
+	/**
+	 * Tests that the {@link BotDecoder} decodes the key exchange, login response, and fixed, variable byte and variable
+	 * short packets, with opcodes encoded by the same ISAAC as the server uses.
+	 */
+	@Test
+	public void decode() {
+		int[] seed = { 1, 2, 3, 4 };
+		EmbeddedChannel channel = loggedIn(seed, 2);
+		EmbeddedChannel server = new EmbeddedChannel(new GamePacketEncoder(new IsaacRandom(seed)));
+
+		GamePacketBuilder region = new GamePacketBuilder(222);
+		region.put(DataType.INT, 0);
+		GamePacketBuilder chat = new GamePacketBuilder(63, PacketType.VARIABLE_BYTE);
+		chat.putString("Welcome");
+		GamePacketBuilder synchronization = new GamePacketBuilder(90, PacketType.VARIABLE_SHORT);
+		synchronization.putBytes(new byte[300]);
+
+		server.writeOutbound(region.toGamePacket(), new GamePacketBuilder(5).toGamePacket(), chat.toGamePacket(),
+			synchronization.toGamePacket());
+
+		ByteBuf encoded;
+		while ((encoded = (ByteBuf) server.readOutbound()) != null) {
+			channel.writeInbound(encoded);
+		}
+
+		int[][] expected = { { 222, 4 }, { 5, 0 }, { 63, 8 }, { 90, 300 } };
+		for (int[] packet : expected) {
+			GamePacket decoded = (GamePacket) channel.readInbound();
+			assertEquals(packet[0], decoded.getOpcode());
+			assertEquals(packet[1], decoded.getLength());
+		}
+	}
+
+	/**
+	 * Tests that the {@link BotDecoder} discards the rest of the stream after a packet with an opcode that the server
+	 * does not send, rather than closing the connection.
+	 */
+	@Test
+	public void unknownOpcode() {
+		int[] seed = { 1, 2, 3, 4 };
+		EmbeddedChannel channel = loggedIn(seed, 0);
+		EmbeddedChannel server = new EmbeddedChannel(new GamePacketEncoder(new IsaacRandom(seed)));
+
+		GamePacketBuilder unknown = new GamePacketBuilder(6);
+		unknown.put(DataType.SHORT, 0);
+		server.writeOutbound(unknown.toGamePacket(), new GamePacketBuilder(5).toGamePacket());
+
+		ByteBuf encoded;
+		while ((encoded = (ByteBuf) server.readOutbound()) != null) {
+			channel.writeInbound(encoded);
+		}
+
+		assertNull(channel.readInbound());
+		assertTrue(channel.isOpen());
+	}
+
+	/**
+	 * Tests that a {@link Bot} sends the handshake, and then a login request whose secure block can be decrypted with
+	 * the private key and contains the server seed and the credentials of the bot.
+	 *
+	 * @throws Exception If the key pair cannot be generated.
+	 */
+	@Test
+	public void login() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(1024);
+		KeyPair pair = generator.generateKeyPair();
+
+		LoadStatistics statistics = new LoadStatistics();
+		Bot bot = new Bot("bot0", (RSAPublicKey) pair.getPublic(), new int[9], statistics, 0);
+		EmbeddedChannel channel = new EmbeddedChannel(new BotDecoder(PACKETS), bot);
+
+		ByteBuf handshake = (ByteBuf) channel.readOutbound();
+		assertEquals(HandshakeConstants.SERVICE_GAME, handshake.readUnsignedByte());
+
+		channel.writeInbound(exchange());
+		ByteBuf request = (ByteBuf) channel.readOutbound();
+		assertEquals(LoginConstants.TYPE_STANDARD, request.readUnsignedByte());
+		assertEquals(request.readableBytes() - 1, request.readUnsignedByte());
+		request.skipBytes(1);
+		assertEquals(Bot.RELEASE, request.readUnsignedShort());
+		request.skipBytes(1 + 9 * Integer.BYTES);
+
+		byte[] encrypted = new byte[request.readUnsignedByte()];
+		request.readBytes(encrypted);
+
+		RSAPrivateKey key = (RSAPrivateKey) pair.getPrivate();
+		BigInteger value = new BigInteger(encrypted).modPow(key.getPrivateExponent(), key.getModulus());
+		ByteBuf secure = Unpooled.wrappedBuffer(value.toByteArray());
+
+		assertEquals(10, secure.readUnsignedByte());
+		secure.skipBytes(Long.BYTES);
+		assertEquals(SERVER_SEED, secure.readLong());
+		secure.skipBytes(Integer.BYTES);
+		assertEquals("bot0", BufferUtil.readString(secure));
+		assertTrue(BufferUtil.readString(secure).length() >= 6);
+
+		channel.writeInbound(Unpooled.wrappedBuffer(new byte[] { LoginConstants.STATUS_OK, 0, 0 }));
+		assertEquals(1, statistics.getOnline());
+
+		channel.close();
+		assertEquals(0, statistics.getOnline());
+	}
+
+	/**
+	 * Creates a channel with a {@link BotDecoder} that has received the key exchange and a successful login response.
+	 *
+	 * @param seed The seed of the random number generator used to decode opcodes.
+	 * @param rights The rights sent in the login response.
+	 * @return The channel.
+	 */
+	private static EmbeddedChannel loggedIn(int[] seed, int rights) {
+		BotDecoder decoder = new BotDecoder(PACKETS);
+		EmbeddedChannel channel = new EmbeddedChannel(decoder);
+
+		channel.writeInbound(exchange());
+		assertEquals(SERVER_SEED, ((KeyExchange) channel.readInbound()).getServerSeed());
+		decoder.setRandom(new IsaacRandom(seed));
+
+		channel.writeInbound(Unpooled.wrappedBuffer(new byte[] { LoginConstants.STATUS_OK, (byte) rights, 0 }));
+		LoginResponse response = (LoginResponse) channel.readInbound();
+		assertEquals(LoginConstants.STATUS_OK, response.getStatus());
+		assertEquals(rights, response.getRights());
+		return channel;
+	}
+
+	/**
+	 * Creates the key exchange sent by the server in response to the login handshake.
+	 *
+	 * @return The key exchange.
+	 */
+	private static ByteBuf exchange() {
+		return Unpooled.buffer().writeByte(LoginConstants.STATUS_EXCHANGE_DATA).writeLong(0).writeLong(SERVER_SEED);
+	}
+
+}
@@ -1,5 +1,6 @@
 require 'java'
 
+java_import 'org.apollo.game.message.impl.ServerChatMessage'
 java_import 'org.apollo.game.model.World'
 java_import 'org.apollo.game.model.entity.Player'
 
@@ -8,5 +9,5 @@ on :command, :broadcast, RIGHTS_ADMIN do |player, command|
   message = command.arguments.to_a.join(' ')
   broadcast = "[Broadcast] #{player.get_username.capitalize}: #{message}"
 
-  $world.player_repository.each { |other| other.send_message(broadcast) }
+  $world.broadcast(ServerChatMessage.new(broadcast))
 end
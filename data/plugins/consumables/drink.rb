@@ -21,17 +21,16 @@ class Drink < Consumable
 
   # Restore the appropriate amount of hitpoints when consumed.
   def consume(player)
-    hitpoints = player.skill_set.skill(Skill::HITPOINTS)
-    hitpoints_current = player.skill_set.get_current_level(Skill::HITPOINTS)
-    new_curr = [hitpoints.current_level + @restoration, hitpoints.maximum_level].min
+    skills = player.skill_set
+    hitpoints_current = skills.get_current_level(Skill::HITPOINTS)
+    new_curr = [hitpoints_current + @restoration, skills.get_maximum_level(Skill::HITPOINTS)].min
 
     player.inventory.add(@replace) unless @replace == -1
 
     player.send_message("You drink the #{name}.")
     player.send_message('It heals some health.') if new_curr > hitpoints_current
 
-    skill = Skill.new(hitpoints.experience, new_curr, hitpoints.maximum_level)
-    player.skill_set.set_skill(Skill::HITPOINTS, skill)
+    skills.set_current_level(Skill::HITPOINTS, new_curr)
   end
 
 end
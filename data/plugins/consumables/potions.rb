@@ -58,13 +58,13 @@ class BoostingPotion < Potion
   end
 
   def drink(player)
+    skills = player.skill_set
+
     @skill_ids.each do |id|
-      skill = player.skill_set.skill(id)
-      max = skill.maximum_level
-      level = [skill.current_level, max].min
+      max = skills.get_maximum_level(id)
+      level = [skills.get_current_level(id), max].min
 
-      new_current = @boost.call(max, level).floor
-      player.skill_set.set_skill(id, Skill.new(skill.experience, new_current, max))
+      skills.set_current_level(id, @boost.call(max, level).floor)
     end
   end
 
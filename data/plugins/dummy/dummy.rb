@@ -25,7 +25,7 @@ class DummyAction < DistancedAction
     if @started
       skills = mob.skill_set
 
-      if (skills.skill(Skill::ATTACK).maximum_level >= LEVEL_THRESHOLD)
+      if (skills.get_maximum_level(Skill::ATTACK) >= LEVEL_THRESHOLD)
         mob.send_message('There is nothing more you can learn from hitting a dummy.')
       else
         skills.add_experience(Skill::ATTACK, EXP_PER_HIT)
@@ -27,7 +27,8 @@ private
 # The existing Mob class.
 class Mob
 
-  # Overrides method_missing to implement the functionality.
+  # Overrides method_missing to implement the functionality, reading and writing the slot of the attribute's key
+  # rather than allocating an Attribute.
   def method_missing(symbol, *args)
     name = symbol.to_s.strip
 
@@ -35,13 +36,16 @@ class Mob
       fail "Expected argument count of 1, received #{args.length}" unless args.length == 1
 
       name = name[0...-1].strip # Drop the equals and trim whitespace.
-      set_attribute(name, to_attribute(args[0]))
-    elsif AttributeMap::get_definition(name).nil?
-      super(symbol, *args)
+      key = AttributeMap::get_key(name)
+      fail "Attributes must be defined before their value can be set." if key.nil?
+
+      set_attribute_value(key, to_value(args[0]))
     else
-      attribute = get_attribute(name)
-      value = attribute.value
-      (attribute.type == AttributeType::SYMBOL) ? value.to_sym : value
+      key = AttributeMap::get_key(name)
+      return super(symbol, *args) if key.nil?
+
+      value = get_attribute_value(key)
+      (key.type == AttributeType::SYMBOL) ? value.to_sym : value
     end
   end
 
@@ -57,6 +61,15 @@ def to_attribute(value)
   end
 end
 
+# Gets the value to store in an attribute slot for the specified value.
+def to_value(value)
+  case value
+    when Symbol then return value.to_s
+    when String, Integer, Float, TrueClass, FalseClass then return value
+    else fail "Undefined attribute type #{value.class}."
+  end
+end
+
 # Gets the attribute type of the specified value.
 def get_type(value)
   case value
@@ -33,7 +33,7 @@ class FishingAction < DistancedAction
   # Executes the action.
   def executeAction
     skills = mob.skill_set
-    fishing_level = skills.get_skill(Skill::FISHING).current_level
+    fishing_level = skills.get_current_level(Skill::FISHING)
     mob.turn_to(position)
 
     if @minimum_level > fishing_level
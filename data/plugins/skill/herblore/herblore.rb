@@ -86,7 +86,7 @@ end
 # informs the player if this is not the case with use of the action variable, like so:
 # "You need a Herblore level of at least #{required.to_s} to #{action}."
 def check_skill(player, required, action)
-  if required > player.skill_set.get_skill(Skill::HERBLORE).current_level
+  if required > player.skill_set.get_current_level(Skill::HERBLORE)
     player.send_message("You need a Herblore level of at least #{required} to #{action}.")
     return false
   end
@@ -40,7 +40,7 @@ class MiningAction < DistancedAction
 
   def executeAction
     skills = mob.skill_set
-    level = skills.get_skill(Skill::MINING).current_level
+    level = skills.get_current_level(Skill::MINING)
     pickaxe = find_pickaxe
     mob.turn_to(@position)
 
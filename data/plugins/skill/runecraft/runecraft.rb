@@ -23,7 +23,7 @@ class RunecraftingAction < DistancedAction
   end
 
   def executeAction
-    runecrafting_level = @player.skill_set.get_skill(Skill::RUNECRAFT).current_level
+    runecrafting_level = @player.skill_set.get_current_level(Skill::RUNECRAFT)
 
     if runecrafting_level < @rune.level
       @player.send_message("You need a runecrafting level of #{@rune.level} to craft this rune.")
@@ -38,7 +38,7 @@ class Player
   # Returns whether or not the player's current level is greater than or equal to the specified
   # level.
   def level?(skill, level)
-    skill_set.get_skill(skill).current_level >= level
+    skill_set.get_current_level(skill) >= level
   end
 
 end
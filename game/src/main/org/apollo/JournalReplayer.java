@@ -0,0 +1,415 @@
+package org.apollo;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandler.Sharable;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.ReferenceCountUtil;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apollo.cache.IndexedFileSystem;
+import org.apollo.game.io.PacketRateLimitsParser;
+import org.apollo.game.journal.JournalConstants;
+import org.apollo.game.journal.JournalReader;
+import org.apollo.game.journal.JournalRecord;
+import org.apollo.game.journal.JournalWriter;
+import org.apollo.game.message.handler.MessageHandlerChainSet;
+import org.apollo.game.model.World;
+import org.apollo.game.model.WorldConstants;
+import org.apollo.game.model.area.Region;
+import org.apollo.game.model.entity.Player;
+import org.apollo.game.plugin.PluginContext;
+import org.apollo.game.plugin.PluginManager;
+import org.apollo.game.session.GameSession;
+import org.apollo.game.sync.ClientSynchronizer;
+import org.apollo.game.sync.ParallelClientSynchronizer;
+import org.apollo.net.codec.game.GameMessageEncoder;
+import org.apollo.net.codec.game.GamePacket;
+import org.apollo.net.codec.game.GamePacketEncoder;
+import org.apollo.net.codec.game.PacketRateLimits;
+import org.apollo.net.message.Message;
+import org.apollo.net.release.MessageDecoder;
+import org.apollo.net.release.Release;
+import org.apollo.util.security.IsaacRandom;
+import org.apollo.util.security.PlayerCredentials;
+
+/**
+ * Replays a journal recorded by a {@link JournalWriter} against a headless {@link World}, without any sockets: players
+ * are registered and unregistered in the pulses they originally were, their packets are decoded and handled in the
+ * order they originally were, and every pulse is followed by the world pulse and client synchronization. Messages sent
+ * to players are encoded (so that encoding is part of the measured work) and then discarded.
+ * <p>
+ * The time taken by each phase of every pulse is reported once the journal has been replayed, so that the same
+ * workload can be profiled offline, or replayed with different {@link ClientSynchronizer}s to compare them. The
+ * replayer must be run from the directory containing {@code data/}, as it loads the world in the same way as the
+ * {@link Server}.
+ * <p>
+ * A journal only records the position and privilege level of each player as they log in, not their saved state, so
+ * players are replayed from a fresh {@link Player} (with the default inventory, equipment, skills and so on). A replay
+ * therefore only reproduces the recorded session exactly if its players began from defaults: a packet that depends on
+ * saved state (e.g. equipping an item the fresh player does not have) is handled differently, and the workload will
+ * differ from that point on.
+ *
+ * @author Major
+ */
+public final class JournalReplayer {
+
+	/**
+	 * The durations of one phase of the replayed pulses.
+	 */
+	private static final class Phase {
+
+		/**
+		 * The amount of recorded durations.
+		 */
+		private int count;
+
+		/**
+		 * The name of the phase.
+		 */
+		private final String name;
+
+		/**
+		 * The recorded durations, in nanoseconds.
+		 */
+		private long[] durations = new long[1_024];
+
+		/**
+		 * Creates the Phase.
+		 *
+		 * @param name The name of the phase.
+		 */
+		public Phase(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Records the duration of this phase in a pulse.
+		 *
+		 * @param duration The duration, in nanoseconds.
+		 */
+		public void record(long duration) {
+			if (count == durations.length) {
+				durations = Arrays.copyOf(durations, count * 2);
+			}
+
+			durations[count++] = duration;
+		}
+
+		@Override
+		public String toString() {
+			long[] sorted = Arrays.copyOf(durations, count);
+			Arrays.sort(sorted);
+
+			double mean = count == 0 ? 0 : Arrays.stream(sorted).average().getAsDouble();
+			return String.format("%-16s mean %7.3f ms, p50 %7.3f ms, p99 %7.3f ms, max %7.3f ms", name + ":",
+				mean / 1E6, percentile(sorted, 0.5) / 1E6, percentile(sorted, 0.99) / 1E6, percentile(sorted, 1) / 1E6);
+		}
+
+		/**
+		 * Gets the specified percentile of the sorted durations.
+		 *
+		 * @param sorted The sorted durations.
+		 * @param percentile The percentile, between {@code 0} and {@code 1}.
+		 * @return The duration, in nanoseconds, or {@code 0} if there are no durations.
+		 */
+		private static double percentile(long[] sorted, double percentile) {
+			return sorted.length == 0 ? 0 : sorted[(int) Math.ceil(percentile * sorted.length) - 1];
+		}
+
+	}
+
+	/**
+	 * A {@link Sharable} outbound handler that discards everything written to the channels of replayed players, once it
+	 * has been encoded, counting the amount of bytes.
+	 */
+	@Sharable
+	private static final class DiscardingHandler extends ChannelOutboundHandlerAdapter {
+
+		/**
+		 * The amount of bytes discarded.
+		 */
+		private final AtomicLong bytes = new AtomicLong();
+
+		@Override
+		public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+			if (msg instanceof ByteBuf) {
+				bytes.addAndGet(((ByteBuf) msg).readableBytes());
+			}
+
+			ReferenceCountUtil.release(msg);
+			promise.setSuccess();
+		}
+
+	}
+
+	/**
+	 * The logger for this class.
+	 */
+	private static final Logger logger = Logger.getLogger(JournalReplayer.class.getName());
+
+	/**
+	 * The entry point of the JournalReplayer.
+	 *
+	 * @param args The application arguments: the path of the journal, the class name of the
+	 *            {@link ClientSynchronizer} to use (default {@link ParallelClientSynchronizer}), and the class name of
+	 *            the {@link Release} to decode packets with (default the release the journal was recorded with).
+	 * @throws Exception If the journal could not be read, or the world could not be initialized.
+	 */
+	public static void main(String[] args) throws Exception {
+		if (args.length == 0) {
+			System.err.println("Usage: JournalReplayer <journal> [synchronizer] [release]");
+			return;
+		}
+
+		try (JournalReader reader = new JournalReader(Files.newInputStream(Paths.get(args[0])))) {
+			int version = reader.getRelease();
+			String releaseName = args.length > 2 ? args[2] : "org.apollo.game.release.r" + version + ".Release" + version;
+			String synchronizerName = args.length > 1 ? args[1] : ParallelClientSynchronizer.class.getName();
+
+			Release release = (Release) Class.forName(releaseName).newInstance();
+			ClientSynchronizer synchronizer = (ClientSynchronizer) Class.forName(synchronizerName).newInstance();
+
+			JournalReplayer replayer = new JournalReplayer(release, synchronizer);
+			replayer.replay(reader);
+			replayer.report();
+		} catch (Throwable t) {
+			logger.log(Level.SEVERE, "Error whilst replaying journal.", t);
+		}
+
+		System.exit(0); // The synchronizer may have started non-daemon threads.
+	}
+
+	/**
+	 * The ServerContext of the headless server.
+	 */
+	private final ServerContext context;
+
+	/**
+	 * The DiscardingHandler shared by the channels of replayed players.
+	 */
+	private final DiscardingHandler discarder = new DiscardingHandler();
+
+	/**
+	 * The MessageHandlerChainSet that replayed messages are handled by.
+	 */
+	private final MessageHandlerChainSet handlers;
+
+	/**
+	 * The time taken to register players and handle messages in each pulse.
+	 */
+	private final Phase handling = new Phase("handling");
+
+	/**
+	 * The amount of messages replayed.
+	 */
+	private long messages;
+
+	/**
+	 * The maximum amount of Players registered at once.
+	 */
+	private int peak;
+
+	/**
+	 * The replayed Players, indexed by the index they were recorded with.
+	 */
+	private final Player[] players = new Player[WorldConstants.MAXIMUM_PLAYERS + 1];
+
+	/**
+	 * The release the replayed packets are decoded with.
+	 */
+	private final Release release;
+
+	/**
+	 * The time taken to pulse the World in each pulse.
+	 */
+	private final Phase pulsing = new Phase("world");
+
+	/**
+	 * The time taken to synchronize clients in each pulse.
+	 */
+	private final Phase synchronization = new Phase("synchronization");
+
+	/**
+	 * The ClientSynchronizer.
+	 */
+	private final ClientSynchronizer synchronizer;
+
+	/**
+	 * The total time taken by each pulse.
+	 */
+	private final Phase total = new Phase("total");
+
+	/**
+	 * The headless World.
+	 */
+	private final World world = new World();
+
+	/**
+	 * Creates the JournalReplayer, initializing the World in the same way as the {@link Server}.
+	 *
+	 * @param release The {@link Release} to decode packets with.
+	 * @param synchronizer The {@link ClientSynchronizer} to synchronize the World with.
+	 * @throws Exception If the World could not be initialized.
+	 */
+	public JournalReplayer(Release release, ClientSynchronizer synchronizer) throws Exception {
+		this.release = release;
+		this.synchronizer = synchronizer;
+
+		int version = release.getReleaseNumber();
+		ServiceManager services = new ServiceManager(world);
+		IndexedFileSystem fs = new IndexedFileSystem(Paths.get("data/fs", Integer.toString(version)), true);
+		PacketRateLimits limits;
+		try (InputStream input = new FileInputStream("data/rate-limits-" + version + ".xml")) {
+			limits = new PacketRateLimitsParser(input).parse();
+		}
+
+		context = new ServerContext(release, services, fs, limits);
+		PluginManager manager = new PluginManager(world, new PluginContext(context));
+
+		world.init(version, fs, manager);
+		handlers = services.getGame().getMessageHandlerChainSet();
+		handlers.resolve();
+	}
+
+	/**
+	 * Replays every pulse in the journal read by the specified {@link JournalReader}. A pulse cut short by the end of
+	 * the journal is not synchronized.
+	 *
+	 * @param reader The JournalReader.
+	 * @throws Exception If the journal could not be read.
+	 */
+	public void replay(JournalReader reader) throws Exception {
+		long start = 0;
+		JournalRecord record;
+
+		while ((record = reader.next()) != null) {
+			switch (record.getType()) {
+				case JournalConstants.PULSE:
+					start = System.nanoTime();
+					break;
+				case JournalConstants.LOGIN:
+					login(record);
+					break;
+				case JournalConstants.MESSAGE:
+					handle(record);
+					break;
+				case JournalConstants.SYNCHRONIZE:
+					long handled = System.nanoTime();
+					world.pulse();
+
+					long pulsed = System.nanoTime();
+					synchronizer.synchronize(world.getPlayerRepository(), world.getNpcRepository());
+
+					long finished = System.nanoTime();
+					handling.record(handled - start);
+					pulsing.record(pulsed - handled);
+					synchronization.record(finished - pulsed);
+					total.record(finished - start);
+					break;
+				case JournalConstants.LOGOUT:
+					logout(record);
+					break;
+			}
+		}
+	}
+
+	/**
+	 * Prints the report of the replay.
+	 */
+	public void report() {
+		int pulses = total.count;
+		System.out.println("Replayed " + pulses + " pulses and " + messages + " messages, with at most " + peak
+				+ " players, using " + synchronizer.getClass().getSimpleName() + ".");
+
+		for (Phase phase : new Phase[] { handling, pulsing, synchronization, total }) {
+			System.out.println(phase);
+		}
+
+		long bytes = discarder.bytes.get();
+		long elapsed = Arrays.stream(total.durations, 0, pulses).sum();
+		System.out.println("Encoded " + (pulses == 0 ? 0 : bytes / pulses) + " bytes per pulse, and spent "
+				+ TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms pulsing in total.");
+	}
+
+	/**
+	 * Decodes and handles the message in a message record.
+	 *
+	 * @param record The {@link JournalRecord}.
+	 */
+	private void handle(JournalRecord record) {
+		Player player = players[record.getIndex()];
+		int opcode = record.getOpcode();
+		MessageDecoder<?> decoder = release.getMessageDecoder(opcode);
+
+		if (player == null || decoder == null) {
+			return;
+		}
+
+		GamePacket packet = new GamePacket(opcode, release.getIncomingPacketMetaData(opcode).getType(),
+			Unpooled.wrappedBuffer(record.getPayload()));
+		Message message = decoder.decode(packet);
+		messages++;
+
+		try {
+			handlers.notify(player, message);
+		} catch (Exception reason) {
+			logger.log(Level.SEVERE, "Uncaught exception thrown while handling message: " + message, reason);
+		}
+	}
+
+	/**
+	 * Registers the Player in a login record, with a session whose channel encodes and then discards every message. The
+	 * Player is created from defaults, as the journal does not record their saved state.
+	 *
+	 * @param record The {@link JournalRecord}.
+	 */
+	private void login(JournalRecord record) {
+		if (world.isPlayerOnline(record.getUsername())) {
+			return;
+		}
+
+		PlayerCredentials credentials = new PlayerCredentials(record.getUsername(), "", 0, 0, "127.0.0.1");
+		Player player = new Player(world, credentials, record.getPosition());
+		player.setPrivilegeLevel(record.getPrivilegeLevel());
+
+		EmbeddedChannel channel = new EmbeddedChannel(discarder, new GamePacketEncoder(new IsaacRandom(new int[4])),
+			new GameMessageEncoder(release));
+		player.setSession(new GameSession(channel, context, player, false, null, null));
+
+		world.register(player);
+		Region region = world.getRegionRepository().fromPosition(player.getPosition());
+		region.addEntity(player);
+		player.sendInitialMessages();
+
+		players[record.getIndex()] = player;
+		peak = Math.max(peak, world.getPlayerRepository().size());
+	}
+
+	/**
+	 * Unregisters the Player in a logout record.
+	 *
+	 * @param record The {@link JournalRecord}.
+	 */
+	private void logout(JournalRecord record) {
+		Player player = players[record.getIndex()];
+
+		if (player != null) {
+			world.unregister(player);
+			players[record.getIndex()] = null;
+		}
+	}
+
+}
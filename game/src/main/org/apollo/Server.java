@@ -1,6 +1,8 @@
 package org.apollo;
 
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.BindException;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
@@ -12,11 +14,11 @@ import java.util.logging.Logger;
 import com.google.common.base.Stopwatch;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import org.apollo.cache.IndexedFileSystem;
+import org.apollo.game.io.PacketRateLimitsParser;
 import org.apollo.game.model.World;
 import org.apollo.game.plugin.PluginContext;
 import org.apollo.game.plugin.PluginManager;
@@ -25,7 +27,9 @@ import org.apollo.game.session.ApolloHandler;
 import org.apollo.net.HttpChannelInitializer;
 import org.apollo.net.JagGrabChannelInitializer;
 import org.apollo.net.NetworkConstants;
+import org.apollo.net.NetworkTransport;
 import org.apollo.net.ServiceChannelInitializer;
+import org.apollo.net.codec.game.PacketRateLimits;
 import org.apollo.net.release.Release;
 
 /**
@@ -35,6 +39,11 @@ import org.apollo.net.release.Release;
  */
 public final class Server {
 
+	/**
+	 * The default low water mark of a Netty channel's write buffer, in bytes.
+	 */
+	private static final int DEFAULT_LOW_WATER_MARK = 32 * 1024;
+
 	/**
 	 * The logger for this class.
 	 */
@@ -75,11 +84,6 @@ public final class Server {
 	 */
 	private final ServerBootstrap jaggrabBootstrap = new ServerBootstrap();
 
-	/**
-	 * The event loop group.
-	 */
-	private final EventLoopGroup loopGroup = new NioEventLoopGroup();
-
 	/**
 	 * The {@link ServerBootstrap} for the service listener.
 	 */
@@ -130,32 +134,67 @@ public final class Server {
 
 		logger.info("Initialized " + release + ".");
 
-		serviceBootstrap.group(loopGroup);
-		httpBootstrap.group(loopGroup);
-		jaggrabBootstrap.group(loopGroup);
-
 		World world = new World();
 		ServiceManager services = new ServiceManager(world);
 		IndexedFileSystem fs = new IndexedFileSystem(Paths.get("data/fs", Integer.toString(version)), true);
-		ServerContext context = new ServerContext(release, services, fs);
+		PacketRateLimits limits;
+		try (InputStream input = new FileInputStream("data/rate-limits-" + version + ".xml")) {
+			limits = new PacketRateLimitsParser(input).parse();
+		}
+
+		ServerContext context = new ServerContext(release, services, fs, limits);
 		ApolloHandler handler = new ApolloHandler(context);
 
+		logger.info("Using the " + NetworkConstants.TRANSPORT + " transport.");
+
 		ChannelInitializer<SocketChannel> service = new ServiceChannelInitializer(handler);
-		serviceBootstrap.channel(NioServerSocketChannel.class);
-		serviceBootstrap.childHandler(service);
+		configure(serviceBootstrap, "service", NetworkConstants.SERVICE_WORKER_THREADS, service);
 
 		ChannelInitializer<SocketChannel> http = new HttpChannelInitializer(handler);
-		httpBootstrap.channel(NioServerSocketChannel.class);
-		httpBootstrap.childHandler(http);
+		configure(httpBootstrap, "http", NetworkConstants.HTTP_WORKER_THREADS, http);
 
 		ChannelInitializer<SocketChannel> jaggrab = new JagGrabChannelInitializer(handler);
-		jaggrabBootstrap.channel(NioServerSocketChannel.class);
-		jaggrabBootstrap.childHandler(jaggrab);
+		configure(jaggrabBootstrap, "jaggrab", NetworkConstants.JAGGRAB_WORKER_THREADS, jaggrab);
 
 		PluginManager manager = new PluginManager(world, new PluginContext(context));
 		services.startAll();
+		Runtime.getRuntime().addShutdownHook(new Thread(services::shutdownAll, "ShutdownHook"));
 
 		world.init(version, fs, manager);
+		context.getGameService().getMessageHandlerChainSet().resolve();
+	}
+
+	/**
+	 * Configures the specified ServerBootstrap with its own boss and worker {@link EventLoopGroup}s, and the channel
+	 * options from {@code net.xml}.
+	 *
+	 * @param bootstrap The ServerBootstrap.
+	 * @param name The name of the listener, used to name its threads.
+	 * @param workers The amount of worker threads, or {@code 0} for the Netty default.
+	 * @param initializer The {@link ChannelInitializer} for accepted channels.
+	 */
+	private void configure(ServerBootstrap bootstrap, String name, int workers,
+			ChannelInitializer<SocketChannel> initializer) {
+		NetworkTransport transport = NetworkConstants.TRANSPORT;
+		EventLoopGroup boss = transport.createGroup(NetworkConstants.BOSS_THREADS, name + "-boss");
+		EventLoopGroup worker = transport.createGroup(workers, name + "-worker");
+
+		bootstrap.group(boss, worker);
+		bootstrap.channel(transport.getServerChannel());
+		bootstrap.childHandler(initializer);
+
+		bootstrap.option(ChannelOption.ALLOCATOR, NetworkConstants.ALLOCATOR);
+		bootstrap.childOption(ChannelOption.ALLOCATOR, NetworkConstants.ALLOCATOR);
+		bootstrap.childOption(ChannelOption.TCP_NODELAY, NetworkConstants.TCP_NO_DELAY);
+
+		int low = NetworkConstants.WRITE_BUFFER_LOW_WATER_MARK, high = NetworkConstants.WRITE_BUFFER_HIGH_WATER_MARK;
+		if (high >= DEFAULT_LOW_WATER_MARK) { // Netty rejects water marks that cross, so the order matters.
+			bootstrap.childOption(ChannelOption.WRITE_BUFFER_HIGH_WATER_MARK, high);
+			bootstrap.childOption(ChannelOption.WRITE_BUFFER_LOW_WATER_MARK, low);
+		} else {
+			bootstrap.childOption(ChannelOption.WRITE_BUFFER_LOW_WATER_MARK, low);
+			bootstrap.childOption(ChannelOption.WRITE_BUFFER_HIGH_WATER_MARK, high);
+		}
 	}
 
 	/**
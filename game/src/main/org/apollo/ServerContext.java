@@ -6,6 +6,7 @@ import org.apollo.cache.IndexedFileSystem;
 import org.apollo.game.service.GameService;
 import org.apollo.game.service.LoginService;
 import org.apollo.game.service.UpdateService;
+import org.apollo.net.codec.game.PacketRateLimits;
 import org.apollo.net.release.Release;
 
 /**
@@ -23,6 +24,11 @@ public final class ServerContext {
 	 */
 	private final IndexedFileSystem fileSystem;
 
+	/**
+	 * The inbound packet budgets.
+	 */
+	private final PacketRateLimits rateLimits;
+
 	/**
 	 * The current release.
 	 */
@@ -39,12 +45,15 @@ public final class ServerContext {
 	 * @param release The current release.
 	 * @param services The service manager.
 	 * @param fileSystem The indexed file system.
+	 * @param rateLimits The inbound packet budgets.
 	 */
-	protected ServerContext(Release release, ServiceManager services, IndexedFileSystem fileSystem) {
+	protected ServerContext(Release release, ServiceManager services, IndexedFileSystem fileSystem,
+			PacketRateLimits rateLimits) {
 		this.release = Objects.requireNonNull(release);
 		this.services = Objects.requireNonNull(services);
 		this.services.setContext(this);
 		this.fileSystem = Objects.requireNonNull(fileSystem);
+		this.rateLimits = Objects.requireNonNull(rateLimits);
 	}
 
 	/**
@@ -74,6 +83,15 @@ public final class ServerContext {
 		return services.getLogin();
 	}
 
+	/**
+	 * Gets the inbound packet budgets of the current release.
+	 *
+	 * @return The PacketRateLimits.
+	 */
+	public PacketRateLimits getRateLimits() {
+		return rateLimits;
+	}
+
 	/**
 	 * Gets the current release.
 	 *
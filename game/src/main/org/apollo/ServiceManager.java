@@ -1,5 +1,7 @@
 package org.apollo;
 
+import java.io.IOException;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.apollo.game.model.World;
@@ -84,6 +86,23 @@ public final class ServiceManager {
 		update.setContext(context);
 	}
 
+	/**
+	 * Shuts down all the services. The game service is shut down first, so that no more saves are submitted to the
+	 * login service once it has closed its serializer.
+	 */
+	public void shutdownAll() {
+		logger.info("Shutting down services...");
+		game.shutdown(true);
+
+		try {
+			login.shutdown();
+		} catch (IOException cause) {
+			logger.log(Level.SEVERE, "Failed to close the player serializer.", cause);
+		} catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
 	/**
 	 * Starts all the services.
 	 */
@@ -0,0 +1,123 @@
+package org.apollo.game.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apollo.net.codec.game.PacketRateLimits;
+import org.apollo.util.xml.XmlNode;
+import org.apollo.util.xml.XmlParser;
+import org.xml.sax.SAXException;
+
+/**
+ * A class that parses the {@code data/rate-limits-[release].xml} file to produce {@link PacketRateLimits}.
+ *
+ * @author Major
+ */
+public final class PacketRateLimitsParser {
+
+	/**
+	 * The source {@link InputStream}.
+	 */
+	private final InputStream is;
+
+	/**
+	 * The {@link XmlParser} instance.
+	 */
+	private final XmlParser parser = new XmlParser();
+
+	/**
+	 * Creates the PacketRateLimitsParser.
+	 *
+	 * @param is The source {@link InputStream}.
+	 * @throws SAXException If a SAX error occurs.
+	 */
+	public PacketRateLimitsParser(InputStream is) throws SAXException {
+		this.is = is;
+	}
+
+	/**
+	 * Parses the XML and produces the {@link PacketRateLimits}.
+	 *
+	 * @return The PacketRateLimits.
+	 * @throws IOException If an I/O error occurs, or if the XML is malformed.
+	 * @throws SAXException If a SAX error occurs.
+	 */
+	public PacketRateLimits parse() throws IOException, SAXException {
+		XmlNode root = parser.parse(is);
+		if (!root.getName().equals("rate-limits")) {
+			throw new IOException("Root node name is not 'rate-limits'.");
+		}
+
+		XmlNode defaults = root.getChild(PacketRateLimits.DEFAULT_CATEGORY);
+		if (defaults == null) {
+			throw new IOException("No node named 'default' beneath the root node.");
+		}
+
+		PacketRateLimits.Builder builder = new PacketRateLimits.Builder(parseRate(defaults), parseBurst(defaults));
+
+		for (XmlNode category : root) {
+			if (category.getName().equals(PacketRateLimits.DEFAULT_CATEGORY)) {
+				continue;
+			} else if (!category.getName().equals("category")) {
+				throw new IOException("Only expected nodes named 'default' or 'category' beneath the root node.");
+			}
+
+			String name = category.getAttribute("name");
+			if (name == null) {
+				throw new IOException("Category nodes must have a 'name' attribute.");
+			}
+
+			int[] opcodes = new int[category.getChildCount()];
+			int index = 0;
+
+			for (XmlNode opcode : category) {
+				if (!opcode.getName().equals("opcode") || !opcode.hasValue()) {
+					throw new IOException("Only expected nodes named 'opcode' with a value beneath category " + name);
+				}
+
+				opcodes[index++] = Integer.parseInt(opcode.getValue());
+			}
+
+			try {
+				builder.category(name, parseRate(category), parseBurst(category), opcodes);
+			} catch (IllegalArgumentException e) {
+				throw new IOException("Invalid category " + name + ".", e);
+			}
+		}
+
+		return builder.build();
+	}
+
+	/**
+	 * Parses the {@code burst} attribute of the specified node.
+	 *
+	 * @param node The {@link XmlNode}.
+	 * @return The burst.
+	 * @throws IOException If the attribute does not exist.
+	 */
+	private int parseBurst(XmlNode node) throws IOException {
+		String burst = node.getAttribute("burst");
+		if (burst == null) {
+			throw new IOException("Node " + node.getName() + " must have a 'burst' attribute.");
+		}
+
+		return Integer.parseInt(burst);
+	}
+
+	/**
+	 * Parses the {@code rate} attribute of the specified node.
+	 *
+	 * @param node The {@link XmlNode}.
+	 * @return The rate, in packets per second.
+	 * @throws IOException If the attribute does not exist.
+	 */
+	private double parseRate(XmlNode node) throws IOException {
+		String rate = node.getAttribute("rate");
+		if (rate == null) {
+			throw new IOException("Node " + node.getName() + " must have a 'rate' attribute.");
+		}
+
+		return Double.parseDouble(rate);
+	}
+
+}
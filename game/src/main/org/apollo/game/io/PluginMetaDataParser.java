@@ -74,6 +74,7 @@ public final class PluginMetaDataParser {
 		XmlNode descriptionNode = getElement(rootNode, "description");
 		XmlNode authorsNode = getElement(rootNode, "authors");
 		XmlNode scriptsNode = getElement(rootNode, "scripts");
+		XmlNode classesNode = rootNode.getChild("classes");
 		XmlNode dependenciesNode = getElement(rootNode, "dependencies");
 		XmlNode versionNode = getElement(rootNode, "version");
 
@@ -88,10 +89,12 @@ public final class PluginMetaDataParser {
 
 		XmlNode[] authorNodes = authorsNode.getChildren().toArray(EMPTY_NODE_ARRAY);
 		XmlNode[] scriptNodes = scriptsNode.getChildren().toArray(EMPTY_NODE_ARRAY);
+		XmlNode[] classNodes = classesNode == null ? EMPTY_NODE_ARRAY : classesNode.getChildren().toArray(EMPTY_NODE_ARRAY);
 		XmlNode[] dependencyNodes = dependenciesNode.getChildren().toArray(EMPTY_NODE_ARRAY);
 
 		String[] authors = new String[authorNodes.length];
 		String[] scripts = new String[scriptNodes.length];
+		String[] classes = new String[classNodes.length];
 		String[] dependencies = new String[dependencyNodes.length];
 
 		for (int i = 0; i < authorNodes.length; i++) {
@@ -108,6 +111,13 @@ public final class PluginMetaDataParser {
 			}
 		}
 
+		for (int i = 0; i < classNodes.length; i++) {
+			classes[i] = classNodes[i].getValue();
+			if (classes[i] == null) {
+				throw new IOException("Class elements must have values.");
+			}
+		}
+
 		for (int i = 0; i < dependencyNodes.length; i++) {
 			dependencies[i] = dependencyNodes[i].getValue();
 			if (dependencies[i] == null) {
@@ -115,7 +125,7 @@ public final class PluginMetaDataParser {
 			}
 		}
 
-		return new PluginMetaData(id, base, name, description, authors, scripts, dependencies, version);
+		return new PluginMetaData(id, base, name, description, authors, scripts, classes, dependencies, version);
 	}
 
 }
\ No newline at end of file
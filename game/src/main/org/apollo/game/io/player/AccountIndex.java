@@ -0,0 +1,189 @@
+package org.apollo.game.io.player;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * An open-addressing hash map of encoded usernames to the locations of their records in an {@link AccountLog}, which
+ * stores both in primitive arrays so that an index of hundreds of thousands of accounts does not box every entry.
+ *
+ * @author Major
+ */
+final class AccountIndex {
+
+	/**
+	 * The key of an empty slot, which is the encoding of the empty username (and so never a valid key).
+	 */
+	private static final long EMPTY = 0;
+
+	/**
+	 * The minimum amount of slots.
+	 */
+	private static final int MINIMUM_CAPACITY = 1_024;
+
+	/**
+	 * The value returned for keys that are not in the index.
+	 */
+	public static final long MISSING = -1;
+
+	/**
+	 * The keys of each slot.
+	 */
+	private long[] keys;
+
+	/**
+	 * The amount of keys in this index.
+	 */
+	private int size;
+
+	/**
+	 * The values of each slot.
+	 */
+	private long[] values;
+
+	/**
+	 * Creates the AccountIndex.
+	 *
+	 * @param expected The expected amount of keys.
+	 */
+	public AccountIndex(int expected) {
+		int capacity = Integer.highestOneBit(Math.max(MINIMUM_CAPACITY, expected) * 2 - 1) << 1;
+		keys = new long[capacity];
+		values = new long[capacity];
+	}
+
+	/**
+	 * Creates a copy of this AccountIndex.
+	 *
+	 * @return The copy.
+	 */
+	public AccountIndex copy() {
+		AccountIndex copy = new AccountIndex(0);
+		copy.keys = keys.clone();
+		copy.values = values.clone();
+		copy.size = size;
+		return copy;
+	}
+
+	/**
+	 * Gets the value of the specified key.
+	 *
+	 * @param key The key.
+	 * @return The value, or {@link #MISSING} if the key is not in this index.
+	 */
+	public long get(long key) {
+		for (int slot = slot(key, keys.length); keys[slot] != EMPTY; slot = slot + 1 & keys.length - 1) {
+			if (keys[slot] == key) {
+				return values[slot];
+			}
+		}
+
+		return MISSING;
+	}
+
+	/**
+	 * Gets the capacity of this index, i.e. the amount of slots that can be passed to {@link #keyAt} and
+	 * {@link #valueAt}.
+	 *
+	 * @return The capacity.
+	 */
+	public int capacity() {
+		return keys.length;
+	}
+
+	/**
+	 * Gets the key in the specified slot.
+	 *
+	 * @param slot The slot.
+	 * @return The key, or {@code 0} if the slot is empty.
+	 */
+	public long keyAt(int slot) {
+		return keys[slot];
+	}
+
+	/**
+	 * Puts the specified key and value into this index.
+	 *
+	 * @param key The key. Must not be {@code 0}.
+	 * @param value The value. Must not be negative.
+	 * @return The previous value of the key, or {@link #MISSING} if the key was not in this index.
+	 */
+	public long put(long key, long value) {
+		Preconditions.checkArgument(key != EMPTY, "Key must not be 0.");
+		Preconditions.checkArgument(value >= 0, "Value must not be negative.");
+
+		int slot = slot(key, keys.length);
+		while (keys[slot] != EMPTY) {
+			if (keys[slot] == key) {
+				long previous = values[slot];
+				values[slot] = value;
+				return previous;
+			}
+
+			slot = slot + 1 & keys.length - 1;
+		}
+
+		keys[slot] = key;
+		values[slot] = value;
+
+		if (++size * 2 > keys.length) {
+			resize();
+		}
+
+		return MISSING;
+	}
+
+	/**
+	 * Gets the amount of keys in this index.
+	 *
+	 * @return The size.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Gets the value in the specified slot.
+	 *
+	 * @param slot The slot.
+	 * @return The value.
+	 */
+	public long valueAt(int slot) {
+		return values[slot];
+	}
+
+	/**
+	 * Doubles the capacity of this index, re-inserting every key.
+	 */
+	private void resize() {
+		long[] oldKeys = keys, oldValues = values;
+		keys = new long[oldKeys.length * 2];
+		values = new long[oldValues.length * 2];
+
+		for (int index = 0; index < oldKeys.length; index++) {
+			long key = oldKeys[index];
+
+			if (key != EMPTY) {
+				int slot = slot(key, keys.length);
+				while (keys[slot] != EMPTY) {
+					slot = slot + 1 & keys.length - 1;
+				}
+
+				keys[slot] = key;
+				values[slot] = oldValues[index];
+			}
+		}
+	}
+
+	/**
+	 * Gets the first slot to probe for the specified key.
+	 *
+	 * @param key The key.
+	 * @param capacity The capacity of the index, which must be a power of two.
+	 * @return The slot.
+	 */
+	private static int slot(long key, int capacity) {
+		long mixed = key * 0x9E37_79B9_7F4A_7C15L;
+		return (int) (mixed ^ mixed >>> 32) & capacity - 1;
+	}
+
+}
@@ -0,0 +1,555 @@
+package org.apollo.game.io.player;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * An append-only log of account records, stored in a single file, which maps encoded usernames to the most recently
+ * written record of each account.
+ * <p>
+ * Every write appends a record of the form {@code [int length, int crc, long key, byte[] payload]}, where the length
+ * covers the key and payload and the CRC-32 is of the same bytes, and then points the in-memory {@link AccountIndex}
+ * at it, so a write never overwrites a previous record and a read is a single positioned read. When the log is opened,
+ * it is scanned to rebuild the index. If the last record is incomplete or fails its CRC (as it is if the server
+ * stopped while writing it), it is truncated, leaving the previous record of that account in place; a corrupt record
+ * anywhere else is not a torn write, so the log refuses to open rather than discard the records after it.
+ * <p>
+ * Superseded records are reclaimed by {@link #compact}, which copies the live records to a new file (while reads and
+ * writes continue against the old one), and then atomically replaces the log with it.
+ *
+ * @author Major
+ */
+final class AccountLog implements Closeable {
+
+	/**
+	 * The size of the file header: the magic number and version.
+	 */
+	private static final int FILE_HEADER_SIZE = Integer.BYTES * 2;
+
+	/**
+	 * The logger for this class.
+	 */
+	private static final Logger logger = Logger.getLogger(AccountLog.class.getName());
+
+	/**
+	 * The magic number at the start of the log.
+	 */
+	private static final int MAGIC = 0x4150_414C;
+
+	/**
+	 * The maximum size of a record, in bytes, which is bounded by the bits of an index value that hold the size.
+	 */
+	private static final int MAXIMUM_RECORD_SIZE = (1 << 24) - 1;
+
+	/**
+	 * The size of the header of each record: the length and the CRC.
+	 */
+	private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+
+	/**
+	 * The version of the log format.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * Packs the position and size of a record into an index value.
+	 *
+	 * @param position The position of the record.
+	 * @param size The size of the record, including its header.
+	 * @return The index value.
+	 */
+	private static long pack(long position, int size) {
+		return position << 24 | size;
+	}
+
+	/**
+	 * Gets the position of a record from an index value.
+	 *
+	 * @param value The index value.
+	 * @return The position.
+	 */
+	private static long position(long value) {
+		return value >>> 24;
+	}
+
+	/**
+	 * Gets the size of a record from an index value.
+	 *
+	 * @param value The index value.
+	 * @return The size.
+	 */
+	private static int size(long value) {
+		return (int) value & MAXIMUM_RECORD_SIZE;
+	}
+
+	/**
+	 * The FileChannel of the log.
+	 */
+	private FileChannel channel;
+
+	/**
+	 * The monitor held while compacting, so that only one compaction runs at a time.
+	 */
+	private final Object compaction = new Object();
+
+	/**
+	 * The position at which the next record is written.
+	 */
+	private long end;
+
+	/**
+	 * The path of the log.
+	 */
+	private final Path file;
+
+	/**
+	 * The AccountIndex of encoded usernames to the index values of their latest records.
+	 */
+	private AccountIndex index;
+
+	/**
+	 * The total size of the latest record of every account.
+	 */
+	private long live;
+
+	/**
+	 * The lock guarding the channel, index and end: reads hold the read lock, and writes (and the swap at the end of a
+	 * compaction) hold the write lock.
+	 */
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+	 * Opens the AccountLog, creating it if it does not exist, and recovering it if its last record is incomplete.
+	 *
+	 * @param file The path of the log.
+	 * @throws IOException If the log could not be opened, is not an account log, or contains a corrupt record that is
+	 *             not the last.
+	 */
+	public AccountLog(Path file) throws IOException {
+		this.file = file;
+		Files.deleteIfExists(getCompactionFile());
+
+		channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		if (channel.size() == 0) {
+			writeHeader(channel);
+		} else {
+			ByteBuffer header = read(channel, 0, FILE_HEADER_SIZE);
+			if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+				channel.close();
+				throw new IOException(file + " is not an account log.");
+			}
+		}
+
+		try {
+			recover();
+		} catch (IOException cause) {
+			channel.close();
+			throw cause;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		lock.writeLock().lock();
+		try {
+			channel.close();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Compacts this log, copying the latest record of every account to a new file that then replaces the log. Reads and
+	 * writes are only blocked while the records written during the compaction are copied, and the files are swapped.
+	 *
+	 * @throws IOException If the new file could not be written, or could not replace the log.
+	 */
+	public void compact() throws IOException {
+		synchronized (compaction) {
+			AccountIndex snapshot;
+			long copied;
+			FileChannel source;
+
+			lock.writeLock().lock();
+			try {
+				snapshot = index.copy();
+				copied = end;
+				source = channel;
+			} finally {
+				lock.writeLock().unlock();
+			}
+
+			Path temporary = getCompactionFile();
+			FileChannel target = FileChannel.open(temporary, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+
+			try {
+				AccountIndex compacted = new AccountIndex(snapshot.size());
+				long position = writeHeader(target);
+
+				for (int slot = 0; slot < snapshot.capacity(); slot++) {
+					long key = snapshot.keyAt(slot);
+
+					if (key != 0) {
+						long value = snapshot.valueAt(slot);
+						int size = size(value);
+
+						write(target, position, read(source, position(value), size));
+						compacted.put(key, pack(position, size));
+						position += size;
+					}
+				}
+
+				lock.writeLock().lock();
+				try {
+					while (copied < end) { // Copy the records written since the snapshot.
+						int size = RECORD_HEADER_SIZE + read(source, copied, Integer.BYTES).getInt();
+						ByteBuffer record = read(source, copied, size);
+						long key = record.getLong(RECORD_HEADER_SIZE);
+
+						write(target, position, record);
+						compacted.put(key, pack(position, size));
+						position += size;
+						copied += size;
+					}
+
+					target.force(true);
+					target.close();
+					Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+					long before = end;
+					channel.close();
+					channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+					index = compacted;
+					end = position;
+					live = position - FILE_HEADER_SIZE;
+
+					logger.info("Compacted " + file + " from " + before + " to " + end + " bytes.");
+				} finally {
+					lock.writeLock().unlock();
+				}
+			} finally {
+				if (target.isOpen()) {
+					target.close();
+				}
+
+				Files.deleteIfExists(temporary);
+			}
+		}
+	}
+
+	/**
+	 * Gets the amount of accounts in this log.
+	 *
+	 * @return The amount of accounts.
+	 */
+	public int getAccounts() {
+		lock.readLock().lock();
+		try {
+			return index.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Gets the size of this log, in bytes.
+	 *
+	 * @return The size.
+	 */
+	public long getSize() {
+		lock.readLock().lock();
+		try {
+			return end;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Gets the fraction of this log that is taken up by superseded records, which {@link #compact} would reclaim.
+	 *
+	 * @return The fraction, between {@code 0} and {@code 1}.
+	 */
+	public double getWaste() {
+		lock.readLock().lock();
+		try {
+			long records = end - FILE_HEADER_SIZE;
+			return records == 0 ? 0 : (double) (records - live) / records;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Reads the payload of the latest record of the account with the specified key.
+	 *
+	 * @param key The key, i.e. the encoded username.
+	 * @return The payload, or {@code null} if the account has no record.
+	 * @throws IOException If the record could not be read, or fails its CRC.
+	 */
+	public byte[] read(long key) throws IOException {
+		ByteBuffer record;
+
+		lock.readLock().lock();
+		try {
+			long value = index.get(key);
+			if (value == AccountIndex.MISSING) {
+				return null;
+			}
+
+			record = read(channel, position(value), size(value));
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		int length = record.getInt();
+		int crc = record.getInt();
+		if (crc != crc(record, RECORD_HEADER_SIZE, length) || record.getLong() != key) {
+			throw new IOException("Corrupt record for account " + key + " in " + file + ".");
+		}
+
+		byte[] payload = new byte[record.remaining()];
+		record.get(payload);
+		return payload;
+	}
+
+	/**
+	 * Appends a record of the account with the specified key, and forces it to the disk, superseding the previous
+	 * record of the account (if any).
+	 *
+	 * @param key The key, i.e. the encoded username.
+	 * @param payload The payload.
+	 * @throws IOException If the record could not be written.
+	 */
+	public void write(long key, byte[] payload) throws IOException {
+		int length = Long.BYTES + payload.length;
+		int size = RECORD_HEADER_SIZE + length;
+		Preconditions.checkArgument(size <= MAXIMUM_RECORD_SIZE, "Record too large: " + size + " bytes.");
+
+		ByteBuffer record = ByteBuffer.allocate(size);
+		record.putInt(length).putInt(0).putLong(key).put(payload);
+		record.putInt(Integer.BYTES, crc(record, RECORD_HEADER_SIZE, length));
+		record.flip();
+
+		lock.writeLock().lock();
+		try {
+			write(channel, end, record);
+			channel.force(false);
+
+			long previous = index.put(key, pack(end, size));
+			live += size - (previous == AccountIndex.MISSING ? 0 : size(previous));
+			end += size;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Gets the path of the file that compactions are written to, before they replace the log.
+	 *
+	 * @return The path.
+	 */
+	private Path getCompactionFile() {
+		return file.resolveSibling(file.getFileName() + ".compact");
+	}
+
+	/**
+	 * Checks whether the specified range of the log only contains zeros, as the end of a file that was extended but not
+	 * written to before a crash may.
+	 *
+	 * @param position The position of the range.
+	 * @param size The position of the end of the range.
+	 * @return {@code true} if every byte in the range is zero, otherwise {@code false}.
+	 * @throws IOException If the range could not be read.
+	 */
+	private boolean isZeroed(long position, long size) throws IOException {
+		for (long offset = position; offset < size;) {
+			ByteBuffer buffer = read(channel, offset, (int) Math.min(size - offset, 8_192));
+
+			while (buffer.hasRemaining()) {
+				if (buffer.get() != 0) {
+					return false;
+				}
+			}
+
+			offset += buffer.limit();
+		}
+
+		return true;
+	}
+
+	/**
+	 * Checks whether the record at the specified position, which is incomplete or fails its CRC, was torn by a crash
+	 * while it was being written, and so is the last record in the log. A record is only considered torn if it has a
+	 * plausible length and either ends at the end of the log or extends past it without any intact record following
+	 * its header, or if the rest of the log only contains zeros.
+	 *
+	 * @param position The position of the record.
+	 * @param length The length in the header of the record.
+	 * @param size The size of the log.
+	 * @return {@code true} if the record is a torn write, {@code false} if it is corrupt.
+	 * @throws IOException If the rest of the log could not be read.
+	 */
+	private boolean isTornWrite(long position, int length, long size) throws IOException {
+		if (isZeroed(position, size)) {
+			return true;
+		} else if (length < Long.BYTES || RECORD_HEADER_SIZE + (long) length > MAXIMUM_RECORD_SIZE) {
+			return false;
+		}
+
+		long next = position + RECORD_HEADER_SIZE + length;
+		if (next <= size) {
+			return next == size;
+		}
+
+		ByteBuffer tail = read(channel, position, (int) (size - position));
+		return !containsRecord(tail, RECORD_HEADER_SIZE);
+	}
+
+	/**
+	 * Scans every record in the log to rebuild the index. If the last record is incomplete or fails its CRC, the log is
+	 * truncated before it; any other record that does (including one whose length is corrupt, so that it appears to
+	 * extend past the end of the log) is reported instead, as truncating the log there would discard every intact
+	 * record after it.
+	 *
+	 * @throws IOException If the log could not be read or truncated, or contains a corrupt record that is not the last.
+	 */
+	private void recover() throws IOException {
+		long size = channel.size();
+		long position = FILE_HEADER_SIZE;
+		index = new AccountIndex(0);
+		live = 0;
+
+		while (position + RECORD_HEADER_SIZE + Long.BYTES <= size) {
+			ByteBuffer header = read(channel, position, RECORD_HEADER_SIZE);
+			int length = header.getInt();
+			int crc = header.getInt();
+			long recordSize = RECORD_HEADER_SIZE + (long) length;
+
+			boolean intact = length >= Long.BYTES && recordSize <= MAXIMUM_RECORD_SIZE && position + recordSize <= size;
+			ByteBuffer record = intact ? read(channel, position, (int) recordSize) : null;
+
+			if (!intact || crc != crc(record, RECORD_HEADER_SIZE, length)) {
+				if (!isTornWrite(position, length, size)) {
+					throw new IOException("Corrupt record at position " + position + " of " + file
+							+ ", which is not the last record.");
+				}
+
+				break;
+			}
+
+			long previous = index.put(record.getLong(RECORD_HEADER_SIZE), pack(position, (int) recordSize));
+			live += recordSize - (previous == AccountIndex.MISSING ? 0 : size(previous));
+			position += recordSize;
+		}
+
+		if (position < size) {
+			logger.warning("Truncating " + (size - position) + " bytes of an incomplete record from " + file + ".");
+			channel.truncate(position);
+			channel.force(true);
+		}
+
+		end = position;
+	}
+
+	/**
+	 * Checks whether an intact record starts anywhere in the specified buffer, at or after the specified offset.
+	 *
+	 * @param buffer The buffer.
+	 * @param from The offset to start searching from.
+	 * @return {@code true} if a record with a valid length and CRC was found, otherwise {@code false}.
+	 */
+	private static boolean containsRecord(ByteBuffer buffer, int from) {
+		for (int offset = from; offset + RECORD_HEADER_SIZE + Long.BYTES <= buffer.limit(); offset++) {
+			int length = buffer.getInt(offset);
+			int end = offset + RECORD_HEADER_SIZE + length;
+
+			if (length >= Long.BYTES && length <= buffer.limit() && end <= buffer.limit()
+					&& buffer.getInt(offset + Integer.BYTES) == crc(buffer, offset + RECORD_HEADER_SIZE, length)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Computes the CRC-32 of the specified range of a buffer, without changing its position.
+	 *
+	 * @param buffer The buffer.
+	 * @param offset The offset of the range.
+	 * @param length The length of the range.
+	 * @return The CRC.
+	 */
+	private static int crc(ByteBuffer buffer, int offset, int length) {
+		CRC32 crc = new CRC32();
+		crc.update(buffer.array(), buffer.arrayOffset() + offset, length);
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * Reads the specified amount of bytes from a FileChannel, at the specified position.
+	 *
+	 * @param channel The FileChannel.
+	 * @param position The position.
+	 * @param length The amount of bytes.
+	 * @return The bytes, in a flipped heap buffer.
+	 * @throws IOException If the bytes could not be read, or the end of the file was reached first.
+	 */
+	private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) == -1) {
+				throw new EOFException();
+			}
+		}
+
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * Writes the remaining bytes of a buffer to a FileChannel, at the specified position.
+	 *
+	 * @param channel The FileChannel.
+	 * @param position The position.
+	 * @param buffer The buffer.
+	 * @throws IOException If the bytes could not be written.
+	 */
+	private static void write(FileChannel channel, long position, ByteBuffer buffer) throws IOException {
+		for (long offset = position; buffer.hasRemaining();) {
+			offset += channel.write(buffer, offset);
+		}
+	}
+
+	/**
+	 * Writes the file header to a FileChannel.
+	 *
+	 * @param channel The FileChannel.
+	 * @return The position after the header.
+	 * @throws IOException If the header could not be written.
+	 */
+	private static long writeHeader(FileChannel channel) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+		header.putInt(MAGIC).putInt(VERSION).flip();
+
+		write(channel, 0, header);
+		return FILE_HEADER_SIZE;
+	}
+
+}
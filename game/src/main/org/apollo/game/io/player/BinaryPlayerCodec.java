@@ -0,0 +1,346 @@
+package org.apollo.game.io.player;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apollo.game.model.Appearance;
+import org.apollo.game.model.Item;
+import org.apollo.game.model.Position;
+import org.apollo.game.model.World;
+import org.apollo.game.model.entity.Player;
+import org.apollo.game.model.entity.Skill;
+import org.apollo.game.model.entity.SkillSet;
+import org.apollo.game.model.entity.attr.AttributeKey;
+import org.apollo.game.model.entity.attr.AttributeMap;
+import org.apollo.game.model.entity.attr.AttributeType;
+import org.apollo.game.model.entity.setting.Gender;
+import org.apollo.game.model.entity.setting.MembershipStatus;
+import org.apollo.game.model.entity.setting.PrivacyState;
+import org.apollo.game.model.entity.setting.PrivilegeLevel;
+import org.apollo.game.model.entity.setting.ScreenBrightness;
+import org.apollo.game.model.inv.Inventory;
+import org.apollo.net.codec.login.LoginConstants;
+import org.apollo.util.NameUtil;
+import org.apollo.util.StreamUtil;
+import org.apollo.util.security.PlayerCredentials;
+
+import com.google.common.base.Preconditions;
+import com.lambdaworks.crypto.SCryptUtil;
+
+/**
+ * The binary format of a saved {@link Player}, shared by the {@link BinaryPlayerSerializer} (which stores one player
+ * per file) and the {@link LogPlayerSerializer} (which stores every player in one log).
+ *
+ * @author Graham
+ * @author Major
+ */
+final class BinaryPlayerCodec {
+
+	/**
+	 * The World decoded Players are placed in.
+	 */
+	private final World world;
+
+	/**
+	 * Creates the BinaryPlayerCodec.
+	 *
+	 * @param world The {@link World} to place decoded {@link Player}s in.
+	 */
+	public BinaryPlayerCodec(World world) {
+		this.world = world;
+	}
+
+	/**
+	 * Creates a new {@link Player}, who has not been saved before, on Tutorial Island, hashing their password.
+	 *
+	 * @param credentials The {@link PlayerCredentials} of the Player.
+	 * @return The {@link PlayerLoaderResponse}.
+	 */
+	public PlayerLoaderResponse create(PlayerCredentials credentials) {
+		Player player = new Player(world, credentials, PlayerSerializer.TUTORIAL_ISLAND_SPAWN);
+
+		credentials.setPassword(SCryptUtil.scrypt(credentials.getPassword(), 16384, 8, 1));
+		return new PlayerLoaderResponse(LoginConstants.STATUS_OK, player);
+	}
+
+	/**
+	 * Decodes a saved {@link Player}, checking that the credentials match those that were saved.
+	 *
+	 * @param in The input stream.
+	 * @param credentials The {@link PlayerCredentials} the Player is logging in with.
+	 * @return The {@link PlayerLoaderResponse}.
+	 * @throws IOException If there is an error reading from the stream.
+	 */
+	public PlayerLoaderResponse decode(DataInputStream in, PlayerCredentials credentials) throws IOException {
+		String name = StreamUtil.readString(in);
+		String password = StreamUtil.readString(in);
+
+		if (!name.equalsIgnoreCase(credentials.getUsername()) || !SCryptUtil.check(credentials.getPassword(), password)) {
+			return new PlayerLoaderResponse(LoginConstants.STATUS_INVALID_CREDENTIALS);
+		}
+
+		credentials.setPassword(password); // Update password to the hashed one.
+
+		PrivilegeLevel privilege = PrivilegeLevel.valueOf(in.readByte());
+		MembershipStatus members = MembershipStatus.valueOf(in.readByte());
+
+		PrivacyState chatPrivacy = PrivacyState.valueOf(in.readByte(), true);
+		PrivacyState friendPrivacy = PrivacyState.valueOf(in.readByte(), false);
+		PrivacyState tradePrivacy = PrivacyState.valueOf(in.readByte(), false);
+		ScreenBrightness brightness = ScreenBrightness.valueOf(in.readByte());
+
+		int x = in.readUnsignedShort();
+		int y = in.readUnsignedShort();
+		int height = in.readUnsignedByte();
+
+		Gender gender = in.readUnsignedByte() == Gender.MALE.toInteger() ? Gender.MALE : Gender.FEMALE;
+		int[] style = new int[7];
+		for (int slot = 0; slot < style.length; slot++) {
+			style[slot] = in.readUnsignedByte();
+		}
+
+		int[] colors = new int[5];
+		for (int slot = 0; slot < colors.length; slot++) {
+			colors[slot] = in.readUnsignedByte();
+		}
+
+		Player player = new Player(world, credentials, new Position(x, y, height));
+		player.setPrivilegeLevel(privilege);
+		player.setMembers(members);
+		player.setChatPrivacy(chatPrivacy);
+		player.setFriendPrivacy(friendPrivacy);
+		player.setTradePrivacy(tradePrivacy);
+		player.setScreenBrightness(brightness);
+
+		player.setAppearance(new Appearance(gender, style, colors));
+
+		readInventory(in, player.getInventory());
+		readInventory(in, player.getEquipment());
+		readInventory(in, player.getBank());
+
+		int size = in.readUnsignedByte();
+		SkillSet skills = player.getSkillSet();
+		skills.stopFiringEvents();
+		try {
+			for (int i = 0; i < size; i++) {
+				int level = in.readUnsignedByte();
+				double experience = in.readDouble();
+				skills.setSkill(i, new Skill(experience, level, SkillSet.getLevelForExperience(experience)));
+			}
+		} finally {
+			skills.calculateCombatLevel();
+			skills.startFiringEvents();
+		}
+
+		int friendCount = in.readByte();
+		List<String> friends = new ArrayList<>(friendCount);
+		for (int i = 0; i < friendCount; i++) {
+			friends.add(NameUtil.decodeBase37(in.readLong()));
+		}
+		player.setFriendUsernames(friends);
+
+		int ignoreCount = in.readByte();
+		List<String> ignores = new ArrayList<>(ignoreCount);
+		for (int times = 0; times < ignoreCount; times++) {
+			ignores.add(NameUtil.decodeBase37(in.readLong()));
+		}
+		player.setIgnoredUsernames(ignores);
+
+		readAttributes(in, player);
+
+		if (player.isBanned()) {
+			return new PlayerLoaderResponse(LoginConstants.STATUS_ACCOUNT_DISABLED);
+		}
+
+		return new PlayerLoaderResponse(LoginConstants.STATUS_OK, player);
+	}
+
+	/**
+	 * Encodes the specified {@link PlayerSnapshot}.
+	 *
+	 * @param out The output stream.
+	 * @param snapshot The PlayerSnapshot.
+	 * @throws IOException If there is an error writing to the stream.
+	 */
+	public void encode(DataOutputStream out, PlayerSnapshot snapshot) throws IOException {
+		StreamUtil.writeString(out, snapshot.getUsername());
+		StreamUtil.writeString(out, snapshot.getPassword());
+		out.writeByte(snapshot.getPrivilegeLevel().toInteger());
+		out.writeByte(snapshot.getMembershipStatus().getValue());
+
+		out.writeByte(snapshot.getChatPrivacy().toInteger(true));
+		out.writeByte(snapshot.getFriendPrivacy().toInteger(false));
+		out.writeByte(snapshot.getTradePrivacy().toInteger(false));
+		out.writeByte(snapshot.getScreenBrightness().toInteger());
+
+		Position position = snapshot.getPosition();
+		out.writeShort(position.getX());
+		out.writeShort(position.getY());
+		out.writeByte(position.getHeight());
+
+		Appearance appearance = snapshot.getAppearance();
+		out.writeByte(appearance.getGender().toInteger());
+		int[] style = appearance.getStyle();
+		for (int element : style) {
+			out.writeByte(element);
+		}
+		int[] colors = appearance.getColors();
+		for (int color : colors) {
+			out.writeByte(color);
+		}
+
+		writeInventory(out, snapshot.getInventory());
+		writeInventory(out, snapshot.getEquipment());
+		writeInventory(out, snapshot.getBank());
+
+		int skills = snapshot.getSkillCount();
+		out.writeByte(skills);
+		for (int id = 0; id < skills; id++) {
+			out.writeByte(snapshot.getCurrentLevel(id));
+			out.writeDouble(snapshot.getExperience(id));
+		}
+
+		long[] usernames = snapshot.getFriends();
+		out.writeByte(usernames.length);
+		for (long username : usernames) {
+			out.writeLong(username);
+		}
+
+		usernames = snapshot.getIgnores();
+		out.writeByte(usernames.length);
+		for (long username : usernames) {
+			out.writeLong(username);
+		}
+
+		AttributeMap attributes = snapshot.getAttributes();
+		out.writeInt(attributes.size());
+
+		for (AttributeKey key : AttributeMap.getKeys()) {
+			if (attributes.isAssigned(key)) {
+				writeAttribute(out, key, attributes);
+			}
+		}
+	}
+
+	/**
+	 * Reads the player's attributes, setting them in the slots of their {@link AttributeKey}s.
+	 *
+	 * @param in The input stream.
+	 * @param player The {@link Player}.
+	 * @throws IOException If there is an error reading from the stream.
+	 */
+	private void readAttributes(DataInputStream in, Player player) throws IOException {
+		int count = in.readInt();
+
+		for (int times = 0; times < count; times++) {
+			String name = StreamUtil.readString(in);
+			AttributeType type = AttributeType.valueOf(in.read());
+			Object value;
+
+			switch (type) {
+				case BOOLEAN:
+					value = in.read() == 1;
+					break;
+				case DOUBLE:
+					value = in.readDouble();
+					break;
+				case LONG:
+					value = in.readLong();
+					break;
+				case STRING:
+				case SYMBOL:
+					value = StreamUtil.readString(in);
+					break;
+				default:
+					throw new IllegalArgumentException("Undefined attribute type: " + type + ".");
+			}
+
+			AttributeKey key = AttributeMap.getKey(name);
+			Preconditions.checkNotNull(key, "Attributes must be defined before their value can be set.");
+			player.setAttributeValue(key, value);
+		}
+	}
+
+	/**
+	 * Reads an inventory from the input stream.
+	 *
+	 * @param in The input stream.
+	 * @param inventory The inventory.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private void readInventory(DataInputStream in, Inventory inventory) throws IOException {
+		int capacity = in.readUnsignedShort();
+
+		inventory.stopFiringEvents();
+		try {
+			for (int slot = 0; slot < capacity; slot++) {
+				int id = in.readUnsignedShort();
+				int amount = in.readInt();
+				if (id != 0) {
+					inventory.set(slot, new Item(id - 1, amount));
+				} else {
+					inventory.reset(slot);
+				}
+			}
+		} finally {
+			inventory.startFiringEvents();
+		}
+	}
+
+	/**
+	 * Writes the attribute with the specified {@link AttributeKey}, reading its value from the slot of the key.
+	 *
+	 * @param out The output stream.
+	 * @param key The AttributeKey.
+	 * @param attributes The {@link AttributeMap} containing the value.
+	 * @throws IOException If there is an error writing to the stream.
+	 */
+	private void writeAttribute(DataOutputStream out, AttributeKey key, AttributeMap attributes) throws IOException {
+		StreamUtil.writeString(out, key.getName());
+		AttributeType type = key.getType();
+		out.writeByte(type.getValue());
+
+		switch (type) {
+			case BOOLEAN:
+				out.writeByte(attributes.getBoolean(key) ? 1 : 0);
+				break;
+			case DOUBLE:
+				out.writeDouble(attributes.getDouble(key));
+				break;
+			case LONG:
+				out.writeLong(attributes.getLong(key));
+				break;
+			default:
+				out.write(attributes.getString(key).getBytes(StandardCharsets.UTF_8));
+				out.writeByte(0);
+				break;
+		}
+	}
+
+	/**
+	 * Writes an inventory to the specified output stream.
+	 *
+	 * @param out The output stream.
+	 * @param inventory The {@link InventorySnapshot} of the inventory.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private void writeInventory(DataOutputStream out, InventorySnapshot inventory) throws IOException {
+		int capacity = inventory.capacity();
+		out.writeShort(capacity);
+
+		for (int slot = 0; slot < capacity; slot++) {
+			if (!inventory.isEmpty(slot)) {
+				out.writeShort(inventory.getId(slot) + 1);
+				out.writeInt(inventory.getAmount(slot));
+			} else {
+				out.writeShort(0);
+				out.writeInt(0);
+			}
+		}
+	}
+
+}
@@ -36,7 +36,7 @@ public final class DummyPlayerSerializer extends PlayerSerializer {
 	}
 
 	@Override
-	public void savePlayer(Player player) {
+	public void savePlayer(PlayerSnapshot snapshot) {
 		/* discard player */
 	}
 
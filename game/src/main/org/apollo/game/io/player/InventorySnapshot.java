@@ -0,0 +1,108 @@
+package org.apollo.game.io.player;
+
+import org.apollo.game.model.Item;
+import org.apollo.game.model.inv.Inventory;
+
+/**
+ * An immutable copy of the contents of an {@link Inventory}, stored as primitive arrays of item ids and amounts.
+ *
+ * @author Major
+ */
+public final class InventorySnapshot {
+
+	/**
+	 * The id stored for empty slots.
+	 */
+	private static final int EMPTY = -1;
+
+	/**
+	 * Captures the contents of the specified {@link Inventory}.
+	 *
+	 * @param inventory The Inventory.
+	 * @return The InventorySnapshot.
+	 */
+	public static InventorySnapshot capture(Inventory inventory) {
+		int capacity = inventory.capacity();
+		int[] ids = new int[capacity];
+		int[] amounts = new int[capacity];
+
+		for (int slot = 0; slot < capacity; slot++) {
+			Item item = inventory.get(slot);
+
+			if (item == null) {
+				ids[slot] = EMPTY;
+			} else {
+				ids[slot] = item.getId();
+				amounts[slot] = item.getAmount();
+			}
+		}
+
+		return new InventorySnapshot(ids, amounts);
+	}
+
+	/**
+	 * The amount of the item in each slot.
+	 */
+	private final int[] amounts;
+
+	/**
+	 * The id of the item in each slot, or {@link #EMPTY}.
+	 */
+	private final int[] ids;
+
+	/**
+	 * Creates the InventorySnapshot.
+	 *
+	 * @param ids The id of the item in each slot.
+	 * @param amounts The amount of the item in each slot.
+	 */
+	private InventorySnapshot(int[] ids, int[] amounts) {
+		this.ids = ids;
+		this.amounts = amounts;
+	}
+
+	/**
+	 * Gets the capacity of the Inventory.
+	 *
+	 * @return The capacity.
+	 */
+	public int capacity() {
+		return ids.length;
+	}
+
+	/**
+	 * Gets the amount of the item in the specified slot.
+	 *
+	 * @param slot The slot.
+	 * @return The amount, or {@code 0} if the slot is empty.
+	 */
+	public int getAmount(int slot) {
+		return amounts[slot];
+	}
+
+	/**
+	 * Gets the id of the item in the specified slot.
+	 *
+	 * @param slot The slot.
+	 * @return The id.
+	 * @throws IllegalStateException If the slot is empty.
+	 */
+	public int getId(int slot) {
+		if (ids[slot] == EMPTY) {
+			throw new IllegalStateException("Slot " + slot + " is empty.");
+		}
+
+		return ids[slot];
+	}
+
+	/**
+	 * Returns whether or not the specified slot is empty.
+	 *
+	 * @param slot The slot.
+	 * @return {@code true} if the slot is empty, {@code false} if it contains an item.
+	 */
+	public boolean isEmpty(int slot) {
+		return ids[slot] == EMPTY;
+	}
+
+}
@@ -21,7 +21,7 @@ public final class JdbcPlayerSerializer extends PlayerSerializer {
 	}
 
 	@Override
-	public void savePlayer(Player player) throws Exception {
+	public void savePlayer(PlayerSnapshot snapshot) throws Exception {
 		throw new UnsupportedOperationException("JDBC saving is not supported at this time.");
 	}
 
@@ -0,0 +1,147 @@
+package org.apollo.game.io.player;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apollo.game.model.World;
+import org.apollo.game.model.entity.Player;
+import org.apollo.util.ThreadUtil;
+import org.apollo.util.security.PlayerCredentials;
+
+/**
+ * A {@link PlayerSerializer} implementation that stores every player in a single append-only {@link AccountLog}, in
+ * the same binary format as the {@link BinaryPlayerSerializer}. Saving a player is one sequential append, loading a
+ * player is one positioned read, and the log is compacted in the background once most of it has been superseded.
+ *
+ * @author Major
+ */
+public final class LogPlayerSerializer extends PlayerSerializer {
+
+	/**
+	 * The Path to the account log.
+	 */
+	private static final Path ACCOUNT_LOG = Paths.get("data/accounts.log");
+
+	/**
+	 * The delay between checks of whether the log should be compacted, in minutes.
+	 */
+	private static final int COMPACTION_INTERVAL = 10;
+
+	/**
+	 * The time to wait for a running compaction to complete when the serializer is closed, in minutes.
+	 */
+	private static final int COMPACTION_TIMEOUT = 1;
+
+	/**
+	 * The size the log must exceed before it is compacted, in bytes.
+	 */
+	private static final long COMPACTION_MINIMUM_SIZE = 64 * 1024 * 1024;
+
+	/**
+	 * The fraction of the log that must be taken up by superseded records before it is compacted.
+	 */
+	private static final double COMPACTION_WASTE = 0.5;
+
+	/**
+	 * The expected size of an encoded player, in bytes.
+	 */
+	private static final int EXPECTED_SIZE = 4 * 1024;
+
+	/**
+	 * The logger for this class.
+	 */
+	private static final Logger logger = Logger.getLogger(LogPlayerSerializer.class.getName());
+
+	/**
+	 * The BinaryPlayerCodec that players are encoded and decoded with.
+	 */
+	private final BinaryPlayerCodec codec;
+
+	/**
+	 * The ScheduledExecutorService that compacts the log.
+	 */
+	private final ScheduledExecutorService compactor = Executors.newSingleThreadScheduledExecutor(ThreadUtil
+		.create("AccountLogCompactor"));
+
+	/**
+	 * The AccountLog.
+	 */
+	private final AccountLog log;
+
+	/**
+	 * Creates the LogPlayerSerializer, opening (and if necessary, recovering) the account log.
+	 *
+	 * @param world The {@link World} to place the {@link Player}s in.
+	 * @throws IOException If the account log could not be opened.
+	 */
+	public LogPlayerSerializer(World world) throws IOException {
+		super(world);
+		codec = new BinaryPlayerCodec(world);
+		log = new AccountLog(ACCOUNT_LOG);
+
+		logger.info("Loaded " + log.getAccounts() + " accounts from " + ACCOUNT_LOG + ".");
+		compactor.scheduleWithFixedDelay(this::compact, COMPACTION_INTERVAL, COMPACTION_INTERVAL, TimeUnit.MINUTES);
+	}
+
+	@Override
+	public void close() throws IOException {
+		compactor.shutdown();
+
+		try {
+			compactor.awaitTermination(COMPACTION_TIMEOUT, TimeUnit.MINUTES);
+		} catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+		} finally {
+			log.close();
+		}
+	}
+
+	@Override
+	public PlayerLoaderResponse loadPlayer(PlayerCredentials credentials) throws IOException {
+		byte[] payload = log.read(credentials.getEncodedUsername());
+		if (payload == null) {
+			return codec.create(credentials);
+		}
+
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+			return codec.decode(in, credentials);
+		}
+	}
+
+	@Override
+	public void savePlayer(PlayerSnapshot snapshot) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(EXPECTED_SIZE);
+
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			codec.encode(out, snapshot);
+		}
+
+		log.write(snapshot.getEncodedName(), bytes.toByteArray());
+	}
+
+	/**
+	 * Compacts the account log, if it is large enough and enough of it has been superseded.
+	 */
+	private void compact() {
+		if (log.getSize() < COMPACTION_MINIMUM_SIZE || log.getWaste() < COMPACTION_WASTE) {
+			return;
+		}
+
+		try {
+			log.compact();
+		} catch (IOException cause) {
+			logger.log(Level.SEVERE, "Failed to compact the account log.", cause);
+		}
+	}
+
+}
@@ -1,5 +1,8 @@
 package org.apollo.game.io.player;
 
+import java.io.Closeable;
+import java.io.IOException;
+
 import org.apollo.game.model.Position;
 import org.apollo.game.model.World;
 import org.apollo.game.model.entity.Player;
@@ -12,7 +15,7 @@ import org.apollo.util.security.PlayerCredentials;
  * @author Graham
  * @author Major
  */
-public abstract class PlayerSerializer {
+public abstract class PlayerSerializer implements Closeable {
 
 	/**
 	 * The spawn point for Players, on Tutorial Island.
@@ -33,6 +36,17 @@ public abstract class PlayerSerializer {
 		this.world = world;
 	}
 
+	/**
+	 * Closes this PlayerSerializer, once the server is shutting down and every save has completed. Does nothing by
+	 * default.
+	 *
+	 * @throws IOException If the resources held by this PlayerSerializer could not be released.
+	 */
+	@Override
+	public void close() throws IOException {
+
+	}
+
 	/**
 	 * Loads a {@link Player}.
 	 *
@@ -43,11 +57,12 @@ public abstract class PlayerSerializer {
 	public abstract PlayerLoaderResponse loadPlayer(PlayerCredentials credentials) throws Exception;
 
 	/**
-	 * Saves a {@link Player}.
+	 * Saves a {@link Player}. This is called off the game thread, so the Player must not be accessed: the state to save
+	 * is taken from the {@link PlayerSnapshot} captured on the game thread instead.
 	 *
-	 * @param player The Player to save.
+	 * @param snapshot The PlayerSnapshot of the Player to save.
 	 * @throws Exception If an error occurs.
 	 */
-	public abstract void savePlayer(Player player) throws Exception;
+	public abstract void savePlayer(PlayerSnapshot snapshot) throws Exception;
 
 }
\ No newline at end of file
@@ -0,0 +1,371 @@
+package org.apollo.game.io.player;
+
+import java.util.List;
+
+import org.apollo.game.model.Appearance;
+import org.apollo.game.model.Position;
+import org.apollo.game.model.entity.Player;
+import org.apollo.game.model.entity.SkillSet;
+import org.apollo.game.model.entity.attr.AttributeMap;
+import org.apollo.game.model.entity.attr.AttributePersistence;
+import org.apollo.game.model.entity.setting.MembershipStatus;
+import org.apollo.game.model.entity.setting.PrivacyState;
+import org.apollo.game.model.entity.setting.PrivilegeLevel;
+import org.apollo.game.model.entity.setting.ScreenBrightness;
+import org.apollo.util.NameUtil;
+
+/**
+ * An immutable copy of the saved state of a {@link Player}, captured on the game thread so that
+ * {@link PlayerSerializer}s can save it on another thread without racing the game thread, which may still be changing
+ * the Player. Items and skills are copied into primitive arrays, and friends and ignores are stored as encoded
+ * usernames.
+ *
+ * @author Major
+ */
+public final class PlayerSnapshot {
+
+	/**
+	 * Captures the saved state of the specified {@link Player}. This must be called on the game thread.
+	 *
+	 * @param player The Player.
+	 * @return The PlayerSnapshot.
+	 */
+	public static PlayerSnapshot capture(Player player) {
+		return new PlayerSnapshot(player);
+	}
+
+	/**
+	 * Encodes each of the specified usernames.
+	 *
+	 * @param usernames The {@link List} of usernames.
+	 * @return The encoded usernames.
+	 */
+	private static long[] encode(List<String> usernames) {
+		int size = usernames.size();
+		long[] encoded = new long[size];
+
+		for (int index = 0; index < size; index++) {
+			encoded[index] = NameUtil.encodeBase37(usernames.get(index));
+		}
+
+		return encoded;
+	}
+
+	/**
+	 * The Appearance of the Player.
+	 */
+	private final Appearance appearance;
+
+	/**
+	 * The {@link AttributePersistence#PERSISTENT persistent} attributes of the Player.
+	 */
+	private final AttributeMap attributes;
+
+	/**
+	 * The bank of the Player.
+	 */
+	private final InventorySnapshot bank;
+
+	/**
+	 * The ScreenBrightness of the Player.
+	 */
+	private final ScreenBrightness brightness;
+
+	/**
+	 * The chat PrivacyState of the Player.
+	 */
+	private final PrivacyState chatPrivacy;
+
+	/**
+	 * The current level of each skill.
+	 */
+	private final int[] currentLevels;
+
+	/**
+	 * The encoded username of the Player.
+	 */
+	private final long encodedName;
+
+	/**
+	 * The equipment of the Player.
+	 */
+	private final InventorySnapshot equipment;
+
+	/**
+	 * The experience of each skill.
+	 */
+	private final double[] experience;
+
+	/**
+	 * The friend PrivacyState of the Player.
+	 */
+	private final PrivacyState friendPrivacy;
+
+	/**
+	 * The encoded usernames of the friends of the Player.
+	 */
+	private final long[] friends;
+
+	/**
+	 * The encoded usernames of the players ignored by the Player.
+	 */
+	private final long[] ignores;
+
+	/**
+	 * The inventory of the Player.
+	 */
+	private final InventorySnapshot inventory;
+
+	/**
+	 * The MembershipStatus of the Player.
+	 */
+	private final MembershipStatus members;
+
+	/**
+	 * The hashed password of the Player.
+	 */
+	private final String password;
+
+	/**
+	 * The Position of the Player.
+	 */
+	private final Position position;
+
+	/**
+	 * The PrivilegeLevel of the Player.
+	 */
+	private final PrivilegeLevel privilege;
+
+	/**
+	 * The trade PrivacyState of the Player.
+	 */
+	private final PrivacyState tradePrivacy;
+
+	/**
+	 * The username of the Player.
+	 */
+	private final String username;
+
+	/**
+	 * Creates the PlayerSnapshot.
+	 *
+	 * @param player The {@link Player} to capture.
+	 */
+	private PlayerSnapshot(Player player) {
+		username = player.getUsername();
+		encodedName = player.getEncodedName();
+		password = player.getCredentials().getPassword();
+		privilege = player.getPrivilegeLevel();
+		members = player.getMembershipStatus();
+
+		chatPrivacy = player.getChatPrivacy();
+		friendPrivacy = player.getFriendPrivacy();
+		tradePrivacy = player.getTradePrivacy();
+		brightness = player.getScreenBrightness();
+
+		position = player.getPosition();
+		appearance = player.getAppearance();
+
+		inventory = InventorySnapshot.capture(player.getInventory());
+		equipment = InventorySnapshot.capture(player.getEquipment());
+		bank = InventorySnapshot.capture(player.getBank());
+
+		SkillSet skills = player.getSkillSet();
+		int count = skills.size();
+		currentLevels = new int[count];
+		experience = new double[count];
+
+		for (int id = 0; id < count; id++) {
+			currentLevels[id] = skills.getCurrentLevel(id);
+			experience[id] = skills.getExperience(id);
+		}
+
+		friends = encode(player.getFriendUsernames());
+		ignores = encode(player.getIgnoredUsernames());
+		attributes = player.getPersistentAttributes();
+	}
+
+	/**
+	 * Gets the {@link Appearance} of the Player.
+	 *
+	 * @return The Appearance.
+	 */
+	public Appearance getAppearance() {
+		return appearance;
+	}
+
+	/**
+	 * Gets the {@link AttributePersistence#PERSISTENT persistent} attributes of the Player. The returned
+	 * {@link AttributeMap} is a copy owned by this snapshot, and must not be modified.
+	 *
+	 * @return The AttributeMap.
+	 */
+	public AttributeMap getAttributes() {
+		return attributes;
+	}
+
+	/**
+	 * Gets the bank of the Player.
+	 *
+	 * @return The {@link InventorySnapshot} of the bank.
+	 */
+	public InventorySnapshot getBank() {
+		return bank;
+	}
+
+	/**
+	 * Gets the chat {@link PrivacyState} of the Player.
+	 *
+	 * @return The PrivacyState.
+	 */
+	public PrivacyState getChatPrivacy() {
+		return chatPrivacy;
+	}
+
+	/**
+	 * Gets the current level of the specified skill.
+	 *
+	 * @param skill The id of the skill.
+	 * @return The current level.
+	 */
+	public int getCurrentLevel(int skill) {
+		return currentLevels[skill];
+	}
+
+	/**
+	 * Gets the encoded username of the Player.
+	 *
+	 * @return The encoded username.
+	 */
+	public long getEncodedName() {
+		return encodedName;
+	}
+
+	/**
+	 * Gets the equipment of the Player.
+	 *
+	 * @return The {@link InventorySnapshot} of the equipment.
+	 */
+	public InventorySnapshot getEquipment() {
+		return equipment;
+	}
+
+	/**
+	 * Gets the experience of the specified skill.
+	 *
+	 * @param skill The id of the skill.
+	 * @return The experience.
+	 */
+	public double getExperience(int skill) {
+		return experience[skill];
+	}
+
+	/**
+	 * Gets the friend {@link PrivacyState} of the Player.
+	 *
+	 * @return The PrivacyState.
+	 */
+	public PrivacyState getFriendPrivacy() {
+		return friendPrivacy;
+	}
+
+	/**
+	 * Gets the encoded usernames of the friends of the Player.
+	 *
+	 * @return A copy of the encoded usernames.
+	 */
+	public long[] getFriends() {
+		return friends.clone();
+	}
+
+	/**
+	 * Gets the encoded usernames of the players ignored by the Player.
+	 *
+	 * @return A copy of the encoded usernames.
+	 */
+	public long[] getIgnores() {
+		return ignores.clone();
+	}
+
+	/**
+	 * Gets the inventory of the Player.
+	 *
+	 * @return The {@link InventorySnapshot} of the inventory.
+	 */
+	public InventorySnapshot getInventory() {
+		return inventory;
+	}
+
+	/**
+	 * Gets the {@link MembershipStatus} of the Player.
+	 *
+	 * @return The MembershipStatus.
+	 */
+	public MembershipStatus getMembershipStatus() {
+		return members;
+	}
+
+	/**
+	 * Gets the hashed password of the Player.
+	 *
+	 * @return The hashed password.
+	 */
+	public String getPassword() {
+		return password;
+	}
+
+	/**
+	 * Gets the {@link Position} of the Player.
+	 *
+	 * @return The Position.
+	 */
+	public Position getPosition() {
+		return position;
+	}
+
+	/**
+	 * Gets the {@link PrivilegeLevel} of the Player.
+	 *
+	 * @return The PrivilegeLevel.
+	 */
+	public PrivilegeLevel getPrivilegeLevel() {
+		return privilege;
+	}
+
+	/**
+	 * Gets the {@link ScreenBrightness} of the Player.
+	 *
+	 * @return The ScreenBrightness.
+	 */
+	public ScreenBrightness getScreenBrightness() {
+		return brightness;
+	}
+
+	/**
+	 * Gets the amount of skills.
+	 *
+	 * @return The amount of skills.
+	 */
+	public int getSkillCount() {
+		return currentLevels.length;
+	}
+
+	/**
+	 * Gets the trade {@link PrivacyState} of the Player.
+	 *
+	 * @return The PrivacyState.
+	 */
+	public PrivacyState getTradePrivacy() {
+		return tradePrivacy;
+	}
+
+	/**
+	 * Gets the username of the Player.
+	 *
+	 * @return The username.
+	 */
+	public String getUsername() {
+		return username;
+	}
+
+}
@@ -0,0 +1,64 @@
+package org.apollo.game.journal;
+
+/**
+ * Holds journal-related constants.
+ * <p>
+ * A journal starts with {@link #MAGIC}, {@link #VERSION} and the release number, followed by records that each start
+ * with their type:
+ * <ul>
+ * <li>{@link #PULSE}: a pulse has started.</li>
+ * <li>{@link #LOGIN}: a player has been registered (short index, UTF username, byte privilege level, short x, short y
+ * and byte height).</li>
+ * <li>{@link #MESSAGE}: a message sent by a player has been handled (short index, byte opcode, short payload length and
+ * the payload).</li>
+ * <li>{@link #SYNCHRONIZE}: every message of the pulse has been handled, and the world is pulsed and synchronized.</li>
+ * <li>{@link #LOGOUT}: a player has been unregistered (short index).</li>
+ * </ul>
+ *
+ * @author Major
+ */
+public final class JournalConstants {
+
+	/**
+	 * The type of a login record.
+	 */
+	public static final int LOGIN = 1;
+
+	/**
+	 * The type of a logout record.
+	 */
+	public static final int LOGOUT = 4;
+
+	/**
+	 * The magic number at the start of a journal.
+	 */
+	public static final int MAGIC = 0x4150_4A4C;
+
+	/**
+	 * The type of a message record.
+	 */
+	public static final int MESSAGE = 2;
+
+	/**
+	 * The type of a pulse record.
+	 */
+	public static final int PULSE = 0;
+
+	/**
+	 * The type of a synchronize record.
+	 */
+	public static final int SYNCHRONIZE = 3;
+
+	/**
+	 * The version of the journal format.
+	 */
+	public static final int VERSION = 1;
+
+	/**
+	 * Default private constructor to prevent instantiation by other classes.
+	 */
+	private JournalConstants() {
+
+	}
+
+}
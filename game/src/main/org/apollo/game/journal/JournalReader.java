@@ -0,0 +1,107 @@
+package org.apollo.game.journal;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apollo.game.model.Position;
+import org.apollo.game.model.entity.setting.PrivilegeLevel;
+
+/**
+ * Reads the {@link JournalRecord}s of a journal written by a {@link JournalWriter}.
+ *
+ * @author Major
+ */
+public final class JournalReader implements Closeable {
+
+	/**
+	 * The input stream records are read from.
+	 */
+	private final DataInputStream input;
+
+	/**
+	 * The number of the release the recorded clients spoke.
+	 */
+	private final int release;
+
+	/**
+	 * Creates the JournalReader, reading the header of the journal.
+	 *
+	 * @param input The {@link InputStream} to read from.
+	 * @throws IOException If the header could not be read, or is not the header of a journal this reader supports.
+	 */
+	public JournalReader(InputStream input) throws IOException {
+		this.input = new DataInputStream(new BufferedInputStream(input));
+
+		if (this.input.readInt() != JournalConstants.MAGIC) {
+			throw new IOException("Not a journal.");
+		}
+
+		int version = this.input.readUnsignedShort();
+		if (version != JournalConstants.VERSION) {
+			throw new IOException("Unsupported journal version: " + version + ".");
+		}
+
+		release = this.input.readUnsignedShort();
+	}
+
+	@Override
+	public void close() throws IOException {
+		input.close();
+	}
+
+	/**
+	 * Gets the number of the release the recorded clients spoke.
+	 *
+	 * @return The release number.
+	 */
+	public int getRelease() {
+		return release;
+	}
+
+	/**
+	 * Reads the next {@link JournalRecord}. A record cut short by the end of the journal (as the last record is if the
+	 * server stopped while writing it) is treated as the end of the journal.
+	 *
+	 * @return The JournalRecord, or {@code null} if the end of the journal has been reached.
+	 * @throws IOException If the record could not be read, or is of an unknown type.
+	 */
+	public JournalRecord next() throws IOException {
+		int type = input.read();
+
+		try {
+			switch (type) {
+				case -1:
+					return null;
+				case JournalConstants.PULSE:
+				case JournalConstants.SYNCHRONIZE:
+					return new JournalRecord(type, 0, null, null, null, 0, null);
+				case JournalConstants.LOGIN:
+					int index = input.readUnsignedShort();
+					String username = input.readUTF();
+					PrivilegeLevel privilege = PrivilegeLevel.valueOf(input.readUnsignedByte());
+					Position position = new Position(input.readUnsignedShort(), input.readUnsignedShort(),
+						input.readUnsignedByte());
+
+					return new JournalRecord(type, index, username, privilege, position, 0, null);
+				case JournalConstants.MESSAGE:
+					index = input.readUnsignedShort();
+					int opcode = input.readUnsignedByte();
+					byte[] payload = new byte[input.readUnsignedShort()];
+					input.readFully(payload);
+
+					return new JournalRecord(type, index, null, null, null, opcode, payload);
+				case JournalConstants.LOGOUT:
+					return new JournalRecord(type, input.readUnsignedShort(), null, null, null, 0, null);
+				default:
+					throw new IOException("Unknown journal record type: " + type + ".");
+			}
+		} catch (EOFException truncated) {
+			return null;
+		}
+	}
+
+}
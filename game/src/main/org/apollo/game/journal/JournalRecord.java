@@ -0,0 +1,134 @@
+package org.apollo.game.journal;
+
+import org.apollo.game.model.Position;
+import org.apollo.game.model.entity.setting.PrivilegeLevel;
+
+/**
+ * A record read from a journal. Only the properties of the type of the record are set.
+ *
+ * @author Major
+ */
+public final class JournalRecord {
+
+	/**
+	 * The index of the player, for login, message and logout records.
+	 */
+	private final int index;
+
+	/**
+	 * The opcode of the packet, for message records.
+	 */
+	private final int opcode;
+
+	/**
+	 * The payload of the packet, for message records.
+	 */
+	private final byte[] payload;
+
+	/**
+	 * The position of the player, for login records.
+	 */
+	private final Position position;
+
+	/**
+	 * The privilege level of the player, for login records.
+	 */
+	private final PrivilegeLevel privilege;
+
+	/**
+	 * The type of this record.
+	 */
+	private final int type;
+
+	/**
+	 * The username of the player, for login records.
+	 */
+	private final String username;
+
+	/**
+	 * Creates the JournalRecord.
+	 *
+	 * @param type The type of the record.
+	 * @param index The index of the player.
+	 * @param username The username of the player.
+	 * @param privilege The {@link PrivilegeLevel} of the player.
+	 * @param position The {@link Position} of the player.
+	 * @param opcode The opcode of the packet.
+	 * @param payload The payload of the packet.
+	 */
+	JournalRecord(int type, int index, String username, PrivilegeLevel privilege, Position position, int opcode,
+			byte[] payload) {
+		this.type = type;
+		this.index = index;
+		this.username = username;
+		this.privilege = privilege;
+		this.position = position;
+		this.opcode = opcode;
+		this.payload = payload;
+	}
+
+	/**
+	 * Gets the index of the player.
+	 *
+	 * @return The index.
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Gets the opcode of the packet.
+	 *
+	 * @return The opcode.
+	 */
+	public int getOpcode() {
+		return opcode;
+	}
+
+	/**
+	 * Gets the payload of the packet.
+	 *
+	 * @return The payload.
+	 */
+	public byte[] getPayload() {
+		return payload;
+	}
+
+	/**
+	 * Gets the {@link Position} of the player.
+	 *
+	 * @return The Position.
+	 */
+	public Position getPosition() {
+		return position;
+	}
+
+	/**
+	 * Gets the {@link PrivilegeLevel} of the player.
+	 *
+	 * @return The PrivilegeLevel.
+	 */
+	public PrivilegeLevel getPrivilegeLevel() {
+		return privilege;
+	}
+
+	/**
+	 * Gets the type of this record.
+	 *
+	 * @return The type.
+	 * @see JournalConstants
+	 */
+	public int getType() {
+		return type;
+	}
+
+	/**
+	 * Gets the username of the player.
+	 *
+	 * @return The username.
+	 */
+	public String getUsername() {
+		return username;
+	}
+
+}
@@ -0,0 +1,201 @@
+package org.apollo.game.journal;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apollo.game.model.Position;
+import org.apollo.game.model.entity.Player;
+
+/**
+ * Writes the inbound traffic of the game service to a journal, pulse by pulse, in the format described by
+ * {@link JournalConstants}. If a record cannot be written, the journal is closed and recording stops, rather than the
+ * error reaching the game service.
+ * <p>
+ * The JournalWriter is not thread-safe, and must only be used by the game service while it holds its own lock.
+ *
+ * @author Major
+ */
+public final class JournalWriter implements Closeable {
+
+	/**
+	 * The size of the buffer records are written to, in bytes.
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * The format of the names of journal files.
+	 */
+	private static final DateTimeFormatter FILE_NAME = DateTimeFormatter.ofPattern("'journal-'yyyyMMdd-HHmmss'.bin'");
+
+	/**
+	 * The logger for this class.
+	 */
+	private static final Logger logger = Logger.getLogger(JournalWriter.class.getName());
+
+	/**
+	 * Creates a JournalWriter that writes to a new file in the specified directory, named after the current time.
+	 *
+	 * @param directory The directory.
+	 * @param release The number of the release the recorded clients speak.
+	 * @return The JournalWriter.
+	 * @throws IOException If the file could not be created.
+	 */
+	public static JournalWriter create(Path directory, int release) throws IOException {
+		Files.createDirectories(directory);
+		Path file = directory.resolve(LocalDateTime.now().format(FILE_NAME));
+
+		logger.info("Recording inbound traffic to " + file + ".");
+		return new JournalWriter(Files.newOutputStream(file), release);
+	}
+
+	/**
+	 * The output stream records are written to, or {@code null} if the journal has been closed.
+	 */
+	private DataOutputStream output;
+
+	/**
+	 * Creates the JournalWriter, writing the header of the journal.
+	 *
+	 * @param output The {@link OutputStream} to write to.
+	 * @param release The number of the release the recorded clients speak.
+	 * @throws IOException If the header could not be written.
+	 */
+	public JournalWriter(OutputStream output, int release) throws IOException {
+		this.output = new DataOutputStream(new BufferedOutputStream(output, BUFFER_SIZE));
+		this.output.writeInt(JournalConstants.MAGIC);
+		this.output.writeShort(JournalConstants.VERSION);
+		this.output.writeShort(release);
+	}
+
+	@Override
+	public void close() {
+		if (output != null) {
+			try {
+				output.close();
+			} catch (IOException cause) {
+				logger.log(Level.WARNING, "Failed to close the journal.", cause);
+			}
+
+			output = null;
+		}
+	}
+
+	/**
+	 * Records that the specified {@link Player} has been registered.
+	 *
+	 * @param player The Player.
+	 */
+	public void login(Player player) {
+		if (output == null) {
+			return;
+		}
+
+		try {
+			Position position = player.getPosition();
+
+			output.writeByte(JournalConstants.LOGIN);
+			output.writeShort(player.getIndex());
+			output.writeUTF(player.getUsername());
+			output.writeByte(player.getPrivilegeLevel().toInteger());
+			output.writeShort(position.getX());
+			output.writeShort(position.getY());
+			output.writeByte(position.getHeight());
+		} catch (IOException cause) {
+			fail(cause);
+		}
+	}
+
+	/**
+	 * Records that the specified {@link Player} has been unregistered.
+	 *
+	 * @param player The Player.
+	 */
+	public void logout(Player player) {
+		if (output == null) {
+			return;
+		}
+
+		try {
+			output.writeByte(JournalConstants.LOGOUT);
+			output.writeShort(player.getIndex());
+		} catch (IOException cause) {
+			fail(cause);
+		}
+	}
+
+	/**
+	 * Records that the specified {@link RecordedMessage}, sent by the specified {@link Player}, has been handled.
+	 *
+	 * @param player The Player.
+	 * @param message The RecordedMessage.
+	 */
+	public void message(Player player, RecordedMessage message) {
+		if (output == null) {
+			return;
+		}
+
+		try {
+			byte[] payload = message.getPayload();
+
+			output.writeByte(JournalConstants.MESSAGE);
+			output.writeShort(player.getIndex());
+			output.writeByte(message.getOpcode());
+			output.writeShort(payload.length);
+			output.write(payload);
+		} catch (IOException cause) {
+			fail(cause);
+		}
+	}
+
+	/**
+	 * Records that a pulse has started.
+	 */
+	public void pulse() {
+		if (output == null) {
+			return;
+		}
+
+		try {
+			output.writeByte(JournalConstants.PULSE);
+		} catch (IOException cause) {
+			fail(cause);
+		}
+	}
+
+	/**
+	 * Records that every message of the current pulse has been handled, and flushes the journal, so that at most the
+	 * pulse in progress is lost if the server stops abruptly.
+	 */
+	public void synchronize() {
+		if (output == null) {
+			return;
+		}
+
+		try {
+			output.writeByte(JournalConstants.SYNCHRONIZE);
+			output.flush();
+		} catch (IOException cause) {
+			fail(cause);
+		}
+	}
+
+	/**
+	 * Stops recording after a record could not be written.
+	 *
+	 * @param cause The cause of the failure.
+	 */
+	private void fail(IOException cause) {
+		logger.log(Level.SEVERE, "Failed to write to the journal, recording has stopped.", cause);
+		close();
+	}
+
+}
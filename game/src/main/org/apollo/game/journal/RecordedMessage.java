@@ -0,0 +1,68 @@
+package org.apollo.game.journal;
+
+import org.apollo.net.message.Message;
+
+/**
+ * A {@link Message} wrapped by the {@link RecordingMessageListener}, which carries the opcode and payload of the packet
+ * it was decoded from, so that the packet can be written to the journal when the Message is handled.
+ *
+ * @author Major
+ */
+public final class RecordedMessage extends Message {
+
+	/**
+	 * The decoded Message.
+	 */
+	private final Message message;
+
+	/**
+	 * The opcode of the packet.
+	 */
+	private final int opcode;
+
+	/**
+	 * The payload of the packet.
+	 */
+	private final byte[] payload;
+
+	/**
+	 * Creates the RecordedMessage.
+	 *
+	 * @param message The decoded {@link Message}.
+	 * @param opcode The opcode of the packet.
+	 * @param payload The payload of the packet.
+	 */
+	public RecordedMessage(Message message, int opcode, byte[] payload) {
+		this.message = message;
+		this.opcode = opcode;
+		this.payload = payload;
+	}
+
+	/**
+	 * Gets the decoded {@link Message}.
+	 *
+	 * @return The Message.
+	 */
+	public Message getMessage() {
+		return message;
+	}
+
+	/**
+	 * Gets the opcode of the packet.
+	 *
+	 * @return The opcode.
+	 */
+	public int getOpcode() {
+		return opcode;
+	}
+
+	/**
+	 * Gets the payload of the packet.
+	 *
+	 * @return The payload.
+	 */
+	public byte[] getPayload() {
+		return payload;
+	}
+
+}
@@ -0,0 +1,27 @@
+package org.apollo.game.journal;
+
+import io.netty.buffer.ByteBuf;
+
+import org.apollo.net.codec.game.GameMessageDecoder;
+import org.apollo.net.codec.game.GameMessageListener;
+import org.apollo.net.codec.game.GamePacket;
+import org.apollo.net.message.Message;
+
+/**
+ * A {@link GameMessageListener} used by the {@link GameMessageDecoder} while a journal is being recorded, which copies
+ * the payload of each {@link GamePacket} and wraps the Message decoded from it in a {@link RecordedMessage}.
+ *
+ * @author Major
+ */
+public final class RecordingMessageListener implements GameMessageListener {
+
+	@Override
+	public Message messageDecoded(GamePacket packet, Message message) {
+		ByteBuf payload = packet.getPayload();
+		byte[] bytes = new byte[payload.readableBytes()];
+		payload.getBytes(payload.readerIndex(), bytes);
+
+		return new RecordedMessage(message, packet.getOpcode(), bytes);
+	}
+
+}
@@ -0,0 +1,5 @@
+/**
+ * Contains classes that record the inbound traffic of the game service to a journal, and replay journals against a
+ * headless world.
+ */
+package org.apollo.game.journal;
@@ -0,0 +1,95 @@
+package org.apollo.game.login;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+
+/**
+ * Decides how many players may be registered each pulse, from the measured duration of previous pulses.
+ * <p>
+ * Registering a player is expensive (the initial messages, and the first synchronization of a full region), so the
+ * amount of registrations is increased in proportion to the headroom left by a pulse that was under the target
+ * duration, and is halved whenever a pulse exceeds it.
+ *
+ * @author Major
+ */
+public final class AdmissionController {
+
+	/**
+	 * The minimum amount of registrations allowed per pulse, so that logins always make progress.
+	 */
+	private static final int MINIMUM = 1;
+
+	/**
+	 * The amount of registrations allowed in the next pulse.
+	 */
+	private int allowed;
+
+	/**
+	 * The maximum amount of registrations allowed per pulse.
+	 */
+	private final int ceiling;
+
+	/**
+	 * The target duration of a pulse, in nanoseconds.
+	 */
+	private final long target;
+
+	/**
+	 * Creates the AdmissionController.
+	 *
+	 * @param initial The amount of registrations allowed in the first pulse.
+	 * @param ceiling The maximum amount of registrations allowed per pulse.
+	 * @param target The target duration of a pulse.
+	 * @param unit The {@link TimeUnit} of the target duration.
+	 */
+	public AdmissionController(int initial, int ceiling, long target, TimeUnit unit) {
+		Preconditions.checkArgument(ceiling >= MINIMUM, "Ceiling must be at least " + MINIMUM + ".");
+		Preconditions.checkArgument(target > 0, "Target duration must be positive.");
+
+		this.ceiling = ceiling;
+		this.target = unit.toNanos(target);
+		allowed = Math.max(MINIMUM, Math.min(initial, ceiling));
+	}
+
+	/**
+	 * Gets the amount of registrations allowed in the next pulse.
+	 *
+	 * @return The amount of registrations.
+	 */
+	public int getAllowed() {
+		return allowed;
+	}
+
+	/**
+	 * Gets the maximum amount of registrations allowed per pulse.
+	 *
+	 * @return The ceiling.
+	 */
+	public int getCeiling() {
+		return ceiling;
+	}
+
+	/**
+	 * Records the completion of a pulse, adjusting the amount of registrations allowed in the next pulse.
+	 *
+	 * @param duration The duration of the pulse, in nanoseconds.
+	 * @param registrations The amount of players registered during the pulse.
+	 */
+	public void pulseCompleted(long duration, int registrations) {
+		if (duration > target) {
+			allowed = Math.max(MINIMUM, allowed / 2);
+		} else if (registrations >= allowed) {
+			long increase = Math.max(1, allowed * (target - duration) / target);
+			allowed = (int) Math.min(ceiling, allowed + increase);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this).add("allowed", allowed).add("ceiling", ceiling).add("target", target)
+			.toString();
+	}
+
+}
@@ -4,7 +4,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.apollo.game.io.player.PlayerSerializer;
-import org.apollo.game.model.entity.Player;
+import org.apollo.game.io.player.PlayerSnapshot;
 import org.apollo.game.session.GameSession;
 
 /**
@@ -19,11 +19,6 @@ public final class PlayerSaverWorker implements Runnable {
 	 */
 	private static final Logger logger = Logger.getLogger(PlayerSaverWorker.class.getName());
 
-	/**
-	 * The player to save.
-	 */
-	private final Player player;
-
 	/**
 	 * The player saver.
 	 */
@@ -34,23 +29,28 @@ public final class PlayerSaverWorker implements Runnable {
 	 */
 	private final GameSession session;
 
+	/**
+	 * The snapshot of the player to save.
+	 */
+	private final PlayerSnapshot snapshot;
+
 	/**
 	 * Creates the player saver worker.
 	 *
 	 * @param saver The player saver.
 	 * @param session The game session.
-	 * @param player The player to save.
+	 * @param snapshot The {@link PlayerSnapshot} of the player to save.
 	 */
-	public PlayerSaverWorker(PlayerSerializer saver, GameSession session, Player player) {
+	public PlayerSaverWorker(PlayerSerializer saver, GameSession session, PlayerSnapshot snapshot) {
 		this.saver = saver;
 		this.session = session;
-		this.player = player;
+		this.snapshot = snapshot;
 	}
 
 	@Override
 	public void run() {
 		try {
-			saver.savePlayer(player);
+			saver.savePlayer(snapshot);
 			session.handlePlayerSaverResponse(true);
 		} catch (Exception e) {
 			logger.log(Level.SEVERE, "Unable to save player's game.", e);
@@ -0,0 +1,140 @@
+package org.apollo.game.login;
+
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apollo.game.model.entity.Player;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * The {@link Player}s whose connection was lost, and who remain in the world for a grace period in case they
+ * reconnect.
+ * <p>
+ * Players are suspended by the network threads, claimed by the login threads and expired by the game thread, so
+ * every operation that hands out a Player removes it from the map atomically: a suspended Player is returned by at most
+ * one call to {@link #claim}, {@link #evict} or {@link #expire}.
+ *
+ * @author Major
+ */
+public final class SuspendedPlayers {
+
+	/**
+	 * A {@link Player} whose connection was lost.
+	 */
+	private static final class Suspension {
+
+		/**
+		 * The digest of the credentials the Player logged in with.
+		 */
+		private final byte[] digest;
+
+		/**
+		 * The Player.
+		 */
+		private final Player player;
+
+		/**
+		 * The amount of pulses remaining before the suspension expires. Only accessed by the game thread.
+		 */
+		private int pulses;
+
+		/**
+		 * Creates the Suspension.
+		 *
+		 * @param player The {@link Player} that was disconnected.
+		 * @param digest The digest of the credentials the Player logged in with.
+		 * @param pulses The amount of pulses before the suspension expires.
+		 */
+		public Suspension(Player player, byte[] digest, int pulses) {
+			this.player = player;
+			this.digest = digest;
+			this.pulses = pulses;
+		}
+
+	}
+
+	/**
+	 * The amount of pulses a suspension lasts.
+	 */
+	private final int grace;
+
+	/**
+	 * The Map of encoded usernames to Suspensions.
+	 */
+	private final Map<Long, Suspension> suspensions = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates the SuspendedPlayers.
+	 *
+	 * @param grace The amount of pulses a suspension lasts.
+	 */
+	public SuspendedPlayers(int grace) {
+		Preconditions.checkArgument(grace > 0, "Grace period must be positive.");
+		this.grace = grace;
+	}
+
+	/**
+	 * Claims the suspended {@link Player} with the specified username, if the specified digest matches the digest of
+	 * the credentials the Player logged in with.
+	 *
+	 * @param username The encoded username of the Player.
+	 * @param digest The digest of the credentials sent by the reconnecting client.
+	 * @return The Player, or {@code null} if no Player with the username is suspended, the digests do not match, or
+	 *         the Player was claimed (or expired) concurrently.
+	 */
+	public Player claim(long username, byte[] digest) {
+		Suspension suspension = suspensions.get(username);
+		if (suspension == null || !MessageDigest.isEqual(suspension.digest, digest)) {
+			return null;
+		}
+
+		return suspensions.remove(username, suspension) ? suspension.player : null;
+	}
+
+	/**
+	 * Evicts the suspended {@link Player} with the specified username, regardless of the credentials it logged in
+	 * with. This must only be used once the credentials of the new login have been verified.
+	 *
+	 * @param username The encoded username of the Player.
+	 * @return The Player, or {@code null} if no Player with the username is suspended.
+	 */
+	public Player evict(long username) {
+		Suspension suspension = suspensions.remove(username);
+		return suspension == null ? null : suspension.player;
+	}
+
+	/**
+	 * Counts down the suspensions by one pulse, removing those that have expired. This must only be called by the game
+	 * thread.
+	 *
+	 * @return The {@link List} of {@link Player}s whose suspensions expired.
+	 */
+	public List<Player> expire() {
+		List<Player> expired = new ArrayList<>();
+
+		for (Map.Entry<Long, Suspension> entry : suspensions.entrySet()) {
+			Suspension suspension = entry.getValue();
+
+			if (--suspension.pulses <= 0 && suspensions.remove(entry.getKey(), suspension)) {
+				expired.add(suspension.player);
+			}
+		}
+
+		return expired;
+	}
+
+	/**
+	 * Suspends the specified {@link Player}, replacing any existing suspension of a Player with the same username.
+	 *
+	 * @param player The Player.
+	 * @param digest The digest of the credentials the Player logged in with.
+	 */
+	public void suspend(Player player, byte[] digest) {
+		suspensions.put(player.getEncodedName(), new Suspension(player, digest, grace));
+	}
+
+}
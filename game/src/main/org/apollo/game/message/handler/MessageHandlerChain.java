@@ -1,6 +1,7 @@
 package org.apollo.game.message.handler;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.apollo.game.model.entity.Player;
@@ -45,6 +46,15 @@ public final class MessageHandlerChain<M extends Message> {
 		handlers.add(handler);
 	}
 
+	/**
+	 * Gets the {@link MessageHandler}s in this chain, in the order they are notified.
+	 *
+	 * @return The unmodifiable List of MessageHandlers.
+	 */
+	public List<MessageHandler<M>> getHandlers() {
+		return Collections.unmodifiableList(handlers);
+	}
+
 	/**
 	 * Notifies each {@link MessageHandler} in this chain that a {@link Message} has been received.
 	 *
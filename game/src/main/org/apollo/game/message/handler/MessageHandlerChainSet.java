@@ -1,8 +1,11 @@
 package org.apollo.game.message.handler;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.apollo.game.model.entity.Player;
@@ -10,6 +13,11 @@ import org.apollo.net.message.Message;
 
 /**
  * A group of {@link MessageHandlerChain}s classified by the {@link Message} type.
+ * <p>
+ * Handlers are registered per Message {@link Class}, but a Message is handled by the chains of its own Class and of
+ * every superclass up to (but excluding) Message. Once registration has finished, these chains are {@link #resolve()
+ * resolved} into one flat array of {@link MessageHandler}s per Message type, indexed by {@link Message#getTypeId()},
+ * so that notifying the handlers of a Message is a single array access followed by a linear loop.
  *
  * @author Graham
  * @author Ryley
@@ -17,15 +25,21 @@ import org.apollo.net.message.Message;
  */
 public final class MessageHandlerChainSet {
 
+	/**
+	 * The empty array of MessageHandlers.
+	 */
+	private static final MessageHandler<?>[] EMPTY = new MessageHandler<?>[0];
+
 	/**
 	 * The {@link Map} of {@link Message} {@link Class} types to {@link MessageHandlerChain}s
 	 */
 	private final Map<Class<? extends Message>, MessageHandlerChain<? extends Message>> chains = new HashMap<>();
 
 	/**
-	 * The {@link Map} of {@link Message} {@link Class} types to {@link Deque}s of all Classes in the chain.
+	 * The resolved arrays of MessageHandlers, indexed by Message type identifier. A {@code null} element indicates
+	 * that the handlers for that type have not been resolved yet.
 	 */
-	private final Map<Class<? extends Message>, Deque<Class<? extends Message>>> classes = new HashMap<>();
+	private MessageHandler<?>[][] resolved = new MessageHandler<?>[0][];
 
 	/**
 	 * Notifies the appropriate {@link MessageHandlerChain} that a {@link Message} has been received.
@@ -36,13 +50,18 @@ public final class MessageHandlerChainSet {
 	 */
 	@SuppressWarnings("unchecked")
 	public <M extends Message> boolean notify(Player player, M message) {
-		Deque<Class<? extends Message>> classes = this.classes.computeIfAbsent(message.getClass(),
-				this::getMessageClasses);
+		int type = message.getTypeId();
+		MessageHandler<?>[][] resolved = this.resolved;
 
-		for (Class<? extends Message> type : classes) {
-			MessageHandlerChain<? super M> chain = (MessageHandlerChain<? super M>) chains.get(type);
+		MessageHandler<?>[] handlers = type < resolved.length ? resolved[type] : null;
+		if (handlers == null) {
+			handlers = resolve(message.getClass());
+		}
+
+		for (MessageHandler<?> handler : handlers) {
+			((MessageHandler<M>) handler).handle(player, message);
 
-			if (chain != null && !chain.notify(player, message)) {
+			if (message.terminated()) {
 				return false;
 			}
 		}
@@ -60,6 +79,47 @@ public final class MessageHandlerChainSet {
 	public <M extends Message> void putHandler(Class<M> clazz, MessageHandler<? extends Message> handler) {
 		MessageHandlerChain<M> chain = (MessageHandlerChain<M>) chains.computeIfAbsent(clazz, MessageHandlerChain::new);
 		chain.addHandler((MessageHandler<M>) handler);
+
+		resolved = new MessageHandler<?>[0][];
+	}
+
+	/**
+	 * Resolves the {@link MessageHandler}s of every {@link Message} type that has been registered. This should be
+	 * called once all handlers (including those registered by plugins) have been placed into this set; Message types
+	 * without a handler of their own are resolved the first time they are received.
+	 * <p>
+	 * Placing another handler into this set discards every resolved array.
+	 */
+	public void resolve() {
+		chains.keySet().forEach(this::resolve);
+	}
+
+	/**
+	 * Resolves the flat array of {@link MessageHandler}s for the specified {@link Message} type, and places it into
+	 * the array of resolved handlers.
+	 *
+	 * @param type The {@link Class} type of the Message. Must not be the Class for Message itself.
+	 * @return The array of MessageHandlers. Will never be {@code null}.
+	 */
+	private MessageHandler<?>[] resolve(Class<? extends Message> type) {
+		List<MessageHandler<?>> handlers = new ArrayList<>();
+
+		for (Class<? extends Message> clazz : getMessageClasses(type)) {
+			MessageHandlerChain<? extends Message> chain = chains.get(clazz);
+
+			if (chain != null) {
+				handlers.addAll(chain.getHandlers());
+			}
+		}
+
+		int id = Message.typeIdOf(type);
+		if (id >= resolved.length) {
+			resolved = Arrays.copyOf(resolved, id + 1);
+		}
+
+		MessageHandler<?>[] flat = handlers.isEmpty() ? EMPTY : handlers.toArray(EMPTY);
+		resolved[id] = flat;
+		return flat;
 	}
 
 	/**
@@ -81,4 +141,4 @@ public final class MessageHandlerChainSet {
 		return classes;
 	}
 
-}
\ No newline at end of file
+}
@@ -27,10 +27,13 @@ import org.apollo.game.model.entity.Player;
 import org.apollo.game.model.event.Event;
 import org.apollo.game.model.event.EventListener;
 import org.apollo.game.model.event.EventListenerChainSet;
+import org.apollo.game.model.event.EventStatistics;
 import org.apollo.game.plugin.PluginManager;
 import org.apollo.game.scheduling.ScheduledTask;
 import org.apollo.game.scheduling.Scheduler;
 import org.apollo.game.scheduling.impl.NpcMovementTask;
+import org.apollo.net.message.BroadcastMessage;
+import org.apollo.net.message.Message;
 import org.apollo.util.NameUtil;
 
 /**
@@ -136,6 +139,17 @@ public final class World {
 	 */
 	private int releaseNumber;
 
+	/**
+	 * Sends the specified {@link Message} to every {@link Player} in this World. The Message is encoded once, and the
+	 * encoded packet is shared between every player.
+	 *
+	 * @param message The Message.
+	 */
+	public void broadcast(Message message) {
+		BroadcastMessage broadcast = new BroadcastMessage(message);
+		playerRepository.forEach(player -> player.send(broadcast));
+	}
+
 	/**
 	 * Gets the collision manager.
 	 *
@@ -161,6 +175,15 @@ public final class World {
 		return npcRepository;
 	}
 
+	/**
+	 * Gets the {@link EventStatistics} of each {@link Event} type that is being listened for.
+	 *
+	 * @return The Map of Event types to EventStatistics.
+	 */
+	public Map<Class<? extends Event>, EventStatistics> getEventStatistics() {
+		return events.getStatistics();
+	}
+
 	/**
 	 * Gets the {@link Player} with the specified username. Note that this will
 	 * return {@code null} if the player is offline.
@@ -249,6 +272,17 @@ public final class World {
 		pluginManager = manager;
 	}
 
+	/**
+	 * Returns whether or not any {@link EventListener}s are listening for {@link Event}s of the specified type. Code
+	 * submitting an Event on a hot path should check this first, to avoid creating an Event nothing will observe.
+	 *
+	 * @param type The type of the Event.
+	 * @return {@code true} if the Event type is being listened for, {@code false} if not.
+	 */
+	public boolean hasListeners(Class<? extends Event> type) {
+		return events.hasListeners(type);
+	}
+
 	/**
 	 * Checks if the {@link Player} with the specified name is online.
 	 *
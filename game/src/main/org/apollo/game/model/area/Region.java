@@ -11,7 +11,6 @@ import org.apollo.game.model.area.update.GroupableEntity;
 import org.apollo.game.model.area.update.UpdateOperation;
 import org.apollo.game.model.entity.Entity;
 import org.apollo.game.model.entity.EntityType;
-import org.apollo.game.model.entity.obj.DynamicGameObject;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -20,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -45,6 +45,34 @@ public final class Region {
 
 	}
 
+	/**
+	 * An encoded snapshot of the contents of a height level of a Region.
+	 */
+	private static final class Snapshot {
+
+		/**
+		 * The RegionUpdateMessages.
+		 */
+		private final Set<RegionUpdateMessage> messages;
+
+		/**
+		 * The version of the height level that was encoded.
+		 */
+		private final int version;
+
+		/**
+		 * Creates the Snapshot.
+		 *
+		 * @param version The version of the height level that was encoded.
+		 * @param messages The RegionUpdateMessages.
+		 */
+		public Snapshot(int version, Set<RegionUpdateMessage> messages) {
+			this.version = version;
+			this.messages = messages;
+		}
+
+	}
+
 	/**
 	 * The message of the exception thrown when a CollisionMatrix with an illegal height is requested.
 	 */
@@ -96,6 +124,11 @@ public final class Region {
 	 */
 	private final List<Set<RegionUpdateMessage>> removedObjects = new ArrayList<>(Position.HEIGHT_LEVELS);
 
+	/**
+	 * The most recent encoded Snapshot of each height level, which may be out of date.
+	 */
+	private final AtomicReferenceArray<Snapshot> snapshots = new AtomicReferenceArray<>(Position.HEIGHT_LEVELS);
+
 	/**
 	 * The List of Sets containing RegionUpdateMessages. The List is ordered based on the height level the
 	 * RegionUpdateMessages concern. This only contains the updates to this Region that have occurred in the last
@@ -103,6 +136,11 @@ public final class Region {
 	 */
 	private final List<Set<RegionUpdateMessage>> updates = new ArrayList<>(Position.HEIGHT_LEVELS);
 
+	/**
+	 * The version of each height level, incremented whenever the encoded contents of the height level change.
+	 */
+	private final int[] versions = new int[Position.HEIGHT_LEVELS];
+
 	/**
 	 * Creates a new Region.
 	 *
@@ -144,6 +182,10 @@ public final class Region {
 		if (!type.isTransient()) {
 			Set<Entity> local = entities.computeIfAbsent(position, key -> new HashSet<>(DEFAULT_LIST_SIZE));
 			local.add(entity);
+
+			if (!notify && isEncoded(type)) {
+				versions[position.getHeight()]++;
+			}
 		}
 
 		if (notify) {
@@ -195,19 +237,31 @@ public final class Region {
 
 	/**
 	 * Encodes the contents of this Region into a {@link Set} of {@link RegionUpdateMessage}s, to be sent to a client.
+	 * The encoded contents are the dynamic objects and ground items on the height level, and the static objects that
+	 * have been removed from it. The Set is cached, and only rebuilt after the contents of the height level change.
 	 *
+	 * @param height The height level.
 	 * @return The Set of RegionUpdateMessages.
 	 */
 	public Set<RegionUpdateMessage> encode(int height) {
-		Set<RegionUpdateMessage> additions = entities.values().stream()
-			.flatMap(Set::stream) // TODO fix this to work for ground items + projectiles
-			.filter(entity -> entity instanceof DynamicGameObject && entity.getPosition().getHeight() == height)
-			.map(entity -> ((GroupableEntity) entity).toUpdateOperation(this, EntityUpdateType.ADD).toMessage())
-			.collect(Collectors.toSet());
+		int version = versions[height];
+		Snapshot snapshot = snapshots.get(height);
 
-		ImmutableSet.Builder<RegionUpdateMessage> builder = ImmutableSet.builder();
-		builder.addAll(additions).addAll(updates.get(height)).addAll(removedObjects.get(height));
-		return builder.build();
+		if (snapshot == null || snapshot.version != version) {
+			Set<RegionUpdateMessage> additions = entities.values().stream()
+				.flatMap(Set::stream)
+				.filter(entity -> isEncoded(entity.getEntityType()) && entity.getPosition().getHeight() == height)
+				.map(entity -> ((GroupableEntity) entity).toUpdateOperation(this, EntityUpdateType.ADD).toMessage())
+				.collect(Collectors.toSet());
+
+			ImmutableSet.Builder<RegionUpdateMessage> builder = ImmutableSet.builder();
+			builder.addAll(additions).addAll(removedObjects.get(height));
+
+			snapshot = new Snapshot(version, builder.build());
+			snapshots.set(height, snapshot);
+		}
+
+		return snapshot.messages;
 	}
 
 	/**
@@ -324,6 +378,17 @@ public final class Region {
 		return copy;
 	}
 
+	/**
+	 * Gets the version of the specified height level, which is incremented whenever its {@link #encode encoded}
+	 * contents change.
+	 *
+	 * @param height The height level.
+	 * @return The version.
+	 */
+	public int getVersion(int height) {
+		return versions[height];
+	}
+
 	/**
 	 * Notifies the {@link RegionListener}s registered to this Region that an update has occurred.
 	 *
@@ -391,6 +456,17 @@ public final class Region {
 			"Position is not included in this Region.");
 	}
 
+	/**
+	 * Returns whether or not Entities of the specified {@link EntityType} are included in the {@link #encode encoded}
+	 * contents of a Region.
+	 *
+	 * @param type The EntityType.
+	 * @return {@code true} if the Entities are encoded, {@code false} if not.
+	 */
+	private static boolean isEncoded(EntityType type) {
+		return type == EntityType.DYNAMIC_OBJECT || type == EntityType.GROUND_ITEM;
+	}
+
 	/**
 	 * Records the specified {@link GroupableEntity} as being updated this pulse.
 	 *
@@ -417,6 +493,10 @@ public final class Region {
 			updates.remove(inverse);
 		}
 
+		if (!type.isTransient()) {
+			versions[height]++;
+		}
+
 		updates.add(message);
 	}
 
@@ -10,6 +10,7 @@ import org.apollo.game.model.World;
 import org.apollo.game.model.area.Region;
 import org.apollo.game.model.area.RegionRepository;
 import org.apollo.game.model.entity.attr.Attribute;
+import org.apollo.game.model.entity.attr.AttributeKey;
 import org.apollo.game.model.entity.attr.AttributeMap;
 import org.apollo.game.model.event.impl.MobPositionUpdateEvent;
 import org.apollo.game.model.inv.Inventory;
@@ -150,11 +151,11 @@ public abstract class Mob extends Entity {
 	 * @param secondary If the damage should be dealt as a secondary hit.
 	 */
 	public final void damage(int damage, int type, boolean secondary) {
-		Skill hitpoints = skillSet.getSkill(Skill.HITPOINTS);
-		int current = Math.max(hitpoints.getCurrentLevel() - damage, 0), maximum = hitpoints.getMaximumLevel();
+		int current = Math.max(skillSet.getCurrentLevel(Skill.HITPOINTS) - damage, 0);
+		int maximum = skillSet.getMaximumLevel(Skill.HITPOINTS);
 
 		blockSet.add(SynchronizationBlock.createHitUpdateBlock(damage, type, current, maximum, secondary));
-		skillSet.setSkill(Skill.HITPOINTS, new Skill(hitpoints.getExperience(), current, maximum));
+		skillSet.setCurrentLevel(Skill.HITPOINTS, current);
 	}
 
 	/**
@@ -167,6 +168,16 @@ public abstract class Mob extends Entity {
 		return attributes.get(name);
 	}
 
+	/**
+	 * Gets the value of the attribute with the specified {@link AttributeKey}.
+	 *
+	 * @param key The AttributeKey.
+	 * @return The value, as a {@link Boolean}, {@link Double}, {@link Long}, or {@link String}.
+	 */
+	public final Object getAttributeValue(AttributeKey key) {
+		return attributes.getValue(key);
+	}
+
 	/**
 	 * Gets a shallow copy of the attributes of this mob, as a {@link Map}.
 	 *
@@ -176,6 +187,15 @@ public abstract class Mob extends Entity {
 		return attributes.getAttributes();
 	}
 
+	/**
+	 * Gets a copy of the persistent attributes of this mob.
+	 *
+	 * @return The {@link AttributeMap} of persistent attributes.
+	 */
+	public final AttributeMap getPersistentAttributes() {
+		return attributes.copyPersistent();
+	}
+
 	/**
 	 * Gets this mob's {@link SynchronizationBlockSet}.
 	 *
@@ -397,6 +417,16 @@ public abstract class Mob extends Entity {
 		attributes.set(name, value);
 	}
 
+	/**
+	 * Sets the value of the attribute with the specified {@link AttributeKey}.
+	 *
+	 * @param key The AttributeKey.
+	 * @param value The value.
+	 */
+	public final void setAttributeValue(AttributeKey key, Object value) {
+		attributes.set(key, value);
+	}
+
 	/**
 	 * Sets this mob's {@link NpcDefinition}.
 	 *
@@ -458,7 +488,11 @@ public abstract class Mob extends Entity {
 	 * @param position The Position.
 	 */
 	public final void setPosition(Position position) {
-		if (!position.equals(this.position) && world.submit(new MobPositionUpdateEvent(this, position))) {
+		if (position.equals(this.position)) {
+			return;
+		}
+
+		if (!world.hasListeners(MobPositionUpdateEvent.class) || world.submit(new MobPositionUpdateEvent(this, position))) {
 			Position old = this.position;
 			RegionRepository repository = world.getRegionRepository();
 			Region current = repository.fromPosition(old), next = repository.fromPosition(position);
@@ -1,12 +1,19 @@
 package org.apollo.game.model.entity;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 import com.google.common.base.Preconditions;
 
 /**
  * A {@link MobRepository} is a repository of {@link Mob}s that are currently active in the game world.
+ * <p>
+ * Free slots are kept in a stack, so adding a Mob does not scan for a free slot, and the slots in use are kept in a
+ * dense, sorted array, so iteration only visits Mobs that are present. The index of a Mob does not change while it is
+ * in the repository.
  *
  * @param <T> The type of Mob.
  * @author Graham
@@ -16,6 +23,9 @@ public final class MobRepository<T extends Mob> implements Iterable<T> {
 
 	/**
 	 * The {@link Iterator} implementation for the MobRepository.
+	 * <p>
+	 * Mobs are visited in index order. If the repository is modified during iteration (e.g. by removing the current
+	 * Mob), the iterator resumes from the first Mob with a higher index than the last one returned.
 	 *
 	 * @author Graham
 	 * @author Ryley
@@ -23,57 +33,43 @@ public final class MobRepository<T extends Mob> implements Iterable<T> {
 	private final class MobRepositoryIterator implements Iterator<T> {
 
 		/**
-		 * The current index of this Iterator.
+		 * The modification count of the repository when {@link #position} was last computed.
 		 */
-		private int current;
+		private int expected = modifications;
 
 		/**
-		 * The last index found.
+		 * The index of the last Mob returned by {@link #next}, or {@code -1} if it has been removed.
 		 */
 		private int last = -1;
 
 		/**
-		 * The repository of {@link Mob}s this {@link Iterator} iterates over.
+		 * The position, in the array of active slots, of the next Mob.
 		 */
-		private final MobRepository<T> repository;
+		private int position;
 
 		/**
-		 * Constructs a new {@link MobRepositoryIterator} with the specified
-		 * MobRepository.
-		 * 
-		 * @param repository
-		 *            The MobRepository we're iterating over.
+		 * The slot of the last Mob returned by {@link #next}, or {@code -1} if no Mob has been returned.
 		 */
-		private MobRepositoryIterator(MobRepository<T> repository) {
-			this.repository = repository;
-		}
+		private int previous = -1;
 
 		@Override
 		public boolean hasNext() {
-			int index = current;
-
-			while (index <= repository.size()) {
-				Mob mob = repository.mobs[index++];
-				if (mob != null) {
-					return true;
-				}
-			}
-
-			return false;
+			synchronize();
+			return position < size;
 		}
 
 		@SuppressWarnings("unchecked")
 		@Override
 		public T next() {
-			while (current <= repository.size()) {
-				Mob mob = repository.mobs[current++];
-				if (mob != null) {
-					last = current;
-					return (T) mob;
-				}
+			synchronize();
+			if (position >= size) {
+				throw new NoSuchElementException("There are no more elements!");
 			}
 
-			throw new NoSuchElementException("There are no more elements!");
+			int slot = active[position++];
+			previous = slot;
+			last = slot + 1;
+			return (T) mobs[slot];
 		}
 
 		@Override
@@ -82,17 +78,109 @@ public final class MobRepository<T extends Mob> implements Iterable<T> {
 				throw new IllegalStateException("remove() may only be called once per call to next()");
 			}
 
-			repository.remove(last);
+			MobRepository.this.remove(last);
 			last = -1;
 		}
 
+		/**
+		 * Recomputes the position of the next Mob, if the repository has been modified.
+		 */
+		private void synchronize() {
+			if (expected != modifications) {
+				position = positionOf(previous + 1);
+				expected = modifications;
+			}
+		}
+
 	}
 
 	/**
-	 * The array of Mobs in this repository.
+	 * The {@link Spliterator} implementation for the MobRepository, which partitions a range of the array of active
+	 * slots. The repository must not be modified while a MobRepositorySpliterator is in use.
+	 */
+	private final class MobRepositorySpliterator implements Spliterator<T> {
+
+		/**
+		 * The (exclusive) end of the range.
+		 */
+		private final int fence;
+
+		/**
+		 * The (inclusive) start of the range.
+		 */
+		private int origin;
+
+		/**
+		 * Creates the MobRepositorySpliterator.
+		 *
+		 * @param origin The (inclusive) start of the range.
+		 * @param fence The (exclusive) end of the range.
+		 */
+		public MobRepositorySpliterator(int origin, int fence) {
+			this.origin = origin;
+			this.fence = fence;
+		}
+
+		@Override
+		public int characteristics() {
+			return DISTINCT | NONNULL | ORDERED | SIZED | SUBSIZED;
+		}
+
+		@Override
+		public long estimateSize() {
+			return fence - origin;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			if (origin >= fence) {
+				return false;
+			}
+
+			action.accept((T) mobs[active[origin++]]);
+			return true;
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			int middle = origin + fence >>> 1;
+			if (middle <= origin) {
+				return null;
+			}
+
+			Spliterator<T> prefix = new MobRepositorySpliterator(origin, middle);
+			origin = middle;
+			return prefix;
+		}
+
+	}
+
+	/**
+	 * The slots of the Mobs in this repository, in ascending order. Only the first {@link #size} elements are used.
+	 */
+	private final int[] active;
+
+	/**
+	 * The stack of free slots. Only the first {@link #freeCount} elements are used.
+	 */
+	private final int[] free;
+
+	/**
+	 * The amount of free slots.
+	 */
+	private int freeCount;
+
+	/**
+	 * The array of Mobs in this repository, indexed by slot (i.e. index - 1).
 	 */
 	private final Mob[] mobs;
 
+	/**
+	 * The amount of times this repository has been modified.
+	 */
+	private int modifications;
+
 	/**
 	 * The current size of this repository.
 	 */
@@ -105,6 +193,14 @@ public final class MobRepository<T extends Mob> implements Iterable<T> {
 	 */
 	public MobRepository(int capacity) {
 		mobs = new Mob[capacity];
+		active = new int[capacity];
+		free = new int[capacity];
+
+		for (int slot = 0; slot < capacity; slot++) {
+			free[slot] = capacity - slot - 1;
+		}
+
+		freeCount = capacity;
 	}
 
 	/**
@@ -118,19 +214,18 @@ public final class MobRepository<T extends Mob> implements Iterable<T> {
 			return false;
 		}
 
-		for (int index = 0; index < capacity(); index++) {
-			if (mobs[index] != null) {
-				continue;
-			}
+		int slot = free[--freeCount];
+		int position = positionOf(slot);
 
-			mobs[index] = mob;
-			mob.setIndex(index + 1);
-			size++;
+		System.arraycopy(active, position, active, position + 1, size - position);
+		active[position] = slot;
 
-			return true;
-		}
+		mobs[slot] = mob;
+		mob.setIndex(slot + 1);
+		size++;
+		modifications++;
 
-		return false;
+		return true;
 	}
 
 	/**
@@ -168,7 +263,19 @@ public final class MobRepository<T extends Mob> implements Iterable<T> {
 
 	@Override
 	public Iterator<T> iterator() {
-		return new MobRepositoryIterator(this);
+		return new MobRepositoryIterator();
+	}
+
+	/**
+	 * Gets the position, in the array of active slots, of the first slot that is greater than or equal to the specified
+	 * slot.
+	 *
+	 * @param slot The slot.
+	 * @return The position.
+	 */
+	private int positionOf(int slot) {
+		int position = Arrays.binarySearch(active, 0, size, slot);
+		return position < 0 ? -position - 1 : position;
 	}
 
 	/**
@@ -193,9 +300,14 @@ public final class MobRepository<T extends Mob> implements Iterable<T> {
 			throw new IllegalArgumentException("MobRepository index mismatch, cannot remove Mob.");
 		}
 
-		mobs[index - 1] = null;
+		int slot = index - 1, position = positionOf(slot);
+		System.arraycopy(active, position + 1, active, position, size - position - 1);
+
+		mobs[slot] = null;
+		free[freeCount++] = slot;
 		mob.setIndex(-1);
 		size--;
+		modifications++;
 	}
 
 	/**
@@ -207,4 +319,15 @@ public final class MobRepository<T extends Mob> implements Iterable<T> {
 		return size;
 	}
 
+	/**
+	 * Creates a {@link Spliterator} over the Mobs in this repository, which splits into ranges of equal size (e.g. for
+	 * processing the Mobs in parallel). The repository must not be modified while the Spliterator is in use.
+	 *
+	 * @return The Spliterator.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return new MobRepositorySpliterator(0, size);
+	}
+
 }
\ No newline at end of file
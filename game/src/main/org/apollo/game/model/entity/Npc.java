@@ -22,6 +22,11 @@ public final class Npc extends Mob {
 	 */
 	private Optional<Position[]> boundaries;
 
+	/**
+	 * Whether or not this Npc is dormant, i.e. no Player is close enough to see it.
+	 */
+	private boolean dormant;
+
 	/**
 	 * Creates the Npc.
 	 *
@@ -95,6 +100,16 @@ public final class Npc extends Mob {
 		return prime * index + getId();
 	}
 
+	/**
+	 * Returns whether or not this Npc is dormant. Dormant Npcs are not synchronized and do not randomly walk. Npcs are
+	 * woken at the start of the first synchronization in which a {@link Player} is close to them.
+	 *
+	 * @return {@code true} if this Npc is dormant, {@code false} if not.
+	 */
+	public boolean isDormant() {
+		return dormant;
+	}
+
 	/**
 	 * Sets the boundaries of this Npc.
 	 *
@@ -105,6 +120,15 @@ public final class Npc extends Mob {
 		this.boundaries = Optional.of(boundaries.clone());
 	}
 
+	/**
+	 * Sets whether or not this Npc is dormant.
+	 *
+	 * @param dormant Whether or not this Npc is dormant.
+	 */
+	public void setDormant(boolean dormant) {
+		this.dormant = dormant;
+	}
+
 	@Override
 	public String toString() {
 		return MoreObjects.toStringHelper(this).add("id", getId()).add("name", definition.get().getName()).toString();
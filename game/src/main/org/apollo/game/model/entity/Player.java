@@ -2,6 +2,7 @@ package org.apollo.game.model.entity;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
@@ -23,11 +24,10 @@ import org.apollo.game.model.Appearance;
 import org.apollo.game.model.Position;
 import org.apollo.game.model.World;
 import org.apollo.game.model.WorldConstants;
-import org.apollo.game.model.entity.attr.Attribute;
 import org.apollo.game.model.entity.attr.AttributeDefinition;
+import org.apollo.game.model.entity.attr.AttributeKey;
 import org.apollo.game.model.entity.attr.AttributeMap;
 import org.apollo.game.model.entity.attr.AttributePersistence;
-import org.apollo.game.model.entity.attr.NumericalAttribute;
 import org.apollo.game.model.entity.obj.DynamicGameObject;
 import org.apollo.game.model.entity.setting.MembershipStatus;
 import org.apollo.game.model.entity.setting.PrivacyState;
@@ -63,23 +63,34 @@ import org.apollo.util.security.PlayerCredentials;
  */
 public final class Player extends Mob {
 
+	/**
+	 * The AttributeKey of the flag indicating whether or not the player is banned.
+	 */
+	private static final AttributeKey BANNED = AttributeMap.define("banned",
+		AttributeDefinition.forBoolean(false, AttributePersistence.PERSISTENT));
+
 	/**
 	 * The default viewing distance, in tiles.
 	 */
 	private static final int DEFAULT_VIEWING_DISTANCE = 15;
 
+	// TODO this should be a time rather than a flag
 	/**
-	 * The current amount of appearance tickets.
+	 * The AttributeKey of the flag indicating whether or not the player is muted.
 	 */
-	private static final AtomicInteger appearanceTicketCounter = new AtomicInteger(0);
+	private static final AttributeKey MUTED = AttributeMap.define("muted",
+		AttributeDefinition.forBoolean(false, AttributePersistence.PERSISTENT));
 
-	static {
-		// TODO this should be a time rather than a flag
-		AttributeMap.define("muted", AttributeDefinition.forBoolean(false, AttributePersistence.PERSISTENT));
+	/**
+	 * The AttributeKey of the player's run energy.
+	 */
+	private static final AttributeKey RUN_ENERGY = AttributeMap.define("run_energy",
+		AttributeDefinition.forInt(100, AttributePersistence.PERSISTENT));
 
-		AttributeMap.define("banned", AttributeDefinition.forBoolean(false, AttributePersistence.PERSISTENT));
-		AttributeMap.define("run_energy", AttributeDefinition.forInt(100, AttributePersistence.PERSISTENT));
-	}
+	/**
+	 * The current amount of appearance tickets.
+	 */
+	private static final AtomicInteger appearanceTicketCounter = new AtomicInteger(0);
 
 	/**
 	 * Generates the next appearance ticket.
@@ -118,6 +129,11 @@ public final class Player extends Mob {
 	 */
 	private final Set<DynamicGameObject> localObjects = new HashSet<>();
 
+	/**
+	 * The queue of inventory listeners with changes that have not yet been sent to the client.
+	 */
+	private final Deque<SynchronizationInventoryListener> pendingInventoryUpdates = new ArrayDeque<>();
+
 	/**
 	 * A temporary queue of messages sent during the login process.
 	 */
@@ -208,6 +224,12 @@ public final class Player extends Mob {
 	 */
 	private GameSession session;
 
+	/**
+	 * Whether or not this player's connection was lost, in which case nothing is synchronized with their client until
+	 * they reconnect.
+	 */
+	private volatile boolean suspended;
+
 	/**
 	 * The privacy state of this player's trade chat.
 	 */
@@ -304,6 +326,13 @@ public final class Player extends Mob {
 		excessivePlayers = true;
 	}
 
+	/**
+	 * Flushes every {@link SynchronizationInventoryListener} with changes that have not yet been sent to the client.
+	 */
+	public void flushInventoryUpdates() {
+		CollectionUtil.pollAll(pendingInventoryUpdates, SynchronizationInventoryListener::flush);
+	}
+
 	/**
 	 * Indicates whether this player is friends with the player with the
 	 * specified username or not.
@@ -468,8 +497,7 @@ public final class Player extends Mob {
 	 * @return The run energy.
 	 */
 	public int getRunEnergy() {
-		Attribute<Integer> energy = attributes.get("run_energy");
-		return energy.getValue();
+		return (int) attributes.getLong(RUN_ENERGY);
 	}
 
 	/**
@@ -574,8 +602,7 @@ public final class Player extends Mob {
 	 * Returns if this player is banned or not.
 	 */
 	public boolean isBanned() {
-		Attribute<Boolean> banned = attributes.get("banned");
-		return banned.getValue();
+		return attributes.getBoolean(BANNED);
 	}
 
 	/**
@@ -609,8 +636,7 @@ public final class Player extends Mob {
 	 * Returns if this player is muted or not.
 	 */
 	public boolean isMuted() {
-		Attribute<Boolean> muted = attributes.get("muted");
-		return muted.getValue();
+		return attributes.getBoolean(MUTED);
 	}
 
 	/**
@@ -631,6 +657,16 @@ public final class Player extends Mob {
 		return isSkulled;
 	}
 
+	/**
+	 * Indicates whether or not this player's connection was lost, in which case nothing is synchronized with their
+	 * client until they reconnect.
+	 *
+	 * @return {@code true} if the player is suspended, otherwise {@code false}.
+	 */
+	public boolean isSuspended() {
+		return suspended;
+	}
+
 	/**
 	 * Checks if this player is withdrawing noted items.
 	 *
@@ -668,6 +704,15 @@ public final class Player extends Mob {
 		interfaceSet.openWindowWithSidebar(interListener, BankConstants.BANK_WINDOW_ID, BankConstants.SIDEBAR_ID);
 	}
 
+	/**
+	 * Queues the specified {@link SynchronizationInventoryListener} to be flushed before the next synchronization.
+	 *
+	 * @param listener The listener.
+	 */
+	public void queueInventoryUpdate(SynchronizationInventoryListener listener) {
+		pendingInventoryUpdates.add(listener);
+	}
+
 	/**
 	 * Removes the specified username from this player's friend list.
 	 *
@@ -701,6 +746,25 @@ public final class Player extends Mob {
 		object.removeFrom(this);
 	}
 
+	/**
+	 * Resets the state the server tracks on behalf of the client (the local player and npc lists, the cached
+	 * appearances, the last known region and the open interfaces), so that the next synchronization is computed as if
+	 * the client had just logged in. This is used when a suspended player is resumed on a new connection, as the
+	 * client discards all of its state when it logs in.
+	 */
+	public void resetClientState() {
+		getLocalPlayerList().clear();
+		getLocalNpcList().clear();
+		Arrays.fill(appearanceTickets, 0);
+
+		lastKnownRegion = null;
+		resetViewingDistance();
+
+		if (interfaceSet.size() > 0) {
+			interfaceSet.close();
+		}
+	}
+
 	/**
 	 * Resets the excessive players flag.
 	 */
@@ -893,7 +957,7 @@ public final class Player extends Mob {
 	 * @param energy The energy.
 	 */
 	public void setRunEnergy(int energy) {
-		attributes.set("run_energy", new NumericalAttribute(energy));
+		attributes.setLong(RUN_ENERGY, energy);
 		send(new UpdateRunEnergyMessage(energy));
 	}
 
@@ -924,6 +988,15 @@ public final class Player extends Mob {
 		this.isSkulled = isSkulled;
 	}
 
+	/**
+	 * Sets whether or not this player's connection was lost.
+	 *
+	 * @param suspended Whether or not the player is suspended.
+	 */
+	public void setSuspended(boolean suspended) {
+		this.suspended = suspended;
+	}
+
 	/**
 	 * Sets the trade {@link PrivacyState}.
 	 *
@@ -10,7 +10,9 @@ import com.google.common.base.Preconditions;
 import com.google.common.primitives.Ints;
 
 /**
- * Represents the set of the player's skills.
+ * Represents the set of the player's skills. The experience and levels of each skill are stored in parallel primitive
+ * arrays, and changes are recorded in a mask that is {@link #flush flushed} to the {@link SkillListener}s once per
+ * tick.
  *
  * @author Graham
  */
@@ -26,11 +28,21 @@ public final class SkillSet {
 	 */
 	private static final int[] EXPERIENCE_FOR_LEVEL = new int[100];
 
+	/**
+	 * The highest level that can be stored, as the levels are stored as unsigned bytes.
+	 */
+	private static final int MAXIMUM_STORED_LEVEL = 255;
+
 	/**
 	 * The number of skills.
 	 */
 	private static final int SKILL_COUNT = 21;
 
+	/**
+	 * The mask with a bit set for every skill.
+	 */
+	private static final int ALL_SKILLS = (1 << SKILL_COUNT) - 1;
+
 	static {
 		int points = 0, output = 0;
 		for (int level = 1; level <= 99; level++) {
@@ -59,13 +71,30 @@ public final class SkillSet {
 	 */
 	public static int getLevelForExperience(double experience) {
 		Preconditions.checkArgument(experience >= 0 && experience <= MAXIMUM_EXP, "Experience must be between 0 and " + MAXIMUM_EXP + ", inclusive.");
-		for (int level = 1; level <= 98; level++) {
-			if (experience < EXPERIENCE_FOR_LEVEL[level + 1]) {
-				return level;
+		int low = 1, high = 99;
+
+		while (low < high) {
+			int middle = low + high + 1 >>> 1;
+
+			if (experience < EXPERIENCE_FOR_LEVEL[middle]) {
+				high = middle - 1;
+			} else {
+				low = middle;
 			}
 		}
 
-		return 99;
+		return low;
+	}
+
+	/**
+	 * Throws an {@link IllegalArgumentException} if the specified level cannot be stored in a skill set.
+	 *
+	 * @param level The level.
+	 */
+	private static void checkLevel(int level) {
+		if (level < 0 || level > MAXIMUM_STORED_LEVEL) {
+			throw new IllegalArgumentException("Level must be between 0 and " + MAXIMUM_STORED_LEVEL + ", inclusive.");
+		}
 	}
 
 	/**
@@ -73,6 +102,21 @@ public final class SkillSet {
 	 */
 	private int combat = 3;
 
+	/**
+	 * The current level of each skill, as unsigned bytes.
+	 */
+	private final byte[] currentLevels = new byte[SKILL_COUNT];
+
+	/**
+	 * The mask of skills that have changed since the last {@link #flush}.
+	 */
+	private int dirty;
+
+	/**
+	 * The experience of each skill.
+	 */
+	private final double[] experience = new double[SKILL_COUNT];
+
 	/**
 	 * Whether or not events are being fired.
 	 */
@@ -84,9 +128,9 @@ public final class SkillSet {
 	private final List<SkillListener> listeners = new ArrayList<>();
 
 	/**
-	 * The skills.
+	 * The maximum level of each skill, as unsigned bytes.
 	 */
-	private final Skill[] skills = new Skill[SKILL_COUNT];
+	private final byte[] maximumLevels = new byte[SKILL_COUNT];
 
 	/**
 	 * Creates the skill set.
@@ -103,17 +147,15 @@ public final class SkillSet {
 	 */
 	public void addExperience(int id, double experience) {
 		checkBounds(id);
-		Skill old = skills[id];
-
-		double newExperience = Math.min(old.getExperience() + experience, MAXIMUM_EXP);
+		double updated = Math.min(this.experience[id] + experience, MAXIMUM_EXP);
 
-		int current = old.getCurrentLevel();
-		int maximum = getLevelForExperience(newExperience);
+		int maximum = getLevelForExperience(updated);
+		int delta = maximum - getMaximumLevel(id);
 
-		int delta = maximum - old.getMaximumLevel();
-		current += delta;
-
-		setSkill(id, new Skill(newExperience, current, maximum));
+		this.experience[id] = updated;
+		currentLevels[id] = (byte) Math.max(0, Math.min(getCurrentLevel(id) + delta, MAXIMUM_STORED_LEVEL));
+		maximumLevels[id] = (byte) maximum;
+		markDirty(id);
 
 		if (delta > 0) {
 			notifyLevelledUp(id); // here so it notifies using the updated skill
@@ -133,13 +175,13 @@ public final class SkillSet {
 	 * Calculates the combat level for this skill set.
 	 */
 	public void calculateCombatLevel() {
-		int attack = skills[Skill.ATTACK].getMaximumLevel();
-		int defence = skills[Skill.DEFENCE].getMaximumLevel();
-		int strength = skills[Skill.STRENGTH].getMaximumLevel();
-		int hitpoints = skills[Skill.HITPOINTS].getMaximumLevel();
-		int prayer = skills[Skill.PRAYER].getMaximumLevel();
-		int ranged = skills[Skill.RANGED].getMaximumLevel();
-		int magic = skills[Skill.MAGIC].getMaximumLevel();
+		int attack = getMaximumLevel(Skill.ATTACK);
+		int defence = getMaximumLevel(Skill.DEFENCE);
+		int strength = getMaximumLevel(Skill.STRENGTH);
+		int hitpoints = getMaximumLevel(Skill.HITPOINTS);
+		int prayer = getMaximumLevel(Skill.PRAYER);
+		int ranged = getMaximumLevel(Skill.RANGED);
+		int magic = getMaximumLevel(Skill.MAGIC);
 
 		double base = Ints.max(strength + attack, magic * 2, ranged * 2);
 		double combat = (base * 1.3 + defence + hitpoints + prayer / 2) / 4;
@@ -148,10 +190,36 @@ public final class SkillSet {
 	}
 
 	/**
-	 * Forces this skill set to refresh.
+	 * Notifies the {@link SkillListener}s of the skills that have changed since the last flush, if there are any. If
+	 * every skill has changed, the listeners are notified once that all skills were updated, otherwise once per
+	 * changed skill. This is called once per tick, so any number of changes made to a skill during a single tick
+	 * result in at most one notification.
+	 */
+	public void flush() {
+		int changed = dirty;
+		if (changed == 0) {
+			return;
+		}
+
+		dirty = 0;
+		if (changed == ALL_SKILLS) {
+			notifySkillsUpdated();
+			return;
+		}
+
+		for (int id = Integer.numberOfTrailingZeros(changed); changed != 0; id = Integer.numberOfTrailingZeros(changed)) {
+			notifySkillUpdated(id);
+			changed &= changed - 1;
+		}
+	}
+
+	/**
+	 * Forces this skill set to refresh, during the next {@link #flush}.
 	 */
 	public void forceRefresh() {
-		notifySkillsUpdated();
+		if (firingEvents) {
+			dirty = ALL_SKILLS;
+		}
 	}
 
 	/**
@@ -170,7 +238,8 @@ public final class SkillSet {
 	 * @return The current level.
 	 */
 	public int getCurrentLevel(int skill) {
-		return getSkill(skill).getCurrentLevel();
+		checkBounds(skill);
+		return currentLevels[skill] & 0xFF;
 	}
 
 	/**
@@ -180,7 +249,8 @@ public final class SkillSet {
 	 * @return The experience.
 	 */
 	public double getExperience(int skill) {
-		return getSkill(skill).getExperience();
+		checkBounds(skill);
+		return experience[skill];
 	}
 
 	/**
@@ -190,18 +260,19 @@ public final class SkillSet {
 	 * @return The maximum level.
 	 */
 	public int getMaximumLevel(int skill) {
-		return getSkill(skill).getMaximumLevel();
+		checkBounds(skill);
+		return maximumLevels[skill] & 0xFF;
 	}
 
 	/**
-	 * Gets a skill by its id.
+	 * Gets a skill by its id. The returned {@link Skill} is a copy of the state of the skill, which is not updated by
+	 * later changes to this set.
 	 *
 	 * @param id The id.
 	 * @return The skill.
 	 */
 	public Skill getSkill(int id) {
-		checkBounds(id);
-		return skills[id];
+		return new Skill(getExperience(id), getCurrentLevel(id), getMaximumLevel(id));
 	}
 
 	/**
@@ -210,22 +281,27 @@ public final class SkillSet {
 	 * @return The total level.
 	 */
 	public int getTotalLevel() {
-		return Arrays.stream(skills).mapToInt(Skill::getMaximumLevel).sum();
+		int total = 0;
+		for (byte level : maximumLevels) {
+			total += level & 0xFF;
+		}
+
+		return total;
 	}
 
 	/**
 	 * Normalizes the skills in this set.
 	 */
 	public void normalize() {
-		for (int id = 0; id < skills.length; id++) {
-			int current = skills[id].getCurrentLevel(), max = skills[id].getMaximumLevel();
+		for (int id = 0; id < SKILL_COUNT; id++) {
+			int current = currentLevels[id] & 0xFF, max = maximumLevels[id] & 0xFF;
 
 			if (current == max || id == Skill.PRAYER) {
 				continue;
 			}
 
-			current += current < max ? 1 : -1;
-			setSkill(id, new Skill(skills[id].getExperience(), current, max));
+			currentLevels[id] = (byte) (current + (current < max ? 1 : -1));
+			markDirty(id);
 		}
 	}
 
@@ -252,8 +328,11 @@ public final class SkillSet {
 	 * @param level The level.
 	 */
 	public void setCurrentLevel(int skill, int level) {
-		Skill old = getSkill(skill);
-		setSkill(skill, Skill.updateCurrentLevel(level, old));
+		checkBounds(skill);
+		checkLevel(level);
+
+		currentLevels[skill] = (byte) level;
+		markDirty(skill);
 	}
 
 	/**
@@ -263,8 +342,9 @@ public final class SkillSet {
 	 * @param experience The experience.
 	 */
 	public void setExperience(int skill, double experience) {
-		Skill old = getSkill(skill);
-		setSkill(skill, Skill.updateExperience(experience, old));
+		checkBounds(skill);
+		this.experience[skill] = experience;
+		markDirty(skill);
 	}
 
 	/**
@@ -274,8 +354,11 @@ public final class SkillSet {
 	 * @param level The level.
 	 */
 	public void setMaximumLevel(int skill, int level) {
-		Skill old = getSkill(skill);
-		setSkill(skill, Skill.updateMaximumLevel(level, old));
+		checkBounds(skill);
+		checkLevel(level);
+
+		maximumLevels[skill] = (byte) level;
+		markDirty(skill);
 	}
 
 	/**
@@ -286,8 +369,13 @@ public final class SkillSet {
 	 */
 	public void setSkill(int id, Skill skill) {
 		checkBounds(id);
-		skills[id] = skill;
-		notifySkillUpdated(id);
+		checkLevel(skill.getCurrentLevel());
+		checkLevel(skill.getMaximumLevel());
+
+		experience[id] = skill.getExperience();
+		currentLevels[id] = (byte) skill.getCurrentLevel();
+		maximumLevels[id] = (byte) skill.getMaximumLevel();
+		markDirty(id);
 	}
 
 	/**
@@ -296,7 +384,7 @@ public final class SkillSet {
 	 * @return The number of skills.
 	 */
 	public int size() {
-		return skills.length;
+		return SKILL_COUNT;
 	}
 
 	/**
@@ -320,14 +408,31 @@ public final class SkillSet {
 	 * @throws IndexOutOfBoundsException If the id is out of bounds.
 	 */
 	private void checkBounds(int id) {
-		Preconditions.checkElementIndex(id, skills.length, "Skill id is out of bounds.");
+		Preconditions.checkElementIndex(id, SKILL_COUNT, "Skill id is out of bounds.");
 	}
 
 	/**
 	 * Initialises the skill set.
 	 */
 	private void init() {
-		Arrays.setAll(skills, id -> id == Skill.HITPOINTS ? new Skill(1154, 10, 10) : new Skill(0, 1, 1));
+		Arrays.fill(currentLevels, (byte) 1);
+		Arrays.fill(maximumLevels, (byte) 1);
+
+		experience[Skill.HITPOINTS] = 1154;
+		currentLevels[Skill.HITPOINTS] = 10;
+		maximumLevels[Skill.HITPOINTS] = 10;
+	}
+
+	/**
+	 * Marks the skill with the specified id as changed, so that the listeners are notified of it during the next
+	 * {@link #flush}.
+	 *
+	 * @param id The skill's id.
+	 */
+	private void markDirty(int id) {
+		if (firingEvents) {
+			dirty |= 1 << id;
+		}
 	}
 
 	/**
@@ -336,9 +441,9 @@ public final class SkillSet {
 	 * @param id The skill's id.
 	 */
 	private void notifyLevelledUp(int id) {
-		checkBounds(id);
-		if (firingEvents) {
-			listeners.forEach(listener -> listener.levelledUp(this, id, skills[id]));
+		if (firingEvents && !listeners.isEmpty()) {
+			Skill skill = getSkill(id);
+			listeners.forEach(listener -> listener.levelledUp(this, id, skill));
 		}
 	}
 
@@ -346,9 +451,7 @@ public final class SkillSet {
 	 * Notifies listeners that the skills in this listener have been updated.
 	 */
 	private void notifySkillsUpdated() {
-		if (firingEvents) {
-			listeners.forEach(listener -> listener.skillsUpdated(this));
-		}
+		listeners.forEach(listener -> listener.skillsUpdated(this));
 	}
 
 	/**
@@ -357,10 +460,8 @@ public final class SkillSet {
 	 * @param id The skill's id.
 	 */
 	private void notifySkillUpdated(int id) {
-		checkBounds(id);
-		if (firingEvents) {
-			listeners.forEach(listener -> listener.skillUpdated(this, id, skills[id]));
-		}
+		Skill skill = getSkill(id);
+		listeners.forEach(listener -> listener.skillUpdated(this, id, skill));
 	}
 
-}
\ No newline at end of file
+}
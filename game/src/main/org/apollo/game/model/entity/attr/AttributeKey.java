@@ -0,0 +1,164 @@
+package org.apollo.game.model.entity.attr;
+
+import org.jruby.RubySymbol;
+
+/**
+ * An interned handle to an attribute, created when its {@link AttributeDefinition} is registered with
+ * {@link AttributeMap#define}. Each key carries the integer slot its values are stored in, so reading or writing an
+ * attribute through a key is an array access rather than a {@link String} lookup.
+ *
+ * @author Major
+ */
+public final class AttributeKey {
+
+	/**
+	 * The AttributeDefinition of the attribute.
+	 */
+	private final AttributeDefinition<?> definition;
+
+	/**
+	 * The id of this key, which is unique amongst all keys.
+	 */
+	private final int id;
+
+	/**
+	 * The name of the attribute.
+	 */
+	private final String name;
+
+	/**
+	 * The default value, encoded as a primitive, if the attribute is stored as one.
+	 */
+	private final long primitiveDefault;
+
+	/**
+	 * The default value, if the attribute is stored as a reference.
+	 */
+	private final String referenceDefault;
+
+	/**
+	 * The index of the primitive or reference slot the values of the attribute are stored in.
+	 */
+	private final int slot;
+
+	/**
+	 * Creates the AttributeKey.
+	 *
+	 * @param name The name of the attribute.
+	 * @param definition The {@link AttributeDefinition} of the attribute.
+	 * @param id The id of the key.
+	 * @param slot The index of the slot the values of the attribute are stored in.
+	 */
+	AttributeKey(String name, AttributeDefinition<?> definition, int id, int slot) {
+		this.name = name;
+		this.definition = definition;
+		this.id = id;
+		this.slot = slot;
+
+		Object value = definition.getDefault();
+		if (isPrimitive(definition.getType())) {
+			primitiveDefault = AttributeMap.encode(definition.getType(), value);
+			referenceDefault = null;
+		} else {
+			primitiveDefault = 0;
+			referenceDefault = value instanceof RubySymbol ? ((RubySymbol) value).asJavaString() : (String) value;
+		}
+	}
+
+	/**
+	 * Gets the {@link AttributeDefinition} of the attribute.
+	 *
+	 * @return The AttributeDefinition.
+	 */
+	public AttributeDefinition<?> getDefinition() {
+		return definition;
+	}
+
+	/**
+	 * Gets the id of this key.
+	 *
+	 * @return The id.
+	 */
+	public int getId() {
+		return id;
+	}
+
+	/**
+	 * Gets the name of the attribute.
+	 *
+	 * @return The name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Gets the {@link AttributeType} of the attribute.
+	 *
+	 * @return The AttributeType.
+	 */
+	public AttributeType getType() {
+		return definition.getType();
+	}
+
+	/**
+	 * Returns whether or not the attribute is {@link AttributePersistence#PERSISTENT persistent}.
+	 *
+	 * @return {@code true} if the attribute is saved, {@code false} if not.
+	 */
+	public boolean isPersistent() {
+		return definition.getPersistence() == AttributePersistence.PERSISTENT;
+	}
+
+	/**
+	 * Returns whether or not the values of the attribute are stored as primitives.
+	 *
+	 * @return {@code true} if the values are stored in a primitive slot, {@code false} if in a reference slot.
+	 */
+	public boolean isPrimitive() {
+		return isPrimitive(definition.getType());
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+
+	/**
+	 * Gets the default value, encoded as a primitive.
+	 *
+	 * @return The default value.
+	 */
+	long getPrimitiveDefault() {
+		return primitiveDefault;
+	}
+
+	/**
+	 * Gets the default value of a reference attribute.
+	 *
+	 * @return The default value.
+	 */
+	String getReferenceDefault() {
+		return referenceDefault;
+	}
+
+	/**
+	 * Gets the index of the slot the values of the attribute are stored in.
+	 *
+	 * @return The slot.
+	 */
+	int getSlot() {
+		return slot;
+	}
+
+	/**
+	 * Returns whether or not values of the specified {@link AttributeType} are stored as primitives.
+	 *
+	 * @param type The AttributeType.
+	 * @return {@code true} if the values are stored in a primitive slot, {@code false} if in a reference slot.
+	 */
+	static boolean isPrimitive(AttributeType type) {
+		return type == AttributeType.BOOLEAN || type == AttributeType.DOUBLE || type == AttributeType.LONG;
+	}
+
+}
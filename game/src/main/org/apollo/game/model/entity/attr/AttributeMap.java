@@ -1,6 +1,10 @@
 package org.apollo.game.model.entity.attr;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.jruby.RubySymbol;
@@ -8,30 +12,79 @@ import org.jruby.RubySymbol;
 import com.google.common.base.Preconditions;
 
 /**
- * A {@link Map} wrapper used to store {@link Attribute}s and their {@link AttributeDefinition definitions}.
+ * Stores the values of a mob's {@link Attribute}s, and the {@link AttributeDefinition definitions} of every attribute.
+ * <p>
+ * Defining an attribute interns its name as an {@link AttributeKey}, which is assigned a slot in one of two typed
+ * arrays: {@code boolean}, {@code double}, and {@code long} attributes share a {@code long[]} of primitive slots
+ * (booleans as {@code 0} or {@code 1}, doubles as their raw bits), and string and symbol attributes share a
+ * {@code String[]} of reference slots. Attributes that have never been assigned take their default value without
+ * occupying any storage, and the {@link String}-keyed methods remain as a compatibility layer for plugins.
  *
  * @author Major
  */
 public final class AttributeMap {
 
 	/**
-	 * The default size of the map.
+	 * The empty array of primitive slots or assigned flags, shared by maps with no assigned attributes.
 	 */
-	private static final int DEFAULT_MAP_SIZE = 2;
+	private static final long[] EMPTY_PRIMITIVES = new long[0];
 
 	/**
-	 * The map of attribute names to definitions.
+	 * The empty array of reference slots, shared by maps with no assigned reference attributes.
 	 */
-	private static Map<String, AttributeDefinition<?>> definitions = new HashMap<>();
+	private static final String[] EMPTY_REFERENCES = new String[0];
 
 	/**
-	 * Registers an {@link AttributeDefinition}.
+	 * The map of attribute names to keys.
+	 */
+	private static final Map<String, AttributeKey> keys = new HashMap<>();
+
+	/**
+	 * The amount of primitive slots that have been allocated.
+	 */
+	private static int primitiveSlots;
+
+	/**
+	 * The amount of reference slots that have been allocated.
+	 */
+	private static int referenceSlots;
+
+	/**
+	 * The list of keys, indexed by their id.
+	 */
+	private static final List<AttributeKey> table = new ArrayList<>();
+
+	/**
+	 * Registers an {@link AttributeDefinition}, interning its name as an {@link AttributeKey}. Redefining an attribute
+	 * keeps the id of its key, and keeps its slot if the values of the new definition are stored in the same kind of
+	 * slot.
 	 *
 	 * @param name The name of the attribute.
 	 * @param definition The definition.
+	 * @return The AttributeKey.
 	 */
-	public static void define(String name, AttributeDefinition<?> definition) {
-		definitions.put(name, definition);
+	public static AttributeKey define(String name, AttributeDefinition<?> definition) {
+		AttributeKey previous = keys.get(name);
+		boolean primitive = AttributeKey.isPrimitive(definition.getType());
+
+		int id = previous == null ? table.size() : previous.getId();
+		int slot;
+		if (previous != null && previous.isPrimitive() == primitive) {
+			slot = previous.getSlot();
+		} else {
+			slot = primitive ? primitiveSlots++ : referenceSlots++;
+		}
+
+		AttributeKey key = new AttributeKey(name, definition, id, slot);
+		keys.put(name, key);
+
+		if (previous == null) {
+			table.add(key);
+		} else {
+			table.set(id, key);
+		}
+
+		return key;
 	}
 
 	/**
@@ -42,7 +95,8 @@ public final class AttributeMap {
 	 */
 	@SuppressWarnings("unchecked")
 	public static <T> AttributeDefinition<T> getDefinition(String name) {
-		return (AttributeDefinition<T>) definitions.get(name);
+		AttributeKey key = keys.get(name);
+		return key == null ? null : (AttributeDefinition<T>) key.getDefinition();
 	}
 
 	/**
@@ -51,7 +105,28 @@ public final class AttributeMap {
 	 * @return The map of attribute names to definitions.
 	 */
 	public static Map<String, AttributeDefinition<?>> getDefinitions() {
-		return new HashMap<>(definitions);
+		Map<String, AttributeDefinition<?>> definitions = new HashMap<>(keys.size());
+		keys.forEach((name, key) -> definitions.put(name, key.getDefinition()));
+		return definitions;
+	}
+
+	/**
+	 * Gets the {@link AttributeKey} of the attribute with the specified name, or {@code null} if it is not defined.
+	 *
+	 * @param name The name of the attribute.
+	 * @return The AttributeKey.
+	 */
+	public static AttributeKey getKey(String name) {
+		return keys.get(name);
+	}
+
+	/**
+	 * Gets the {@link AttributeKey}s of every defined attribute, indexed by their id.
+	 *
+	 * @return The unmodifiable {@link List} of AttributeKeys.
+	 */
+	public static List<AttributeKey> getKeys() {
+		return Collections.unmodifiableList(table);
 	}
 
 	/**
@@ -61,13 +136,97 @@ public final class AttributeMap {
 	 * @return {@code true} if the AttributeDefinition exists, {@code false} if not.
 	 */
 	public static boolean hasDefinition(String name) {
-		return definitions.containsKey(name);
+		return keys.containsKey(name);
 	}
 
 	/**
-	 * The map of attribute names to attributes.
+	 * Encodes the specified value of an attribute stored in a primitive slot.
+	 *
+	 * @param type The {@link AttributeType} of the attribute.
+	 * @param value The value.
+	 * @return The encoded value.
 	 */
-	private final Map<String, Attribute<?>> attributes = new HashMap<>(DEFAULT_MAP_SIZE);
+	static long encode(AttributeType type, Object value) {
+		switch (type) {
+			case BOOLEAN:
+				Preconditions.checkArgument(value instanceof Boolean, "Expected a boolean, received %s.", value);
+				return (Boolean) value ? 1 : 0;
+			case DOUBLE:
+				Preconditions.checkArgument(value instanceof Number, "Expected a number, received %s.", value);
+				return Double.doubleToRawLongBits(((Number) value).doubleValue());
+			case LONG:
+				Preconditions.checkArgument(value instanceof Number, "Expected a number, received %s.", value);
+				return ((Number) value).longValue();
+			default:
+				throw new IllegalArgumentException("Attributes of type " + type + " are not stored as primitives.");
+		}
+	}
+
+	/**
+	 * Throws an {@link IllegalArgumentException} if the specified {@link AttributeKey} is not of the specified
+	 * {@link AttributeType}.
+	 *
+	 * @param key The AttributeKey.
+	 * @param type The expected AttributeType.
+	 */
+	private static void checkType(AttributeKey key, AttributeType type) {
+		if (key.getType() != type) {
+			throw new IllegalArgumentException("Attribute " + key + " is a " + key.getType() + ", not a " + type + ".");
+		}
+	}
+
+	/**
+	 * Gets the {@link AttributeKey} of the attribute with the specified name, throwing a {@link NullPointerException}
+	 * if it is not defined.
+	 *
+	 * @param name The name of the attribute.
+	 * @param action The action being performed, for the exception message.
+	 * @return The AttributeKey.
+	 */
+	private static AttributeKey requireKey(String name, String action) {
+		AttributeKey key = keys.get(name);
+		Preconditions.checkNotNull(key, "Attributes must be defined before their value can be %s.", action);
+		return key;
+	}
+
+	/**
+	 * The flags indicating which attributes have been assigned, indexed by the id of their key.
+	 */
+	private long[] assigned = EMPTY_PRIMITIVES;
+
+	/**
+	 * The primitive slots.
+	 */
+	private long[] primitives = EMPTY_PRIMITIVES;
+
+	/**
+	 * The reference slots.
+	 */
+	private String[] references = EMPTY_REFERENCES;
+
+	/**
+	 * Creates a copy of this AttributeMap, containing only the {@link AttributePersistence#PERSISTENT persistent}
+	 * attributes that have been assigned.
+	 *
+	 * @return The copy.
+	 */
+	public AttributeMap copyPersistent() {
+		AttributeMap copy = new AttributeMap();
+
+		for (int id = 0; id < table.size(); id++) {
+			AttributeKey key = table.get(id);
+
+			if (key.isPersistent() && isAssigned(key)) {
+				if (key.isPrimitive()) {
+					copy.store(key, primitive(key));
+				} else {
+					copy.store(key, reference(key));
+				}
+			}
+		}
+
+		return copy;
+	}
 
 	/**
 	 * Gets the {@link Attribute} with the specified name.
@@ -77,19 +236,124 @@ public final class AttributeMap {
 	 */
 	@SuppressWarnings("unchecked")
 	public <T> Attribute<T> get(String name) {
-		AttributeDefinition<T> definition = getDefinition(name);
-		Preconditions.checkNotNull(definition, "Attributes must be defined before their value can be retreived.");
+		AttributeKey key = requireKey(name, "retrieved");
 
-		return (Attribute<T>) attributes.computeIfAbsent(name, key -> createAttribute(definition.getDefault(), definition.getType()));
+		switch (key.getType()) {
+			case BOOLEAN:
+				return (Attribute<T>) new BooleanAttribute(getBoolean(key));
+			case DOUBLE:
+				return (Attribute<T>) new NumericalAttribute(getDouble(key));
+			case LONG:
+				return (Attribute<T>) new NumericalAttribute(getLong(key));
+			case STRING:
+				return (Attribute<T>) new StringAttribute(getString(key));
+			case SYMBOL:
+				return (Attribute<T>) new StringAttribute(getString(key), true);
+		}
+
+		throw new IllegalArgumentException("Unrecognised type " + key.getType() + ".");
 	}
 
 	/**
-	 * Gets a shallow copy of the {@link Map} of {@link Attribute}s.
+	 * Gets the assigned {@link Attribute}s, as a {@link Map}.
 	 *
-	 * @return The attributes.
+	 * @return The map of attribute names to attributes.
 	 */
 	public Map<String, Attribute<?>> getAttributes() {
-		return new HashMap<>(attributes);
+		Map<String, Attribute<?>> attributes = new HashMap<>();
+
+		for (int id = 0; id < table.size(); id++) {
+			AttributeKey key = table.get(id);
+
+			if (isAssigned(key)) {
+				attributes.put(key.getName(), get(key.getName()));
+			}
+		}
+
+		return attributes;
+	}
+
+	/**
+	 * Gets the value of the {@code boolean} attribute with the specified {@link AttributeKey}.
+	 *
+	 * @param key The AttributeKey.
+	 * @return The value.
+	 */
+	public boolean getBoolean(AttributeKey key) {
+		checkType(key, AttributeType.BOOLEAN);
+		return primitive(key) != 0;
+	}
+
+	/**
+	 * Gets the value of the numerical attribute with the specified {@link AttributeKey}, as a {@code double}.
+	 *
+	 * @param key The AttributeKey.
+	 * @return The value.
+	 */
+	public double getDouble(AttributeKey key) {
+		if (key.getType() == AttributeType.LONG) {
+			return primitive(key);
+		}
+
+		checkType(key, AttributeType.DOUBLE);
+		return Double.longBitsToDouble(primitive(key));
+	}
+
+	/**
+	 * Gets the value of the {@code long} attribute with the specified {@link AttributeKey}.
+	 *
+	 * @param key The AttributeKey.
+	 * @return The value.
+	 */
+	public long getLong(AttributeKey key) {
+		checkType(key, AttributeType.LONG);
+		return primitive(key);
+	}
+
+	/**
+	 * Gets the value of the string or symbol attribute with the specified {@link AttributeKey}.
+	 *
+	 * @param key The AttributeKey.
+	 * @return The value.
+	 */
+	public String getString(AttributeKey key) {
+		if (key.isPrimitive()) {
+			throw new IllegalArgumentException("Attribute " + key + " is a " + key.getType() + ", not a string.");
+		}
+
+		return reference(key);
+	}
+
+	/**
+	 * Gets the value of the attribute with the specified {@link AttributeKey}, boxing it if it is a primitive.
+	 *
+	 * @param key The AttributeKey.
+	 * @return The value, as a {@link Boolean}, {@link Double}, {@link Long}, or {@link String}.
+	 */
+	public Object getValue(AttributeKey key) {
+		switch (key.getType()) {
+			case BOOLEAN:
+				return getBoolean(key);
+			case DOUBLE:
+				return getDouble(key);
+			case LONG:
+				return getLong(key);
+			default:
+				return getString(key);
+		}
+	}
+
+	/**
+	 * Returns whether or not the attribute with the specified {@link AttributeKey} has been assigned a value in this
+	 * map.
+	 *
+	 * @param key The AttributeKey.
+	 * @return {@code true} if the attribute has been assigned, {@code false} if it takes its default value.
+	 */
+	public boolean isAssigned(AttributeKey key) {
+		int id = key.getId();
+		int index = id >>> 6;
+		return index < assigned.length && (assigned[index] & 1L << id) != 0;
 	}
 
 	/**
@@ -99,32 +363,155 @@ public final class AttributeMap {
 	 * @param attribute The attribute.
 	 */
 	public void set(String name, Attribute<?> attribute) {
-		Preconditions.checkNotNull(getDefinition(name), "Attributes must be defined before their value can be set.");
-		attributes.put(name, attribute);
+		set(requireKey(name, "set"), attribute.getValue());
 	}
 
 	/**
-	 * Creates an {@link Attribute} with the specified value and {@link AttributeType}.
+	 * Sets the value of the attribute with the specified {@link AttributeKey}, converting numbers to the type of the
+	 * attribute and {@link RubySymbol}s to {@link String}s.
 	 *
-	 * @param value The value of the Attribute.
-	 * @param type The AttributeType.
-	 * @return The Attribute.
+	 * @param key The AttributeKey.
+	 * @param value The value.
 	 */
-	private <T> Attribute<?> createAttribute(T value, AttributeType type) {
-		switch (type) {
-			case LONG:
-				return new NumericalAttribute(((Number) value).longValue());
-			case DOUBLE:
-				return new NumericalAttribute((Double) value);
-			case STRING:
-				return new StringAttribute((String) value);
-			case SYMBOL:
-				return new StringAttribute(((RubySymbol) value).asJavaString(), true);
-			case BOOLEAN:
-				return new BooleanAttribute((Boolean) value);
+	public void set(AttributeKey key, Object value) {
+		if (key.isPrimitive()) {
+			store(key, encode(key.getType(), value));
+		} else {
+			Preconditions.checkNotNull(value, "Attribute values must not be null.");
+			store(key, value instanceof RubySymbol ? ((RubySymbol) value).asJavaString() : value.toString());
+		}
+	}
+
+	/**
+	 * Sets the value of the {@code boolean} attribute with the specified {@link AttributeKey}.
+	 *
+	 * @param key The AttributeKey.
+	 * @param value The value.
+	 */
+	public void setBoolean(AttributeKey key, boolean value) {
+		checkType(key, AttributeType.BOOLEAN);
+		store(key, value ? 1 : 0);
+	}
+
+	/**
+	 * Sets the value of the {@code double} attribute with the specified {@link AttributeKey}.
+	 *
+	 * @param key The AttributeKey.
+	 * @param value The value.
+	 */
+	public void setDouble(AttributeKey key, double value) {
+		checkType(key, AttributeType.DOUBLE);
+		store(key, Double.doubleToRawLongBits(value));
+	}
+
+	/**
+	 * Sets the value of the {@code long} attribute with the specified {@link AttributeKey}.
+	 *
+	 * @param key The AttributeKey.
+	 * @param value The value.
+	 */
+	public void setLong(AttributeKey key, long value) {
+		checkType(key, AttributeType.LONG);
+		store(key, value);
+	}
+
+	/**
+	 * Sets the value of the string or symbol attribute with the specified {@link AttributeKey}.
+	 *
+	 * @param key The AttributeKey.
+	 * @param value The value.
+	 */
+	public void setString(AttributeKey key, String value) {
+		if (key.isPrimitive()) {
+			throw new IllegalArgumentException("Attribute " + key + " is a " + key.getType() + ", not a string.");
+		}
+
+		store(key, Preconditions.checkNotNull(value, "Attribute values must not be null."));
+	}
+
+	/**
+	 * Gets the amount of attributes that have been assigned in this map.
+	 *
+	 * @return The amount of assigned attributes.
+	 */
+	public int size() {
+		int size = 0;
+		for (long flags : assigned) {
+			size += Long.bitCount(flags);
+		}
+
+		return size;
+	}
+
+	/**
+	 * Flags the attribute with the specified {@link AttributeKey} as assigned.
+	 *
+	 * @param key The AttributeKey.
+	 */
+	private void assign(AttributeKey key) {
+		int id = key.getId();
+		int index = id >>> 6;
+
+		if (index >= assigned.length) {
+			assigned = Arrays.copyOf(assigned, (table.size() + 63) >>> 6);
+		}
+
+		assigned[index] |= 1L << id;
+	}
+
+	/**
+	 * Gets the encoded value of the attribute with the specified {@link AttributeKey}, which is stored in a primitive
+	 * slot.
+	 *
+	 * @param key The AttributeKey.
+	 * @return The encoded value.
+	 */
+	private long primitive(AttributeKey key) {
+		int slot = key.getSlot();
+		return slot < primitives.length && isAssigned(key) ? primitives[slot] : key.getPrimitiveDefault();
+	}
+
+	/**
+	 * Gets the value of the attribute with the specified {@link AttributeKey}, which is stored in a reference slot.
+	 *
+	 * @param key The AttributeKey.
+	 * @return The value.
+	 */
+	private String reference(AttributeKey key) {
+		int slot = key.getSlot();
+		return slot < references.length && isAssigned(key) ? references[slot] : key.getReferenceDefault();
+	}
+
+	/**
+	 * Stores the encoded value of the attribute with the specified {@link AttributeKey} in its primitive slot.
+	 *
+	 * @param key The AttributeKey.
+	 * @param value The encoded value.
+	 */
+	private void store(AttributeKey key, long value) {
+		int slot = key.getSlot();
+		if (slot >= primitives.length) {
+			primitives = Arrays.copyOf(primitives, primitiveSlots);
+		}
+
+		primitives[slot] = value;
+		assign(key);
+	}
+
+	/**
+	 * Stores the value of the attribute with the specified {@link AttributeKey} in its reference slot.
+	 *
+	 * @param key The AttributeKey.
+	 * @param value The value.
+	 */
+	private void store(AttributeKey key, String value) {
+		int slot = key.getSlot();
+		if (slot >= references.length) {
+			references = Arrays.copyOf(references, referenceSlots);
 		}
 
-		throw new IllegalArgumentException("Unrecognised type " + type + ".");
+		references[slot] = value;
+		assign(key);
 	}
 
-}
\ No newline at end of file
+}
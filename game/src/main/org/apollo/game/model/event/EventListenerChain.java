@@ -2,6 +2,7 @@ package org.apollo.game.model.event;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.google.common.base.MoreObjects;
 
@@ -13,11 +14,21 @@ import com.google.common.base.MoreObjects;
  */
 final class EventListenerChain<E extends Event> {
 
+	/**
+	 * The amount of times this chain has been notified.
+	 */
+	private final LongAdder invocations = new LongAdder();
+
 	/**
 	 * The List of EventListeners.
 	 */
 	private final List<EventListener<E>> listeners = new ArrayList<>();
 
+	/**
+	 * The total time spent notifying the listeners in this chain, in nanoseconds.
+	 */
+	private final LongAdder time = new LongAdder();
+
 	/**
 	 * The Class type of this chain.
 	 */
@@ -41,6 +52,24 @@ final class EventListenerChain<E extends Event> {
 		listeners.add(listener);
 	}
 
+	/**
+	 * Gets the {@link EventStatistics} of this chain.
+	 *
+	 * @return The EventStatistics.
+	 */
+	public EventStatistics getStatistics() {
+		return new EventStatistics(invocations.sum(), time.sum());
+	}
+
+	/**
+	 * Gets the {@link Class} type of this chain.
+	 *
+	 * @return The type.
+	 */
+	public Class<E> getType() {
+		return type;
+	}
+
 	/**
 	 * Notifies each {@link EventListener} in this chain that an {@link Event} has occurred.
 	 *
@@ -48,15 +77,22 @@ final class EventListenerChain<E extends Event> {
 	 * @return {@code true} if the Event should continue on with its outcome, {@code false} if not.
 	 */
 	public boolean notify(E event) {
-		for (EventListener<E> listener : listeners) {
-			listener.handle(event);
+		long start = System.nanoTime();
+
+		try {
+			for (EventListener<E> listener : listeners) {
+				listener.handle(event);
 
-			if (event.terminated()) {
-				return false;
+				if (event.terminated()) {
+					return false;
+				}
 			}
-		}
 
-		return true;
+			return true;
+		} finally {
+			invocations.increment();
+			time.add(System.nanoTime() - start);
+		}
 	}
 
 	@Override
@@ -1,19 +1,55 @@
 package org.apollo.game.model.event;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.google.common.collect.ImmutableMap;
+
 /**
  * A set of {@link EventListenerChain}s.
+ * <p>
+ * Each {@link Event} type is assigned an integer identifier the first time it is seen (typically when a listener is
+ * registered for it), and chains are stored in an array indexed by that identifier. Resolving the identifier of an
+ * Event type is done through a {@link ClassValue}, so notifying listeners does not hash the Event's class.
  *
  * @author Major
  */
 public final class EventListenerChainSet {
 
 	/**
-	 * The Map of Event Classes to EventListenerChains.
+	 * The Map of Event Classes to their identifiers. Only accessed whilst holding the lock on this Map.
+	 */
+	private final Map<Class<? extends Event>, Integer> identifiers = new HashMap<>();
+
+	/**
+	 * The cache of Event Classes to their identifiers.
+	 */
+	private final ClassValue<Integer> types = new ClassValue<Integer>() {
+
+		@Override
+		@SuppressWarnings("unchecked")
+		protected Integer computeValue(Class<?> type) {
+			return identify((Class<? extends Event>) type);
+		}
+
+	};
+
+	/**
+	 * The array of EventListenerChains, indexed by Event identifier.
 	 */
-	private final Map<Class<? extends Event>, EventListenerChain<? extends Event>> chains = new HashMap<>();
+	private volatile EventListenerChain<?>[] chains = new EventListenerChain<?>[0];
+
+	/**
+	 * Returns whether or not any {@link EventListener}s are registered for the specified type of {@link Event}. Hot
+	 * call sites should use this to avoid creating an Event that nothing will observe.
+	 *
+	 * @param type The {@link Class} type of the Event.
+	 * @return {@code true} if at least one EventListener is registered for the type, {@code false} if not.
+	 */
+	public boolean hasListeners(Class<? extends Event> type) {
+		return chainOf(types.get(type)) != null;
+	}
 
 	/**
 	 * Notifies the appropriate {@link EventListenerChain} that an {@link Event} has occurred.
@@ -23,7 +59,7 @@ public final class EventListenerChainSet {
 	 */
 	public <E extends Event> boolean notify(E event) {
 		@SuppressWarnings("unchecked")
-		EventListenerChain<E> chain = (EventListenerChain<E>) chains.get(event.getClass());
+		EventListenerChain<E> chain = (EventListenerChain<E>) chainOf(types.get(event.getClass()));
 		return chain == null || chain.notify(event);
 	}
 
@@ -33,10 +69,64 @@ public final class EventListenerChainSet {
 	 * @param clazz The {@link Class} to associate the EventListenerChain with.
 	 * @param listener The EventListenerChain.
 	 */
-	public <E extends Event> void putListener(Class<E> clazz, EventListener<E> listener) {
+	public synchronized <E extends Event> void putListener(Class<E> clazz, EventListener<E> listener) {
+		int id = types.get(clazz);
+		EventListenerChain<?>[] chains = this.chains;
+
+		if (id >= chains.length) {
+			chains = Arrays.copyOf(chains, id + 1);
+		}
+
 		@SuppressWarnings("unchecked")
-		EventListenerChain<E> chain = (EventListenerChain<E>) chains.computeIfAbsent(clazz, EventListenerChain::new);
+		EventListenerChain<E> chain = (EventListenerChain<E>) chains[id];
+		if (chain == null) {
+			chain = new EventListenerChain<>(clazz);
+			chains[id] = chain;
+		}
+
 		chain.addListener(listener);
+		this.chains = chains;
+	}
+
+	/**
+	 * Gets the {@link EventStatistics} of every {@link Event} type that has at least one {@link EventListener}.
+	 *
+	 * @return The {@link ImmutableMap} of Event types to EventStatistics.
+	 */
+	public ImmutableMap<Class<? extends Event>, EventStatistics> getStatistics() {
+		ImmutableMap.Builder<Class<? extends Event>, EventStatistics> builder = ImmutableMap.builder();
+
+		for (EventListenerChain<?> chain : chains) {
+			if (chain != null) {
+				builder.put(chain.getType(), chain.getStatistics());
+			}
+		}
+
+		return builder.build();
+	}
+
+	/**
+	 * Gets the {@link EventListenerChain} with the specified identifier.
+	 *
+	 * @param id The identifier of the {@link Event} type.
+	 * @return The EventListenerChain, or {@code null} if no listeners are registered for the type.
+	 */
+	private EventListenerChain<?> chainOf(int id) {
+		EventListenerChain<?>[] chains = this.chains;
+		return id < chains.length ? chains[id] : null;
+	}
+
+	/**
+	 * Gets the identifier of the specified {@link Event} type, assigning the next free identifier if the type has not
+	 * been seen before.
+	 *
+	 * @param type The {@link Class} type of the Event.
+	 * @return The identifier.
+	 */
+	private int identify(Class<? extends Event> type) {
+		synchronized (identifiers) {
+			return identifiers.computeIfAbsent(type, key -> identifiers.size());
+		}
 	}
 
-}
\ No newline at end of file
+}
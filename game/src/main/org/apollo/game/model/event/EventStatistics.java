@@ -0,0 +1,65 @@
+package org.apollo.game.model.event;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * A snapshot of the invocation count and time spent notifying the {@link EventListener}s of a type of {@link Event}.
+ *
+ * @author Major
+ */
+public final class EventStatistics {
+
+	/**
+	 * The amount of times the Event was submitted.
+	 */
+	private final long invocations;
+
+	/**
+	 * The total time spent in the EventListeners, in nanoseconds.
+	 */
+	private final long time;
+
+	/**
+	 * Creates the EventStatistics.
+	 *
+	 * @param invocations The amount of times the {@link Event} was submitted.
+	 * @param time The total time spent in the {@link EventListener}s, in nanoseconds.
+	 */
+	public EventStatistics(long invocations, long time) {
+		this.invocations = invocations;
+		this.time = time;
+	}
+
+	/**
+	 * Gets the mean time spent notifying the {@link EventListener}s, in nanoseconds.
+	 *
+	 * @return The mean time, or {@code 0} if the {@link Event} has never been submitted.
+	 */
+	public long getAverageTime() {
+		return invocations == 0 ? 0 : time / invocations;
+	}
+
+	/**
+	 * Gets the amount of times the {@link Event} was submitted.
+	 *
+	 * @return The amount of invocations.
+	 */
+	public long getInvocations() {
+		return invocations;
+	}
+
+	/**
+	 * Gets the total time spent notifying the {@link EventListener}s, in nanoseconds.
+	 *
+	 * @return The total time.
+	 */
+	public long getTime() {
+		return time;
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this).add("invocations", invocations).add("time", time).toString();
+	}
+
+}
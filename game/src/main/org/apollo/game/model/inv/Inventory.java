@@ -2,7 +2,10 @@ package org.apollo.game.model.inv;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.apollo.cache.def.ItemDefinition;
@@ -68,6 +71,16 @@ public final class Inventory {
 	 */
 	private final StackMode mode;
 
+	/**
+	 * The slots that contain an item - a clear bit is a free slot.
+	 */
+	private final BitSet occupied = new BitSet();
+
+	/**
+	 * The slots containing each item, indexed by item id. Only ids that are in this inventory have an entry.
+	 */
+	private final Map<Integer, BitSet> slots = new HashMap<>();
+
 	/**
 	 * The size of this inventory - the number of 'used slots'.
 	 */
@@ -152,13 +165,11 @@ public final class Inventory {
 		try {
 			Item single = new Item(item.getId(), 1);
 
-			for (int slot = 0; slot < capacity; slot++) {
-				if (items[slot] == null) {
-					set(slot, single); // share the instances
+			for (int slot = occupied.nextClearBit(0); slot < capacity; slot = occupied.nextClearBit(slot + 1)) {
+				set(slot, single); // share the instances
 
-					if (--remaining <= 0) {
-						return Optional.empty();
-					}
+				if (--remaining <= 0) {
+					return Optional.empty();
 				}
 			}
 		} finally {
@@ -203,12 +214,11 @@ public final class Inventory {
             return remaining > 0 ? Optional.of(new Item(id, remaining)) : Optional.empty();
         }
 
-		for (slot = 0; slot < capacity; slot++) {
-            if (items[slot] == null) {
-                set(slot, item);
-                return Optional.empty();
-            }
-        }
+		slot = occupied.nextClearBit(0);
+		if (slot < capacity) {
+			set(slot, item);
+			return Optional.empty();
+		}
 
 		notifyCapacityExceeded();
 		return Optional.of(item);
@@ -250,6 +260,8 @@ public final class Inventory {
 	public void clear() {
 		items = new Item[capacity];
 		size = 0;
+		occupied.clear();
+		slots.clear();
 		notifyItemsUpdated();
 	}
 
@@ -260,8 +272,10 @@ public final class Inventory {
 	 */
 	public Inventory duplicate() {
 		Inventory copy = new Inventory(capacity, mode);
-		System.arraycopy(items, 0, copy.items, 0, capacity);
-		copy.size = size;
+		for (int slot = occupied.nextSetBit(0); slot != -1; slot = occupied.nextSetBit(slot + 1)) {
+			copy.put(slot, items[slot]);
+		}
+
 		return copy;
 	}
 
@@ -350,19 +364,8 @@ public final class Inventory {
 			return slot == -1 ? 0 : items[slot].getAmount();
 		}
 
-		int amount = 0, used = 0;
-		for (int index = 0; index < capacity && used <= size; index++) {
-			Item item = items[index];
-
-			if (item != null) {
-				if (item.getId() == id) {
-					amount++;
-				}
-
-				used++;
-			}
-		}
-		return amount;
+		BitSet indexed = slots.get(id);
+		return indexed == null ? 0 : indexed.cardinality();
 	}
 
 	/**
@@ -423,6 +426,39 @@ public final class Inventory {
 		}
 	}
 
+	/**
+	 * Places the specified item in the specified slot, keeping the size, free slots and slot index of this inventory
+	 * consistent. Listeners are not notified.
+	 *
+	 * @param slot The slot.
+	 * @param item The item, or {@code null} to empty the slot.
+	 * @return The item that was in the slot.
+	 */
+	private Item put(int slot, Item item) {
+		Item old = items[slot];
+
+		if (old != null) {
+			BitSet indexed = slots.get(old.getId());
+			indexed.clear(slot);
+
+			if (indexed.isEmpty()) {
+				slots.remove(old.getId());
+			}
+
+			occupied.clear(slot);
+			size--;
+		}
+
+		if (item != null) {
+			slots.computeIfAbsent(item.getId(), id -> new BitSet()).set(slot);
+			occupied.set(slot);
+			size++;
+		}
+
+		items[slot] = item;
+		return old;
+	}
+
 	/**
 	 * Removes one item with the specified id.
 	 *
@@ -481,22 +517,20 @@ public final class Inventory {
 			return 0;
 		}
 
+		BitSet indexed = slots.get(id);
+		if (indexed == null) {
+			return 0;
+		}
+
 		int removed = 0;
 
 		stopFiringEvents();
 
 		try {
-			for (int slot = 0; slot < capacity; slot++) {
-				Item item = items[slot];
-				if (item != null && item.getId() == id) {
-					set(slot, null);
-
-					if (++removed >= amount) {
-						break;
-					}
-				}
+			for (int slot = indexed.nextSetBit(0); slot != -1 && removed < amount; slot = indexed.nextSetBit(slot + 1)) {
+				set(slot, null);
+				removed++;
 			}
-
 		} finally {
 			startFiringEvents();
 
@@ -568,12 +602,7 @@ public final class Inventory {
 	public Item reset(int slot) {
 		checkBounds(slot);
 
-		Item old = items[slot];
-		if (old != null) {
-			size--;
-		}
-
-		items[slot] = null;
+		Item old = put(slot, null);
 		notifyItemUpdated(slot);
 		return old;
 	}
@@ -591,12 +620,7 @@ public final class Inventory {
 		}
 		checkBounds(slot);
 
-		Item old = items[slot];
-		if (old == null) {
-			size++;
-		}
-
-		items[slot] = item;
+		Item old = put(slot, item);
 		notifyItemUpdated(slot);
 		return old;
 	}
@@ -605,12 +629,12 @@ public final class Inventory {
 	 * Shifts all items to the top left of the container, leaving no gaps.
 	 */
 	public void shift() {
-		Item[] old = items;
-		items = new Item[capacity];
-		for (int slot = 0, position = 0; slot < items.length; slot++) {
-			if (old[slot] != null) {
-				items[position++] = old[slot];
+		for (int slot = occupied.nextSetBit(0), position = 0; slot != -1; slot = occupied.nextSetBit(slot + 1)) {
+			if (slot != position) {
+				put(position, put(slot, null));
 			}
+
+			position++;
 		}
 
 		if (firingEvents) {
@@ -634,19 +658,8 @@ public final class Inventory {
 	 * @return The first slot containing the specified item, or {@code -1} if none of the slots matched the conditions.
 	 */
 	public int slotOf(int id) {
-		int used = 0;
-		for (int slot = 0; slot < capacity && used <= size; slot++) {
-			Item item = items[slot];
-
-			if (item != null) {
-				if (item.getId() == id) {
-					return slot;
-				}
-
-				used++;
-			}
-		}
-		return -1;
+		BitSet indexed = slots.get(id);
+		return indexed == null ? -1 : indexed.nextSetBit(0);
 	}
 
 	/**
@@ -685,9 +698,8 @@ public final class Inventory {
 			}
 			forceRefresh();
 		} else {
-			Item item = items[oldSlot];
-			items[oldSlot] = items[newSlot];
-			items[newSlot] = item;
+			Item item = put(oldSlot, items[newSlot]);
+			put(newSlot, item);
 			notifyItemUpdated(oldSlot);
 			notifyItemUpdated(newSlot);
 		}
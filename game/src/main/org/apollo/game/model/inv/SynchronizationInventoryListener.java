@@ -1,5 +1,7 @@
 package org.apollo.game.model.inv;
 
+import java.util.BitSet;
+
 import org.apollo.game.message.impl.UpdateItemsMessage;
 import org.apollo.game.message.impl.UpdateSlottedItemsMessage;
 import org.apollo.game.model.Item;
@@ -7,6 +9,10 @@ import org.apollo.game.model.entity.Player;
 
 /**
  * An {@link InventoryListener} which synchronizes the state of the server's inventory with the client's.
+ * <p>
+ * Changes are not sent immediately: the slots that changed are recorded, and the listener is queued on the
+ * {@link Player}, which {@link #flush flushes} it once per tick (before synchronization). Any number of changes made
+ * to an inventory during a single tick therefore result in at most one message.
  *
  * @author Graham
  */
@@ -22,6 +28,11 @@ public final class SynchronizationInventoryListener extends InventoryAdapter {
 	 */
 	public static final int INVENTORY_ID = 3214;
 
+	/**
+	 * The slots that have changed since the last flush.
+	 */
+	private final BitSet dirty = new BitSet();
+
 	/**
 	 * The interface id.
 	 */
@@ -32,6 +43,16 @@ public final class SynchronizationInventoryListener extends InventoryAdapter {
 	 */
 	private final Player player;
 
+	/**
+	 * The Inventory that changed since the last flush, or {@code null} if nothing has changed.
+	 */
+	private Inventory inventory;
+
+	/**
+	 * Whether or not every slot must be sent during the next flush.
+	 */
+	private boolean refresh;
+
 	/**
 	 * Creates the synchronization inventory listener.
 	 *
@@ -43,14 +64,56 @@ public final class SynchronizationInventoryListener extends InventoryAdapter {
 		this.interfaceId = interfaceId;
 	}
 
+	/**
+	 * Sends the changes made since the last flush to the client, if there are any. A full update is sent if every slot
+	 * was refreshed or if at least half of the slots changed, otherwise only the changed slots are sent.
+	 */
+	public void flush() {
+		if (inventory == null) {
+			return;
+		}
+
+		int changed = dirty.cardinality();
+		if (refresh || changed * 2 >= inventory.capacity()) {
+			player.send(new UpdateItemsMessage(interfaceId, inventory.getItems()));
+		} else {
+			SlottedItem[] items = new SlottedItem[changed];
+
+			for (int slot = dirty.nextSetBit(0), index = 0; slot != -1; slot = dirty.nextSetBit(slot + 1)) {
+				items[index++] = new SlottedItem(slot, inventory.get(slot));
+			}
+
+			player.send(new UpdateSlottedItemsMessage(interfaceId, items));
+		}
+
+		dirty.clear();
+		refresh = false;
+		inventory = null;
+	}
+
 	@Override
 	public void itemsUpdated(Inventory inventory) {
-		player.send(new UpdateItemsMessage(interfaceId, inventory.getItems()));
+		refresh = true;
+		queue(inventory);
 	}
 
 	@Override
 	public void itemUpdated(Inventory inventory, int slot, Item item) {
-		player.send(new UpdateSlottedItemsMessage(interfaceId, new SlottedItem(slot, item)));
+		dirty.set(slot);
+		queue(inventory);
+	}
+
+	/**
+	 * Queues this listener to be flushed, if it has not already been queued since the last flush.
+	 *
+	 * @param inventory The Inventory that changed.
+	 */
+	private void queue(Inventory inventory) {
+		if (this.inventory == null) {
+			player.queueInventoryUpdate(this);
+		}
+
+		this.inventory = inventory;
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,26 @@
+package org.apollo.game.plugin;
+
+import org.apollo.game.model.World;
+
+/**
+ * A plugin written in Java, which is loaded by the {@link JavaPluginEnvironment}. Implementations are listed in the
+ * {@code classes} element of a {@code plugin.xml} file, and must have a public no-argument constructor.
+ * <p>
+ * Java plugins register message handlers and event listeners directly, so the server calls them without crossing the
+ * Ruby/Java boundary. This makes them suited to content on hot paths, such as handlers for walking or mob position
+ * updates.
+ *
+ * @author Major
+ */
+@FunctionalInterface
+public interface JavaPlugin {
+
+	/**
+	 * Starts this plugin, registering its handlers and listeners.
+	 *
+	 * @param world The {@link World} the plugin is for.
+	 * @param context The {@link PluginContext}.
+	 */
+	void start(World world, PluginContext context);
+
+}
@@ -0,0 +1,171 @@
+package org.apollo.game.plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apollo.game.model.World;
+
+/**
+ * A {@link PluginEnvironment} which loads plugins written in Java. Each class listed in a plugin's {@code classes}
+ * element must implement {@link JavaPlugin}, and is loaded from the server's classpath, the {@code .jar} files in the
+ * plugin's folder, or the {@code .jar} files of the plugins it depends on (in that order).
+ *
+ * @author Major
+ */
+public final class JavaPluginEnvironment implements PluginEnvironment {
+
+	/**
+	 * A {@link URLClassLoader} for the jars of a plugin, which loads classes that are not on the server's classpath or
+	 * in those jars from the ClassLoaders of the plugins it depends on.
+	 */
+	private static final class PluginClassLoader extends URLClassLoader {
+
+		static {
+			registerAsParallelCapable();
+		}
+
+		/**
+		 * The ClassLoaders of the plugins this plugin depends on.
+		 */
+		private final List<ClassLoader> dependencies;
+
+		/**
+		 * Creates the PluginClassLoader.
+		 *
+		 * @param urls The {@link URL}s of the jars of the plugin.
+		 * @param parent The parent ClassLoader, which loads the server's classes.
+		 * @param dependencies The ClassLoaders of the plugins this plugin depends on.
+		 */
+		public PluginClassLoader(URL[] urls, ClassLoader parent, List<ClassLoader> dependencies) {
+			super(urls, parent);
+			this.dependencies = dependencies;
+		}
+
+		@Override
+		protected Class<?> findClass(String name) throws ClassNotFoundException {
+			try {
+				return super.findClass(name);
+			} catch (ClassNotFoundException cause) {
+				for (ClassLoader dependency : dependencies) {
+					try {
+						return dependency.loadClass(name);
+					} catch (ClassNotFoundException ignored) {
+						// Try the next dependency.
+					}
+				}
+
+				throw cause;
+			}
+		}
+
+	}
+
+	/**
+	 * The PluginContext.
+	 */
+	private PluginContext context;
+
+	/**
+	 * The Map of plugin ids to the ClassLoaders of the plugins that have been loaded.
+	 */
+	private final Map<String, ClassLoader> loaders = new HashMap<>();
+
+	/**
+	 * The World this environment is for.
+	 */
+	private final World world;
+
+	/**
+	 * Creates the JavaPluginEnvironment.
+	 *
+	 * @param world The {@link World} this JavaPluginEnvironment is for.
+	 */
+	public JavaPluginEnvironment(World world) {
+		this.world = world;
+	}
+
+	@Override
+	public void load(PluginMetaData plugin) throws IOException {
+		ClassLoader loader = createClassLoader(plugin);
+		loaders.put(plugin.getId(), loader);
+
+		for (String name : plugin.getClasses()) {
+			create(loader, name).start(world, context);
+		}
+	}
+
+	@Override
+	public void prepare(Collection<PluginMetaData> plugins) {
+		// Classes are loaded lazily, so there is nothing to prepare.
+	}
+
+	@Override
+	public void setContext(PluginContext context) {
+		this.context = context;
+	}
+
+	/**
+	 * Creates the {@link JavaPlugin} with the specified class name.
+	 *
+	 * @param loader The {@link ClassLoader} to load the class with.
+	 * @param name The fully-qualified name of the class.
+	 * @return The JavaPlugin.
+	 * @throws IOException If the class could not be loaded, does not implement JavaPlugin, or could not be
+	 *             instantiated.
+	 */
+	private JavaPlugin create(ClassLoader loader, String name) throws IOException {
+		try {
+			Class<?> type = Class.forName(name, true, loader);
+			if (!JavaPlugin.class.isAssignableFrom(type)) {
+				throw new IOException("Plugin class " + name + " does not implement " + JavaPlugin.class.getName() + ".");
+			}
+
+			return type.asSubclass(JavaPlugin.class).newInstance();
+		} catch (ReflectiveOperationException e) {
+			throw new IOException("Error loading plugin class " + name + ".", e);
+		}
+	}
+
+	/**
+	 * Creates the {@link ClassLoader} for the specified plugin. Like any {@link URLClassLoader}, it loads classes from
+	 * the server's classpath first, and only then from the {@code .jar} files in the plugin's folder, followed by the
+	 * ClassLoaders of the plugins it depends on (which must have been loaded already).
+	 *
+	 * @param plugin The {@link PluginMetaData} of the plugin.
+	 * @return The ClassLoader.
+	 * @throws MalformedURLException If the path to a jar could not be converted to a {@link URL}.
+	 */
+	private ClassLoader createClassLoader(PluginMetaData plugin) throws MalformedURLException {
+		ClassLoader parent = JavaPluginEnvironment.class.getClassLoader();
+		File[] jars = plugin.getBase().listFiles((directory, name) -> name.endsWith(".jar"));
+
+		List<ClassLoader> dependencies = new ArrayList<>();
+		for (String id : plugin.getDependencies()) {
+			ClassLoader loader = loaders.get(id);
+
+			if (loader != null && loader != parent && !dependencies.contains(loader)) {
+				dependencies.add(loader);
+			}
+		}
+
+		if ((jars == null || jars.length == 0) && dependencies.isEmpty()) {
+			return parent;
+		}
+
+		URL[] urls = new URL[jars == null ? 0 : jars.length];
+		for (int index = 0; index < urls.length; index++) {
+			urls[index] = jars[index].toURI().toURL();
+		}
+
+		return new PluginClassLoader(urls, parent, dependencies);
+	}
+
+}
@@ -1,21 +1,32 @@
 package org.apollo.game.plugin;
 
-import java.io.InputStream;
+import java.io.IOException;
+import java.util.Collection;
 
 /**
- * Represents some sort of environment that plugins could be executed in, e.g. {@code javax.script} or Jython.
+ * Represents some sort of environment that plugins could be executed in, e.g. {@code javax.script} or Jython. Every
+ * plugin is passed to every environment, in dependency order, and each environment loads the parts of the plugin
+ * written for it.
  *
  * @author Graham
  */
 public interface PluginEnvironment {
 
 	/**
-	 * Parses the input stream.
+	 * Loads the parts of the specified plugin that are written for this environment, if there are any.
 	 *
-	 * @param is The input stream.
-	 * @param name The name of the file.
+	 * @param plugin The {@link PluginMetaData} of the plugin.
+	 * @throws IOException If an I/O error occurs.
 	 */
-	public void parse(InputStream is, String name);
+	public void load(PluginMetaData plugin) throws IOException;
+
+	/**
+	 * Prepares this environment to load the specified plugins, before any of them are loaded. Work that does not
+	 * depend on the order plugins are loaded in (such as parsing scripts) may be started here, in the background.
+	 *
+	 * @param plugins The {@link Collection} of plugins that will be loaded.
+	 */
+	public void prepare(Collection<PluginMetaData> plugins);
 
 	/**
 	 * Sets the context for this environment.
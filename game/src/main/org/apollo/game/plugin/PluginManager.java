@@ -5,14 +5,20 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import org.apollo.game.io.PluginMetaDataParser;
@@ -26,6 +32,16 @@ import org.xml.sax.SAXException;
  */
 public final class PluginManager {
 
+	/**
+	 * The Logger for this class.
+	 */
+	private static final Logger logger = Logger.getLogger(PluginManager.class.getName());
+
+	/**
+	 * The amount of plugins listed in the summary of the slowest plugins to start.
+	 */
+	private static final int SLOWEST_PLUGINS = 5;
+
 	/**
 	 * A set of all author names.
 	 */
@@ -145,26 +161,51 @@ public final class PluginManager {
 	public void start() throws IOException, SAXException, DependencyException {
 		Map<String, PluginMetaData> plugins = createMap(findPlugins());
 		Set<PluginMetaData> started = new HashSet<>();
-
-		PluginEnvironment env = new RubyPluginEnvironment(world); // TODO isolate plugins if possible in the future!
-		env.setContext(context);
+		Map<String, Long> timings = new HashMap<>();
+		long start = System.nanoTime();
+
+		// TODO isolate plugins if possible in the future!
+		List<PluginEnvironment> environments = Arrays.asList(new RubyPluginEnvironment(world), new JavaPluginEnvironment(world));
+		for (PluginEnvironment env : environments) {
+			env.setContext(context);
+			env.prepare(plugins.values());
+		}
 
 		for (PluginMetaData plugin : plugins.values()) {
-			start(env, plugin, plugins, started);
+			start(environments, plugin, plugins, started, timings);
 		}
+
+		report(timings, System.nanoTime() - start);
 	}
 
 	/**
-	 * Starts a specific plugin.
+	 * Logs the time taken to start the plugins, and the plugins that were slowest to start.
 	 *
-	 * @param env The environment.
+	 * @param timings The {@link Map} of plugin ids to the time each plugin took to start, in nanoseconds.
+	 * @param total The total time taken to start the plugins, in nanoseconds.
+	 */
+	private void report(Map<String, Long> timings, long total) {
+		String slowest = timings.entrySet().stream().sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+			.limit(SLOWEST_PLUGINS).map(entry -> entry.getKey() + " (" + TimeUnit.NANOSECONDS.toMillis(entry.getValue()) + "ms)")
+			.collect(Collectors.joining(", "));
+
+		logger.info("Started " + timings.size() + " plugins in " + TimeUnit.NANOSECONDS.toMillis(total) + "ms, slowest: "
+			+ slowest + ".");
+	}
+
+	/**
+	 * Starts a specific plugin, after its dependencies, in every environment.
+	 *
+	 * @param environments The {@link List} of environments.
 	 * @param plugin The plugin.
 	 * @param plugins The plugin map.
 	 * @param started A set of started plugins.
+	 * @param timings The {@link Map} of plugin ids to the time each plugin took to start (excluding its dependencies),
+	 *            in nanoseconds.
 	 * @throws DependencyException If a dependency error occurs.
 	 * @throws IOException If an I/O error occurs.
 	 */
-	private void start(PluginEnvironment env, PluginMetaData plugin, Map<String, PluginMetaData> plugins, Set<PluginMetaData> started) throws DependencyException, IOException {
+	private void start(List<PluginEnvironment> environments, PluginMetaData plugin, Map<String, PluginMetaData> plugins, Set<PluginMetaData> started, Map<String, Long> timings) throws DependencyException, IOException {
 		// TODO check for cyclic dependencies! this way just won't cut it, we need an exception
 		if (started.contains(plugin)) {
 			return;
@@ -176,16 +217,17 @@ public final class PluginManager {
 			if (dependency == null) {
 				throw new DependencyException("Unresolved dependency: " + dependencyId + ".");
 			}
-			start(env, dependency, plugins, started);
+			start(environments, dependency, plugins, started, timings);
 		}
 
-		String[] scripts = plugin.getScripts();
-
-		for (String script : scripts) {
-			File scriptFile = new File(plugin.getBase(), script);
-			InputStream is = new FileInputStream(scriptFile);
-			env.parse(is, scriptFile.getAbsolutePath());
+		long start = System.nanoTime();
+		for (PluginEnvironment env : environments) {
+			env.load(plugin);
 		}
+
+		long elapsed = System.nanoTime() - start;
+		timings.put(plugin.getId(), elapsed);
+		logger.log(Level.FINE, "Started plugin {0} in {1}ms.", new Object[] { plugin.getId(), TimeUnit.NANOSECONDS.toMillis(elapsed) });
 	}
 
 }
\ No newline at end of file
@@ -14,6 +14,11 @@ public final class PluginMetaData {
 	 */
 	private final String[] authors;
 
+	/**
+	 * The plugin's Java classes.
+	 */
+	private final String[] classes;
+
 	/**
 	 * The plugin's dependencies.
 	 */
@@ -58,16 +63,18 @@ public final class PluginMetaData {
 	 * @param description The plugin's description.
 	 * @param authors The plugin's authors.
 	 * @param scripts The plugin's scripts.
+	 * @param classes The plugin's Java classes.
 	 * @param dependencies The plugin's dependencies.
 	 * @param version The plugin's version.
 	 */
-	public PluginMetaData(String id, File base, String name, String description, String[] authors, String[] scripts, String[] dependencies, double version) {
+	public PluginMetaData(String id, File base, String name, String description, String[] authors, String[] scripts, String[] classes, String[] dependencies, double version) {
 		this.id = id;
 		this.base = base;
 		this.name = name;
 		this.description = description;
 		this.authors = authors;
 		this.scripts = scripts;
+		this.classes = classes;
 		this.dependencies = dependencies;
 		this.version = version;
 	}
@@ -81,6 +88,15 @@ public final class PluginMetaData {
 		return authors;
 	}
 
+	/**
+	 * Gets the fully-qualified names of the plugin's Java classes, which implement {@link JavaPlugin}.
+	 *
+	 * @return The plugin's Java classes.
+	 */
+	public String[] getClasses() {
+		return classes;
+	}
+
 	/**
 	 * Gets the plugin's dependencies.
 	 *
@@ -4,34 +4,102 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apollo.game.model.World;
+import org.apollo.util.ThreadUtil;
+import org.apollo.util.xml.XmlNode;
+import org.apollo.util.xml.XmlParser;
+import org.jruby.Ruby;
+import org.jruby.RubyInstanceConfig.CompileMode;
+import org.jruby.ast.Node;
 import org.jruby.embed.ScriptingContainer;
+import org.xml.sax.SAXException;
 
 /**
  * A {@link PluginEnvironment} which uses Ruby.
+ * <p>
+ * Scripts are parsed ahead of time, in parallel, when the environment is {@link #prepare prepared}: parsing has no
+ * side effects, so the order of parsing does not matter. Scripts are then evaluated one plugin at a time, in
+ * dependency order, on the thread starting the plugins. The JRuby compile mode and the amount of parsing threads are
+ * read from {@code data/ruby.xml}.
  *
  * @author Graham
  */
 public final class RubyPluginEnvironment implements PluginEnvironment {
 
+	/**
+	 * The Path to the configuration file.
+	 */
+	private static final Path CONFIGURATION = Paths.get("data/ruby.xml");
+
+	/**
+	 * The compile mode used if none is specified in the configuration file.
+	 */
+	private static final CompileMode DEFAULT_COMPILE_MODE = CompileMode.JIT;
+
 	/**
 	 * The scripting container.
 	 */
 	private final ScriptingContainer container = new ScriptingContainer();
 
+	/**
+	 * The Map of script files to the results of parsing them, which are removed as the scripts are evaluated.
+	 */
+	private final Map<File, Future<Node>> parsed = new HashMap<>();
+
+	/**
+	 * The Ruby runtime of the scripting container.
+	 */
+	private final Ruby runtime;
+
+	/**
+	 * The amount of threads scripts are parsed with.
+	 */
+	private int threads = ThreadUtil.AVAILABLE_PROCESSORS;
+
 	/**
 	 * Creates and bootstraps the Ruby plugin environment.
 	 *
 	 * @param world The {@link World} this RubyPluginEnvironment is for.
 	 * @throws IOException If an I/O error occurs during bootstrapping.
+	 * @throws SAXException If the configuration file could not be parsed.
 	 */
-	public RubyPluginEnvironment(World world) throws IOException {
+	public RubyPluginEnvironment(World world) throws IOException, SAXException {
+		configure();
+		runtime = container.getProvider().getRuntime();
+
 		container.put("$world", world);
 		parseBootstrapper();
 	}
 
 	@Override
+	public void load(PluginMetaData plugin) throws IOException {
+		for (String script : plugin.getScripts()) {
+			File file = new File(plugin.getBase(), script);
+			Future<Node> future = parsed.remove(file);
+
+			Node node = future == null ? parse(file) : await(future, file);
+			run(node, file.getAbsolutePath());
+		}
+	}
+
+	/**
+	 * Parses the input stream.
+	 *
+	 * @param is The input stream.
+	 * @param name The name of the file.
+	 */
 	public void parse(InputStream is, String name) {
 		try {
 			container.runScriptlet(is, name);
@@ -41,6 +109,80 @@ public final class RubyPluginEnvironment implements PluginEnvironment {
 		}
 	}
 
+	@Override
+	public void prepare(Collection<PluginMetaData> plugins) {
+		ExecutorService executor = Executors.newFixedThreadPool(threads, ThreadUtil.create("PluginParser"));
+
+		for (PluginMetaData plugin : plugins) {
+			for (String script : plugin.getScripts()) {
+				File file = new File(plugin.getBase(), script);
+				parsed.put(file, executor.submit(() -> parse(file)));
+			}
+		}
+
+		executor.shutdown();
+	}
+
+	@Override
+	public void setContext(PluginContext context) {
+		container.put("$ctx", context);
+	}
+
+	/**
+	 * Waits for the specified script to be parsed.
+	 *
+	 * @param future The {@link Future} that will contain the parsed script.
+	 * @param file The script file.
+	 * @return The {@link Node} at the root of the parsed script.
+	 * @throws IOException If the script could not be read, or if the thread was interrupted.
+	 */
+	private Node await(Future<Node> future, File file) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while parsing " + file + ".");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+
+			cause.printStackTrace();
+			throw new RuntimeException("Error parsing scriptlet " + file.getAbsolutePath() + ".", cause);
+		}
+	}
+
+	/**
+	 * Configures the scripting container, using the configuration file if it exists. This must be called before the
+	 * Ruby runtime is created.
+	 *
+	 * @throws IOException If the configuration file could not be read.
+	 * @throws SAXException If the configuration file could not be parsed.
+	 */
+	private void configure() throws IOException, SAXException {
+		CompileMode mode = DEFAULT_COMPILE_MODE;
+
+		if (Files.exists(CONFIGURATION)) {
+			try (InputStream input = Files.newInputStream(CONFIGURATION)) {
+				XmlNode root = new XmlParser().parse(input);
+				XmlNode compile = root.getChild("compile-mode");
+				XmlNode parsers = root.getChild("parser-threads");
+
+				if (compile != null && compile.hasValue()) {
+					mode = CompileMode.valueOf(compile.getValue().trim());
+				}
+
+				if (parsers != null && parsers.hasValue()) {
+					int configured = Integer.parseInt(parsers.getValue().trim());
+					threads = configured > 0 ? configured : ThreadUtil.AVAILABLE_PROCESSORS;
+				}
+			}
+		}
+
+		container.setCompileMode(mode);
+	}
+
 	/**
 	 * Parses the bootstrapper.
 	 *
@@ -53,9 +195,32 @@ public final class RubyPluginEnvironment implements PluginEnvironment {
 		}
 	}
 
-	@Override
-	public void setContext(PluginContext context) {
-		container.put("$ctx", context);
+	/**
+	 * Parses the specified script file, without evaluating it.
+	 *
+	 * @param file The script file.
+	 * @return The {@link Node} at the root of the parsed script.
+	 * @throws IOException If the file could not be read.
+	 */
+	private Node parse(File file) throws IOException {
+		try (InputStream is = new FileInputStream(file)) {
+			return runtime.parseFile(is, file.getAbsolutePath(), null);
+		}
+	}
+
+	/**
+	 * Evaluates the specified parsed script, compiling it first if the compile mode requires it.
+	 *
+	 * @param node The {@link Node} at the root of the parsed script.
+	 * @param name The name of the file.
+	 */
+	private void run(Node node, String name) {
+		try {
+			runtime.runNormally(node);
+		} catch (Exception e) {
+			e.printStackTrace();
+			throw new RuntimeException("Error parsing scriptlet " + name + ".", e);
+		}
 	}
 
-}
\ No newline at end of file
+}
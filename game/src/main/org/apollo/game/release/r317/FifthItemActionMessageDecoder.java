@@ -1,27 +0,0 @@
-package org.apollo.game.release.r317;
-
-import org.apollo.game.message.impl.ItemActionMessage;
-import org.apollo.net.codec.game.DataOrder;
-import org.apollo.net.codec.game.DataTransformation;
-import org.apollo.net.codec.game.DataType;
-import org.apollo.net.codec.game.GamePacket;
-import org.apollo.net.codec.game.GamePacketReader;
-import org.apollo.net.release.MessageDecoder;
-
-/**
- * A {@link MessageDecoder} for the fifth {@link ItemActionMessage}.
- *
- * @author Graham
- */
-public final class FifthItemActionMessageDecoder extends MessageDecoder<ItemActionMessage> {
-
-	@Override
-	public ItemActionMessage decode(GamePacket packet) {
-		GamePacketReader reader = new GamePacketReader(packet);
-		int slot = (int) reader.getUnsigned(DataType.SHORT, DataOrder.LITTLE);
-		int interfaceId = (int) reader.getUnsigned(DataType.SHORT, DataTransformation.ADD);
-		int id = (int) reader.getUnsigned(DataType.SHORT, DataOrder.LITTLE);
-		return new ItemActionMessage(5, interfaceId, id, slot);
-	}
-
-}
\ No newline at end of file
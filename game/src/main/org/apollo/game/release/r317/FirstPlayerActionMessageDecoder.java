@@ -1,23 +0,0 @@
-package org.apollo.game.release.r317;
-
-import org.apollo.game.message.impl.PlayerActionMessage;
-import org.apollo.net.codec.game.DataType;
-import org.apollo.net.codec.game.GamePacket;
-import org.apollo.net.codec.game.GamePacketReader;
-import org.apollo.net.release.MessageDecoder;
-
-/**
- * A {@link MessageDecoder} for the first {@link PlayerActionMessage}.
- *
- * @author Major
- */
-public final class FirstPlayerActionMessageDecoder extends MessageDecoder<PlayerActionMessage> {
-
-	@Override
-	public PlayerActionMessage decode(GamePacket packet) {
-		GamePacketReader reader = new GamePacketReader(packet);
-		int index = (int) reader.getUnsigned(DataType.SHORT);
-		return new PlayerActionMessage(1, index);
-	}
-
-}
\ No newline at end of file
@@ -1,24 +0,0 @@
-package org.apollo.game.release.r317;
-
-import org.apollo.game.message.impl.NpcActionMessage;
-import org.apollo.net.codec.game.DataType;
-import org.apollo.net.codec.game.GamePacket;
-import org.apollo.net.codec.game.GamePacketReader;
-import org.apollo.net.release.MessageDecoder;
-
-/**
- * A {@link MessageDecoder} for the fourth {@link NpcActionMessage}.
- *
- * @author Stuart
- * @author Major
- */
-public final class FourthNpcActionMessageDecoder extends MessageDecoder<NpcActionMessage> {
-
-	@Override
-	public NpcActionMessage decode(GamePacket packet) {
-		GamePacketReader reader = new GamePacketReader(packet);
-		int index = (int) reader.getUnsigned(DataType.SHORT);
-		return new NpcActionMessage(4, index);
-	}
-
-}
\ No newline at end of file
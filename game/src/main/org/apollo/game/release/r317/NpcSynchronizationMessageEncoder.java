@@ -11,6 +11,7 @@ import org.apollo.game.sync.block.GraphicBlock;
 import org.apollo.game.sync.block.HitUpdateBlock;
 import org.apollo.game.sync.block.InteractingMobBlock;
 import org.apollo.game.sync.block.SecondaryHitUpdateBlock;
+import org.apollo.game.sync.block.SynchronizationBlock;
 import org.apollo.game.sync.block.SynchronizationBlockSet;
 import org.apollo.game.sync.block.TransformBlock;
 import org.apollo.game.sync.block.TurnToPositionBlock;
@@ -26,6 +27,8 @@ import org.apollo.net.codec.game.GamePacketBuilder;
 import org.apollo.net.meta.PacketType;
 import org.apollo.net.release.MessageEncoder;
 
+import com.google.common.collect.ImmutableMap;
+
 /**
  * A {@link MessageEncoder} for the {@link NpcSynchronizationMessage}.
  *
@@ -33,6 +36,21 @@ import org.apollo.net.release.MessageEncoder;
  */
 public final class NpcSynchronizationMessageEncoder extends MessageEncoder<NpcSynchronizationMessage> {
 
+	/**
+	 * The update flags of each type of {@link SynchronizationBlock}, indexed by ordinal.
+	 */
+	private static final int[] FLAGS = SynchronizationBlockSet.createFlags(ImmutableMap
+		.<Class<? extends SynchronizationBlock>, Integer>builder()
+		.put(AnimationBlock.class, 0x10)
+		.put(HitUpdateBlock.class, 0x8)
+		.put(GraphicBlock.class, 0x80)
+		.put(InteractingMobBlock.class, 0x20)
+		.put(ForceChatBlock.class, 0x1)
+		.put(SecondaryHitUpdateBlock.class, 0x40)
+		.put(TransformBlock.class, 0x2)
+		.put(TurnToPositionBlock.class, 0x4)
+		.build());
+
 	@Override
 	public GamePacket encode(NpcSynchronizationMessage message) {
 		GamePacketBuilder builder = new GamePacketBuilder(65, PacketType.VARIABLE_SHORT);
@@ -105,71 +123,39 @@ public final class NpcSynchronizationMessageEncoder extends MessageEncoder<NpcSy
 	private static void putBlocks(SynchronizationSegment segment, GamePacketBuilder builder) {
 		SynchronizationBlockSet blockSet = segment.getBlockSet();
 		if (blockSet.size() > 0) {
-			int mask = 0;
-
-			if (blockSet.contains(AnimationBlock.class)) {
-				mask |= 0x10;
-			}
-
-			if (blockSet.contains(HitUpdateBlock.class)) {
-				mask |= 0x8;
-			}
-
-			if (blockSet.contains(GraphicBlock.class)) {
-				mask |= 0x80;
-			}
-
-			if (blockSet.contains(InteractingMobBlock.class)) {
-				mask |= 0x20;
-			}
-
-			if (blockSet.contains(ForceChatBlock.class)) {
-				mask |= 0x1;
-			}
-
-			if (blockSet.contains(SecondaryHitUpdateBlock.class)) {
-				mask |= 0x40;
-			}
-
-			if (blockSet.contains(TransformBlock.class)) {
-				mask |= 0x2;
-			}
-
-			if (blockSet.contains(TurnToPositionBlock.class)) {
-				mask |= 0x4;
-			}
+			int mask = blockSet.getMask(FLAGS);
 
 			builder.put(DataType.BYTE, mask);
 
-			if (blockSet.contains(AnimationBlock.class)) {
+			if ((mask & 0x10) != 0) {
 				putAnimationBlock(blockSet.get(AnimationBlock.class), builder);
 			}
 
-			if (blockSet.contains(HitUpdateBlock.class)) {
+			if ((mask & 0x8) != 0) {
 				putHitUpdateBlock(blockSet.get(HitUpdateBlock.class), builder);
 			}
 
-			if (blockSet.contains(GraphicBlock.class)) {
+			if ((mask & 0x80) != 0) {
 				putGraphicBlock(blockSet.get(GraphicBlock.class), builder);
 			}
 
-			if (blockSet.contains(InteractingMobBlock.class)) {
+			if ((mask & 0x20) != 0) {
 				putInteractingMobBlock(blockSet.get(InteractingMobBlock.class), builder);
 			}
 
-			if (blockSet.contains(ForceChatBlock.class)) {
+			if ((mask & 0x1) != 0) {
 				putForceChatBlock(blockSet.get(ForceChatBlock.class), builder);
 			}
 
-			if (blockSet.contains(SecondaryHitUpdateBlock.class)) {
+			if ((mask & 0x40) != 0) {
 				putSecondHitUpdateBlock(blockSet.get(SecondaryHitUpdateBlock.class), builder);
 			}
 
-			if (blockSet.contains(TransformBlock.class)) {
+			if ((mask & 0x2) != 0) {
 				putTransformBlock(blockSet.get(TransformBlock.class), builder);
 			}
 
-			if (blockSet.contains(TurnToPositionBlock.class)) {
+			if ((mask & 0x4) != 0) {
 				putTurnToPositionBlock(blockSet.get(TurnToPositionBlock.class), builder);
 			}
 		}
@@ -20,6 +20,7 @@ import org.apollo.game.sync.block.GraphicBlock;
 import org.apollo.game.sync.block.HitUpdateBlock;
 import org.apollo.game.sync.block.InteractingMobBlock;
 import org.apollo.game.sync.block.SecondaryHitUpdateBlock;
+import org.apollo.game.sync.block.SynchronizationBlock;
 import org.apollo.game.sync.block.SynchronizationBlockSet;
 import org.apollo.game.sync.block.TurnToPositionBlock;
 import org.apollo.game.sync.seg.AddPlayerSegment;
@@ -35,6 +36,8 @@ import org.apollo.net.codec.game.GamePacketBuilder;
 import org.apollo.net.meta.PacketType;
 import org.apollo.net.release.MessageEncoder;
 
+import com.google.common.collect.ImmutableMap;
+
 /**
  * A {@link MessageEncoder} for the {@link PlayerSynchronizationMessage}.
  *
@@ -43,6 +46,23 @@ import org.apollo.net.release.MessageEncoder;
  */
 public final class PlayerSynchronizationMessageEncoder extends MessageEncoder<PlayerSynchronizationMessage> {
 
+	/**
+	 * The update flags of each type of {@link SynchronizationBlock}, indexed by ordinal.
+	 */
+	private static final int[] FLAGS = SynchronizationBlockSet.createFlags(ImmutableMap
+		.<Class<? extends SynchronizationBlock>, Integer>builder()
+		.put(ForceMovementBlock.class, 0x400)
+		.put(GraphicBlock.class, 0x100)
+		.put(AnimationBlock.class, 0x8)
+		.put(ForceChatBlock.class, 0x4)
+		.put(ChatBlock.class, 0x80)
+		.put(InteractingMobBlock.class, 0x1)
+		.put(AppearanceBlock.class, 0x10)
+		.put(TurnToPositionBlock.class, 0x2)
+		.put(HitUpdateBlock.class, 0x20)
+		.put(SecondaryHitUpdateBlock.class, 0x200)
+		.build());
+
 	@Override
 	public GamePacket encode(PlayerSynchronizationMessage message) {
 		GamePacketBuilder builder = new GamePacketBuilder(81, PacketType.VARIABLE_SHORT);
@@ -233,38 +253,7 @@ public final class PlayerSynchronizationMessageEncoder extends MessageEncoder<Pl
 	private static void putBlocks(SynchronizationSegment segment, GamePacketBuilder builder) {
 		SynchronizationBlockSet blockSet = segment.getBlockSet();
 		if (blockSet.size() > 0) {
-			int mask = 0;
-
-			if (blockSet.contains(ForceMovementBlock.class)) {
-				mask |= 0x400;
-			}
-			if (blockSet.contains(GraphicBlock.class)) {
-				mask |= 0x100;
-			}
-			if (blockSet.contains(AnimationBlock.class)) {
-				mask |= 0x8;
-			}
-			if (blockSet.contains(ForceChatBlock.class)) {
-				mask |= 0x4;
-			}
-			if (blockSet.contains(ChatBlock.class)) {
-				mask |= 0x80;
-			}
-			if (blockSet.contains(InteractingMobBlock.class)) {
-				mask |= 0x1;
-			}
-			if (blockSet.contains(AppearanceBlock.class)) {
-				mask |= 0x10;
-			}
-			if (blockSet.contains(TurnToPositionBlock.class)) {
-				mask |= 0x2;
-			}
-			if (blockSet.contains(HitUpdateBlock.class)) {
-				mask |= 0x20;
-			}
-			if (blockSet.contains(SecondaryHitUpdateBlock.class)) {
-				mask |= 0x200;
-			}
+			int mask = blockSet.getMask(FLAGS);
 
 			if (mask >= 0x100) {
 				mask |= 0x40;
@@ -273,34 +262,34 @@ public final class PlayerSynchronizationMessageEncoder extends MessageEncoder<Pl
 				builder.put(DataType.BYTE, mask);
 			}
 
-			if (blockSet.contains(ForceMovementBlock.class)) {
+			if ((mask & 0x400) != 0) {
 				putForceMovementBlock(blockSet.get(ForceMovementBlock.class), builder);
 			}
-			if (blockSet.contains(GraphicBlock.class)) {
+			if ((mask & 0x100) != 0) {
 				putGraphicBlock(blockSet.get(GraphicBlock.class), builder);
 			}
-			if (blockSet.contains(AnimationBlock.class)) {
+			if ((mask & 0x8) != 0) {
 				putAnimationBlock(blockSet.get(AnimationBlock.class), builder);
 			}
-			if (blockSet.contains(ForceChatBlock.class)) {
+			if ((mask & 0x4) != 0) {
 				putForceChatBlock(blockSet.get(ForceChatBlock.class), builder);
 			}
-			if (blockSet.contains(ChatBlock.class)) {
+			if ((mask & 0x80) != 0) {
 				putChatBlock(blockSet.get(ChatBlock.class), builder);
 			}
-			if (blockSet.contains(InteractingMobBlock.class)) {
+			if ((mask & 0x1) != 0) {
 				putInteractingMobBlock(blockSet.get(InteractingMobBlock.class), builder);
 			}
-			if (blockSet.contains(AppearanceBlock.class)) {
+			if ((mask & 0x10) != 0) {
 				putAppearanceBlock(blockSet.get(AppearanceBlock.class), builder);
 			}
-			if (blockSet.contains(TurnToPositionBlock.class)) {
+			if ((mask & 0x2) != 0) {
 				putTurnToPositionBlock(blockSet.get(TurnToPositionBlock.class), builder);
 			}
-			if (blockSet.contains(HitUpdateBlock.class)) {
+			if ((mask & 0x20) != 0) {
 				putHitUpdateBlock(blockSet.get(HitUpdateBlock.class), builder);
 			}
-			if (blockSet.contains(SecondaryHitUpdateBlock.class)) {
+			if ((mask & 0x200) != 0) {
 				putSecondHitUpdateBlock(blockSet.get(SecondaryHitUpdateBlock.class), builder);
 			}
 		}
@@ -1,24 +0,0 @@
-package org.apollo.game.release.r317;
-
-import org.apollo.game.message.impl.NpcActionMessage;
-import org.apollo.net.codec.game.DataTransformation;
-import org.apollo.net.codec.game.DataType;
-import org.apollo.net.codec.game.GamePacket;
-import org.apollo.net.codec.game.GamePacketReader;
-import org.apollo.net.release.MessageDecoder;
-
-/**
- * A {@link MessageDecoder} for the second {@link NpcActionMessage}.
- *
- * @author Major
- */
-public final class SecondNpcActionMessageDecoder extends MessageDecoder<NpcActionMessage> {
-
-	@Override
-	public NpcActionMessage decode(GamePacket packet) {
-		GamePacketReader reader = new GamePacketReader(packet);
-		int index = (int) reader.getSigned(DataType.SHORT, DataTransformation.ADD);
-		return new NpcActionMessage(2, index);
-	}
-
-}
\ No newline at end of file
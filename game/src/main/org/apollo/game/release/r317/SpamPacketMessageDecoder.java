@@ -1,5 +1,7 @@
 package org.apollo.game.release.r317;
 
+import io.netty.buffer.ByteBuf;
+
 import org.apollo.game.message.impl.SpamPacketMessage;
 import org.apollo.net.codec.game.GamePacket;
 import org.apollo.net.release.MessageDecoder;
@@ -13,7 +15,10 @@ public final class SpamPacketMessageDecoder extends MessageDecoder<SpamPacketMes
 
 	@Override
 	public SpamPacketMessage decode(GamePacket packet) {
-		return new SpamPacketMessage(packet.getPayload().array());
+		ByteBuf payload = packet.getPayload();
+		byte[] data = new byte[payload.readableBytes()];
+		payload.readBytes(data);
+		return new SpamPacketMessage(data);
 	}
 
 }
\ No newline at end of file
@@ -4,7 +4,6 @@ import org.apollo.game.message.impl.WalkMessage;
 import org.apollo.game.model.Position;
 import org.apollo.net.codec.game.DataOrder;
 import org.apollo.net.codec.game.DataTransformation;
-import org.apollo.net.codec.game.DataType;
 import org.apollo.net.codec.game.GamePacket;
 import org.apollo.net.codec.game.GamePacketReader;
 import org.apollo.net.release.MessageDecoder;
@@ -28,13 +27,13 @@ public final class WalkMessageDecoder extends MessageDecoder<WalkMessage> {
 		int steps = (length - 5) / 2;
 		int[][] path = new int[steps][2];
 
-		int x = (int) reader.getUnsigned(DataType.SHORT, DataOrder.LITTLE, DataTransformation.ADD);
+		int x = reader.getUnsignedShort(DataOrder.LITTLE, DataTransformation.ADD);
 		for (int i = 0; i < steps; i++) {
-			path[i][0] = (int) reader.getSigned(DataType.BYTE);
-			path[i][1] = (int) reader.getSigned(DataType.BYTE);
+			path[i][0] = reader.getSignedByte();
+			path[i][1] = reader.getSignedByte();
 		}
-		int y = (int) reader.getUnsigned(DataType.SHORT, DataOrder.LITTLE);
-		boolean run = reader.getUnsigned(DataType.BYTE, DataTransformation.NEGATE) == 1;
+		int y = reader.getUnsignedShort(DataOrder.LITTLE, DataTransformation.NONE);
+		boolean run = reader.getUnsignedByte(DataTransformation.NEGATE) == 1;
 
 		Position[] positions = new Position[steps + 1];
 		positions[0] = new Position(x, y);
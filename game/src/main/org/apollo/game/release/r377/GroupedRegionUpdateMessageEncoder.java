@@ -1,5 +1,10 @@
 package org.apollo.game.release.r377;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.util.Set;
+
 import org.apollo.game.message.impl.GroupedRegionUpdateMessage;
 import org.apollo.game.message.impl.RegionUpdateMessage;
 import org.apollo.game.model.Position;
@@ -11,6 +16,10 @@ import org.apollo.net.meta.PacketType;
 import org.apollo.net.release.MessageEncoder;
 import org.apollo.net.release.Release;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
 /**
  * A {@link MessageEncoder} for the {@link GroupedRegionUpdateMessage}.
  *
@@ -18,6 +27,14 @@ import org.apollo.net.release.Release;
  */
 public final class GroupedRegionUpdateMessageEncoder extends MessageEncoder<GroupedRegionUpdateMessage> {
 
+	/**
+	 * The encoded Sets of RegionUpdateMessages. The same Set is usually sent to every Player that can view a Region,
+	 * with only the position of the Region (relative to each Player) differing, so each Set is only encoded once. Sets
+	 * are compared by identity (so must not be modified once sent), and are evicted once they are garbage collected.
+	 */
+	private final LoadingCache<Set<RegionUpdateMessage>, ByteBuf> encoded = CacheBuilder.newBuilder().weakKeys()
+		.build(CacheLoader.from(this::encodeUpdates));
+
 	/**
 	 * The Release containing the MessageEncoders for the RegionUpdateMessages.
 	 */
@@ -40,7 +57,21 @@ public final class GroupedRegionUpdateMessageEncoder extends MessageEncoder<Grou
 		builder.put(DataType.BYTE, region.getLocalX(base));
 		builder.put(DataType.BYTE, DataTransformation.ADD, region.getLocalY(base));
 
-		for (RegionUpdateMessage update : message.getMessages()) {
+		ByteBuf header = builder.toGamePacket().getPayload();
+		ByteBuf updates = encoded.getUnchecked(message.getMessages()).duplicate();
+		return new GamePacket(183, PacketType.VARIABLE_SHORT, Unpooled.wrappedBuffer(header, updates));
+	}
+
+	/**
+	 * Encodes the specified {@link Set} of {@link RegionUpdateMessage}s.
+	 *
+	 * @param messages The RegionUpdateMessages.
+	 * @return The {@link ByteBuf} containing the encoded RegionUpdateMessages.
+	 */
+	private ByteBuf encodeUpdates(Set<RegionUpdateMessage> messages) {
+		GamePacketBuilder builder = new GamePacketBuilder(183, PacketType.VARIABLE_SHORT);
+
+		for (RegionUpdateMessage update : messages) {
 			@SuppressWarnings("unchecked")
 			MessageEncoder<RegionUpdateMessage> encoder = (MessageEncoder<RegionUpdateMessage>) release
 				.getMessageEncoder(update.getClass());
@@ -50,7 +81,7 @@ public final class GroupedRegionUpdateMessageEncoder extends MessageEncoder<Grou
 			builder.putBytes(packet.getPayload());
 		}
 
-		return builder.toGamePacket();
+		return builder.toGamePacket().getPayload();
 	}
 
 }
\ No newline at end of file
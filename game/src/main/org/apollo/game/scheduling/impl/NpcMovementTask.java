@@ -1,7 +1,9 @@
 package org.apollo.game.scheduling.impl;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Deque;
+import java.util.List;
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Random;
@@ -44,6 +46,11 @@ public final class NpcMovementTask extends ScheduledTask {
 	 */
 	private final SimplePathfindingAlgorithm algorithm;
 
+	/**
+	 * The List of dormant Npcs, which are not moved until they are woken.
+	 */
+	private final List<Npc> dormant = new ArrayList<>();
+
 	/**
 	 * The Queue of Npcs.
 	 */
@@ -71,11 +78,16 @@ public final class NpcMovementTask extends ScheduledTask {
 
 	@Override
 	public void execute() {
+		dormant.removeIf(npc -> !npc.isDormant() && npcs.offer(npc));
+
 		int count = RANDOM.nextInt(npcs.size() / 50 + 5);
 		for (int iterations = 0; iterations < count; iterations++) {
 			Npc npc = npcs.poll();
 			if (npc == null) {
 				break;
+			} else if (npc.isDormant()) {
+				dormant.add(npc);
+				continue;
 			}
 
 			Position[] boundary = npc.getBoundaries().get();
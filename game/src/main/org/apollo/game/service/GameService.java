@@ -3,6 +3,10 @@ package org.apollo.game.service;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
@@ -13,6 +17,9 @@ import org.apollo.Service;
 import org.apollo.game.GameConstants;
 import org.apollo.game.GamePulseHandler;
 import org.apollo.game.io.MessageHandlerChainSetParser;
+import org.apollo.game.journal.JournalWriter;
+import org.apollo.game.login.AdmissionController;
+import org.apollo.game.login.SuspendedPlayers;
 import org.apollo.game.message.handler.MessageHandlerChainSet;
 import org.apollo.game.model.World;
 import org.apollo.game.model.area.Region;
@@ -62,6 +69,21 @@ public final class GameService extends Service {
 
 	}
 
+	/**
+	 * The target duration of a pulse, in milliseconds, used to decide how many players to register each pulse.
+	 */
+	private static final int ADMISSION_TARGET = GameConstants.PULSE_DELAY / 2;
+
+	/**
+	 * The default maximum amount of players to register per cycle, if it is not specified in {@code login.xml}.
+	 */
+	private static final int DEFAULT_REGISTRATION_CEILING = 100;
+
+	/**
+	 * The directory journals are written to, if it is not specified in {@code journal.xml}.
+	 */
+	private static final String DEFAULT_JOURNAL_DIRECTORY = "data/journals";
+
 	/**
 	 * The amount of players to deregister per cycle. This is to ensure the saving threads don't get swamped with
 	 * requests and slow everything down.
@@ -69,7 +91,18 @@ public final class GameService extends Service {
 	private static final int DEREGISTRATIONS_PER_CYCLE = 50;
 
 	/**
-	 * The amount of players to register per cycle.
+	 * The amount of pulses a disconnected player remains in the world, waiting to reconnect, before they are
+	 * unregistered.
+	 */
+	private static final int RECONNECTION_GRACE_PULSES = 50;
+
+	/**
+	 * The amount of players to reconnect per cycle.
+	 */
+	private static final int RECONNECTIONS_PER_CYCLE = 50;
+
+	/**
+	 * The amount of players to register in the first cycle, before any cycles have been measured.
 	 */
 	private static final int REGISTRATIONS_PER_CYCLE = 25;
 
@@ -88,16 +121,51 @@ public final class GameService extends Service {
 	 */
 	private final Queue<LoginPlayerRequest> newPlayers = new ConcurrentLinkedQueue<>();
 
+	/**
+	 * The amount of LoginPlayers that have been added to the queue. Guarded by {@link #newPlayers}.
+	 */
+	private long enqueued;
+
+	/**
+	 * The amount of LoginPlayers that have been removed from the queue.
+	 */
+	private volatile long dequeued;
+
 	/**
 	 * The Queue of Players to remove.
 	 */
 	private final Queue<Player> oldPlayers = new ConcurrentLinkedQueue<>();
 
+	/**
+	 * The Queue of reconnecting Players to rebind to their new sessions.
+	 */
+	private final Queue<LoginPlayerRequest> reconnectingPlayers = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * The Players whose connection was lost, and who are waiting to reconnect.
+	 */
+	private final SuspendedPlayers suspendedPlayers = new SuspendedPlayers(RECONNECTION_GRACE_PULSES);
+
+	/**
+	 * The {@link AdmissionController} deciding how many players are registered each pulse.
+	 */
+	private AdmissionController admission;
+
 	/**
 	 * The {@link MessageHandlerChainSet}.
 	 */
 	private MessageHandlerChainSet handlers;
 
+	/**
+	 * The {@link JournalWriter} recording inbound traffic, or {@code null} if traffic is not being recorded.
+	 */
+	private JournalWriter journal;
+
+	/**
+	 * The directory journals are written to, or {@code null} if recording is disabled in {@code journal.xml}.
+	 */
+	private Path journalDirectory;
+
 	/**
 	 * The {@link ClientSynchronizer}.
 	 */
@@ -121,6 +189,10 @@ public final class GameService extends Service {
 	 */
 	public synchronized void finalizePlayerRegistration(Player player) {
 		world.register(player);
+		if (journal != null) {
+			journal.login(player);
+		}
+
 		Region region = world.getRegionRepository().fromPosition(player.getPosition());
 		region.addEntity(player);
 
@@ -135,9 +207,22 @@ public final class GameService extends Service {
 	 * @param player The player.
 	 */
 	public synchronized void finalizePlayerUnregistration(Player player) {
+		if (journal != null) {
+			journal.logout(player);
+		}
+
 		world.unregister(player);
 	}
 
+	/**
+	 * Gets the {@link JournalWriter} recording inbound traffic.
+	 *
+	 * @return The JournalWriter, or {@code null} if traffic is not being recorded.
+	 */
+	public JournalWriter getJournal() {
+		return journal;
+	}
+
 	/**
 	 * Gets the MessageHandlerChainSet
 	 *
@@ -147,11 +232,28 @@ public final class GameService extends Service {
 		return handlers;
 	}
 
+	/**
+	 * Gets the position of a queued registration, i.e. the amount of players that will be registered before it.
+	 *
+	 * @param ticket The ticket returned when the player was queued by {@link #registerPlayer}.
+	 * @return The position in the queue, or {@code 0} if the player is being registered.
+	 */
+	public long getQueuePosition(long ticket) {
+		return Math.max(0, ticket - dequeued);
+	}
+
 	/**
 	 * Called every pulse.
 	 */
 	public synchronized void pulse() {
-		finalizeRegistrations();
+		long start = System.nanoTime();
+		if (journal != null) {
+			journal.pulse();
+		}
+
+		finalizeReconnections();
+		int registrations = finalizeRegistrations();
+		expireSuspensions();
 		finalizeUnregistrations();
 
 		MobRepository<Player> players = world.getPlayerRepository();
@@ -163,18 +265,47 @@ public final class GameService extends Service {
 			}
 		}
 
+		if (journal != null) {
+			journal.synchronize();
+		}
+
 		world.pulse();
 		synchronizer.synchronize(players, world.getNpcRepository());
+		admission.pulseCompleted(System.nanoTime() - start, registrations);
 	}
 
 	/**
-	 * Registers a {@link Player} at the end of the next cycle.
+	 * Queues a {@link Player} to be registered, at the start of a later cycle.
 	 *
 	 * @param player The Player to register.
 	 * @param session the {@link LoginSession} of the Player.
+	 * @return The ticket of the registration, which can be passed to {@link #getQueuePosition}.
 	 */
-	public void registerPlayer(Player player, LoginSession session) {
-		newPlayers.add(new LoginPlayerRequest(player, session));
+	public long registerPlayer(Player player, LoginSession session) {
+		synchronized (newPlayers) {
+			newPlayers.add(new LoginPlayerRequest(player, session));
+			return enqueued++;
+		}
+	}
+
+	/**
+	 * Attempts to reconnect the session to the {@link Player} with the specified username, if that Player lost their
+	 * connection within the grace period. The Player is rebound to the session at the start of the next cycle, without
+	 * being loaded again.
+	 *
+	 * @param session The {@link LoginSession} of the reconnecting client.
+	 * @param username The encoded username of the Player.
+	 * @param digest The digest of the credentials sent by the client.
+	 * @return {@code true} if the Player will be reconnected, {@code false} if the Player must be loaded instead.
+	 */
+	public boolean reconnectPlayer(LoginSession session, long username, byte[] digest) {
+		Player player = suspendedPlayers.claim(username, digest);
+		if (player == null) {
+			return false;
+		}
+
+		reconnectingPlayers.add(new LoginPlayerRequest(player, session));
+		return true;
 	}
 
 	/**
@@ -184,15 +315,41 @@ public final class GameService extends Service {
 	 */
 	public void shutdown(boolean natural) {
 		executor.shutdownNow();
+
+		synchronized (this) {
+			if (journal != null) {
+				journal.close();
+			}
+		}
 		// TODO: Other events that should happen upon natural or unexpected shutdown.
 	}
 
 	@Override
 	public void start() {
+		if (journalDirectory != null) {
+			try {
+				journal = JournalWriter.create(journalDirectory, context.getRelease().getReleaseNumber());
+			} catch (IOException cause) {
+				throw new UncheckedIOException("Failed to create the journal.", cause);
+			}
+		}
+
 		executor.scheduleAtFixedRate(new GamePulseHandler(this), GameConstants.PULSE_DELAY, GameConstants.PULSE_DELAY,
 				TimeUnit.MILLISECONDS);
 	}
 
+	/**
+	 * Suspends a player whose connection was lost. The player remains in the world, and is unregistered if they do not
+	 * reconnect within the grace period.
+	 *
+	 * @param player The player.
+	 * @param digest The digest of the credentials the player logged in with.
+	 */
+	public void suspendPlayer(Player player, byte[] digest) {
+		player.setSuspended(true);
+		suspendedPlayers.suspend(player, digest);
+	}
+
 	/**
 	 * Unregisters a player. Returns immediately. The player is unregistered at the start of the next cycle.
 	 *
@@ -203,25 +360,62 @@ public final class GameService extends Service {
 	}
 
 	/**
-	 * Finalizes the registration of Player's queued to be registered.
+	 * Queues suspended Players whose grace period has elapsed for unregistration.
+	 */
+	private void expireSuspensions() {
+		suspendedPlayers.expire().forEach(this::unregisterPlayer);
+	}
+
+	/**
+	 * Finalizes the reconnection of Players queued to be rebound to a new session.
 	 */
-	private void finalizeRegistrations() {
-		for (int count = 0; count < REGISTRATIONS_PER_CYCLE; count++) {
+	private void finalizeReconnections() {
+		for (int count = 0; count < RECONNECTIONS_PER_CYCLE; count++) {
+			LoginPlayerRequest request = reconnectingPlayers.poll();
+			if (request == null) {
+				break;
+			}
+
+			resume(request.player, request.session);
+		}
+	}
+
+	/**
+	 * Finalizes the registration of Player's queued to be registered, up to the amount allowed by the
+	 * {@link AdmissionController}.
+	 *
+	 * @return The amount of Players that were registered.
+	 */
+	private int finalizeRegistrations() {
+		int allowed = admission.getAllowed(), registered = 0;
+
+		for (int count = 0; count < allowed; count++) {
 			LoginPlayerRequest request = newPlayers.poll();
 			if (request == null) {
 				break;
 			}
 
+			dequeued++;
+
 			Player player = request.player;
 			if (world.isPlayerOnline(player.getUsername())) {
-				request.session.sendLoginFailure(LoginConstants.STATUS_ACCOUNT_ONLINE);
+				Player suspended = suspendedPlayers.evict(player.getEncodedName());
+
+				if (suspended != null) { // the credentials have been verified, so the login takes over the Player
+					resume(suspended, request.session);
+				} else {
+					request.session.sendLoginFailure(LoginConstants.STATUS_ACCOUNT_ONLINE);
+				}
 			} else if (world.getPlayerRepository().full()) {
 				request.session.sendLoginFailure(LoginConstants.STATUS_SERVER_FULL);
 			} else {
 				request.session.sendLoginSuccess(player);
 				finalizePlayerRegistration(player);
+				registered++;
 			}
 		}
+
+		return registered;
 	}
 
 	/**
@@ -269,6 +463,41 @@ public final class GameService extends Service {
 			Class<?> clazz = Class.forName(active.getValue());
 			synchronizer = (ClientSynchronizer) clazz.newInstance();
 		}
+
+		try (InputStream input = new FileInputStream("data/login.xml")) {
+			XmlNode root = new XmlParser().parse(input);
+			XmlNode ceiling = root.getChild("registration-ceiling");
+
+			int registrations = ceiling == null || !ceiling.hasValue() ? DEFAULT_REGISTRATION_CEILING
+					: Integer.parseInt(ceiling.getValue().trim());
+			admission = new AdmissionController(REGISTRATIONS_PER_CYCLE, registrations, ADMISSION_TARGET,
+					TimeUnit.MILLISECONDS);
+		}
+
+		Path journalConfig = Paths.get("data/journal.xml");
+		if (Files.exists(journalConfig)) {
+			try (InputStream input = Files.newInputStream(journalConfig)) {
+				XmlNode root = new XmlParser().parse(input);
+				XmlNode enabled = root.getChild("enabled");
+				XmlNode directory = root.getChild("directory");
+
+				if (enabled != null && enabled.hasValue() && Boolean.parseBoolean(enabled.getValue().trim())) {
+					boolean specified = directory != null && directory.hasValue();
+					journalDirectory = Paths.get(specified ? directory.getValue().trim() : DEFAULT_JOURNAL_DIRECTORY);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Resumes a suspended {@link Player}, binding it to the channel of the specified {@link LoginSession}.
+	 *
+	 * @param player The Player.
+	 * @param session The LoginSession of the client the Player is resumed on.
+	 */
+	private void resume(Player player, LoginSession session) {
+		player.setSuspended(false);
+		session.sendReconnectionSuccess(player);
 	}
 
 }
@@ -6,10 +6,12 @@ import java.io.InputStream;
 import java.util.Arrays;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.apollo.Service;
 import org.apollo.game.io.player.PlayerLoaderResponse;
 import org.apollo.game.io.player.PlayerSerializer;
+import org.apollo.game.io.player.PlayerSnapshot;
 import org.apollo.game.login.PlayerLoaderWorker;
 import org.apollo.game.login.PlayerSaverWorker;
 import org.apollo.game.model.World;
@@ -32,6 +34,11 @@ import org.xml.sax.SAXException;
  */
 public final class LoginService extends Service {
 
+	/**
+	 * The time to wait for submitted saves to complete when the service is shut down, in minutes.
+	 */
+	private static final int SHUTDOWN_TIMEOUT = 1;
+
 	/**
 	 * The World this Service is for.
 	 */
@@ -58,6 +65,23 @@ public final class LoginService extends Service {
 		init();
 	}
 
+	/**
+	 * Shuts down this login service, waiting for the saves that have been submitted to complete, and then closes the
+	 * {@link PlayerSerializer}.
+	 *
+	 * @throws IOException If the PlayerSerializer could not be closed.
+	 * @throws InterruptedException If the thread is interrupted while waiting for the saves.
+	 */
+	public void shutdown() throws IOException, InterruptedException {
+		executor.shutdown();
+
+		try {
+			executor.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.MINUTES);
+		} finally {
+			serializer.close();
+		}
+	}
+
 	@Override
 	public void start() {
 
@@ -78,20 +102,26 @@ public final class LoginService extends Service {
 		}
 
 		if (response == LoginConstants.STATUS_OK) {
-			executor.submit(new PlayerLoaderWorker(serializer, session, request));
+			long username = request.getCredentials().getEncodedUsername();
+			GameService game = context.getGameService();
+
+			if (!request.isReconnecting() || !game.reconnectPlayer(session, username, session.getDigest())) {
+				executor.submit(new PlayerLoaderWorker(serializer, session, request));
+			}
 		} else {
 			session.handlePlayerLoaderResponse(request, new PlayerLoaderResponse(response));
 		}
 	}
 
 	/**
-	 * Submits a save request.
+	 * Submits a save request. This must be called on the game thread, as a {@link PlayerSnapshot} of the player is
+	 * captured immediately, and then saved on a login thread.
 	 *
 	 * @param session The session submitting this request.
 	 * @param player The player to save.
 	 */
 	public void submitSaveRequest(GameSession session, Player player) {
-		executor.submit(new PlayerSaverWorker(serializer, session, player));
+		executor.submit(new PlayerSaverWorker(serializer, session, PlayerSnapshot.capture(player)));
 	}
 
 	/**
@@ -109,4 +109,16 @@ public final class ApolloHandler extends ChannelInboundHandlerAdapter {
 		ctx.flush();
 	}
 
+	@Override
+	public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+		Channel channel = ctx.channel();
+		Session session = channel.attr(ApolloHandler.SESSION_KEY).get();
+
+		if (session != null) {
+			session.writabilityChanged(channel.isWritable());
+		}
+
+		ctx.fireChannelWritabilityChanged();
+	}
+
 }
\ No newline at end of file
@@ -1,19 +1,23 @@
 package org.apollo.game.session;
 
 import io.netty.channel.Channel;
-import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.apollo.ServerContext;
 import org.apollo.game.GameConstants;
+import org.apollo.game.journal.RecordedMessage;
 import org.apollo.game.message.handler.MessageHandlerChainSet;
 import org.apollo.game.message.impl.LogoutMessage;
 import org.apollo.game.model.entity.Player;
+import org.apollo.game.service.GameService;
+import org.apollo.net.NetworkConstants;
+import org.apollo.net.codec.game.GamePacketRateLimiter;
 import org.apollo.net.message.Message;
 
 /**
@@ -28,11 +32,26 @@ public final class GameSession extends Session {
 	 */
 	private static final Logger logger = Logger.getLogger(GameSession.class.getName());
 
+	/**
+	 * The value of {@link #unwritableSince} when the channel is writable.
+	 */
+	private static final long WRITABLE = -1;
+
 	/**
 	 * The server context.
 	 */
 	private final ServerContext context;
 
+	/**
+	 * The salted digest of the credentials this session was created with.
+	 */
+	private final byte[] digest;
+
+	/**
+	 * Whether or not the player logged out, rather than losing their connection.
+	 */
+	private volatile boolean loggedOut;
+
 	/**
 	 * The queue of pending {@link Message}s.
 	 */
@@ -43,11 +62,21 @@ public final class GameSession extends Session {
 	 */
 	private final Player player;
 
+	/**
+	 * The GamePacketRateLimiter enforcing the inbound packet budgets of this session.
+	 */
+	private final GamePacketRateLimiter rateLimiter;
+
 	/**
 	 * If the player was reconnecting.
 	 */
 	private final boolean reconnecting;
 
+	/**
+	 * The time at which the channel became unwritable, in nanoseconds, or {@link #WRITABLE}.
+	 */
+	private volatile long unwritableSince = WRITABLE;
+
 	/**
 	 * Creates a login session for the specified channel.
 	 *
@@ -55,17 +84,32 @@ public final class GameSession extends Session {
 	 * @param context The server context.
 	 * @param player The player.
 	 * @param reconnecting If the player was reconnecting.
+	 * @param rateLimiter The {@link GamePacketRateLimiter} enforcing the inbound packet budgets of this session.
+	 * @param digest The salted digest of the credentials the player logged in with.
 	 */
-	public GameSession(Channel channel, ServerContext context, Player player, boolean reconnecting) {
+	public GameSession(Channel channel, ServerContext context, Player player, boolean reconnecting,
+			GamePacketRateLimiter rateLimiter, byte[] digest) {
 		super(channel);
 		this.context = context;
 		this.player = player;
 		this.reconnecting = reconnecting;
+		this.rateLimiter = rateLimiter;
+		this.digest = digest;
 	}
 
+	/**
+	 * Destroys this session. If the player logged out they are unregistered, otherwise they are suspended until they
+	 * reconnect or the grace period elapses.
+	 */
 	@Override
 	public void destroy() {
-		context.getGameService().unregisterPlayer(player);
+		GameService service = context.getGameService();
+
+		if (loggedOut) {
+			service.unregisterPlayer(player);
+		} else {
+			service.suspendPlayer(player, digest);
+		}
 	}
 
 	/**
@@ -76,21 +120,45 @@ public final class GameSession extends Session {
 	public void dispatchMessage(Message message) {
 		Channel channel = getChannel();
 		if (channel.isActive() && channel.isOpen()) {
-			ChannelFuture future = channel.writeAndFlush(message);
 			if (message.getClass() == LogoutMessage.class) {
-				future.addListener(ChannelFutureListener.CLOSE);
+				loggedOut = true;
+				channel.writeAndFlush(message).addListener(ChannelFutureListener.CLOSE);
+			} else {
+				channel.writeAndFlush(message);
 			}
 		}
 	}
 
 	/**
-	 * Handles pending messages for this session.
+	 * Gets the {@link GamePacketRateLimiter} of this session, which exposes the amount of packets accepted and
+	 * dropped in each budget category.
+	 *
+	 * @return The GamePacketRateLimiter.
+	 */
+	public GamePacketRateLimiter getRateLimiter() {
+		return rateLimiter;
+	}
+
+	/**
+	 * Handles pending messages for this session. {@link RecordedMessage}s are written to the journal of the game
+	 * service as they are handled, so that each is recorded in the pulse it was handled in.
 	 *
 	 * @param chainSet The {@link MessageHandlerChainSet}
 	 */
 	public void handlePendingMessages(MessageHandlerChainSet chainSet) {
+		if (channel.isOpen() && isStalled()) {
+			logger.warning("Disconnecting " + player + " as their channel has been unwritable for too long.");
+			channel.close();
+			return;
+		}
+
 		while (!messages.isEmpty()) {
 			Message message = messages.poll();
+			if (message instanceof RecordedMessage) {
+				RecordedMessage recorded = (RecordedMessage) message;
+				context.getGameService().getJournal().message(player, recorded);
+				message = recorded.getMessage();
+			}
 
 			try {
 				chainSet.notify(player, message);
@@ -118,6 +186,16 @@ public final class GameSession extends Session {
 		return reconnecting;
 	}
 
+	/**
+	 * Returns whether or not the channel of this session is writable, i.e. whether the client is keeping up with the
+	 * data being sent to it.
+	 *
+	 * @return {@code true} if the channel is writable, {@code false} if it is applying backpressure.
+	 */
+	public boolean isWritable() {
+		return unwritableSince == WRITABLE;
+	}
+
 	@Override
 	public void messageReceived(Object message) {
 		if (messages.size() >= GameConstants.MESSAGES_PER_PULSE) {
@@ -127,4 +205,21 @@ public final class GameSession extends Session {
 		}
 	}
 
+	@Override
+	public void writabilityChanged(boolean writable) {
+		unwritableSince = writable ? WRITABLE : System.nanoTime();
+	}
+
+	/**
+	 * Returns whether or not the channel of this session has been unwritable for longer than the
+	 * {@link NetworkConstants#WRITE_STALL_TIMEOUT write stall timeout}.
+	 *
+	 * @return {@code true} if the channel has stalled, {@code false} if not.
+	 */
+	private boolean isStalled() {
+		long since = unwritableSince;
+		return since != WRITABLE
+				&& System.nanoTime() - since > TimeUnit.SECONDS.toNanos(NetworkConstants.WRITE_STALL_TIMEOUT);
+	}
+
 }
\ No newline at end of file
@@ -5,23 +5,31 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.util.Optional;
 
 import org.apollo.ServerContext;
 import org.apollo.game.io.player.PlayerLoaderResponse;
+import org.apollo.game.journal.RecordingMessageListener;
 import org.apollo.game.model.World.RegistrationStatus;
 import org.apollo.game.model.entity.Player;
 import org.apollo.game.service.GameService;
 import org.apollo.game.service.LoginService;
 import org.apollo.net.codec.game.GameMessageDecoder;
 import org.apollo.net.codec.game.GameMessageEncoder;
+import org.apollo.net.codec.game.GameMessageListener;
 import org.apollo.net.codec.game.GamePacketDecoder;
 import org.apollo.net.codec.game.GamePacketEncoder;
+import org.apollo.net.codec.game.GamePacketRateLimiter;
 import org.apollo.net.codec.login.LoginConstants;
 import org.apollo.net.codec.login.LoginRequest;
 import org.apollo.net.codec.login.LoginResponse;
 import org.apollo.net.release.Release;
 import org.apollo.util.security.IsaacRandomPair;
+import org.apollo.util.security.PlayerCredentials;
 
 /**
  * A login session.
@@ -30,16 +38,50 @@ import org.apollo.util.security.IsaacRandomPair;
  */
 public final class LoginSession extends Session {
 
+	/**
+	 * The salt used when digesting credentials, which is generated when the server starts.
+	 */
+	private static final byte[] SALT = new SecureRandom().generateSeed(16);
+
+	/**
+	 * Creates a salted digest of the specified {@link PlayerCredentials}, which is used to check the credentials of a
+	 * reconnecting client without hashing the password again.
+	 *
+	 * @param credentials The PlayerCredentials.
+	 * @return The digest.
+	 */
+	private static byte[] digest(PlayerCredentials credentials) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(SALT);
+			digest.update(credentials.getUsername().toLowerCase().getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			return digest.digest(credentials.getPassword().getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported.", e);
+		}
+	}
+
 	/**
 	 * The ServerContext.
 	 */
 	private final ServerContext context;
 
+	/**
+	 * The digest of the credentials in the LoginRequest.
+	 */
+	private byte[] digest;
+
 	/**
 	 * The LoginRequest for this LoginSession.
 	 */
 	private LoginRequest request;
 
+	/**
+	 * The ticket of the queued registration of the Player, or {@code -1} if the Player has not been queued.
+	 */
+	private volatile long ticket = -1;
+
 	/**
 	 * Creates a login session for the specified channel.
 	 *
@@ -56,6 +98,25 @@ public final class LoginSession extends Session {
 
 	}
 
+	/**
+	 * Gets the salted digest of the credentials in the {@link LoginRequest} of this session.
+	 *
+	 * @return The digest.
+	 */
+	public byte[] getDigest() {
+		return digest;
+	}
+
+	/**
+	 * Gets the position of this session in the registration queue, i.e. the amount of players that will be registered
+	 * before the Player of this session.
+	 *
+	 * @return The position, or {@code -1} if the Player has not been queued for registration.
+	 */
+	public long getQueuePosition() {
+		return ticket == -1 ? -1 : context.getGameService().getQueuePosition(ticket);
+	}
+
 	/**
 	 * Handles a response from the login service.
 	 *
@@ -68,7 +129,7 @@ public final class LoginSession extends Session {
 		Optional<Player> optional = response.getPlayer();
 
 		if (optional.isPresent()) {
-			service.registerPlayer(optional.get(), this);
+			ticket = service.registerPlayer(optional.get(), this);
 		} else {
 			sendLoginFailure(response.getStatus());
 		}
@@ -98,15 +159,55 @@ public final class LoginSession extends Session {
 	 * @param player The {@link Player} that successfully logged in.
 	 */
 	public void sendLoginSuccess(Player player) {
+		bind(player, LoginConstants.STATUS_OK);
+	}
+
+	/**
+	 * Sends a successful {@link LoginResponse} to the client, rebinding the suspended {@link Player} to the channel of
+	 * this session.
+	 * <p>
+	 * Nothing was synchronized while the Player was suspended, so the state held by the client is stale:
+	 * {@link LoginConstants#STATUS_OK} is sent (rather than {@link LoginConstants#STATUS_RECONNECTION_OK}) so that the
+	 * client discards it, and the state the server tracks for the client is reset and sent again.
+	 *
+	 * @param player The Player that reconnected.
+	 */
+	public void sendReconnectionSuccess(Player player) {
+		if (!channel.isActive()) { // The connection may have been lost again, in which case the pipeline is gone.
+			context.getGameService().suspendPlayer(player, digest);
+			return;
+		}
+
+		GameSession session = bind(player, LoginConstants.STATUS_OK);
+
+		if (!channel.isActive()) { // The connection may have been lost again before the session was bound.
+			session.destroy();
+			return;
+		}
+
+		player.resetClientState();
+		player.sendInitialMessages();
+	}
+
+	/**
+	 * Binds the specified {@link Player} to a new {@link GameSession} on the channel of this session, sending a
+	 * successful {@link LoginResponse} with the specified status and replacing the login codec with the game codec.
+	 *
+	 * @param player The Player.
+	 * @param status The status of the LoginResponse.
+	 * @return The GameSession.
+	 */
+	private GameSession bind(Player player, int status) {
 		IsaacRandomPair randomPair = request.getRandomPair();
 		boolean flagged = false;
 
-		GameSession session = new GameSession(channel, context, player, request.isReconnecting());
+		GamePacketRateLimiter limiter = new GamePacketRateLimiter(context.getRateLimits());
+		GameSession session = new GameSession(channel, context, player, request.isReconnecting(), limiter, digest);
 		channel.attr(ApolloHandler.SESSION_KEY).set(session);
 		player.setSession(session);
 
 		int rights = player.getPrivilegeLevel().toInteger();
-		channel.writeAndFlush(new LoginResponse(LoginConstants.STATUS_OK, rights, flagged));
+		channel.writeAndFlush(new LoginResponse(status, rights, flagged));
 
 		Release release = context.getRelease();
 
@@ -115,10 +216,14 @@ public final class LoginSession extends Session {
 
 		channel.pipeline().addBefore("handler", "gameDecoder",
 				new GamePacketDecoder(randomPair.getDecodingRandom(), context.getRelease()));
-		channel.pipeline().addAfter("gameDecoder", "messageDecoder", new GameMessageDecoder(release));
+		channel.pipeline().addAfter("gameDecoder", "rateLimiter", limiter);
+		boolean recording = context.getGameService().getJournal() != null;
+		GameMessageListener listener = recording ? new RecordingMessageListener() : GameMessageListener.NONE;
+		channel.pipeline().addAfter("rateLimiter", "messageDecoder", new GameMessageDecoder(release, listener));
 
 		channel.pipeline().remove("loginDecoder");
 		channel.pipeline().remove("loginEncoder");
+		return session;
 	}
 
 	/**
@@ -128,6 +233,9 @@ public final class LoginSession extends Session {
 	 * @throws IOException If some I/O exception occurs.
 	 */
 	private void handleLoginRequest(LoginRequest request) throws IOException {
+		this.request = request;
+		digest = digest(request.getCredentials());
+
 		LoginService service = context.getLoginService();
 		service.submitLoadRequest(this, request);
 	}
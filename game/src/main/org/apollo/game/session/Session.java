@@ -46,4 +46,14 @@ public abstract class Session {
 		return channel;
 	}
 
+	/**
+	 * Called when the writability of the channel changes, i.e. when the amount of data queued for writing crosses one
+	 * of the channel's water marks. Does nothing by default.
+	 *
+	 * @param writable Whether or not the channel is now writable.
+	 */
+	public void writabilityChanged(boolean writable) {
+
+	}
+
 }
\ No newline at end of file
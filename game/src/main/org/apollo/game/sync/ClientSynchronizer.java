@@ -1,5 +1,12 @@
 package org.apollo.game.sync;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apollo.game.model.area.Region;
+import org.apollo.game.model.area.RegionCoordinates;
 import org.apollo.game.model.entity.MobRepository;
 import org.apollo.game.model.entity.Npc;
 import org.apollo.game.model.entity.Player;
@@ -18,6 +25,12 @@ import org.apollo.game.model.entity.Player;
  */
 public abstract class ClientSynchronizer {
 
+	/**
+	 * The radius, in regions, around a region containing a {@link Player} in which {@link Npc}s are awake. This is one
+	 * larger than the viewable radius, so that a Npc is awake before any Player that walks towards it can see it.
+	 */
+	private static final int ACTIVE_REGION_RADIUS = Region.VIEWABLE_REGION_RADIUS + 1;
+
 	/**
 	 * Synchronizes the state of the clients with the state of the server.
 	 *
@@ -26,4 +39,45 @@ public abstract class ClientSynchronizer {
 	 */
 	public abstract void synchronize(MobRepository<Player> players, MobRepository<Npc> npcs);
 
+	/**
+	 * Updates whether or not each {@link Npc} is dormant, based on the regions occupied by {@link Player}s, and returns
+	 * the Npcs that are awake. Dormant Npcs are not synchronized, so their transient state is reset here instead.
+	 *
+	 * @param players The {@link MobRepository} containing the Players.
+	 * @param npcs The MobRepository containing the Npcs.
+	 * @return The {@link List} of Npcs that are awake.
+	 */
+	protected final List<Npc> wakeNpcs(MobRepository<Player> players, MobRepository<Npc> npcs) {
+		Set<RegionCoordinates> occupied = new HashSet<>();
+		for (Player player : players) {
+			occupied.add(player.getPosition().getRegionCoordinates());
+		}
+
+		Set<RegionCoordinates> active = new HashSet<>();
+		for (RegionCoordinates coordinates : occupied) {
+			int x = coordinates.getX(), y = coordinates.getY();
+
+			for (int dx = -ACTIVE_REGION_RADIUS; dx <= ACTIVE_REGION_RADIUS; dx++) {
+				for (int dy = -ACTIVE_REGION_RADIUS; dy <= ACTIVE_REGION_RADIUS; dy++) {
+					active.add(new RegionCoordinates(x + dx, y + dy));
+				}
+			}
+		}
+
+		List<Npc> awake = new ArrayList<>(npcs.size());
+		for (Npc npc : npcs) {
+			boolean dormant = !active.contains(npc.getPosition().getRegionCoordinates());
+			npc.setDormant(dormant);
+
+			if (!dormant) {
+				awake.add(npc);
+			} else if (npc.isTeleporting() || npc.getBlockSet().size() > 0) {
+				npc.setTeleporting(false);
+				npc.resetBlockSet();
+			}
+		}
+
+		return awake;
+	}
+
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ import org.apollo.game.sync.task.PrePlayerSynchronizationTask;
 import org.apollo.game.sync.task.SynchronizationTask;
 import org.apollo.util.ThreadUtil;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -56,21 +57,21 @@ public final class ParallelClientSynchronizer extends ClientSynchronizer {
 
 	@Override
 	public void synchronize(MobRepository<Player> players, MobRepository<Npc> npcs) {
+		List<Npc> awake = wakeNpcs(players, npcs);
 		int playerCount = players.size();
-		int npcCount = npcs.size();
+		int npcCount = awake.size();
 
-		Map<RegionCoordinates, Set<RegionUpdateMessage>> encodes = new ConcurrentHashMap<>();
 		Map<RegionCoordinates, Set<RegionUpdateMessage>> updates = new ConcurrentHashMap<>();
 
 		phaser.bulkRegister(playerCount);
 		for (Player player : players) {
-			SynchronizationTask task = new PrePlayerSynchronizationTask(player, encodes, updates);
+			SynchronizationTask task = new PrePlayerSynchronizationTask(player, updates);
 			executor.submit(new PhasedSynchronizationTask(phaser, task));
 		}
 		phaser.arriveAndAwaitAdvance();
 
 		phaser.bulkRegister(npcCount);
-		for (Npc npc : npcs) {
+		for (Npc npc : awake) {
 			SynchronizationTask task = new PreNpcSynchronizationTask(npc);
 			executor.submit(new PhasedSynchronizationTask(phaser, task));
 		}
@@ -98,7 +99,7 @@ public final class ParallelClientSynchronizer extends ClientSynchronizer {
 		phaser.arriveAndAwaitAdvance();
 
 		phaser.bulkRegister(npcCount);
-		for (Npc npc : npcs) {
+		for (Npc npc : awake) {
 			SynchronizationTask task = new PostNpcSynchronizationTask(npc);
 			executor.submit(new PhasedSynchronizationTask(phaser, task));
 		}
@@ -32,14 +32,15 @@ public final class SequentialClientSynchronizer extends ClientSynchronizer {
 
 	@Override
 	public void synchronize(MobRepository<Player> players, MobRepository<Npc> npcs) {
-		Map<RegionCoordinates, Set<RegionUpdateMessage>> encodes = new HashMap<>(), updates = new HashMap<>();
+		List<Npc> awake = wakeNpcs(players, npcs);
+		Map<RegionCoordinates, Set<RegionUpdateMessage>> updates = new HashMap<>();
 
 		for (Player player : players) {
-			SynchronizationTask task = new PrePlayerSynchronizationTask(player, encodes, updates);
+			SynchronizationTask task = new PrePlayerSynchronizationTask(player, updates);
 			task.run();
 		}
 
-		for (Npc npc : npcs) {
+		for (Npc npc : awake) {
 			SynchronizationTask task = new PreNpcSynchronizationTask(npc);
 			task.run();
 		}
@@ -56,7 +57,7 @@ public final class SequentialClientSynchronizer extends ClientSynchronizer {
 			task.run();
 		}
 
-		for (Npc npc : npcs) {
+		for (Npc npc : awake) {
 			SynchronizationTask task = new PostNpcSynchronizationTask(npc);
 			task.run();
 		}
@@ -1,19 +1,111 @@
 package org.apollo.game.sync.block;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
 /**
  * A specialized collection of {@link SynchronizationBlock}s.
+ * <p>
+ * Every type of block has a fixed ordinal: blocks are stored in an array indexed by ordinal, and a bitmask records
+ * which blocks are present. The {@link #with} and {@link #without} views share the array of the set they were created
+ * from, so adding or removing a block for a single segment does not copy the set.
  *
  * @author Graham
  */
 public final class SynchronizationBlockSet implements Cloneable {
 
 	/**
-	 * A {@link Map} of {@link SynchronizationBlock}s.
+	 * The types of {@link SynchronizationBlock}, in ordinal order.
+	 */
+	private static final List<Class<? extends SynchronizationBlock>> TYPES = ImmutableList.of(AnimationBlock.class,
+		AppearanceBlock.class, ChatBlock.class, ForceChatBlock.class, ForceMovementBlock.class, GraphicBlock.class,
+		HitUpdateBlock.class, InteractingMobBlock.class, SecondaryHitUpdateBlock.class, TransformBlock.class,
+		TurnToPositionBlock.class);
+
+	/**
+	 * The ordinals of each type of {@link SynchronizationBlock}.
+	 */
+	private static final ClassValue<Integer> ordinals = new ClassValue<Integer>() {
+
+		@Override
+		protected Integer computeValue(Class<?> type) {
+			int ordinal = TYPES.indexOf(type);
+			Preconditions.checkArgument(ordinal != -1, "Unsupported synchronization block type " + type + ".");
+			return ordinal;
+		}
+
+	};
+
+	/**
+	 * Creates a table of update flags, indexed by block ordinal, for use with {@link #getMask(int[])}.
+	 *
+	 * @param flags The {@link Map} of block types to the flag used for them by the client.
+	 * @return The table of flags.
+	 */
+	public static int[] createFlags(Map<Class<? extends SynchronizationBlock>, Integer> flags) {
+		int[] table = new int[TYPES.size()];
+		flags.forEach((type, flag) -> table[ordinals.get(type)] = flag);
+		return table;
+	}
+
+	/**
+	 * Gets the ordinal of the specified type of {@link SynchronizationBlock}.
+	 *
+	 * @param type The type of block.
+	 * @return The ordinal.
+	 */
+	private static int ordinalOf(Class<? extends SynchronizationBlock> type) {
+		return ordinals.get(type);
+	}
+
+	/**
+	 * The blocks, indexed by ordinal. This array may be shared with other sets.
+	 */
+	private SynchronizationBlock[] blocks;
+
+	/**
+	 * The block added by {@link #with}, which takes precedence over the (shared) array of blocks.
+	 */
+	private SynchronizationBlock extra;
+
+	/**
+	 * The ordinal of {@link #extra}, or {@code -1} if there is no extra block.
+	 */
+	private int extraOrdinal = -1;
+
+	/**
+	 * The bitmask of ordinals of the blocks in this set.
+	 */
+	private int present;
+
+	/**
+	 * Whether or not {@link #blocks} is shared with another set, and must be copied before being modified.
+	 */
+	private boolean shared;
+
+	/**
+	 * Creates the SynchronizationBlockSet.
+	 */
+	public SynchronizationBlockSet() {
+		this(new SynchronizationBlock[TYPES.size()], 0, false);
+	}
+
+	/**
+	 * Creates the SynchronizationBlockSet.
+	 *
+	 * @param blocks The blocks, indexed by ordinal.
+	 * @param present The bitmask of blocks that are present.
+	 * @param shared Whether or not the blocks array is shared with another set.
 	 */
-	private final Map<Class<? extends SynchronizationBlock>, SynchronizationBlock> blocks = new HashMap<>(8);
+	private SynchronizationBlockSet(SynchronizationBlock[] blocks, int present, boolean shared) {
+		this.blocks = blocks;
+		this.present = present;
+		this.shared = shared;
+	}
 
 	/**
 	 * Adds a {@link SynchronizationBlock}.
@@ -21,21 +113,33 @@ public final class SynchronizationBlockSet implements Cloneable {
 	 * @param block The block to add.
 	 */
 	public void add(SynchronizationBlock block) {
-		Class<? extends SynchronizationBlock> clazz = block.getClass();
-		blocks.put(clazz, block);
+		int ordinal = ordinalOf(block.getClass());
+		own()[ordinal] = block;
+		present |= 1 << ordinal;
 	}
 
 	/**
 	 * Clears the set.
 	 */
 	public void clear() {
-		blocks.clear();
+		if (shared) {
+			blocks = new SynchronizationBlock[TYPES.size()];
+			shared = false;
+		} else {
+			Arrays.fill(blocks, null);
+		}
+
+		extra = null;
+		extraOrdinal = -1;
+		present = 0;
 	}
 
 	@Override
 	public SynchronizationBlockSet clone() {
-		SynchronizationBlockSet copy = new SynchronizationBlockSet();
-		copy.blocks.putAll(blocks);
+		SynchronizationBlockSet copy = new SynchronizationBlockSet(blocks, present, true);
+		copy.extra = extra;
+		copy.extraOrdinal = extraOrdinal;
+		copy.own();
 		return copy;
 	}
 
@@ -46,7 +150,7 @@ public final class SynchronizationBlockSet implements Cloneable {
 	 * @return {@code true} if so, {@code false} if not.
 	 */
 	public boolean contains(Class<? extends SynchronizationBlock> clazz) {
-		return blocks.containsKey(clazz);
+		return (present & 1 << ordinalOf(clazz)) != 0;
 	}
 
 	/**
@@ -57,7 +161,47 @@ public final class SynchronizationBlockSet implements Cloneable {
 	 */
 	@SuppressWarnings("unchecked")
 	public <T extends SynchronizationBlock> T get(Class<T> clazz) {
-		return (T) blocks.get(clazz);
+		int ordinal = ordinalOf(clazz);
+		if ((present & 1 << ordinal) == 0) {
+			return null;
+		}
+
+		return (T) (ordinal == extraOrdinal ? extra : blocks[ordinal]);
+	}
+
+	/**
+	 * Gets the update mask of this set, by combining the flags of each block that is present.
+	 *
+	 * @param flags The table of flags, created using {@link #createFlags}.
+	 * @return The update mask.
+	 */
+	public int getMask(int[] flags) {
+		int mask = 0;
+		for (int bits = present; bits != 0; bits &= bits - 1) {
+			mask |= flags[Integer.numberOfTrailingZeros(bits)];
+		}
+
+		return mask;
+	}
+
+	/**
+	 * Gets the array of blocks, copying it first if it is shared with another set.
+	 *
+	 * @return The array of blocks, which may be modified.
+	 */
+	private SynchronizationBlock[] own() {
+		if (shared) {
+			blocks = blocks.clone();
+			shared = false;
+		}
+
+		if (extraOrdinal != -1) {
+			blocks[extraOrdinal] = extra;
+			extra = null;
+			extraOrdinal = -1;
+		}
+
+		return blocks;
 	}
 
 	/**
@@ -68,7 +212,15 @@ public final class SynchronizationBlockSet implements Cloneable {
 	 */
 	@SuppressWarnings("unchecked")
 	public <T extends SynchronizationBlock> T remove(Class<? extends SynchronizationBlock> clazz) {
-		return (T) blocks.remove(clazz);
+		int ordinal = ordinalOf(clazz);
+		int bit = 1 << ordinal;
+
+		if ((present & bit) == 0) {
+			return null;
+		}
+
+		present &= ~bit;
+		return (T) (ordinal == extraOrdinal ? extra : blocks[ordinal]);
 	}
 
 	/**
@@ -77,7 +229,47 @@ public final class SynchronizationBlockSet implements Cloneable {
 	 * @return The size.
 	 */
 	public int size() {
-		return blocks.size();
+		return Integer.bitCount(present);
+	}
+
+	/**
+	 * Creates a view of this set with the specified {@link SynchronizationBlock} added (replacing any existing block of
+	 * the same type), sharing the blocks of this set. Later changes to this set must not be made while the view is in
+	 * use.
+	 *
+	 * @param block The block to add.
+	 * @return The view.
+	 */
+	public SynchronizationBlockSet with(SynchronizationBlock block) {
+		int ordinal = ordinalOf(block.getClass());
+		SynchronizationBlockSet view = new SynchronizationBlockSet(blocks, present | 1 << ordinal, true);
+
+		if (extraOrdinal != -1 && extraOrdinal != ordinal) {
+			view.own()[extraOrdinal] = extra;
+		}
+
+		view.extra = block;
+		view.extraOrdinal = ordinal;
+		return view;
+	}
+
+	/**
+	 * Creates a view of this set without the specified type of {@link SynchronizationBlock}, sharing the blocks of this
+	 * set. Later changes to this set must not be made while the view is in use.
+	 *
+	 * @param clazz The block's class.
+	 * @return The view.
+	 */
+	public SynchronizationBlockSet without(Class<? extends SynchronizationBlock> clazz) {
+		int bit = 1 << ordinalOf(clazz);
+		if ((present & bit) == 0) {
+			return this;
+		}
+
+		SynchronizationBlockSet view = new SynchronizationBlockSet(blocks, present & ~bit, true);
+		view.extra = extra;
+		view.extraOrdinal = extraOrdinal;
+		return view;
 	}
 
-}
\ No newline at end of file
+}
@@ -53,6 +53,10 @@ public final class NpcSynchronizationTask extends SynchronizationTask {
 
 	@Override
 	public void run() {
+		if (player.isSuspended()) {
+			return;
+		}
+
 		List<Npc> locals = player.getLocalNpcList();
 		List<SynchronizationSegment> segments = new ArrayList<>();
 
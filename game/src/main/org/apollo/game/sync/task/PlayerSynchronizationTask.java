@@ -57,16 +57,15 @@ public final class PlayerSynchronizationTask extends SynchronizationTask {
 
 	@Override
 	public void run() {
+		if (player.isSuspended()) {
+			return;
+		}
+
 		Position lastKnownRegion = player.getLastKnownRegion();
 		boolean regionChanged = player.hasRegionChanged();
 		int[] appearanceTickets = player.getAppearanceTickets();
 
-		SynchronizationBlockSet blockSet = player.getBlockSet();
-
-		if (blockSet.contains(ChatBlock.class)) {
-			blockSet = blockSet.clone();
-			blockSet.remove(ChatBlock.class);
-		}
+		SynchronizationBlockSet blockSet = player.getBlockSet().without(ChatBlock.class);
 
 		Position position = player.getPosition();
 
@@ -124,8 +123,7 @@ public final class PlayerSynchronizationTask extends SynchronizationTask {
 				int index = other.getIndex();
 
 				if (!blockSet.contains(AppearanceBlock.class) && !hasCachedAppearance(appearanceTickets, index - 1, other.getAppearanceTicket())) {
-					blockSet = blockSet.clone();
-					blockSet.add(SynchronizationBlock.createAppearanceBlock(other));
+					blockSet = blockSet.with(SynchronizationBlock.createAppearanceBlock(other));
 				}
 
 				segments.add(new AddPlayerSegment(blockSet, index, local));
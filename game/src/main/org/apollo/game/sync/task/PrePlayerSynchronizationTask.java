@@ -22,12 +22,6 @@ import org.apollo.game.model.entity.Player;
  */
 public final class PrePlayerSynchronizationTask extends SynchronizationTask {
 
-	/**
-	 * The Map of RegionCoordinates to Sets of RegionUpdateMessages, which contain all of the Entity information for a
-	 * Region.
-	 */
-	private final Map<RegionCoordinates, Set<RegionUpdateMessage>> encodes;
-
 	/**
 	 * The player.
 	 */
@@ -43,18 +37,23 @@ public final class PrePlayerSynchronizationTask extends SynchronizationTask {
 	 * Creates the {@link PrePlayerSynchronizationTask} for the specified {@link Player}.
 	 *
 	 * @param player The Player.
-	 * @param encodes The Map containing Region encodes.
 	 * @param updates The {@link Map} containing {@link Region} updates.
 	 */
-	public PrePlayerSynchronizationTask(Player player, Map<RegionCoordinates, Set<RegionUpdateMessage>> encodes,
-	                                    Map<RegionCoordinates, Set<RegionUpdateMessage>> updates) {
+	public PrePlayerSynchronizationTask(Player player, Map<RegionCoordinates, Set<RegionUpdateMessage>> updates) {
 		this.player = player;
 		this.updates = updates;
-		this.encodes = encodes;
 	}
 
 	@Override
 	public void run() {
+		if (player.isSuspended()) { // nothing can reach the client, whose state is rebuilt when the player reconnects
+			player.getWalkingQueue().pulse();
+			return;
+		}
+
+		player.flushInventoryUpdates();
+		player.getSkillSet().flush();
+
 		Position old = player.getPosition();
 		player.getWalkingQueue().pulse();
 
@@ -127,8 +126,7 @@ public final class PrePlayerSynchronizationTask extends SynchronizationTask {
 		}
 
 		for (RegionCoordinates coordinates : full) {
-			Set<RegionUpdateMessage> messages = encodes.computeIfAbsent(coordinates,
-				coords -> repository.get(coords).encode(height));
+			Set<RegionUpdateMessage> messages = repository.get(coordinates).encode(height);
 
 			if (!messages.isEmpty()) {
 				player.send(new ClearRegionMessage(position, coordinates));
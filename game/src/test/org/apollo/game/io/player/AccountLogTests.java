@@ -0,0 +1,272 @@
+package org.apollo.game.io.player;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Contains unit tests for {@link AccountLog}s.
+ *
+ * @author Major
+ */
+public final class AccountLogTests {
+
+	/**
+	 * The temporary folder the logs are written to.
+	 */
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Tests that compaction reclaims superseded records, keeping the latest record of every account, including across
+	 * reopening the log.
+	 *
+	 * @throws IOException If the log could not be read or written.
+	 */
+	@Test
+	public void compaction() throws IOException {
+		Path file = folder.getRoot().toPath().resolve("accounts.log");
+
+		try (AccountLog log = new AccountLog(file)) {
+			for (int times = 0; times < 100; times++) {
+				for (long key = 1; key <= 10; key++) {
+					log.write(key, payload(key, times));
+				}
+			}
+
+			long size = log.getSize();
+			assertTrue(log.getWaste() > 0.9);
+
+			log.compact();
+			assertTrue(log.getSize() < size / 50);
+			assertEquals(0, log.getWaste(), 0);
+
+			log.write(1, payload(1, 100));
+			assertArrayEquals(payload(1, 100), log.read(1));
+			assertArrayEquals(payload(2, 99), log.read(2));
+		}
+
+		try (AccountLog log = new AccountLog(file)) {
+			assertEquals(10, log.getAccounts());
+			assertArrayEquals(payload(1, 100), log.read(1));
+			assertArrayEquals(payload(10, 99), log.read(10));
+		}
+
+		assertTrue(Files.notExists(file.resolveSibling("accounts.log.compact")));
+	}
+
+	/**
+	 * Tests that a last record that fails its CRC is truncated when the log is opened, leaving the previous record of
+	 * the account in place.
+	 *
+	 * @throws IOException If the log could not be read or written.
+	 */
+	@Test
+	public void corruption() throws IOException {
+		Path file = folder.getRoot().toPath().resolve("accounts.log");
+
+		try (AccountLog log = new AccountLog(file)) {
+			log.write(1, payload(1, 0));
+			log.write(1, payload(1, 1));
+		}
+
+		try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+			long last = raf.length() - 1;
+			raf.seek(last);
+			int value = raf.read();
+
+			raf.seek(last);
+			raf.write(value ^ 0xFF);
+		}
+
+		long size = Files.size(file);
+		try (AccountLog log = new AccountLog(file)) {
+			assertArrayEquals(payload(1, 0), log.read(1));
+			assertTrue(log.getSize() < size);
+		}
+	}
+
+	/**
+	 * Tests that a record cut short by a crash is truncated when the log is opened, and that later records are appended
+	 * after the truncated one.
+	 *
+	 * @throws IOException If the log could not be read or written.
+	 */
+	@Test
+	public void recovery() throws IOException {
+		Path file = folder.getRoot().toPath().resolve("accounts.log");
+
+		try (AccountLog log = new AccountLog(file)) {
+			log.write(1, payload(1, 0));
+			log.write(2, payload(2, 0));
+			log.write(1, payload(1, 1));
+		}
+
+		try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+			raf.setLength(raf.length() - 3);
+		}
+
+		try (AccountLog log = new AccountLog(file)) {
+			assertArrayEquals(payload(1, 0), log.read(1));
+			assertArrayEquals(payload(2, 0), log.read(2));
+
+			log.write(3, payload(3, 0));
+		}
+
+		try (AccountLog log = new AccountLog(file)) {
+			assertEquals(3, log.getAccounts());
+			assertArrayEquals(payload(3, 0), log.read(3));
+		}
+	}
+
+	/**
+	 * Tests that a record whose length is corrupt, so that it appears to extend past the end of the log, is reported
+	 * when the log is opened, rather than truncated along with every record after it.
+	 *
+	 * @throws IOException If the log could not be read or written.
+	 */
+	@Test
+	public void corruptLength() throws IOException {
+		for (int length : new int[] { Integer.MAX_VALUE, 1_000_000 }) {
+			Path file = folder.getRoot().toPath().resolve("accounts-" + length + ".log");
+			writeRecords(file);
+
+			try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+				raf.seek(8); // The length of the first record.
+				raf.writeInt(length);
+			}
+
+			assertRefused(file);
+		}
+	}
+
+	/**
+	 * Tests that a corrupt record followed by intact records is reported when the log is opened, rather than truncated
+	 * along with every record after it.
+	 *
+	 * @throws IOException If the log could not be read or written.
+	 */
+	@Test
+	public void interiorCorruption() throws IOException {
+		Path file = folder.getRoot().toPath().resolve("accounts.log");
+		writeRecords(file);
+
+		try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+			raf.seek(40); // A byte in the payload of the first record.
+			int value = raf.read();
+
+			raf.seek(40);
+			raf.write(value ^ 0xFF);
+		}
+
+		assertRefused(file);
+	}
+
+	/**
+	 * Tests that the latest record of each account is read, and that accounts without a record are not found.
+	 *
+	 * @throws IOException If the log could not be read or written.
+	 */
+	@Test
+	public void readLatest() throws IOException {
+		try (AccountLog log = new AccountLog(folder.getRoot().toPath().resolve("accounts.log"))) {
+			log.write(1, payload(1, 0));
+			log.write(2, payload(2, 0));
+			log.write(1, payload(1, 1));
+
+			assertArrayEquals(payload(1, 1), log.read(1));
+			assertArrayEquals(payload(2, 0), log.read(2));
+			assertNull(log.read(3));
+			assertEquals(2, log.getAccounts());
+		}
+	}
+
+	/**
+	 * Tests that zeros at the end of the log, as left by a crash after the file was extended but before the record was
+	 * written, are truncated when the log is opened.
+	 *
+	 * @throws IOException If the log could not be read or written.
+	 */
+	@Test
+	public void zeroedTail() throws IOException {
+		Path file = folder.getRoot().toPath().resolve("accounts.log");
+		long size;
+
+		try (AccountLog log = new AccountLog(file)) {
+			log.write(1, payload(1, 0));
+			log.write(2, payload(2, 0));
+			size = log.getSize();
+		}
+
+		try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+			raf.setLength(size + 4_096);
+		}
+
+		try (AccountLog log = new AccountLog(file)) {
+			assertEquals(size, log.getSize());
+			assertArrayEquals(payload(1, 0), log.read(1));
+			assertArrayEquals(payload(2, 0), log.read(2));
+		}
+
+		assertEquals(size, Files.size(file));
+	}
+
+	/**
+	 * Asserts that the log at the specified path cannot be opened, and that it is left unchanged.
+	 *
+	 * @param file The path of the log.
+	 * @throws IOException If the size of the log could not be read.
+	 */
+	private static void assertRefused(Path file) throws IOException {
+		long size = Files.size(file);
+
+		try {
+			new AccountLog(file).close();
+			fail("Opened a log with a corrupt record that is not the last.");
+		} catch (IOException expected) {
+			assertEquals(size, Files.size(file));
+		}
+	}
+
+	/**
+	 * Creates a payload that identifies an account and save.
+	 *
+	 * @param key The key of the account.
+	 * @param save The number of the save.
+	 * @return The payload.
+	 */
+	private static byte[] payload(long key, int save) {
+		byte[] payload = new byte[64 + save];
+		for (int index = 0; index < payload.length; index++) {
+			payload[index] = (byte) (key * 31 + save + index);
+		}
+
+		return payload;
+	}
+
+	/**
+	 * Writes a log containing three records, of two accounts.
+	 *
+	 * @param file The path of the log.
+	 * @throws IOException If the log could not be written.
+	 */
+	private static void writeRecords(Path file) throws IOException {
+		try (AccountLog log = new AccountLog(file)) {
+			log.write(1, payload(1, 0));
+			log.write(2, payload(2, 0));
+			log.write(1, payload(1, 1));
+		}
+	}
+
+}
@@ -0,0 +1,116 @@
+package org.apollo.game.io.player;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.apollo.cache.def.ItemDefinition;
+import org.apollo.game.model.Item;
+import org.apollo.game.model.Position;
+import org.apollo.game.model.World;
+import org.apollo.game.model.entity.Player;
+import org.apollo.game.model.entity.Skill;
+import org.apollo.game.model.inv.Inventory;
+import org.apollo.net.codec.login.LoginConstants;
+import org.apollo.util.NameUtil;
+import org.apollo.util.security.PlayerCredentials;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.lambdaworks.crypto.SCryptUtil;
+
+/**
+ * Contains unit tests for {@link PlayerSnapshot}s.
+ *
+ * @author Major
+ */
+public final class PlayerSnapshotTests {
+
+	/**
+	 * The amount of item definitions.
+	 */
+	private static final int ITEMS = 8;
+
+	/**
+	 * The password of the player.
+	 */
+	private static final String PASSWORD = "password";
+
+	/**
+	 * Initialises the item definitions used by the tests.
+	 */
+	@BeforeClass
+	public static void createDefinitions() {
+		ItemDefinition[] definitions = new ItemDefinition[ITEMS];
+
+		for (int id = 0; id < ITEMS; id++) {
+			definitions[id] = new ItemDefinition(id);
+		}
+
+		ItemDefinition.init(definitions);
+	}
+
+	/**
+	 * Tests that a snapshot is unaffected by changes made to the player after it was captured, and that it is encoded
+	 * in the format the {@link BinaryPlayerCodec} decodes.
+	 *
+	 * @throws IOException If the snapshot could not be encoded or decoded.
+	 */
+	@Test
+	public void isolation() throws IOException {
+		World world = new World();
+		Player player = new Player(world, credentials(), new Position(3222, 3218));
+		player.getCredentials().setPassword(SCryptUtil.scrypt(PASSWORD, 16, 8, 1));
+		player.setFriendUsernames(new ArrayList<>(Arrays.asList("friend")));
+
+		Inventory inventory = player.getInventory();
+		inventory.stopFiringEvents();
+		inventory.set(0, new Item(2, 1_000));
+		player.getSkillSet().setSkill(Skill.MINING, new Skill(1_154, 10, 10));
+
+		PlayerSnapshot snapshot = PlayerSnapshot.capture(player);
+
+		inventory.set(0, new Item(3, 1));
+		inventory.set(1, new Item(4, 1));
+		player.getSkillSet().setSkill(Skill.MINING, new Skill(13_363, 30, 30));
+		player.getFriendUsernames().add("other");
+
+		assertEquals(2, snapshot.getInventory().getId(0));
+		assertTrue(snapshot.getInventory().isEmpty(1));
+		assertEquals(10, snapshot.getCurrentLevel(Skill.MINING));
+		assertArrayEquals(new long[] { NameUtil.encodeBase37("friend") }, snapshot.getFriends());
+
+		BinaryPlayerCodec codec = new BinaryPlayerCodec(world);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		codec.encode(new DataOutputStream(bytes), snapshot);
+
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		PlayerLoaderResponse response = codec.decode(in, credentials());
+		assertEquals(LoginConstants.STATUS_OK, response.getStatus());
+
+		Player loaded = response.getPlayer().get();
+		assertEquals(new Item(2, 1_000), loaded.getInventory().get(0));
+		assertNull(loaded.getInventory().get(1));
+		assertEquals(1_154, loaded.getSkillSet().getExperience(Skill.MINING), 0);
+		assertEquals(Arrays.asList("friend"), loaded.getFriendUsernames());
+	}
+
+	/**
+	 * Creates the {@link PlayerCredentials} of the player.
+	 *
+	 * @return The PlayerCredentials.
+	 */
+	private static PlayerCredentials credentials() {
+		return new PlayerCredentials("snapshot", PASSWORD, 0, 0, "127.0.0.1");
+	}
+
+}
@@ -0,0 +1,112 @@
+package org.apollo.game.journal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.apollo.game.model.Position;
+import org.apollo.game.model.World;
+import org.apollo.game.model.entity.Player;
+import org.apollo.game.model.entity.setting.PrivilegeLevel;
+import org.apollo.util.security.PlayerCredentials;
+import org.junit.Test;
+
+/**
+ * Contains unit tests for the {@link JournalWriter} and {@link JournalReader}.
+ *
+ * @author Major
+ */
+public final class JournalTests {
+
+	/**
+	 * The release number written to the journals.
+	 */
+	private static final int RELEASE = 377;
+
+	/**
+	 * Tests that every type of record is read back as it was written, in the same order.
+	 *
+	 * @throws IOException If the journal could not be read.
+	 */
+	@Test
+	public void roundTrip() throws IOException {
+		Player player = createPlayer();
+		byte[] payload = { 1, 2, 3, -4 };
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (JournalWriter writer = new JournalWriter(output, RELEASE)) {
+			writer.pulse();
+			writer.login(player);
+			writer.message(player, new RecordedMessage(null, 248, payload));
+			writer.synchronize();
+			writer.logout(player);
+		}
+
+		JournalReader reader = new JournalReader(new ByteArrayInputStream(output.toByteArray()));
+		assertEquals(RELEASE, reader.getRelease());
+		assertEquals(JournalConstants.PULSE, reader.next().getType());
+
+		JournalRecord login = reader.next();
+		assertEquals(JournalConstants.LOGIN, login.getType());
+		assertEquals(player.getIndex(), login.getIndex());
+		assertEquals("journal", login.getUsername());
+		assertEquals(PrivilegeLevel.MODERATOR, login.getPrivilegeLevel());
+		assertEquals(new Position(3222, 3218, 1), login.getPosition());
+
+		JournalRecord message = reader.next();
+		assertEquals(JournalConstants.MESSAGE, message.getType());
+		assertEquals(player.getIndex(), message.getIndex());
+		assertEquals(248, message.getOpcode());
+		assertArrayEquals(payload, message.getPayload());
+
+		assertEquals(JournalConstants.SYNCHRONIZE, reader.next().getType());
+
+		JournalRecord logout = reader.next();
+		assertEquals(JournalConstants.LOGOUT, logout.getType());
+		assertEquals(player.getIndex(), logout.getIndex());
+		assertNull(reader.next());
+	}
+
+	/**
+	 * Tests that a record cut short by the end of the journal is treated as the end of the journal.
+	 *
+	 * @throws IOException If the journal could not be read.
+	 */
+	@Test
+	public void truncated() throws IOException {
+		Player player = createPlayer();
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (JournalWriter writer = new JournalWriter(output, RELEASE)) {
+			writer.pulse();
+			writer.message(player, new RecordedMessage(null, 4, new byte[16]));
+		}
+
+		byte[] journal = output.toByteArray();
+		JournalReader reader = new JournalReader(new ByteArrayInputStream(Arrays.copyOf(journal, journal.length - 1)));
+
+		assertEquals(JournalConstants.PULSE, reader.next().getType());
+		assertNull(reader.next());
+	}
+
+	/**
+	 * Creates a {@link Player} and registers it, so that it has an index.
+	 *
+	 * @return The Player.
+	 */
+	private static Player createPlayer() {
+		World world = new World();
+		PlayerCredentials credentials = new PlayerCredentials("journal", "password", 0, 0, "127.0.0.1");
+
+		Player player = new Player(world, credentials, new Position(3222, 3218, 1));
+		player.setPrivilegeLevel(PrivilegeLevel.MODERATOR);
+		world.register(player);
+		return player;
+	}
+
+}
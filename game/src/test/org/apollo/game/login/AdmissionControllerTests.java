@@ -0,0 +1,73 @@
+package org.apollo.game.login;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Contains unit tests for {@link AdmissionController}s.
+ *
+ * @author Major
+ */
+public final class AdmissionControllerTests {
+
+	/**
+	 * The target duration of a pulse used by the tests, in nanoseconds.
+	 */
+	private static final long TARGET = TimeUnit.MILLISECONDS.toNanos(300);
+
+	/**
+	 * Tests that the amount of registrations grows in proportion to the headroom, up to the ceiling.
+	 */
+	@Test
+	public void growth() {
+		AdmissionController admission = new AdmissionController(10, 50, 300, TimeUnit.MILLISECONDS);
+
+		admission.pulseCompleted(TARGET / 2, 10);
+		assertEquals(15, admission.getAllowed());
+
+		admission.pulseCompleted(0, 15);
+		assertEquals(30, admission.getAllowed());
+
+		admission.pulseCompleted(0, 30);
+		assertEquals(50, admission.getAllowed());
+	}
+
+	/**
+	 * Tests that the amount of registrations does not grow if the allowance was not used.
+	 */
+	@Test
+	public void idle() {
+		AdmissionController admission = new AdmissionController(10, 50, 300, TimeUnit.MILLISECONDS);
+		admission.pulseCompleted(0, 3);
+		assertEquals(10, admission.getAllowed());
+	}
+
+	/**
+	 * Tests that the amount of registrations is halved when a pulse is over the target, but never below one.
+	 */
+	@Test
+	public void overload() {
+		AdmissionController admission = new AdmissionController(8, 50, 300, TimeUnit.MILLISECONDS);
+
+		admission.pulseCompleted(TARGET + 1, 8);
+		assertEquals(4, admission.getAllowed());
+
+		for (int pulse = 0; pulse < 5; pulse++) {
+			admission.pulseCompleted(TARGET * 2, 0);
+		}
+
+		assertEquals(1, admission.getAllowed());
+	}
+
+	/**
+	 * Tests that the initial amount of registrations is limited by the ceiling.
+	 */
+	@Test
+	public void initial() {
+		assertEquals(5, new AdmissionController(25, 5, 300, TimeUnit.MILLISECONDS).getAllowed());
+	}
+
+}
@@ -0,0 +1,182 @@
+package org.apollo.game.login;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apollo.game.model.Position;
+import org.apollo.game.model.World;
+import org.apollo.game.model.entity.Player;
+import org.apollo.util.security.PlayerCredentials;
+import org.junit.Test;
+
+/**
+ * Contains unit tests for {@link SuspendedPlayers}.
+ *
+ * @author Major
+ */
+public final class SuspendedPlayersTests {
+
+	/**
+	 * The digest of the credentials the suspended player logged in with.
+	 */
+	private static final byte[] DIGEST = { 1, 2, 3, 4 };
+
+	/**
+	 * The amount of pulses a suspension lasts in the tests.
+	 */
+	private static final int GRACE = 3;
+
+	/**
+	 * The world the players are created in.
+	 */
+	private final World world = new World();
+
+	/**
+	 * Creates a {@link Player} with the specified username.
+	 *
+	 * @param username The username.
+	 * @return The Player.
+	 */
+	private Player player(String username) {
+		PlayerCredentials credentials = new PlayerCredentials(username, "password", 0, 0, "127.0.0.1");
+		return new Player(world, credentials, new Position(3222, 3218));
+	}
+
+	/**
+	 * Tests that a suspended player can be claimed with the digest they logged in with, and only once.
+	 */
+	@Test
+	public void claim() {
+		SuspendedPlayers suspended = new SuspendedPlayers(GRACE);
+		Player player = player("test");
+		suspended.suspend(player, DIGEST);
+
+		assertSame(player, suspended.claim(player.getEncodedName(), DIGEST.clone()));
+		assertNull(suspended.claim(player.getEncodedName(), DIGEST));
+		assertNull(suspended.claim(player("other").getEncodedName(), DIGEST));
+	}
+
+	/**
+	 * Tests that a claim with a different digest fails, and leaves the player suspended.
+	 */
+	@Test
+	public void digestMismatch() {
+		SuspendedPlayers suspended = new SuspendedPlayers(GRACE);
+		Player player = player("test");
+		suspended.suspend(player, DIGEST);
+
+		assertNull(suspended.claim(player.getEncodedName(), new byte[] { 1, 2, 3, 5 }));
+		assertNull(suspended.claim(player.getEncodedName(), new byte[0]));
+		assertSame(player, suspended.claim(player.getEncodedName(), DIGEST));
+	}
+
+	/**
+	 * Tests that a player whose credentials were verified elsewhere can be evicted regardless of the digest.
+	 */
+	@Test
+	public void evict() {
+		SuspendedPlayers suspended = new SuspendedPlayers(GRACE);
+		Player player = player("test");
+		suspended.suspend(player, DIGEST);
+
+		assertSame(player, suspended.evict(player.getEncodedName()));
+		assertNull(suspended.evict(player.getEncodedName()));
+		assertNull(suspended.claim(player.getEncodedName(), DIGEST));
+	}
+
+	/**
+	 * Tests that suspensions expire after the grace period, and that an expired or claimed player is not handed out
+	 * again.
+	 */
+	@Test
+	public void expiry() {
+		SuspendedPlayers suspended = new SuspendedPlayers(GRACE);
+		Player expiring = player("expiring"), claimed = player("claimed");
+		suspended.suspend(expiring, DIGEST);
+		suspended.suspend(claimed, DIGEST);
+
+		for (int pulse = 1; pulse < GRACE; pulse++) {
+			assertTrue(suspended.expire().isEmpty());
+		}
+
+		assertSame(claimed, suspended.claim(claimed.getEncodedName(), DIGEST));
+		assertEquals(Collections.singletonList(expiring), suspended.expire());
+
+		assertNull(suspended.claim(expiring.getEncodedName(), DIGEST));
+		assertTrue(suspended.expire().isEmpty());
+	}
+
+	/**
+	 * Tests that suspending a player again restarts the grace period.
+	 */
+	@Test
+	public void resuspension() {
+		SuspendedPlayers suspended = new SuspendedPlayers(GRACE);
+		Player player = player("test");
+		suspended.suspend(player, DIGEST);
+
+		for (int pulse = 1; pulse < GRACE; pulse++) {
+			suspended.expire();
+		}
+
+		suspended.suspend(player, DIGEST);
+		assertTrue(suspended.expire().isEmpty());
+		assertSame(player, suspended.claim(player.getEncodedName(), DIGEST));
+	}
+
+	/**
+	 * Tests that when several clients reconnect to the same player concurrently, exactly one of them claims it.
+	 *
+	 * @throws Exception If a claiming thread fails.
+	 */
+	@Test
+	public void concurrentClaims() throws Exception {
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		try {
+			for (int round = 0; round < 100; round++) {
+				SuspendedPlayers suspended = new SuspendedPlayers(GRACE);
+				Player player = player("test");
+				suspended.suspend(player, DIGEST);
+
+				CountDownLatch start = new CountDownLatch(1);
+				List<Future<Player>> claims = new ArrayList<>(threads);
+
+				for (int thread = 0; thread < threads; thread++) {
+					claims.add(executor.submit(() -> {
+						start.await();
+						return suspended.claim(player.getEncodedName(), DIGEST);
+					}));
+				}
+
+				start.countDown();
+				int successes = 0;
+
+				for (Future<Player> claim : claims) {
+					Player claimed = claim.get();
+
+					if (claimed != null) {
+						assertSame(player, claimed);
+						successes++;
+					}
+				}
+
+				assertEquals(1, successes);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+}
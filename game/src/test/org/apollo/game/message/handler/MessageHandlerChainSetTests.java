@@ -0,0 +1,132 @@
+package org.apollo.game.message.handler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apollo.game.model.entity.Player;
+import org.apollo.net.message.Message;
+import org.junit.Test;
+
+/**
+ * Tests the {@link MessageHandlerChainSet} class.
+ *
+ * @author Major
+ */
+public final class MessageHandlerChainSetTests {
+
+	/**
+	 * A {@link Message} used as the superclass of other test Messages.
+	 */
+	private static class ParentMessage extends Message {
+
+	}
+
+	/**
+	 * A {@link Message} that extends {@link ParentMessage}.
+	 */
+	private static final class ChildMessage extends ParentMessage {
+
+	}
+
+	/**
+	 * A {@link MessageHandler} that records its name when notified.
+	 */
+	private static final class RecordingHandler<M extends Message> extends MessageHandler<M> {
+
+		/**
+		 * The List of handler names, in the order they were notified.
+		 */
+		private final List<String> order;
+
+		/**
+		 * The name of this handler.
+		 */
+		private final String name;
+
+		/**
+		 * Whether or not this handler terminates the Message.
+		 */
+		private final boolean terminate;
+
+		/**
+		 * Creates the RecordingHandler.
+		 *
+		 * @param order The List to record notifications in.
+		 * @param name The name of the handler.
+		 * @param terminate Whether or not the handler terminates the Message.
+		 */
+		public RecordingHandler(List<String> order, String name, boolean terminate) {
+			super(null);
+			this.order = order;
+			this.name = name;
+			this.terminate = terminate;
+		}
+
+		@Override
+		public void handle(Player player, M message) {
+			order.add(name);
+
+			if (terminate) {
+				message.terminate();
+			}
+		}
+
+	}
+
+	/**
+	 * Ensures that handlers registered for a superclass are notified before those of the Message's own class.
+	 */
+	@Test
+	public void superclassHandlersFirst() {
+		List<String> order = new ArrayList<>();
+		MessageHandlerChainSet chains = new MessageHandlerChainSet();
+
+		chains.putHandler(ChildMessage.class, new RecordingHandler<>(order, "child", false));
+		chains.putHandler(ParentMessage.class, new RecordingHandler<>(order, "parent", false));
+		chains.resolve();
+
+		assertTrue(chains.notify(null, new ChildMessage()));
+		assertEquals(2, order.size());
+		assertEquals("parent", order.get(0));
+		assertEquals("child", order.get(1));
+	}
+
+	/**
+	 * Ensures that terminating a Message stops the remaining handlers from being notified.
+	 */
+	@Test
+	public void termination() {
+		List<String> order = new ArrayList<>();
+		MessageHandlerChainSet chains = new MessageHandlerChainSet();
+
+		chains.putHandler(ParentMessage.class, new RecordingHandler<>(order, "parent", true));
+		chains.putHandler(ChildMessage.class, new RecordingHandler<>(order, "child", false));
+
+		assertFalse(chains.notify(null, new ChildMessage()));
+		assertEquals(1, order.size());
+	}
+
+	/**
+	 * Ensures that placing a handler after the set has been resolved is still observed.
+	 */
+	@Test
+	public void putAfterResolve() {
+		List<String> order = new ArrayList<>();
+		MessageHandlerChainSet chains = new MessageHandlerChainSet();
+
+		chains.putHandler(ParentMessage.class, new RecordingHandler<>(order, "parent", false));
+		chains.resolve();
+		assertTrue(chains.notify(null, new ParentMessage()));
+
+		chains.putHandler(ParentMessage.class, new RecordingHandler<>(order, "late", false));
+		assertTrue(chains.notify(null, new ParentMessage()));
+
+		assertEquals(3, order.size());
+		assertEquals("late", order.get(2));
+	}
+
+}
@@ -0,0 +1,138 @@
+package org.apollo.game.model.area;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Set;
+
+import org.apollo.cache.def.ItemDefinition;
+import org.apollo.game.message.impl.RegionUpdateMessage;
+import org.apollo.game.model.Item;
+import org.apollo.game.model.Position;
+import org.apollo.game.model.World;
+import org.apollo.game.model.entity.Entity;
+import org.apollo.game.model.entity.GroundItem;
+import org.apollo.game.model.entity.obj.DynamicGameObject;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Contains tests for the cached snapshots of the encoded contents of a {@link Region}.
+ *
+ * @author Major
+ */
+public final class RegionTests {
+
+	/**
+	 * The Position that entities are placed at.
+	 */
+	private static final Position POSITION = new Position(3222, 3222);
+
+	/**
+	 * Initialises the item definition used by the tests.
+	 */
+	@BeforeClass
+	public static void createDefinitions() {
+		ItemDefinition.init(new ItemDefinition[] { new ItemDefinition(0) });
+	}
+
+	/**
+	 * The Region containing {@link #POSITION}.
+	 */
+	private final Region region = new Region(POSITION.getRegionCoordinates());
+
+	/**
+	 * The World containing the entities.
+	 */
+	private final World world = new World();
+
+	/**
+	 * Tests that the snapshot of a height level is reused while its contents are unchanged, including after the
+	 * updates of the pulse have been consumed.
+	 */
+	@Test
+	public void reused() {
+		region.addEntity(GroundItem.create(world, POSITION, new Item(0, 10)));
+		int version = region.getVersion(0);
+
+		Set<RegionUpdateMessage> snapshot = region.encode(0);
+		assertEquals(1, snapshot.size());
+		assertSame(snapshot, region.encode(0));
+
+		region.getUpdates(0);
+		assertSame(snapshot, region.encode(0));
+		assertEquals(version, region.getVersion(0));
+	}
+
+	/**
+	 * Tests that adding and removing a tile item bumps the version of its height level, and invalidates its snapshot.
+	 */
+	@Test
+	public void groundItems() {
+		assertInvalidated(GroundItem.create(world, POSITION, new Item(0, 10)));
+	}
+
+	/**
+	 * Tests that adding and removing a dynamic object bumps the version of its height level, and invalidates its
+	 * snapshot.
+	 */
+	@Test
+	public void objects() {
+		assertInvalidated(DynamicGameObject.createPublic(world, 1, POSITION, 10, 0));
+	}
+
+	/**
+	 * Tests that an entity added without notifying the listeners (as the entities of the map are when it is loaded)
+	 * still bumps the version of its height level.
+	 */
+	@Test
+	public void silentAddition() {
+		Set<RegionUpdateMessage> snapshot = region.encode(0);
+		region.addEntity(DynamicGameObject.createPublic(world, 1, POSITION, 10, 0), false);
+
+		assertEquals(1, region.getVersion(0));
+		assertNotSame(snapshot, region.encode(0));
+		assertEquals(1, region.encode(0).size());
+	}
+
+	/**
+	 * Tests that a change to one height level does not invalidate the snapshot of another.
+	 */
+	@Test
+	public void otherHeights() {
+		Set<RegionUpdateMessage> snapshot = region.encode(0);
+		region.addEntity(GroundItem.create(world, new Position(3222, 3222, 1), new Item(0, 10)));
+
+		assertEquals(0, region.getVersion(0));
+		assertEquals(1, region.getVersion(1));
+		assertSame(snapshot, region.encode(0));
+		assertEquals(1, region.encode(1).size());
+	}
+
+	/**
+	 * Asserts that adding and then removing the specified {@link Entity} each bump the version of height level 0, and
+	 * that the snapshot is rebuilt with the new contents after each.
+	 *
+	 * @param entity The Entity.
+	 */
+	private void assertInvalidated(Entity entity) {
+		Set<RegionUpdateMessage> empty = region.encode(0);
+		assertEquals(0, empty.size());
+
+		region.addEntity(entity);
+		assertEquals(1, region.getVersion(0));
+
+		Set<RegionUpdateMessage> added = region.encode(0);
+		assertNotSame(empty, added);
+		assertEquals(1, added.size());
+
+		region.removeEntity(entity);
+		assertEquals(2, region.getVersion(0));
+
+		Set<RegionUpdateMessage> removed = region.encode(0);
+		assertNotSame(added, removed);
+		assertEquals(0, removed.size());
+	}
+
+}
@@ -6,8 +6,12 @@ import static org.junit.Assert.assertTrue;
 import static org.powermock.api.mockito.PowerMockito.mock;
 import static org.powermock.api.mockito.PowerMockito.when;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -103,6 +107,102 @@ public final class MobRepositoryTests {
 		assertFalse(players.add(player));
 	}
 
+	/**
+	 * Ensures that iteration visits Mobs in high slots after Mobs in lower slots have been removed.
+	 */
+	@Test
+	public void iterateAfterRemoval() {
+		MobRepository<Player> players = new MobRepository<>(CAPACITY);
+		Player[] added = add(players, CAPACITY);
+
+		for (int index = 0; index < CAPACITY - 1; index++) {
+			players.remove(added[index]);
+		}
+
+		Iterator<Player> iterator = players.iterator();
+		assertTrue(iterator.hasNext());
+		assertEquals(added[CAPACITY - 1], iterator.next());
+		assertFalse(iterator.hasNext());
+	}
+
+	/**
+	 * Ensures that every Mob is visited when each one is removed from the repository during iteration.
+	 */
+	@Test
+	public void removeDuringIteration() {
+		MobRepository<Player> players = new MobRepository<>(CAPACITY);
+		add(players, CAPACITY);
+
+		int visited = 0;
+		for (Player player : players) {
+			players.remove(player);
+			visited++;
+		}
+
+		assertEquals(CAPACITY, visited);
+		assertEquals(0, players.size());
+	}
+
+	/**
+	 * Ensures that the slot of a removed Mob is reused without disturbing the indices of other Mobs.
+	 */
+	@Test
+	public void reuseSlot() {
+		MobRepository<Player> players = new MobRepository<>(CAPACITY);
+		Player[] added = add(players, 3);
+		players.remove(added[1]);
+
+		Player player = mock(Player.class);
+		assertTrue(players.add(player));
+
+		assertEquals(added[0], players.get(1));
+		assertEquals(player, players.get(2));
+		assertEquals(added[2], players.get(3));
+	}
+
+	/**
+	 * Tests that the {@link Spliterator} of a MobRepository partitions every Mob exactly once.
+	 */
+	@Test
+	public void spliterator() {
+		MobRepository<Player> players = new MobRepository<>(CAPACITY);
+		Player[] added = add(players, CAPACITY);
+		players.remove(added[4]);
+
+		Spliterator<Player> second = players.spliterator();
+		Spliterator<Player> first = second.trySplit();
+		assertEquals(CAPACITY - 1, first.estimateSize() + second.estimateSize());
+
+		List<Player> visited = new ArrayList<>();
+		first.forEachRemaining(visited::add);
+		second.forEachRemaining(visited::add);
+
+		List<Player> expected = new ArrayList<>(Arrays.asList(added));
+		expected.remove(4);
+		assertEquals(expected, visited);
+	}
+
+	/**
+	 * Adds the specified amount of mocked {@link Player}s to the repository, which must be empty.
+	 *
+	 * @param players The MobRepository.
+	 * @param count The amount of Players.
+	 * @return The added Players.
+	 */
+	private static Player[] add(MobRepository<Player> players, int count) {
+		Player[] added = new Player[count];
+
+		for (int index = 0; index < count; index++) {
+			Player player = mock(Player.class);
+			when(player.getIndex()).thenReturn(index + 1);
+
+			players.add(player);
+			added[index] = player;
+		}
+
+		return added;
+	}
+
 	/**
 	 * Tests {@link Iterator#hasNext()} for a MobRepository.
 	 */
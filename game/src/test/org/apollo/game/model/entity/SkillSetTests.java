@@ -1,5 +1,10 @@
 package org.apollo.game.model.entity;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apollo.game.model.skill.SkillAdapter;
 import org.junit.Test;
 
 import static org.junit.Assert.*;
@@ -70,4 +75,63 @@ public final class SkillSetTests {
 		assertEquals(skillSet.getSkill(Skill.ATTACK).getCurrentLevel(), 2);
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Tests that changes are only reported when the set is flushed, once per changed skill, and that a change to every
+	 * skill is reported as a single refresh.
+	 */
+	@Test
+	public void flush() {
+		SkillSet skillSet = new SkillSet();
+		List<Integer> updated = new ArrayList<>();
+		int[] refreshes = new int[1];
+
+		skillSet.addListener(new SkillAdapter() {
+
+			@Override
+			public void skillsUpdated(SkillSet set) {
+				refreshes[0]++;
+			}
+
+			@Override
+			public void skillUpdated(SkillSet set, int id, Skill skill) {
+				updated.add(id);
+			}
+
+		});
+
+		skillSet.addExperience(Skill.MINING, 50);
+		skillSet.addExperience(Skill.MINING, 50);
+		skillSet.setCurrentLevel(Skill.ATTACK, 5);
+		assertTrue(updated.isEmpty());
+
+		skillSet.flush();
+		assertEquals(Arrays.asList(Skill.ATTACK, Skill.MINING), updated);
+
+		skillSet.flush();
+		assertEquals(2, updated.size());
+
+		skillSet.forceRefresh();
+		skillSet.normalize();
+		skillSet.flush();
+		assertEquals(1, refreshes[0]);
+		assertEquals(2, updated.size());
+	}
+
+	/**
+	 * Tests {@link SkillSet#getLevelForExperience(double)} at and either side of the experience required for every
+	 * level.
+	 */
+	@Test
+	public void levelForExperience() {
+		assertEquals(1, SkillSet.getLevelForExperience(0));
+		assertEquals(99, SkillSet.getLevelForExperience(SkillSet.MAXIMUM_EXP));
+
+		for (int level = 2; level <= 99; level++) {
+			int experience = SkillSet.getExperienceForLevel(level);
+			assertEquals(level - 1, SkillSet.getLevelForExperience(experience - 0.5));
+			assertEquals(level, SkillSet.getLevelForExperience(experience));
+			assertEquals(level, SkillSet.getLevelForExperience(experience + 0.5));
+		}
+	}
+
+}
@@ -0,0 +1,133 @@
+package org.apollo.game.model.entity.attr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Contains unit tests for {@link AttributeMap}s.
+ *
+ * @author Major
+ */
+public final class AttributeMapTests {
+
+	/**
+	 * The AttributeKey of the persistent double attribute.
+	 */
+	private static AttributeKey accuracy;
+
+	/**
+	 * The AttributeKey of the transient boolean attribute.
+	 */
+	private static AttributeKey fighting;
+
+	/**
+	 * The AttributeKey of the persistent long attribute.
+	 */
+	private static AttributeKey kills;
+
+	/**
+	 * The AttributeKey of the persistent symbol attribute.
+	 */
+	private static AttributeKey stance;
+
+	/**
+	 * Defines the attributes used by the tests.
+	 */
+	@BeforeClass
+	public static void define() {
+		accuracy = AttributeMap.define("map_accuracy", AttributeDefinition.forDouble(0.5, AttributePersistence.PERSISTENT));
+		fighting = AttributeMap.define("map_fighting", AttributeDefinition.forBoolean(false, AttributePersistence.TRANSIENT));
+		kills = AttributeMap.define("map_kills", AttributeDefinition.forInt(0, AttributePersistence.PERSISTENT));
+		stance = AttributeMap.define("map_stance", new AttributeDefinition<>("aggressive", AttributePersistence.PERSISTENT,
+			AttributeType.SYMBOL));
+	}
+
+	/**
+	 * Tests that the {@link String}-keyed methods read and write the same slots as the {@link AttributeKey}s.
+	 */
+	@Test
+	public void compatibility() {
+		AttributeMap map = new AttributeMap();
+		map.set("map_kills", new NumericalAttribute(12));
+		assertEquals(12, map.getLong(kills));
+
+		map.setString(stance, "defensive");
+		Attribute<String> attribute = map.get("map_stance");
+		assertEquals("defensive", attribute.getValue());
+		assertEquals(AttributeType.SYMBOL, attribute.getType());
+
+		map.set("map_accuracy", new NumericalAttribute(2L));
+		assertEquals(2.0, map.getDouble(accuracy), 0);
+		assertEquals(3, map.getAttributes().size());
+	}
+
+	/**
+	 * Tests that unassigned attributes take their default value, and that assigned attributes take theirs.
+	 */
+	@Test
+	public void defaults() {
+		AttributeMap map = new AttributeMap();
+		assertEquals(0.5, map.getDouble(accuracy), 0);
+		assertFalse(map.getBoolean(fighting));
+		assertEquals(0, map.getLong(kills));
+		assertEquals("aggressive", map.getString(stance));
+		assertEquals(0, map.size());
+
+		map.setBoolean(fighting, true);
+		map.setLong(kills, 3);
+		assertTrue(map.getBoolean(fighting));
+		assertEquals(3, map.getLong(kills));
+		assertTrue(map.isAssigned(kills));
+		assertFalse(map.isAssigned(accuracy));
+		assertEquals(2, map.size());
+	}
+
+	/**
+	 * Tests that defining an attribute interns its name, and that redefining it keeps the id of its key.
+	 */
+	@Test
+	public void interning() {
+		assertSame(kills, AttributeMap.getKey("map_kills"));
+		assertSame(kills, AttributeMap.getKeys().get(kills.getId()));
+
+		AttributeKey key = AttributeMap.define("map_redefined", AttributeDefinition.forInt(1, AttributePersistence.TRANSIENT));
+		AttributeKey redefined = AttributeMap.define("map_redefined", AttributeDefinition.forInt(2,
+			AttributePersistence.TRANSIENT));
+
+		assertEquals(key.getId(), redefined.getId());
+		assertEquals(2, new AttributeMap().getLong(redefined));
+	}
+
+	/**
+	 * Tests that copying the persistent attributes skips transient and unassigned attributes, and that the copy is
+	 * unaffected by later changes.
+	 */
+	@Test
+	public void persistentCopy() {
+		AttributeMap map = new AttributeMap();
+		map.setBoolean(fighting, true);
+		map.setLong(kills, 5);
+
+		AttributeMap copy = map.copyPersistent();
+		map.setLong(kills, 6);
+
+		assertEquals(1, copy.size());
+		assertEquals(5, copy.getLong(kills));
+		assertFalse(copy.isAssigned(fighting));
+		assertFalse(copy.isAssigned(accuracy));
+	}
+
+	/**
+	 * Tests that reading an attribute as the wrong type fails.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void wrongType() {
+		new AttributeMap().getBoolean(kills);
+	}
+
+}
@@ -0,0 +1,86 @@
+package org.apollo.game.model.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link EventListenerChainSet} class.
+ *
+ * @author Major
+ */
+public final class EventListenerChainSetTests {
+
+	/**
+	 * An {@link Event} used for testing.
+	 */
+	private static final class FirstEvent extends Event {
+
+	}
+
+	/**
+	 * Another {@link Event} used for testing.
+	 */
+	private static final class SecondEvent extends Event {
+
+	}
+
+	/**
+	 * Tests {@link EventListenerChainSet#hasListeners(Class)}.
+	 */
+	@Test
+	public void hasListeners() {
+		EventListenerChainSet events = new EventListenerChainSet();
+		assertFalse(events.hasListeners(FirstEvent.class));
+
+		events.putListener(SecondEvent.class, event -> { });
+		assertFalse(events.hasListeners(FirstEvent.class));
+		assertTrue(events.hasListeners(SecondEvent.class));
+
+		events.putListener(FirstEvent.class, event -> { });
+		assertTrue(events.hasListeners(FirstEvent.class));
+	}
+
+	/**
+	 * Tests {@link EventListenerChainSet#notify(Event)}, ensuring that only the listeners for the submitted type are
+	 * notified, and that termination stops the chain.
+	 */
+	@Test
+	public void notifyListeners() {
+		EventListenerChainSet events = new EventListenerChainSet();
+		AtomicInteger first = new AtomicInteger(), second = new AtomicInteger();
+
+		events.putListener(FirstEvent.class, event -> first.incrementAndGet());
+		events.putListener(SecondEvent.class, event -> second.incrementAndGet());
+		events.putListener(SecondEvent.class, Event::terminate);
+		events.putListener(SecondEvent.class, event -> second.incrementAndGet());
+
+		assertTrue(events.notify(new FirstEvent()));
+		assertEquals(1, first.get());
+		assertEquals(0, second.get());
+
+		assertFalse(events.notify(new SecondEvent()));
+		assertEquals(1, second.get());
+	}
+
+	/**
+	 * Tests {@link EventListenerChainSet#getStatistics()}.
+	 */
+	@Test
+	public void statistics() {
+		EventListenerChainSet events = new EventListenerChainSet();
+		events.putListener(FirstEvent.class, event -> { });
+
+		events.notify(new FirstEvent());
+		events.notify(new FirstEvent());
+		events.notify(new SecondEvent());
+
+		assertEquals(1, events.getStatistics().size());
+		assertEquals(2, events.getStatistics().get(FirstEvent.class).getInvocations());
+	}
+
+}
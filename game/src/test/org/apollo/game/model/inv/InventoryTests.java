@@ -0,0 +1,349 @@
+package org.apollo.game.model.inv;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.apollo.cache.def.ItemDefinition;
+import org.apollo.game.model.Item;
+import org.apollo.game.model.inv.Inventory.StackMode;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests the {@link Inventory} class, by applying random sequences of operations to an Inventory and to a reference
+ * model that scans every slot, and checking that both agree after every operation.
+ *
+ * @author Major
+ */
+public final class InventoryTests {
+
+	/**
+	 * The capacity of the tested inventories.
+	 */
+	private static final int CAPACITY = 28;
+
+	/**
+	 * The number of item definitions - items with an even id are stackable.
+	 */
+	private static final int ITEMS = 8;
+
+	/**
+	 * The number of operations applied in each run.
+	 */
+	private static final int OPERATIONS = 5_000;
+
+	/**
+	 * A reference inventory, which finds items and free slots by scanning every slot.
+	 */
+	private static final class ReferenceInventory {
+
+		/**
+		 * The items.
+		 */
+		private final Item[] items = new Item[CAPACITY];
+
+		/**
+		 * The stacking mode.
+		 */
+		private final StackMode mode;
+
+		/**
+		 * Creates the reference inventory.
+		 *
+		 * @param mode The stacking mode.
+		 */
+		public ReferenceInventory(StackMode mode) {
+			this.mode = mode;
+		}
+
+		/**
+		 * Adds the specified amount of the item with the specified id.
+		 *
+		 * @param id The id.
+		 * @param amount The amount.
+		 * @return The amount that remains.
+		 */
+		public int add(int id, int amount) {
+			if (isStackable(id)) {
+				int slot = slotOf(id);
+
+				if (slot != -1) {
+					long total = (long) items[slot].getAmount() + amount;
+					int remaining = total > Integer.MAX_VALUE ? (int) (total - Integer.MAX_VALUE) : 0;
+					items[slot] = new Item(id, (int) (total - remaining));
+					return remaining;
+				}
+
+				for (slot = 0; slot < CAPACITY; slot++) {
+					if (items[slot] == null) {
+						items[slot] = new Item(id, amount);
+						return 0;
+					}
+				}
+
+				return amount;
+			}
+
+			for (int slot = 0; slot < CAPACITY && amount > 0; slot++) {
+				if (items[slot] == null) {
+					items[slot] = new Item(id, 1);
+					amount--;
+				}
+			}
+
+			return amount;
+		}
+
+		/**
+		 * Gets the amount of the item with the specified id.
+		 *
+		 * @param id The id.
+		 * @return The amount.
+		 */
+		public int getAmount(int id) {
+			if (isStackable(id)) {
+				int slot = slotOf(id);
+				return slot == -1 ? 0 : items[slot].getAmount();
+			}
+
+			int amount = 0;
+			for (Item item : items) {
+				if (item != null && item.getId() == id) {
+					amount++;
+				}
+			}
+
+			return amount;
+		}
+
+		/**
+		 * Returns whether or not the item with the specified id is stacked.
+		 *
+		 * @param id The id.
+		 * @return {@code true} if the item is stacked, otherwise {@code false}.
+		 */
+		private boolean isStackable(int id) {
+			return mode == StackMode.STACK_ALWAYS || mode == StackMode.STACK_STACKABLE_ITEMS && id % 2 == 0;
+		}
+
+		/**
+		 * Removes the specified amount of the item with the specified id.
+		 *
+		 * @param id The id.
+		 * @param amount The amount.
+		 * @return The amount that was removed.
+		 */
+		public int remove(int id, int amount) {
+			if (isStackable(id)) {
+				int slot = slotOf(id);
+				if (slot == -1) {
+					return 0;
+				}
+
+				Item item = items[slot];
+				int removed = Math.min(amount, item.getAmount());
+				items[slot] = removed == item.getAmount() ? null : new Item(id, item.getAmount() - removed);
+				return removed;
+			}
+
+			int removed = 0;
+			for (int slot = 0; slot < CAPACITY && removed < amount; slot++) {
+				if (items[slot] != null && items[slot].getId() == id) {
+					items[slot] = null;
+					removed++;
+				}
+			}
+
+			return removed;
+		}
+
+		/**
+		 * Shifts every item to the start of the inventory.
+		 */
+		public void shift() {
+			Item[] old = items.clone();
+			Arrays.fill(items, null);
+
+			for (int slot = 0, position = 0; slot < CAPACITY; slot++) {
+				if (old[slot] != null) {
+					items[position++] = old[slot];
+				}
+			}
+		}
+
+		/**
+		 * Gets the size of the inventory.
+		 *
+		 * @return The number of used slots.
+		 */
+		public int size() {
+			int size = 0;
+			for (Item item : items) {
+				if (item != null) {
+					size++;
+				}
+			}
+
+			return size;
+		}
+
+		/**
+		 * Gets the first slot containing the item with the specified id.
+		 *
+		 * @param id The id.
+		 * @return The slot, or {@code -1} if the item is not in the inventory.
+		 */
+		public int slotOf(int id) {
+			for (int slot = 0; slot < CAPACITY; slot++) {
+				if (items[slot] != null && items[slot].getId() == id) {
+					return slot;
+				}
+			}
+
+			return -1;
+		}
+
+	}
+
+	/**
+	 * Initialises the item definitions used by the tests.
+	 */
+	@BeforeClass
+	public static void createDefinitions() {
+		ItemDefinition[] definitions = new ItemDefinition[ITEMS];
+
+		for (int id = 0; id < ITEMS; id++) {
+			definitions[id] = new ItemDefinition(id);
+			definitions[id].setStackable(id % 2 == 0);
+		}
+
+		ItemDefinition.init(definitions);
+	}
+
+	/**
+	 * Tests an inventory in {@link StackMode#STACK_ALWAYS} mode.
+	 */
+	@Test
+	public void stackAlways() {
+		verify(StackMode.STACK_ALWAYS, 1);
+	}
+
+	/**
+	 * Tests an inventory in {@link StackMode#STACK_NEVER} mode.
+	 */
+	@Test
+	public void stackNever() {
+		verify(StackMode.STACK_NEVER, 2);
+	}
+
+	/**
+	 * Tests an inventory in {@link StackMode#STACK_STACKABLE_ITEMS} mode.
+	 */
+	@Test
+	public void stackStackableItems() {
+		verify(StackMode.STACK_STACKABLE_ITEMS, 3);
+	}
+
+	/**
+	 * Tests that a duplicated inventory has its own, consistent slot index.
+	 */
+	@Test
+	public void duplicate() {
+		Inventory inventory = new Inventory(CAPACITY, StackMode.STACK_NEVER);
+		inventory.add(1, 3);
+
+		Inventory copy = inventory.duplicate();
+		copy.remove(1, 2);
+
+		assertEquals(3, inventory.getAmount(1));
+		assertEquals(1, copy.getAmount(1));
+		assertEquals(2, copy.slotOf(1));
+		assertEquals(CAPACITY - 1, copy.freeSlots());
+	}
+
+	/**
+	 * Applies random operations to an {@link Inventory} and a {@link ReferenceInventory}, asserting that they agree
+	 * after each one.
+	 *
+	 * @param mode The stacking mode.
+	 * @param seed The seed of the random operations.
+	 */
+	private static void verify(StackMode mode, long seed) {
+		Random random = new Random(seed);
+		Inventory inventory = new Inventory(CAPACITY, mode);
+		ReferenceInventory reference = new ReferenceInventory(mode);
+
+		for (int operation = 0; operation < OPERATIONS; operation++) {
+			int id = random.nextInt(ITEMS);
+			int amount = 1 + random.nextInt(4);
+			int slot = random.nextInt(CAPACITY), other = random.nextInt(CAPACITY);
+
+			switch (random.nextInt(8)) {
+				case 0:
+				case 1:
+					assertEquals(reference.add(id, amount), inventory.add(id, amount));
+					break;
+				case 2:
+				case 3:
+					assertEquals(reference.remove(id, amount), inventory.remove(id, amount));
+					break;
+				case 4:
+					Item item = random.nextBoolean() ? null : new Item(id, amount);
+					inventory.set(slot, item);
+					reference.items[slot] = item;
+					break;
+				case 5:
+					inventory.swap(slot, other);
+					Item swapped = reference.items[slot];
+					reference.items[slot] = reference.items[other];
+					reference.items[other] = swapped;
+					break;
+				case 6:
+					inventory.shift();
+					reference.shift();
+					break;
+				case 7:
+					if (random.nextInt(10) == 0) {
+						inventory.clear();
+						Arrays.fill(reference.items, null);
+					} else {
+						inventory.swap(true, slot, other);
+						insert(reference.items, slot, other);
+					}
+					break;
+			}
+
+			assertArrayEquals(reference.items, inventory.getItems());
+			assertEquals(reference.size(), inventory.size());
+			assertEquals(CAPACITY - reference.size(), inventory.freeSlots());
+
+			for (int item = 0; item < ITEMS; item++) {
+				assertEquals(reference.slotOf(item), inventory.slotOf(item));
+				assertEquals(reference.getAmount(item), inventory.getAmount(item));
+			}
+		}
+	}
+
+	/**
+	 * Moves the item in the old slot to the new slot, shifting the items in between.
+	 *
+	 * @param items The items.
+	 * @param oldSlot The old slot.
+	 * @param newSlot The new slot.
+	 */
+	private static void insert(Item[] items, int oldSlot, int newSlot) {
+		Item moved = items[oldSlot];
+
+		if (newSlot > oldSlot) {
+			System.arraycopy(items, oldSlot + 1, items, oldSlot, newSlot - oldSlot);
+		} else {
+			System.arraycopy(items, newSlot, items, newSlot + 1, oldSlot - newSlot);
+		}
+
+		items[newSlot] = moved;
+	}
+
+}
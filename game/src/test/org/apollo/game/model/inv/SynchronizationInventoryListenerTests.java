@@ -0,0 +1,178 @@
+package org.apollo.game.model.inv;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import org.apollo.cache.def.ItemDefinition;
+import org.apollo.game.message.impl.UpdateItemsMessage;
+import org.apollo.game.message.impl.UpdateSlottedItemsMessage;
+import org.apollo.game.model.Item;
+import org.apollo.game.model.Position;
+import org.apollo.game.model.World;
+import org.apollo.game.model.entity.Player;
+import org.apollo.game.session.GameSession;
+import org.apollo.util.security.PlayerCredentials;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Contains tests for {@link SynchronizationInventoryListener}, which coalesces the changes made to an inventory during
+ * a tick into a single message.
+ *
+ * @author Major
+ */
+public final class SynchronizationInventoryListenerTests {
+
+	/**
+	 * The amount of item definitions - items with an even id are stackable.
+	 */
+	private static final int ITEMS = 8;
+
+	/**
+	 * Initialises the item definitions used by the tests.
+	 */
+	@BeforeClass
+	public static void createDefinitions() {
+		ItemDefinition[] definitions = new ItemDefinition[ITEMS];
+
+		for (int id = 0; id < ITEMS; id++) {
+			definitions[id] = new ItemDefinition(id);
+			definitions[id].setStackable(id % 2 == 0);
+		}
+
+		ItemDefinition.init(definitions);
+	}
+
+	/**
+	 * The channel that the messages sent to the player are written to.
+	 */
+	private EmbeddedChannel channel;
+
+	/**
+	 * The player's inventory.
+	 */
+	private Inventory inventory;
+
+	/**
+	 * The player.
+	 */
+	private Player player;
+
+	/**
+	 * Creates an active player whose messages are written to {@link #channel}.
+	 */
+	@Before
+	public void createPlayer() {
+		PlayerCredentials credentials = new PlayerCredentials("test", "password", 0, 0, "127.0.0.1");
+		player = new Player(new World(), credentials, new Position(3222, 3218));
+		channel = new EmbeddedChannel();
+
+		player.setSession(new GameSession(channel, null, player, false, null, new byte[0]));
+		player.setIndex(1);
+		inventory = player.getInventory();
+	}
+
+	/**
+	 * Ensures that several stackable items added during the same tick are sent in a single message containing only
+	 * the slots that changed, and that nothing is sent until the player's inventory updates are flushed.
+	 */
+	@Test
+	public void coalescesAdditions() {
+		inventory.add(2, 5);
+		inventory.add(4, 1);
+		inventory.add(2, 3);
+		assertNull(channel.readOutbound());
+
+		player.flushInventoryUpdates();
+		UpdateSlottedItemsMessage message = (UpdateSlottedItemsMessage) channel.readOutbound();
+		assertEquals(SynchronizationInventoryListener.INVENTORY_ID, message.getInterfaceId());
+
+		SlottedItem[] items = message.getSlottedItems();
+		assertEquals(2, items.length);
+		assertEquals(0, items[0].getSlot());
+		assertEquals(2, items[0].getId());
+		assertEquals(8, items[0].getAmount());
+		assertEquals(1, items[1].getSlot());
+		assertEquals(4, items[1].getId());
+
+		assertNull(channel.readOutbound());
+		player.flushInventoryUpdates();
+		assertNull(channel.readOutbound());
+	}
+
+	/**
+	 * Ensures that several unstackable items added during the same tick, each of which refreshes the whole
+	 * inventory, are sent in a single full update.
+	 */
+	@Test
+	public void coalescesRefreshes() {
+		inventory.add(1);
+		inventory.add(3);
+		inventory.add(5);
+
+		player.flushInventoryUpdates();
+		UpdateItemsMessage message = (UpdateItemsMessage) channel.readOutbound();
+		assertEquals(5, message.getItems()[2].getId());
+		assertNull(channel.readOutbound());
+	}
+
+	/**
+	 * Ensures that a refresh combined with changes to individual slots during the same tick results in a single full
+	 * update, containing the state of the inventory at the time of the flush.
+	 */
+	@Test
+	public void refreshWithSlotChanges() {
+		inventory.set(0, new Item(1));
+		inventory.forceRefresh();
+		inventory.set(5, new Item(2));
+
+		player.flushInventoryUpdates();
+		UpdateItemsMessage message = (UpdateItemsMessage) channel.readOutbound();
+		assertEquals(SynchronizationInventoryListener.INVENTORY_ID, message.getInterfaceId());
+
+		Item[] items = message.getItems();
+		assertEquals(inventory.capacity(), items.length);
+		assertEquals(1, items[0].getId());
+		assertEquals(2, items[5].getId());
+		assertNull(channel.readOutbound());
+	}
+
+	/**
+	 * Ensures that changes to just under half of the slots are sent individually.
+	 */
+	@Test
+	public void belowThreshold() {
+		int changed = (inventory.capacity() - 1) / 2;
+		for (int slot = 0; slot < changed; slot++) {
+			inventory.set(slot, new Item(1));
+		}
+
+		player.flushInventoryUpdates();
+		Object message = channel.readOutbound();
+		assertTrue(message instanceof UpdateSlottedItemsMessage);
+		assertEquals(changed, ((UpdateSlottedItemsMessage) message).getSlottedItems().length);
+		assertNull(channel.readOutbound());
+	}
+
+	/**
+	 * Ensures that changes to at least half of the slots are sent as a full update.
+	 */
+	@Test
+	public void atThreshold() {
+		int changed = (inventory.capacity() + 1) / 2;
+		for (int slot = 0; slot < changed; slot++) {
+			inventory.set(slot, new Item(1));
+		}
+
+		player.flushInventoryUpdates();
+		Object message = channel.readOutbound();
+		assertTrue(message instanceof UpdateItemsMessage);
+		assertEquals(inventory.capacity(), ((UpdateItemsMessage) message).getItems().length);
+		assertNull(channel.readOutbound());
+	}
+
+}
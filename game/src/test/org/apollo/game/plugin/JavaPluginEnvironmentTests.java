@@ -0,0 +1,180 @@
+package org.apollo.game.plugin;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.apollo.game.model.World;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Contains unit tests for {@link JavaPluginEnvironment}s.
+ *
+ * @author Major
+ */
+public final class JavaPluginEnvironmentTests {
+
+	/**
+	 * A {@link JavaPlugin} that records the World it was started with.
+	 */
+	public static final class RecordingPlugin implements JavaPlugin {
+
+		/**
+		 * The World the last RecordingPlugin was started with.
+		 */
+		private static World started;
+
+		@Override
+		public void start(World world, PluginContext context) {
+			started = world;
+		}
+
+	}
+
+	/**
+	 * The name reported by the last plugin compiled by {@link #dependencies} that was started.
+	 */
+	private static String reported;
+
+	/**
+	 * Records the name reported by a plugin compiled by {@link #dependencies}.
+	 *
+	 * @param name The name.
+	 */
+	public static void report(String name) {
+		reported = name;
+	}
+
+	/**
+	 * The temporary folder the plugins compiled by the tests are written to.
+	 */
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Tests that a plugin can use the classes in the jars of the plugins it depends on, but not of other plugins.
+	 *
+	 * @throws IOException If a plugin could not be compiled or loaded.
+	 */
+	@Test
+	public void dependencies() throws IOException {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		Assume.assumeNotNull(compiler);
+
+		File library = folder.newFolder("library"), dependent = folder.newFolder("dependent");
+		compile(compiler, library, "library.Library",
+				"package library; public final class Library { public static String name() { return \"library\"; } }");
+		compile(compiler, dependent, "dependent.DependentPlugin", "package dependent; public final class DependentPlugin "
+				+ "implements org.apollo.game.plugin.JavaPlugin { public void start(org.apollo.game.model.World world, "
+				+ "org.apollo.game.plugin.PluginContext context) { "
+				+ "org.apollo.game.plugin.JavaPluginEnvironmentTests.report(library.Library.name()); } }", library);
+
+		String[] none = new String[0], classes = { "dependent.DependentPlugin" };
+		JavaPluginEnvironment environment = new JavaPluginEnvironment(new World());
+		environment.load(new PluginMetaData("library", library, "Library", "A library.", none, none, none, none, 1));
+
+		try {
+			environment.load(new PluginMetaData("isolated", dependent, "Isolated", "A plugin without dependencies.",
+					none, none, classes, none, 1));
+			throw new AssertionError("Loaded a class from a plugin that was not declared as a dependency.");
+		} catch (NoClassDefFoundError expected) {
+			// The dependent plugin can only see the library if it declares it as a dependency.
+		}
+
+		environment.load(new PluginMetaData("dependent", dependent, "Dependent", "A plugin with a dependency.", none,
+				none, classes, new String[] { "library" }, 1));
+		assertEquals("library", reported);
+	}
+
+	/**
+	 * Tests that the classes listed by a plugin are instantiated and started.
+	 *
+	 * @throws IOException If the plugin could not be loaded.
+	 */
+	@Test
+	public void load() throws IOException {
+		World world = new World();
+		JavaPluginEnvironment environment = new JavaPluginEnvironment(world);
+
+		environment.load(plugin(RecordingPlugin.class.getName()));
+		assertSame(world, RecordingPlugin.started);
+	}
+
+	/**
+	 * Tests that a listed class which does not implement {@link JavaPlugin} is rejected.
+	 *
+	 * @throws IOException If the plugin could not be loaded.
+	 */
+	@Test(expected = IOException.class)
+	public void notAPlugin() throws IOException {
+		new JavaPluginEnvironment(new World()).load(plugin(String.class.getName()));
+	}
+
+	/**
+	 * Compiles the specified source into a jar in the specified folder.
+	 *
+	 * @param compiler The {@link JavaCompiler}.
+	 * @param base The folder to write the jar to.
+	 * @param name The fully-qualified name of the class.
+	 * @param source The source of the class.
+	 * @param dependencies The folders containing the jars the class depends on.
+	 * @throws IOException If the source could not be compiled, or the jar could not be written.
+	 */
+	private void compile(JavaCompiler compiler, File base, String name, String source, File... dependencies)
+			throws IOException {
+		Path sources = folder.newFolder().toPath(), classes = folder.newFolder().toPath();
+		Path file = sources.resolve(name.substring(name.lastIndexOf('.') + 1) + ".java");
+		Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+
+		StringBuilder classpath = new StringBuilder(System.getProperty("java.class.path"));
+		for (File dependency : dependencies) {
+			classpath.append(File.pathSeparator).append(new File(dependency, "plugin.jar"));
+		}
+
+		int result = compiler.run(null, null, null, "-d", classes.toString(), "-cp", classpath.toString(),
+				file.toString());
+		assertEquals("Failed to compile " + name + ".", 0, result);
+
+		List<Path> compiled;
+		try (Stream<Path> paths = Files.walk(classes)) {
+			compiled = paths.filter(Files::isRegularFile).collect(Collectors.toList());
+		}
+
+		try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(base.toPath().resolve("plugin.jar")))) {
+			for (Path path : compiled) {
+				jar.putNextEntry(new JarEntry(classes.relativize(path).toString().replace(File.separatorChar, '/')));
+				Files.copy(path, (OutputStream) jar);
+				jar.closeEntry();
+			}
+		}
+	}
+
+	/**
+	 * Creates the {@link PluginMetaData} of a plugin with the specified class and no scripts.
+	 *
+	 * @param type The fully-qualified name of the class.
+	 * @return The PluginMetaData.
+	 */
+	private static PluginMetaData plugin(String type) {
+		String[] none = new String[0];
+		return new PluginMetaData("test", new File("."), "Test", "A test plugin.", none, none, new String[] { type }, none, 1);
+	}
+
+}
@@ -0,0 +1,234 @@
+package org.apollo.game.session;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.powermock.api.mockito.PowerMockito.mock;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.apollo.ServerContext;
+import org.apollo.game.message.impl.IdAssignmentMessage;
+import org.apollo.game.message.impl.RegionChangeMessage;
+import org.apollo.game.model.Position;
+import org.apollo.game.model.World;
+import org.apollo.game.model.entity.Player;
+import org.apollo.game.service.GameService;
+import org.apollo.game.service.LoginService;
+import org.apollo.game.sync.task.NpcSynchronizationTask;
+import org.apollo.game.sync.task.PlayerSynchronizationTask;
+import org.apollo.game.sync.task.PrePlayerSynchronizationTask;
+import org.apollo.net.codec.game.PacketRateLimits;
+import org.apollo.net.codec.login.LoginConstants;
+import org.apollo.net.codec.login.LoginRequest;
+import org.apollo.net.codec.login.LoginResponse;
+import org.apollo.net.release.Release;
+import org.apollo.util.security.IsaacRandom;
+import org.apollo.util.security.IsaacRandomPair;
+import org.apollo.util.security.PlayerCredentials;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+/**
+ * Contains tests for the resumption of suspended {@link Player}s by a {@link LoginSession}.
+ *
+ * @author Major
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({ ServerContext.class, GameService.class, LoginService.class })
+public final class LoginSessionTests {
+
+	/**
+	 * An outbound handler that records every message written to the channel, instead of encoding it.
+	 */
+	private static final class MessageRecorder extends ChannelOutboundHandlerAdapter {
+
+		/**
+		 * The messages, in the order they were written.
+		 */
+		private final List<Object> messages = new ArrayList<>();
+
+		@Override
+		public void write(ChannelHandlerContext ctx, Object message, ChannelPromise promise) {
+			messages.add(message);
+			promise.setSuccess();
+		}
+
+	}
+
+	/**
+	 * The credentials of the player.
+	 */
+	private static final PlayerCredentials CREDENTIALS = new PlayerCredentials("test", "password", 0, 0,
+			"127.0.0.1");
+
+	/**
+	 * The ServerContext.
+	 */
+	private ServerContext context;
+
+	/**
+	 * The player, which is suspended by {@link #suspend}.
+	 */
+	private Player player;
+
+	/**
+	 * The world.
+	 */
+	private final World world = new World();
+
+	/**
+	 * Creates the {@link ServerContext} and the player.
+	 */
+	@Before
+	public void setup() {
+		context = mock(ServerContext.class);
+		when(context.getGameService()).thenReturn(mock(GameService.class));
+		when(context.getLoginService()).thenReturn(mock(LoginService.class));
+		when(context.getRateLimits()).thenReturn(new PacketRateLimits.Builder(1_000, 1_000).build());
+		when(context.getRelease()).thenReturn(mock(Release.class));
+
+		player = new Player(world, CREDENTIALS, new Position(3222, 3218));
+		player.setIndex(1);
+	}
+
+	/**
+	 * Creates a channel with a pipeline laid out as it is during login, whose messages are recorded by the specified
+	 * {@link MessageRecorder}.
+	 *
+	 * @param recorder The MessageRecorder.
+	 * @return The channel.
+	 */
+	private static EmbeddedChannel channel(MessageRecorder recorder) {
+		EmbeddedChannel channel = new EmbeddedChannel();
+		channel.pipeline().addLast("loginDecoder", new ChannelInboundHandlerAdapter());
+		channel.pipeline().addLast("loginEncoder", new ChannelOutboundHandlerAdapter());
+		channel.pipeline().addLast("handler", new ChannelInboundHandlerAdapter());
+		channel.pipeline().addLast("recorder", recorder);
+		return channel;
+	}
+
+	/**
+	 * Creates a {@link LoginSession} on a new channel that has received a reconnection request for the player.
+	 *
+	 * @param recorder The {@link MessageRecorder} recording the messages written to the channel.
+	 * @return The LoginSession.
+	 * @throws Exception If the request could not be handled.
+	 */
+	private LoginSession session(MessageRecorder recorder) throws Exception {
+		LoginSession session = new LoginSession(channel(recorder), context);
+		IsaacRandom random = new IsaacRandom(new int[] { 1, 2, 3, 4 });
+
+		session.messageReceived(new LoginRequest(CREDENTIALS, new IsaacRandomPair(random, random), false, true, 317,
+				new int[9], 0));
+		return session;
+	}
+
+	/**
+	 * Gives the player the state a client accumulates while playing, and then loses their connection.
+	 *
+	 * @param recorder The {@link MessageRecorder} of the connection that is lost.
+	 */
+	private void suspend(MessageRecorder recorder) {
+		EmbeddedChannel channel = channel(recorder);
+		player.setSession(new GameSession(channel, context, player, false, null, new byte[0]));
+
+		Player other = new Player(world, new PlayerCredentials("other", "password", 0, 0, "127.0.0.1"),
+				new Position(3223, 3218));
+		player.getLocalPlayerList().add(other);
+		player.getAppearanceTickets()[1] = other.getAppearanceTicket();
+		player.setLastKnownRegion(player.getPosition());
+		player.getInterfaceSet().openWindow(3559);
+
+		channel.close();
+		recorder.messages.clear();
+		player.setSuspended(true);
+	}
+
+	/**
+	 * Tests that nothing is synchronized with the client of a suspended player.
+	 */
+	@Test
+	public void suspendedNotSynchronized() {
+		MessageRecorder recorder = new MessageRecorder();
+		player.setSession(new GameSession(channel(recorder), context, player, false, null, new byte[0]));
+		player.setSuspended(true);
+
+		new PrePlayerSynchronizationTask(player, new HashMap<>()).run();
+		new PlayerSynchronizationTask(player).run();
+		new NpcSynchronizationTask(player).run();
+
+		assertTrue(recorder.messages.isEmpty());
+		assertFalse(player.hasLastKnownRegion());
+	}
+
+	/**
+	 * Tests that a resumed player is bound to the new channel with a normal login response, that the state the server
+	 * tracked for the old client is discarded, and that the initial messages and a region change are sent.
+	 *
+	 * @throws Exception If the request could not be handled.
+	 */
+	@Test
+	public void resume() throws Exception {
+		suspend(new MessageRecorder());
+
+		MessageRecorder recorder = new MessageRecorder();
+		LoginSession session = session(recorder);
+		player.setSuspended(false);
+		session.sendReconnectionSuccess(player);
+
+		assertSame(player.getSession(), session.getChannel().attr(ApolloHandler.SESSION_KEY).get());
+		assertNull(session.getChannel().pipeline().get("loginDecoder"));
+
+		List<Object> messages = recorder.messages;
+		assertEquals(LoginConstants.STATUS_OK, ((LoginResponse) messages.get(0)).getStatus());
+		assertTrue(messages.stream().anyMatch(message -> message instanceof IdAssignmentMessage));
+
+		assertTrue(player.getLocalPlayerList().isEmpty());
+		assertTrue(IntStream.of(player.getAppearanceTickets()).allMatch(ticket -> ticket == 0));
+		assertEquals(0, player.getInterfaceSet().size());
+		assertFalse(player.hasLastKnownRegion());
+
+		messages.clear();
+		new PrePlayerSynchronizationTask(player, new HashMap<>()).run();
+		assertTrue(messages.stream().anyMatch(message -> message instanceof RegionChangeMessage));
+	}
+
+	/**
+	 * Tests that a player whose new connection is lost before they are resumed is suspended again.
+	 *
+	 * @throws Exception If the request could not be handled.
+	 */
+	@Test
+	public void lostBeforeResumption() throws Exception {
+		suspend(new MessageRecorder());
+
+		MessageRecorder recorder = new MessageRecorder();
+		LoginSession session = session(recorder);
+		session.getChannel().close();
+
+		player.setSuspended(false);
+		session.sendReconnectionSuccess(player);
+
+		assertTrue(recorder.messages.isEmpty());
+		assertEquals(1, player.getLocalPlayerList().size());
+		verify(context.getGameService()).suspendPlayer(player, session.getDigest());
+	}
+
+}
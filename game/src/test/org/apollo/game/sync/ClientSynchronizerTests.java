@@ -0,0 +1,164 @@
+package org.apollo.game.sync;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.apollo.cache.def.NpcDefinition;
+import org.apollo.game.model.Animation;
+import org.apollo.game.model.Direction;
+import org.apollo.game.model.Position;
+import org.apollo.game.model.World;
+import org.apollo.game.model.entity.MobRepository;
+import org.apollo.game.model.entity.Npc;
+import org.apollo.game.model.entity.Player;
+import org.apollo.game.session.GameSession;
+import org.apollo.util.security.PlayerCredentials;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Contains tests for the dormancy of {@link Npc}s that no {@link Player} is near, which is updated by the
+ * {@link ClientSynchronizer}.
+ *
+ * @author Major
+ */
+public final class ClientSynchronizerTests {
+
+	/**
+	 * The Position of a Npc far enough from the player for it to be dormant.
+	 */
+	private static final Position DISTANT = new Position(3302, 3222);
+
+	/**
+	 * The Position of a Npc close enough to the player to be awake.
+	 */
+	private static final Position NEARBY = new Position(3224, 3222);
+
+	/**
+	 * The Position of the player.
+	 */
+	private static final Position START = new Position(3222, 3222);
+
+	/**
+	 * Initialises the npc definition used by the tests.
+	 */
+	@BeforeClass
+	public static void createDefinitions() {
+		NpcDefinition.init(new NpcDefinition[] { new NpcDefinition(0) });
+	}
+
+	/**
+	 * The player.
+	 */
+	private Player player;
+
+	/**
+	 * The MobRepository of Players.
+	 */
+	private final MobRepository<Player> players = new MobRepository<>(4);
+
+	/**
+	 * The MobRepository of Npcs.
+	 */
+	private final MobRepository<Npc> npcs = new MobRepository<>(4);
+
+	/**
+	 * The World.
+	 */
+	private final World world = new World();
+
+	/**
+	 * Creates the player, with a session whose messages are written to an {@link EmbeddedChannel}.
+	 */
+	@Before
+	public void createPlayer() {
+		PlayerCredentials credentials = new PlayerCredentials("test", "password", 0, 0, "127.0.0.1");
+		player = new Player(world, credentials, START);
+		player.setSession(new GameSession(new EmbeddedChannel(), null, player, false, null, new byte[0]));
+
+		players.add(player);
+		world.getRegionRepository().fromPosition(START).addEntity(player, false);
+	}
+
+	/**
+	 * Creates a {@link Npc} at the specified {@link Position}, and places it in the world.
+	 *
+	 * @param position The Position.
+	 * @return The Npc.
+	 */
+	private Npc npc(Position position) {
+		Npc npc = new Npc(world, 0, position);
+		npcs.add(npc);
+		world.getRegionRepository().fromPosition(position).addEntity(npc, false);
+		return npc;
+	}
+
+	/**
+	 * Tests that a Npc with no player in the surrounding regions is dormant, and that Npcs are all dormant when there
+	 * are no players at all.
+	 */
+	@Test
+	public void dormant() {
+		Npc distant = npc(DISTANT), nearby = npc(NEARBY);
+		ClientSynchronizer synchronizer = new SequentialClientSynchronizer();
+
+		assertEquals(Collections.singletonList(nearby), synchronizer.wakeNpcs(players, npcs));
+		assertTrue(distant.isDormant());
+		assertFalse(nearby.isDormant());
+
+		players.remove(player);
+		assertTrue(synchronizer.wakeNpcs(players, npcs).isEmpty());
+		assertTrue(nearby.isDormant());
+	}
+
+	/**
+	 * Tests that a dormant Npc is skipped during synchronization: it does not walk, and its pending blocks are
+	 * discarded, whereas an awake Npc walks and is added to the local npc list of the player.
+	 */
+	@Test
+	public void dormantSkipped() {
+		Npc distant = npc(DISTANT), nearby = npc(NEARBY);
+
+		for (Npc npc : Arrays.asList(distant, nearby)) {
+			npc.getWalkingQueue().addFirstStep(npc.getPosition().step(1, Direction.NORTH));
+			npc.playAnimation(new Animation(866));
+		}
+
+		new SequentialClientSynchronizer().synchronize(players, npcs);
+
+		assertEquals(DISTANT, distant.getPosition());
+		assertEquals(0, distant.getBlockSet().size());
+		assertFalse(player.getLocalNpcList().contains(distant));
+
+		assertEquals(NEARBY.step(1, Direction.NORTH), nearby.getPosition());
+		assertEquals(Collections.singletonList(nearby), player.getLocalNpcList());
+	}
+
+	/**
+	 * Tests that a dormant Npc is woken, and added to the local npc list of a player, in the same pulse that the
+	 * player comes within viewing distance of it.
+	 */
+	@Test
+	public void wokenOnArrival() {
+		Npc npc = npc(DISTANT);
+		ClientSynchronizer synchronizer = new SequentialClientSynchronizer();
+
+		synchronizer.synchronize(players, npcs);
+		assertTrue(npc.isDormant());
+		assertTrue(player.getLocalNpcList().isEmpty());
+
+		player.setPosition(new Position(DISTANT.getX() - 2, DISTANT.getY()));
+		synchronizer.synchronize(players, npcs);
+
+		assertFalse(npc.isDormant());
+		assertEquals(Collections.singletonList(npc), player.getLocalNpcList());
+	}
+
+}
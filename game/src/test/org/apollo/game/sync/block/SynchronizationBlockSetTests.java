@@ -0,0 +1,96 @@
+package org.apollo.game.sync.block;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.apollo.game.model.Animation;
+import org.apollo.game.model.Graphic;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Tests the {@link SynchronizationBlockSet} class.
+ *
+ * @author Major
+ */
+public final class SynchronizationBlockSetTests {
+
+	/**
+	 * Tests {@link SynchronizationBlockSet#add}, {@link SynchronizationBlockSet#remove} and
+	 * {@link SynchronizationBlockSet#size}.
+	 */
+	@Test
+	public void addAndRemove() {
+		SynchronizationBlockSet blocks = new SynchronizationBlockSet();
+		AnimationBlock animation = new AnimationBlock(new Animation(1));
+
+		blocks.add(animation);
+		blocks.add(new ForceChatBlock("Hello"));
+
+		assertEquals(2, blocks.size());
+		assertSame(animation, blocks.get(AnimationBlock.class));
+		assertNull(blocks.get(GraphicBlock.class));
+
+		assertSame(animation, blocks.remove(AnimationBlock.class));
+		assertFalse(blocks.contains(AnimationBlock.class));
+		assertNull(blocks.remove(AnimationBlock.class));
+		assertEquals(1, blocks.size());
+	}
+
+	/**
+	 * Tests {@link SynchronizationBlockSet#getMask}.
+	 */
+	@Test
+	public void mask() {
+		int[] flags = SynchronizationBlockSet.createFlags(ImmutableMap.of(AnimationBlock.class, 0x8, GraphicBlock.class,
+			0x100, TransformBlock.class, 0x2));
+
+		SynchronizationBlockSet blocks = new SynchronizationBlockSet();
+		assertEquals(0, blocks.getMask(flags));
+
+		blocks.add(new AnimationBlock(new Animation(1)));
+		blocks.add(new GraphicBlock(new Graphic(1)));
+		blocks.add(new ForceChatBlock("Unflagged"));
+
+		assertEquals(0x108, blocks.getMask(flags));
+	}
+
+	/**
+	 * Tests that {@link SynchronizationBlockSet#with} and {@link SynchronizationBlockSet#without} do not modify the set
+	 * they were created from.
+	 */
+	@Test
+	public void views() {
+		SynchronizationBlockSet blocks = new SynchronizationBlockSet();
+		AnimationBlock animation = new AnimationBlock(new Animation(1));
+		blocks.add(animation);
+
+		SynchronizationBlockSet without = blocks.without(AnimationBlock.class);
+		assertEquals(0, without.size());
+		assertSame(blocks, blocks.without(GraphicBlock.class));
+
+		GraphicBlock graphic = new GraphicBlock(new Graphic(1));
+		SynchronizationBlockSet with = blocks.with(graphic);
+		assertSame(graphic, with.get(GraphicBlock.class));
+		assertSame(animation, with.get(AnimationBlock.class));
+		assertEquals(2, with.size());
+
+		TransformBlock transform = new TransformBlock(1);
+		SynchronizationBlockSet both = with.with(transform);
+		assertSame(graphic, both.get(GraphicBlock.class));
+		assertSame(transform, both.get(TransformBlock.class));
+
+		with.add(new ForceChatBlock("Copied"));
+		assertTrue(with.contains(GraphicBlock.class));
+
+		assertEquals(1, blocks.size());
+		assertFalse(blocks.contains(GraphicBlock.class));
+		assertFalse(blocks.contains(ForceChatBlock.class));
+		assertFalse(both.contains(ForceChatBlock.class));
+	}
+
+}
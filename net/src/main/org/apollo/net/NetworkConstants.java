@@ -1,16 +1,21 @@
 package org.apollo.net;
 
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+
 import java.io.FileInputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.math.BigInteger;
 import java.security.KeyFactory;
 import java.security.Security;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.spec.PKCS8EncodedKeySpec;
 
 import com.google.common.base.Preconditions;
+import org.apollo.util.ThreadUtil;
+import org.apollo.util.security.RsaKey;
 import org.apollo.util.xml.XmlNode;
 import org.apollo.util.xml.XmlParser;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
@@ -25,11 +30,26 @@ import org.bouncycastle.util.io.pem.PemReader;
  */
 public final class NetworkConstants {
 
+	/**
+	 * The {@link ByteBufAllocator} used by channels.
+	 */
+	public static final ByteBufAllocator ALLOCATOR;
+
+	/**
+	 * The amount of boss threads used by each listener.
+	 */
+	public static final int BOSS_THREADS;
+
 	/**
 	 * The HTTP port.
 	 */
 	public static final int HTTP_PORT;
 
+	/**
+	 * The amount of worker threads used by the HTTP listener, or {@code 0} for the Netty default.
+	 */
+	public static final int HTTP_WORKER_THREADS;
+
 	/**
 	 * The number of seconds before a connection becomes idle.
 	 */
@@ -41,20 +61,60 @@ public final class NetworkConstants {
 	public static final int JAGGRAB_PORT;
 
 	/**
-	 * The exponent used when decrypting the RSA block.
+	 * The amount of worker threads used by the JAGGRAB listener, or {@code 0} for the Netty default.
+	 */
+	public static final int JAGGRAB_WORKER_THREADS;
+
+	/**
+	 * The maximum amount of login requests that may be waiting for their RSA block to be decrypted.
+	 */
+	public static final int LOGIN_BACKLOG = 512;
+
+	/**
+	 * The amount of threads that decrypt the RSA block of login requests.
 	 */
-	public static final BigInteger RSA_EXPONENT;
+	public static final int LOGIN_THREADS;
 
 	/**
-	 * The modulus used when decrypting the RSA block.
+	 * The key used when decrypting the RSA block.
 	 */
-	public static final BigInteger RSA_MODULUS;
+	public static final RsaKey RSA_KEY;
 
 	/**
 	 * The service port.
 	 */
 	public static final int SERVICE_PORT;
 
+	/**
+	 * The amount of worker threads used by the service listener, or {@code 0} for the Netty default.
+	 */
+	public static final int SERVICE_WORKER_THREADS;
+
+	/**
+	 * Whether or not Nagle's algorithm is disabled on accepted sockets.
+	 */
+	public static final boolean TCP_NO_DELAY;
+
+	/**
+	 * The {@link NetworkTransport} listeners are bound with.
+	 */
+	public static final NetworkTransport TRANSPORT;
+
+	/**
+	 * The amount of bytes queued for writing above which a channel becomes unwritable.
+	 */
+	public static final int WRITE_BUFFER_HIGH_WATER_MARK;
+
+	/**
+	 * The amount of bytes queued for writing below which an unwritable channel becomes writable again.
+	 */
+	public static final int WRITE_BUFFER_LOW_WATER_MARK;
+
+	/**
+	 * The amount of seconds a game session may remain unwritable before it is disconnected.
+	 */
+	public static final int WRITE_STALL_TIMEOUT;
+
 	static {
 		try (InputStream is = new FileInputStream("data/net.xml")) {
 			XmlNode net = new XmlParser().parse(is);
@@ -71,6 +131,31 @@ public final class NetworkConstants {
 			HTTP_PORT = Integer.parseInt(http.getValue());
 			SERVICE_PORT = Integer.parseInt(service.getValue());
 			JAGGRAB_PORT = Integer.parseInt(jaggrab.getValue());
+
+			TRANSPORT = NetworkTransport.forName(getValue(net, "transport", "auto"));
+
+			String allocator = getValue(net, "allocator", "pooled");
+			Preconditions.checkState(allocator.equals("pooled") || allocator.equals("unpooled"),
+					"Allocator must be either 'pooled' or 'unpooled'.");
+			ALLOCATOR = allocator.equals("pooled") ? PooledByteBufAllocator.DEFAULT : UnpooledByteBufAllocator.DEFAULT;
+
+			XmlNode threads = net.getChild("threads");
+			BOSS_THREADS = Integer.parseInt(getValue(threads, "boss", "1"));
+			SERVICE_WORKER_THREADS = Integer.parseInt(getValue(threads, "service", "0"));
+			HTTP_WORKER_THREADS = Integer.parseInt(getValue(threads, "http", "1"));
+			JAGGRAB_WORKER_THREADS = Integer.parseInt(getValue(threads, "jaggrab", "1"));
+
+			int login = Integer.parseInt(getValue(threads, "login", "0"));
+			LOGIN_THREADS = login == 0 ? ThreadUtil.AVAILABLE_PROCESSORS : login;
+
+			XmlNode socket = net.getChild("socket");
+			TCP_NO_DELAY = Boolean.parseBoolean(getValue(socket, "tcp-no-delay", "true"));
+			WRITE_BUFFER_LOW_WATER_MARK = Integer.parseInt(getValue(socket, "write-buffer-low-water-mark", "32768"));
+			WRITE_BUFFER_HIGH_WATER_MARK = Integer.parseInt(getValue(socket, "write-buffer-high-water-mark", "131072"));
+			WRITE_STALL_TIMEOUT = Integer.parseInt(getValue(socket, "write-stall-timeout", "10"));
+
+			Preconditions.checkState(WRITE_BUFFER_LOW_WATER_MARK <= WRITE_BUFFER_HIGH_WATER_MARK,
+					"The low water mark must not exceed the high water mark.");
 		} catch (Exception exception) {
 			throw new ExceptionInInitializerError(new IOException("Error parsing net.xml.", exception));
 		}
@@ -83,13 +168,26 @@ public final class NetworkConstants {
 			KeyFactory factory = KeyFactory.getInstance("RSA", "BC");
 
 			RSAPrivateKey privateKey = (RSAPrivateKey) factory.generatePrivate(keySpec);
-			RSA_MODULUS = privateKey.getModulus();
-			RSA_EXPONENT = privateKey.getPrivateExponent();
+			RSA_KEY = RsaKey.create(privateKey);
 		} catch (Exception exception) {
 			throw new ExceptionInInitializerError(new IOException("Error parsing rsa.pem", exception));
 		}
 	}
 
+	/**
+	 * Gets the value of the child of the specified {@link XmlNode} with the specified name, or the specified default
+	 * if either the node or its child do not exist.
+	 *
+	 * @param node The parent XmlNode. May be {@code null}.
+	 * @param name The name of the child.
+	 * @param fallback The default value.
+	 * @return The value.
+	 */
+	private static String getValue(XmlNode node, String name, String fallback) {
+		XmlNode child = node == null ? null : node.getChild(name);
+		return child == null || !child.hasValue() ? fallback : child.getValue().trim();
+	}
+
 	/**
 	 * Sole private constructor to prevent instantiation.
 	 */
@@ -0,0 +1,87 @@
+package org.apollo.net;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+/**
+ * A Netty transport that listeners can be bound with.
+ *
+ * @author Major
+ */
+public enum NetworkTransport {
+
+	/**
+	 * The native epoll transport, which is only available on Linux.
+	 */
+	EPOLL {
+		@Override
+		public EventLoopGroup createGroup(int threads, String name) {
+			return new EpollEventLoopGroup(threads, new DefaultThreadFactory(name));
+		}
+
+		@Override
+		public Class<? extends ServerChannel> getServerChannel() {
+			return EpollServerSocketChannel.class;
+		}
+	},
+
+	/**
+	 * The portable NIO transport.
+	 */
+	NIO {
+		@Override
+		public EventLoopGroup createGroup(int threads, String name) {
+			return new NioEventLoopGroup(threads, new DefaultThreadFactory(name));
+		}
+
+		@Override
+		public Class<? extends ServerChannel> getServerChannel() {
+			return NioServerSocketChannel.class;
+		}
+	};
+
+	/**
+	 * Gets the NetworkTransport with the specified name, which may be {@code auto} to select {@link #EPOLL} if it is
+	 * available and {@link #NIO} otherwise.
+	 *
+	 * @param name The name of the transport, case insensitive.
+	 * @return The NetworkTransport.
+	 * @throws IllegalArgumentException If the name is not recognised.
+	 * @throws IllegalStateException If epoll was requested but is not available on this platform.
+	 */
+	public static NetworkTransport forName(String name) {
+		if (name.equalsIgnoreCase("auto")) {
+			return Epoll.isAvailable() ? EPOLL : NIO;
+		}
+
+		NetworkTransport transport = valueOf(name.toUpperCase());
+		if (transport == EPOLL && !Epoll.isAvailable()) {
+			throw new IllegalStateException("The epoll transport is not available.", Epoll.unavailabilityCause());
+		}
+
+		return transport;
+	}
+
+	/**
+	 * Creates an {@link EventLoopGroup} for this transport.
+	 *
+	 * @param threads The amount of threads, or {@code 0} to use the Netty default.
+	 * @param name The name prefix of the threads in the group.
+	 * @return The EventLoopGroup.
+	 */
+	public abstract EventLoopGroup createGroup(int threads, String name);
+
+	/**
+	 * Gets the type of {@link ServerChannel} used by this transport.
+	 *
+	 * @return The Class of the ServerChannel.
+	 */
+	public abstract Class<? extends ServerChannel> getServerChannel();
+
+}
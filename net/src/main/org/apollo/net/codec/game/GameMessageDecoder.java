@@ -1,5 +1,6 @@
 package org.apollo.net.codec.game;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToMessageDecoder;
 
@@ -10,12 +11,21 @@ import org.apollo.net.release.MessageDecoder;
 import org.apollo.net.release.Release;
 
 /**
- * A {@link MessageToMessageDecoder} that decodes {@link GamePacket}s into {@link Message}s.
+ * A {@link MessageToMessageDecoder} that decodes {@link GamePacket}s into {@link Message}s. The payload of each
+ * GamePacket is released once it has been decoded, so {@link MessageDecoder}s must not retain a reference to it.
+ * <p>
+ * Each decoded Message is passed to a {@link GameMessageListener} before it is sent down the pipeline, which may
+ * replace it (e.g. to record the packet it was decoded from).
  *
  * @author Graham
  */
 public final class GameMessageDecoder extends MessageToMessageDecoder<GamePacket> {
 
+	/**
+	 * The GameMessageListener notified of each decoded Message.
+	 */
+	private final GameMessageListener listener;
+
 	/**
 	 * The current release.
 	 */
@@ -27,16 +37,37 @@ public final class GameMessageDecoder extends MessageToMessageDecoder<GamePacket
 	 * @param release The release.
 	 */
 	public GameMessageDecoder(Release release) {
+		this(release, GameMessageListener.NONE);
+	}
+
+	/**
+	 * Creates the game message decoder with the specified release and {@link GameMessageListener}.
+	 *
+	 * @param release The release.
+	 * @param listener The GameMessageListener notified of each decoded Message.
+	 */
+	public GameMessageDecoder(Release release, GameMessageListener listener) {
 		this.release = release;
+		this.listener = listener;
 	}
 
 	@Override
 	protected void decode(ChannelHandlerContext ctx, GamePacket packet, List<Object> out) {
-		MessageDecoder<?> decoder = release.getMessageDecoder(packet.getOpcode());
-		if (decoder != null) {
-			out.add(decoder.decode(packet));
-		} else {
-			System.out.println("Unidentified packet received - opcode: " + packet.getOpcode() + ".");
+		ByteBuf payload = packet.getPayload();
+
+		try {
+			MessageDecoder<?> decoder = release.getMessageDecoder(packet.getOpcode());
+			if (decoder != null) {
+				int start = payload.readerIndex();
+				Message message = decoder.decode(packet);
+
+				payload.readerIndex(start);
+				out.add(listener.messageDecoded(packet, message));
+			} else {
+				System.out.println("Unidentified packet received - opcode: " + packet.getOpcode() + ".");
+			}
+		} finally {
+			payload.release();
 		}
 	}
 
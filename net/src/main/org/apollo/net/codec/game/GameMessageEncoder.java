@@ -5,6 +5,7 @@ import io.netty.handler.codec.MessageToMessageEncoder;
 
 import java.util.List;
 
+import org.apollo.net.message.BroadcastMessage;
 import org.apollo.net.message.Message;
 import org.apollo.net.release.MessageEncoder;
 import org.apollo.net.release.Release;
@@ -33,6 +34,18 @@ public final class GameMessageEncoder extends MessageToMessageEncoder<Message> {
 	@SuppressWarnings("unchecked")
 	@Override
 	protected void encode(ChannelHandlerContext ctx, Message message, List<Object> out) {
+		if (message instanceof BroadcastMessage) {
+			BroadcastMessage broadcast = (BroadcastMessage) message;
+			Message wrapped = broadcast.getMessage();
+
+			MessageEncoder<Message> encoder = (MessageEncoder<Message>) release.getMessageEncoder(wrapped.getClass());
+			if (encoder != null) {
+				out.add(broadcast.encode(encoder));
+			}
+
+			return;
+		}
+
 		MessageEncoder<Message> encoder = (MessageEncoder<Message>) release.getMessageEncoder(message.getClass());
 		if (encoder != null) {
 			out.add(encoder.encode(message));
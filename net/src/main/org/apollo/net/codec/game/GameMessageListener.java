@@ -0,0 +1,30 @@
+package org.apollo.net.codec.game;
+
+import org.apollo.net.message.Message;
+
+/**
+ * A listener that is notified by a {@link GameMessageDecoder} of each {@link Message} it decodes, while the payload of
+ * the {@link GamePacket} it was decoded from is still available.
+ *
+ * @author Major
+ */
+@FunctionalInterface
+public interface GameMessageListener {
+
+	/**
+	 * The GameMessageListener that passes every Message on unchanged.
+	 */
+	GameMessageListener NONE = (packet, message) -> message;
+
+	/**
+	 * Called when a {@link Message} has been decoded. The reader index of the payload of the {@link GamePacket} is
+	 * reset to where decoding started before this is called, but the payload is released afterwards, so it must not
+	 * be retained.
+	 *
+	 * @param packet The GamePacket the Message was decoded from.
+	 * @param message The decoded Message.
+	 * @return The Message to pass down the pipeline in place of the decoded one.
+	 */
+	Message messageDecoded(GamePacket packet, Message message);
+
+}
@@ -390,11 +390,7 @@ public final class GamePacketBuilder {
 	 */
 	public void putString(String str) {
 		checkByteAccess();
-		char[] chars = str.toCharArray();
-		for (char c : chars) {
-			buffer.writeByte((byte) c);
-		}
-		buffer.writeByte(BufferUtil.STRING_TERMINATOR);
+		BufferUtil.writeString(buffer, str);
 	}
 
 	/**
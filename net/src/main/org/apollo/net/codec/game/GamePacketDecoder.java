@@ -125,13 +125,16 @@ public final class GamePacketDecoder extends StatefulFrameDecoder<GameDecoderSta
 
 	/**
 	 * Decodes the payload state.
+	 * <p>
+	 * The payload is a retained slice of the cumulation buffer rather than a copy, and so must be released once the
+	 * {@link GamePacket} has been decoded (which the {@link GameMessageDecoder} does).
 	 *
 	 * @param buffer The buffer.
 	 * @param out The {@link List} of objects to be passed along the pipeline.
 	 */
 	private void decodePayload(ByteBuf buffer, List<Object> out) {
 		if (buffer.readableBytes() >= length) {
-			ByteBuf payload = buffer.readBytes(length);
+			ByteBuf payload = buffer.readSlice(length).retain();
 			setState(GameDecoderState.GAME_OPCODE);
 			out.add(new GamePacket(opcode, type, payload));
 		}
@@ -1,17 +1,36 @@
 package org.apollo.net.codec.game;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.handler.codec.MessageToByteEncoder;
+import io.netty.handler.codec.MessageToMessageEncoder;
+
+import java.util.List;
+
 import org.apollo.net.meta.PacketType;
 import org.apollo.util.security.IsaacRandom;
 
 /**
- * A {@link MessageToByteEncoder} which encodes in-game packets.
+ * A {@link MessageToMessageEncoder} which encodes in-game packets.
+ * <p>
+ * The payload of a packet is never modified, so a single {@link GamePacket} may be written to many channels (see
+ * {@link org.apollo.net.message.BroadcastMessage}). Small packets are copied into a single buffer after their header;
+ * the payloads of larger packets are not copied, and are instead written as a retained duplicate after a separately
+ * allocated header.
  *
  * @author Graham
  */
-public final class GamePacketEncoder extends MessageToByteEncoder<GamePacket> {
+public final class GamePacketEncoder extends MessageToMessageEncoder<GamePacket> {
+
+	/**
+	 * The minimum payload length, in bytes, of packets whose payload is written without being copied.
+	 */
+	private static final int COMPOSITE_THRESHOLD = 256;
+
+	/**
+	 * The maximum length of a packet header, in bytes.
+	 */
+	private static final int MAXIMUM_HEADER_LENGTH = 3;
 
 	/**
 	 * The random number generator.
@@ -28,23 +47,35 @@ public final class GamePacketEncoder extends MessageToByteEncoder<GamePacket> {
 	}
 
 	@Override
-	protected void encode(ChannelHandlerContext ctx, GamePacket packet, ByteBuf out) throws Exception {
+	protected void encode(ChannelHandlerContext ctx, GamePacket packet, List<Object> out) throws Exception {
 		PacketType type = packet.getType();
 		int payloadLength = packet.getLength();
-		
+
 		if (type == PacketType.VARIABLE_BYTE && payloadLength >= 256) {
 			throw new Exception("Payload too long for variable byte packet.");
 		} else if (type == PacketType.VARIABLE_SHORT && payloadLength >= 65_536) {
 			throw new Exception("Payload too long for variable short packet.");
 		}
 
-		out.writeByte(packet.getOpcode() + random.nextInt() & 0xFF);
+		ByteBuf payload = packet.getPayload();
+		boolean composite = payloadLength >= COMPOSITE_THRESHOLD;
+
+		int capacity = composite ? MAXIMUM_HEADER_LENGTH : MAXIMUM_HEADER_LENGTH + payloadLength;
+		ByteBuf buffer = ctx.alloc().buffer(capacity);
+
+		buffer.writeByte(packet.getOpcode() + random.nextInt() & 0xFF);
 		if (type == PacketType.VARIABLE_BYTE) {
-			out.writeByte(payloadLength);
+			buffer.writeByte(payloadLength);
 		} else if (type == PacketType.VARIABLE_SHORT) {
-			out.writeShort(payloadLength);
+			buffer.writeShort(payloadLength);
+		}
+
+		if (composite) {
+			out.add(Unpooled.wrappedBuffer(buffer, payload.duplicate().retain()));
+		} else {
+			buffer.writeBytes(payload, payload.readerIndex(), payloadLength);
+			out.add(buffer);
 		}
-		out.writeBytes(packet.getPayload());
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,134 @@
+package org.apollo.net.codec.game;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A {@link ChannelInboundHandlerAdapter} that enforces {@link PacketRateLimits} on the {@link GamePacket}s of a single
+ * session. It sits between the {@link GamePacketDecoder} and the {@link GameMessageDecoder}, so packets over budget
+ * are released and dropped without ever being decoded into a message.
+ * <p>
+ * Each category is a token bucket, tracked in nanoseconds of credit: a packet costs one token interval, and credit
+ * accrues with elapsed time up to the category's capacity.
+ *
+ * @author Major
+ */
+public final class GamePacketRateLimiter extends ChannelInboundHandlerAdapter {
+
+	/**
+	 * The amount of packets accepted in each category.
+	 */
+	private final AtomicLongArray accepted;
+
+	/**
+	 * The credit available in each category, in nanoseconds.
+	 */
+	private final long[] credit;
+
+	/**
+	 * The amount of packets dropped in each category.
+	 */
+	private final AtomicLongArray dropped;
+
+	/**
+	 * The time each category was last refilled, in nanoseconds.
+	 */
+	private final long[] refilled;
+
+	/**
+	 * The PacketRateLimits.
+	 */
+	private final PacketRateLimits limits;
+
+	/**
+	 * Creates the GamePacketRateLimiter, with every category's bucket initially full.
+	 *
+	 * @param limits The {@link PacketRateLimits} to enforce.
+	 */
+	public GamePacketRateLimiter(PacketRateLimits limits) {
+		this.limits = limits;
+
+		int categories = limits.getCategoryCount();
+		accepted = new AtomicLongArray(categories);
+		dropped = new AtomicLongArray(categories);
+		credit = new long[categories];
+		refilled = new long[categories];
+
+		long now = System.nanoTime();
+		for (int category = 0; category < categories; category++) {
+			credit[category] = limits.getCapacity(category);
+			refilled[category] = now;
+		}
+	}
+
+	@Override
+	public void channelRead(ChannelHandlerContext ctx, Object message) {
+		if (message instanceof GamePacket) {
+			GamePacket packet = (GamePacket) message;
+
+			if (!consume(packet.getOpcode(), System.nanoTime())) {
+				packet.getPayload().release();
+				return;
+			}
+		}
+
+		ctx.fireChannelRead(message);
+	}
+
+	/**
+	 * Attempts to consume a token for a packet with the specified opcode.
+	 *
+	 * @param opcode The opcode of the packet.
+	 * @param now The current time, in nanoseconds.
+	 * @return {@code true} if the packet is within budget, {@code false} if it should be dropped.
+	 */
+	boolean consume(int opcode, long now) {
+		int category = limits.getCategory(opcode);
+		long interval = limits.getInterval(category);
+
+		long available = Math.min(limits.getCapacity(category), credit[category] + now - refilled[category]);
+		refilled[category] = now;
+
+		if (available < interval) {
+			credit[category] = available;
+			dropped.incrementAndGet(category);
+			return false;
+		}
+
+		credit[category] = available - interval;
+		accepted.incrementAndGet(category);
+		return true;
+	}
+
+	/**
+	 * Gets the amount of packets accepted in the specified category.
+	 *
+	 * @param category The category.
+	 * @return The amount of accepted packets.
+	 */
+	public long getAccepted(int category) {
+		return accepted.get(category);
+	}
+
+	/**
+	 * Gets the amount of packets dropped in the specified category.
+	 *
+	 * @param category The category.
+	 * @return The amount of dropped packets.
+	 */
+	public long getDropped(int category) {
+		return dropped.get(category);
+	}
+
+	/**
+	 * Gets the {@link PacketRateLimits} enforced by this limiter.
+	 *
+	 * @return The PacketRateLimits.
+	 */
+	public PacketRateLimits getLimits() {
+		return limits;
+	}
+
+}
@@ -68,6 +68,14 @@ public final class GamePacketReader {
 	 * @throws IllegalArgumentException If the combination is invalid.
 	 */
 	private long get(DataType type, DataOrder order, DataTransformation transformation) {
+		if (order == DataOrder.BIG || order == DataOrder.LITTLE) {
+			if (type == DataType.BYTE) {
+				return getUnsignedByte(transformation);
+			} else if (type == DataType.SHORT) {
+				return getUnsignedShort(order, transformation);
+			}
+		}
+
 		checkByteAccess();
 		long longValue = 0;
 		int length = type.getBytes();
@@ -276,13 +284,8 @@ public final class GamePacketReader {
 	 */
 	public long getSigned(DataType type, DataOrder order, DataTransformation transformation) {
 		long longValue = get(type, order, transformation);
-		if (type != DataType.LONG) {
-			int max = (int) (Math.pow(2, type.getBytes() * 8 - 1) - 1);
-			if (longValue > max) {
-				longValue -= (max + 1) * 2;
-			}
-		}
-		return longValue;
+		int shift = Long.SIZE - type.getBytes() * Byte.SIZE;
+		return longValue << shift >> shift;
 	}
 
 	/**
@@ -298,6 +301,40 @@ public final class GamePacketReader {
 		return getSigned(type, DataOrder.BIG, transformation);
 	}
 
+	/**
+	 * Gets a signed byte from the buffer.
+	 *
+	 * @return The value.
+	 * @throws IllegalStateException If this reader is not in byte access mode.
+	 */
+	public int getSignedByte() {
+		return getSignedByte(DataTransformation.NONE);
+	}
+
+	/**
+	 * Gets a signed byte from the buffer with the specified transformation.
+	 *
+	 * @param transformation The data transformation.
+	 * @return The value.
+	 * @throws IllegalStateException If this reader is not in byte access mode.
+	 */
+	public int getSignedByte(DataTransformation transformation) {
+		return (byte) getUnsignedByte(transformation);
+	}
+
+	/**
+	 * Gets a signed short from the buffer with the specified order and transformation.
+	 *
+	 * @param order The byte order. Must be either {@link DataOrder#BIG} or {@link DataOrder#LITTLE}.
+	 * @param transformation The data transformation.
+	 * @return The value.
+	 * @throws IllegalStateException If this reader is not in byte access mode.
+	 * @throws IllegalArgumentException If the order is neither big nor little endian.
+	 */
+	public int getSignedShort(DataOrder order, DataTransformation transformation) {
+		return (short) getUnsignedShort(order, transformation);
+	}
+
 	/**
 	 * Gets a signed smart from the buffer.
 	 *
@@ -377,6 +414,64 @@ public final class GamePacketReader {
 		return getUnsigned(type, DataOrder.BIG, transformation);
 	}
 
+	/**
+	 * Gets an unsigned byte from the buffer.
+	 *
+	 * @return The value.
+	 * @throws IllegalStateException If this reader is not in byte access mode.
+	 */
+	public int getUnsignedByte() {
+		checkByteAccess();
+		return buffer.readUnsignedByte();
+	}
+
+	/**
+	 * Gets an unsigned byte from the buffer with the specified transformation.
+	 *
+	 * @param transformation The data transformation.
+	 * @return The value.
+	 * @throws IllegalStateException If this reader is not in byte access mode.
+	 */
+	public int getUnsignedByte(DataTransformation transformation) {
+		checkByteAccess();
+		return readTransformed(transformation);
+	}
+
+	/**
+	 * Gets an unsigned short from the buffer.
+	 *
+	 * @return The value.
+	 * @throws IllegalStateException If this reader is not in byte access mode.
+	 */
+	public int getUnsignedShort() {
+		checkByteAccess();
+		return buffer.readUnsignedShort();
+	}
+
+	/**
+	 * Gets an unsigned short from the buffer with the specified order and transformation. As with the generic
+	 * methods, the transformation is only applied to the least significant byte.
+	 *
+	 * @param order The byte order. Must be either {@link DataOrder#BIG} or {@link DataOrder#LITTLE}.
+	 * @param transformation The data transformation.
+	 * @return The value.
+	 * @throws IllegalStateException If this reader is not in byte access mode.
+	 * @throws IllegalArgumentException If the order is neither big nor little endian.
+	 */
+	public int getUnsignedShort(DataOrder order, DataTransformation transformation) {
+		checkByteAccess();
+
+		if (order == DataOrder.BIG) {
+			int high = buffer.readUnsignedByte();
+			return high << 8 | readTransformed(transformation);
+		} else if (order == DataOrder.LITTLE) {
+			int low = readTransformed(transformation);
+			return buffer.readUnsignedByte() << 8 | low;
+		}
+
+		throw new IllegalArgumentException("Shorts can only be read in big or little endian order.");
+	}
+
 	/**
 	 * Gets an unsigned smart from the buffer.
 	 *
@@ -392,6 +487,27 @@ public final class GamePacketReader {
 		return buffer.readShort() - 32768;
 	}
 
+	/**
+	 * Reads a single byte from the buffer, reversing the specified transformation.
+	 *
+	 * @param transformation The data transformation.
+	 * @return The unsigned value.
+	 */
+	private int readTransformed(DataTransformation transformation) {
+		switch (transformation) {
+			case NONE:
+				return buffer.readUnsignedByte();
+			case ADD:
+				return buffer.readByte() - 128 & 0xFF;
+			case NEGATE:
+				return -buffer.readByte() & 0xFF;
+			case SUBTRACT:
+				return 128 - buffer.readByte() & 0xFF;
+			default:
+				throw new IllegalArgumentException("Unknown transformation.");
+		}
+	}
+
 	/**
 	 * Switches this builder's mode to the bit access mode.
 	 *
@@ -0,0 +1,201 @@
+package org.apollo.net.codec.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * An immutable table of inbound packet budgets. Every opcode belongs to exactly one category (opcodes that were not
+ * explicitly placed in a category belong to the {@link #DEFAULT_CATEGORY default} one), and each category is a token
+ * bucket with a sustained rate and a burst size.
+ *
+ * @author Major
+ */
+public final class PacketRateLimits {
+
+	/**
+	 * A builder for {@link PacketRateLimits}.
+	 */
+	public static final class Builder {
+
+		/**
+		 * The maximum burst of each category.
+		 */
+		private final List<Integer> bursts = new ArrayList<>();
+
+		/**
+		 * The categories of each opcode.
+		 */
+		private final int[] categories = new int[OPCODES];
+
+		/**
+		 * The names of each category.
+		 */
+		private final List<String> names = new ArrayList<>();
+
+		/**
+		 * The sustained rate of each category, in packets per second.
+		 */
+		private final List<Double> rates = new ArrayList<>();
+
+		/**
+		 * Creates the Builder.
+		 *
+		 * @param rate The sustained rate of the default category, in packets per second.
+		 * @param burst The maximum burst of the default category.
+		 */
+		public Builder(double rate, int burst) {
+			category(DEFAULT_CATEGORY, rate, burst);
+		}
+
+		/**
+		 * Adds a category to the table being built.
+		 *
+		 * @param name The name of the category.
+		 * @param rate The sustained rate, in packets per second. Must be positive.
+		 * @param burst The maximum burst. Must be positive.
+		 * @param opcodes The opcodes that belong to the category.
+		 * @return This Builder, for chaining.
+		 * @throws IllegalArgumentException If an opcode is invalid or already belongs to another category.
+		 */
+		public Builder category(String name, double rate, int burst, int... opcodes) {
+			Preconditions.checkArgument(rate > 0, "Rate must be positive.");
+			Preconditions.checkArgument(burst > 0, "Burst must be positive.");
+			Preconditions.checkArgument(!names.contains(name), "Duplicate category " + name + ".");
+
+			int category = names.size();
+			for (int opcode : opcodes) {
+				Preconditions.checkArgument(opcode >= 0 && opcode < OPCODES, "Illegal opcode " + opcode + ".");
+				Preconditions.checkArgument(categories[opcode] == 0, "Opcode " + opcode + " is already categorised.");
+				categories[opcode] = category;
+			}
+
+			names.add(name);
+			rates.add(rate);
+			bursts.add(burst);
+			return this;
+		}
+
+		/**
+		 * Builds the {@link PacketRateLimits}.
+		 *
+		 * @return The PacketRateLimits.
+		 */
+		public PacketRateLimits build() {
+			int count = names.size();
+			long[] intervals = new long[count], capacities = new long[count];
+
+			for (int category = 0; category < count; category++) {
+				intervals[category] = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / rates.get(category)));
+				capacities[category] = intervals[category] * bursts.get(category);
+			}
+
+			return new PacketRateLimits(ImmutableList.copyOf(names), categories.clone(), intervals, capacities);
+		}
+
+	}
+
+	/**
+	 * The name of the default category.
+	 */
+	public static final String DEFAULT_CATEGORY = "default";
+
+	/**
+	 * The amount of possible opcodes.
+	 */
+	private static final int OPCODES = 256;
+
+	/**
+	 * The capacity of each category's bucket, in nanoseconds.
+	 */
+	private final long[] capacities;
+
+	/**
+	 * The category of each opcode.
+	 */
+	private final int[] categories;
+
+	/**
+	 * The time it takes each category's bucket to gain a token, in nanoseconds.
+	 */
+	private final long[] intervals;
+
+	/**
+	 * The names of each category.
+	 */
+	private final ImmutableList<String> names;
+
+	/**
+	 * Creates the PacketRateLimits.
+	 *
+	 * @param names The names of each category.
+	 * @param categories The category of each opcode.
+	 * @param intervals The token interval of each category, in nanoseconds.
+	 * @param capacities The bucket capacity of each category, in nanoseconds.
+	 */
+	private PacketRateLimits(ImmutableList<String> names, int[] categories, long[] intervals, long[] capacities) {
+		this.names = names;
+		this.categories = categories;
+		this.intervals = intervals;
+		this.capacities = capacities;
+	}
+
+	/**
+	 * Gets the capacity of the bucket of the specified category, in nanoseconds.
+	 *
+	 * @param category The category.
+	 * @return The capacity.
+	 */
+	public long getCapacity(int category) {
+		return capacities[category];
+	}
+
+	/**
+	 * Gets the amount of categories.
+	 *
+	 * @return The amount of categories.
+	 */
+	public int getCategoryCount() {
+		return names.size();
+	}
+
+	/**
+	 * Gets the category of the specified opcode.
+	 *
+	 * @param opcode The opcode.
+	 * @return The category.
+	 */
+	public int getCategory(int opcode) {
+		return categories[opcode];
+	}
+
+	/**
+	 * Gets the time it takes the bucket of the specified category to gain a token, in nanoseconds.
+	 *
+	 * @param category The category.
+	 * @return The interval.
+	 */
+	public long getInterval(int category) {
+		return intervals[category];
+	}
+
+	/**
+	 * Gets the name of the specified category.
+	 *
+	 * @param category The category.
+	 * @return The name.
+	 */
+	public String getName(int category) {
+		return names.get(category);
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this).add("categories", names).toString();
+	}
+
+}
@@ -9,11 +9,17 @@ import java.math.BigInteger;
 import java.net.InetSocketAddress;
 import java.security.SecureRandom;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.apollo.cache.FileSystemConstants;
 import org.apollo.net.NetworkConstants;
 import org.apollo.util.BufferUtil;
 import org.apollo.util.StatefulFrameDecoder;
+import org.apollo.util.ThreadUtil;
 import org.apollo.util.security.IsaacRandom;
 import org.apollo.util.security.IsaacRandomPair;
 import org.apollo.util.security.PlayerCredentials;
@@ -27,21 +33,45 @@ import com.google.common.net.InetAddresses;
  */
 public final class LoginDecoder extends StatefulFrameDecoder<LoginDecoderState> {
 
+	/**
+	 * The {@link ExecutorService} that decrypts the RSA blocks of login requests, so that the (expensive) modular
+	 * exponentiation does not stall every other channel sharing the event loop. Requests are rejected once
+	 * {@link NetworkConstants#LOGIN_BACKLOG} are waiting to be decrypted.
+	 */
+	private static final ExecutorService DECRYPTION_EXECUTOR = new ThreadPoolExecutor(NetworkConstants.LOGIN_THREADS,
+		NetworkConstants.LOGIN_THREADS, 0, TimeUnit.MILLISECONDS,
+		new ArrayBlockingQueue<>(NetworkConstants.LOGIN_BACKLOG), ThreadUtil.create("LoginDecoder-%d"));
+
 	/**
 	 * The secure random number generator.
 	 */
 	private static final SecureRandom RANDOM = new SecureRandom();
 
+	/**
+	 * The archive CRCs reported by the client.
+	 */
+	private int[] crcs;
+
 	/**
 	 * The login packet length.
 	 */
 	private int loginLength;
 
+	/**
+	 * The low memory flag.
+	 */
+	private boolean lowMemory;
+
 	/**
 	 * The reconnecting flag.
 	 */
 	private boolean reconnecting;
 
+	/**
+	 * The release number of the client.
+	 */
+	private int release;
+
 	/**
 	 * The server-side session key.
 	 */
@@ -52,6 +82,11 @@ public final class LoginDecoder extends StatefulFrameDecoder<LoginDecoderState>
 	 */
 	private int usernameHash;
 
+	/**
+	 * The client version.
+	 */
+	private int version;
+
 	/**
 	 * Creates the login decoder with the default initial state.
 	 */
@@ -71,6 +106,8 @@ public final class LoginDecoder extends StatefulFrameDecoder<LoginDecoderState>
 			case LOGIN_PAYLOAD:
 				decodePayload(ctx, in, out);
 				break;
+			case LOGIN_DECRYPTION:
+				break;
 			default:
 				throw new IllegalStateException("Invalid login decoder state: " + state);
 		}
@@ -122,7 +159,8 @@ public final class LoginDecoder extends StatefulFrameDecoder<LoginDecoderState>
 	}
 
 	/**
-	 * Decodes in the payload state.
+	 * Decodes in the payload state. The RSA block is decrypted by the {@link #DECRYPTION_EXECUTOR}, and the rest of the
+	 * request is decoded on the event loop once decryption has finished.
 	 *
 	 * @param ctx The channel handler context.
 	 * @param buffer The buffer.
@@ -130,10 +168,10 @@ public final class LoginDecoder extends StatefulFrameDecoder<LoginDecoderState>
 	 */
 	private void decodePayload(ChannelHandlerContext ctx, ByteBuf buffer, List<Object> out) {
 		if (buffer.readableBytes() >= loginLength) {
-			ByteBuf payload = buffer.readBytes(loginLength);
-			int version = 255 - payload.readUnsignedByte();
+			ByteBuf payload = buffer.readSlice(loginLength);
+			version = 255 - payload.readUnsignedByte();
 
-			int release = payload.readUnsignedShort();
+			release = payload.readUnsignedShort();
 
 			int memoryStatus = payload.readUnsignedByte();
 			if (memoryStatus != 0 && memoryStatus != 1) {
@@ -141,24 +179,54 @@ public final class LoginDecoder extends StatefulFrameDecoder<LoginDecoderState>
 				return;
 			}
 
-			boolean lowMemory = memoryStatus == 1;
+			lowMemory = memoryStatus == 1;
 
-			int[] crcs = new int[FileSystemConstants.ARCHIVE_COUNT];
+			crcs = new int[FileSystemConstants.ARCHIVE_COUNT];
 			for (int index = 0; index < 9; index++) {
 				crcs[index] = payload.readInt();
 			}
 
 			int length = payload.readUnsignedByte();
-			if (length != loginLength - 41) {
+			if (length == 0 || length != loginLength - 41) {
 				writeResponseCode(ctx, LoginConstants.STATUS_LOGIN_SERVER_REJECTED_SESSION);
 				return;
 			}
 
-			ByteBuf secure = payload.readBytes(length);
+			byte[] encrypted = new byte[length];
+			payload.readBytes(encrypted);
+
+			setState(LoginDecoderState.LOGIN_DECRYPTION);
+			ctx.channel().config().setAutoRead(false);
+
+			try {
+				DECRYPTION_EXECUTOR.execute(() -> {
+					try {
+						BigInteger value = NetworkConstants.RSA_KEY.decrypt(new BigInteger(encrypted));
+						ctx.executor().execute(() -> decodeSecureBlock(ctx, value));
+					} catch (Throwable cause) { // the pool thread would swallow it, leaving the channel stalled
+						ctx.executor().execute(() -> ctx.fireExceptionCaught(cause));
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				writeResponseCode(ctx, LoginConstants.STATUS_COULD_NOT_COMPLETE);
+			}
+		}
+	}
+
+	/**
+	 * Decodes the decrypted RSA block, passing the completed {@link LoginRequest} forward through the pipeline. This
+	 * must be called on the event loop of the channel.
+	 *
+	 * @param ctx The channel handler context.
+	 * @param value The decrypted RSA block.
+	 */
+	private void decodeSecureBlock(ChannelHandlerContext ctx, BigInteger value) {
+		if (ctx.isRemoved() || !ctx.channel().isActive()) {
+			return;
+		}
 
-			BigInteger value = new BigInteger(secure.array());
-			value = value.modPow(NetworkConstants.RSA_EXPONENT, NetworkConstants.RSA_MODULUS);
-			secure = Unpooled.wrappedBuffer(value.toByteArray());
+		try {
+			ByteBuf secure = Unpooled.wrappedBuffer(value.toByteArray());
 
 			int id = secure.readUnsignedByte();
 			if (id != 10) {
@@ -200,7 +268,10 @@ public final class LoginDecoder extends StatefulFrameDecoder<LoginDecoderState>
 			PlayerCredentials credentials = new PlayerCredentials(username, password, usernameHash, uid, hostAddress);
 			IsaacRandomPair randomPair = new IsaacRandomPair(encodingRandom, decodingRandom);
 
-			out.add(new LoginRequest(credentials, randomPair, reconnecting, lowMemory, release, crcs, version));
+			ctx.fireChannelRead(new LoginRequest(credentials, randomPair, lowMemory, reconnecting, release, crcs, version));
+			ctx.channel().config().setAutoRead(true);
+		} catch (Exception e) {
+			ctx.fireExceptionCaught(e);
 		}
 	}
 
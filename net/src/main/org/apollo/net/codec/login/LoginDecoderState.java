@@ -23,6 +23,12 @@ public enum LoginDecoderState {
 	 * The login payload state will wait for all login information (such as client release number, username and
 	 * password).
 	 */
-	LOGIN_PAYLOAD;
+	LOGIN_PAYLOAD,
+
+	/**
+	 * The login decryption state will wait for the RSA block of the payload to be decrypted off the event loop. No
+	 * further data is decoded in this state.
+	 */
+	LOGIN_DECRYPTION;
 
 }
\ No newline at end of file
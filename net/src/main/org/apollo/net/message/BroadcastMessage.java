@@ -0,0 +1,77 @@
+package org.apollo.net.message;
+
+import org.apollo.net.codec.game.GamePacket;
+import org.apollo.net.release.MessageEncoder;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+
+/**
+ * A {@link Message} that is sent, unchanged, to many sessions. The wrapped Message is encoded into a {@link GamePacket}
+ * by the first session to write it, and every other session writes the same packet - only the (ISAAC-encrypted)
+ * header of the packet is encoded per session.
+ * <p>
+ * The wrapped Message must not be modified after the BroadcastMessage has been created.
+ *
+ * @author Major
+ */
+public final class BroadcastMessage extends Message {
+
+	/**
+	 * The MessageEncoder that encoded the packet, or {@code null} if the Message has not been encoded.
+	 */
+	private MessageEncoder<Message> encoder;
+
+	/**
+	 * The wrapped Message.
+	 */
+	private final Message message;
+
+	/**
+	 * The encoded GamePacket, or {@code null} if the Message has not been encoded.
+	 */
+	private GamePacket packet;
+
+	/**
+	 * Creates the BroadcastMessage.
+	 *
+	 * @param message The {@link Message} to broadcast.
+	 */
+	public BroadcastMessage(Message message) {
+		Preconditions.checkArgument(!(message instanceof BroadcastMessage), "Cannot broadcast a BroadcastMessage.");
+		this.message = message;
+	}
+
+	/**
+	 * Encodes the wrapped {@link Message} using the specified {@link MessageEncoder}, if it has not already been
+	 * encoded.
+	 *
+	 * @param encoder The MessageEncoder.
+	 * @return The encoded {@link GamePacket}, which is shared between every session this Message is written to.
+	 * @throws IllegalArgumentException If the Message was previously encoded by a different MessageEncoder.
+	 */
+	public synchronized GamePacket encode(MessageEncoder<Message> encoder) {
+		if (packet == null) {
+			packet = encoder.encode(message);
+			this.encoder = encoder;
+		}
+
+		Preconditions.checkArgument(this.encoder == encoder, "BroadcastMessage cannot be encoded by multiple encoders.");
+		return packet;
+	}
+
+	/**
+	 * Gets the wrapped {@link Message}.
+	 *
+	 * @return The Message.
+	 */
+	public Message getMessage() {
+		return message;
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this).add("message", message).toString();
+	}
+
+}
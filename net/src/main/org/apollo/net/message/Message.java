@@ -1,5 +1,7 @@
 package org.apollo.net.message;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * A message sent by the client that can be intercepted.
  *
@@ -8,11 +10,49 @@ package org.apollo.net.message;
  */
 public abstract class Message {
 
+	/**
+	 * The next free type identifier.
+	 */
+	private static final AtomicInteger nextType = new AtomicInteger();
+
+	/**
+	 * The cache of Message Classes to their type identifiers.
+	 */
+	private static final ClassValue<Integer> types = new ClassValue<Integer>() {
+
+		@Override
+		protected Integer computeValue(Class<?> type) {
+			return nextType.getAndIncrement();
+		}
+
+	};
+
+	/**
+	 * Gets the type identifier of the specified {@link Message} {@link Class}. Identifiers are small, non-negative
+	 * integers assigned in the order types are first seen, and are stable for the lifetime of the process.
+	 *
+	 * @param type The Class type of the Message.
+	 * @return The type identifier.
+	 */
+	public static int typeIdOf(Class<? extends Message> type) {
+		return types.get(type);
+	}
+
 	/**
 	 * Indicates whether or not the Message chain has been terminated.
 	 */
 	private boolean terminated;
 
+	/**
+	 * Gets the type identifier of this Message.
+	 *
+	 * @return The type identifier.
+	 * @see #typeIdOf(Class)
+	 */
+	public final int getTypeId() {
+		return types.get(getClass());
+	}
+
 	/**
 	 * Terminates the Message chain.
 	 */
@@ -29,4 +69,4 @@ public abstract class Message {
 		return terminated;
 	}
 
-}
\ No newline at end of file
+}
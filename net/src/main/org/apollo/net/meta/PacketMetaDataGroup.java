@@ -10,7 +10,8 @@ import com.google.common.base.Preconditions;
 public final class PacketMetaDataGroup {
 
 	/**
-	 * Creates a packet meta data group from the packet length array.
+	 * Creates a packet meta data group from the packet length array, where {@code -1} is a variable byte packet,
+	 * {@code -2} a variable short packet, and {@code -3} a packet that does not exist.
 	 *
 	 * @param lengths The packet lengths.
 	 * @return The packet meta data group.
@@ -23,13 +24,13 @@ public final class PacketMetaDataGroup {
 
 		for (int index = 0; index < lengths.length; index++) {
 			int length = lengths[index];
-			Preconditions.checkArgument(length >= -2, "No packet length can have a value less than -3.");
+			Preconditions.checkArgument(length >= -3, "No packet length can have a value less than -3.");
 			PacketMetaData metaData = null;
 			if (length == -2) {
 				metaData = PacketMetaData.createVariableShort();
 			} else if (length == -1) {
 				metaData = PacketMetaData.createVariableByte();
-			} else {
+			} else if (length >= 0) {
 				metaData = PacketMetaData.createFixed(length);
 			}
 			group.packets[index] = metaData;
@@ -0,0 +1,503 @@
+package org.apollo.net.release.schema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import org.apollo.net.codec.game.DataOrder;
+import org.apollo.net.codec.game.DataTransformation;
+import org.xml.sax.SAXException;
+
+/**
+ * Generates the source of specialised {@link org.apollo.net.release.MessageDecoder}s and
+ * {@link org.apollo.net.release.MessageEncoder}s from a {@link ReleaseSchema}.
+ * <p>
+ * Every field is read or written with direct calls to the payload's {@link io.netty.buffer.ByteBuf}, rather than
+ * through the type, order and transformation switches of the {@link org.apollo.net.codec.game.GamePacketReader} and
+ * {@link org.apollo.net.codec.game.GamePacketBuilder}. A {@code GeneratedCodecs} class is also generated in each
+ * package, which registers every generated codec with a {@link org.apollo.net.release.Release}.
+ * <p>
+ * This is run by the build before the game is compiled, with the directory containing the schema files and the
+ * directory to write the generated sources to as arguments.
+ *
+ * @author Major
+ */
+public final class CodecGenerator {
+
+	/**
+	 * The name of the generated class that registers the codecs.
+	 */
+	private static final String REGISTRAR = "GeneratedCodecs";
+
+	/**
+	 * The entry point of the generator.
+	 *
+	 * @param args The program arguments: the directory containing the schema files, and the output directory.
+	 * @throws IOException If a schema file could not be read, or if a source file could not be written.
+	 * @throws SAXException If a schema file could not be parsed.
+	 */
+	public static void main(String[] args) throws IOException, SAXException {
+		if (args.length != 2) {
+			System.err.println("Usage: CodecGenerator <schema directory> <output directory>");
+			System.exit(1);
+		}
+
+		Path output = Paths.get(args[1]);
+
+		try (DirectoryStream<Path> schemas = Files.newDirectoryStream(Paths.get(args[0]), "*.xml")) {
+			for (Path path : schemas) {
+				try (InputStream is = Files.newInputStream(path)) {
+					ReleaseSchema schema = new ReleaseSchemaParser(is).parse();
+					new CodecGenerator(schema, path.getFileName().toString()).generate(output);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The ReleaseSchema the codecs are generated from.
+	 */
+	private final ReleaseSchema schema;
+
+	/**
+	 * The name of the schema file, used in the documentation of the generated classes.
+	 */
+	private final String source;
+
+	/**
+	 * Creates the CodecGenerator.
+	 *
+	 * @param schema The {@link ReleaseSchema} to generate codecs from.
+	 * @param source The name of the schema file.
+	 */
+	public CodecGenerator(ReleaseSchema schema, String source) {
+		this.schema = schema;
+		this.source = source;
+	}
+
+	/**
+	 * Adds the imports of the schema that are referred to by the specified expression.
+	 *
+	 * @param expression The Java expression.
+	 * @param imports The {@link Set} of imports to add to.
+	 */
+	private void addImports(String expression, Set<String> imports) {
+		for (String name : schema.getImports()) {
+			String simple = name.substring(name.lastIndexOf('.') + 1);
+			if (Pattern.compile("\\b" + simple + "\\b").matcher(expression).find()) {
+				imports.add(name);
+			}
+		}
+	}
+
+	/**
+	 * Generates the source of the specified decoder.
+	 *
+	 * @param decoder The {@link DecoderSchema}.
+	 * @return The source.
+	 */
+	public String decoder(DecoderSchema decoder) {
+		Set<String> imports = new TreeSet<>();
+		imports.add(schema.getMessages() + "." + decoder.getMessage());
+		imports.add("org.apollo.net.codec.game.GamePacket");
+		imports.add("org.apollo.net.release.MessageDecoder");
+
+		String message = decoder.getMessage();
+		StringBuilder body = new StringBuilder();
+		body.append("\t@Override\n");
+		body.append("\tpublic ").append(message).append(" decode(GamePacket packet) {\n");
+
+		if (!decoder.getFields().isEmpty()) {
+			imports.add("io.netty.buffer.ByteBuf");
+			body.append("\t\tByteBuf buffer = packet.getPayload();\n");
+		}
+
+		for (FieldSchema field : decoder.getFields()) {
+			body.append("\t\t").append(field.getType().getJavaType()).append(' ').append(field.getName()).append(" = ");
+			body.append(read(field, imports)).append(";\n");
+		}
+
+		body.append("\t\treturn new ").append(message).append('(').append(decoder.getArguments()).append(");\n");
+		body.append("\t}\n");
+
+		addImports(decoder.getArguments(), imports);
+		return type(decoder.getName(), "MessageDecoder", message, imports, body);
+	}
+
+	/**
+	 * Generates the source of the specified encoder.
+	 *
+	 * @param encoder The {@link EncoderSchema}.
+	 * @return The source.
+	 */
+	public String encoder(EncoderSchema encoder) {
+		Set<String> imports = new TreeSet<>();
+		imports.add(schema.getMessages() + "." + encoder.getMessage());
+		imports.add("io.netty.buffer.Unpooled");
+		imports.add("org.apollo.net.codec.game.GamePacket");
+		imports.add("org.apollo.net.meta.PacketType");
+		imports.add("org.apollo.net.release.MessageEncoder");
+
+		String message = encoder.getMessage();
+		StringBuilder body = new StringBuilder();
+		body.append("\t@Override\n");
+		body.append("\tpublic GamePacket encode(").append(message).append(" message) {\n");
+
+		String packet = "new GamePacket(" + encoder.getOpcode() + ", PacketType." + encoder.getType().name() + ", ";
+		if (encoder.getFields().isEmpty()) {
+			body.append("\t\treturn ").append(packet).append("Unpooled.EMPTY_BUFFER);\n");
+			body.append("\t}\n");
+			return type(encoder.getName(), "MessageEncoder", message, imports, body);
+		}
+
+		imports.add("io.netty.buffer.ByteBuf");
+		StringBuilder capacity = new StringBuilder();
+
+		for (FieldSchema field : encoder.getFields()) {
+			body.append("\t\t").append(field.getType().getJavaType()).append(' ').append(field.getName()).append(" = ");
+			body.append(field.getValue()).append(";\n");
+			addImports(field.getValue(), imports);
+
+			if (field.getType().isVariable()) {
+				capacity.append(" + ").append(field.getName()).append(".length()");
+			}
+		}
+
+		// Every variable-length field is a string, which is followed by a terminator.
+		int fixed = encoder.getFixedLength();
+		fixed += (int) encoder.getFields().stream().filter(field -> field.getType().isVariable()).count();
+		body.append("\n\t\tByteBuf buffer = Unpooled.buffer(").append(fixed).append(capacity).append(");\n");
+
+		for (FieldSchema field : encoder.getFields()) {
+			write(field, body, imports);
+		}
+
+		body.append("\t\treturn ").append(packet).append("buffer);\n");
+		body.append("\t}\n");
+
+		return type(encoder.getName(), "MessageEncoder", message, imports, body);
+	}
+
+	/**
+	 * Generates the source of every codec, and of the class that registers them, into the specified directory.
+	 *
+	 * @param output The root directory of the generated sources.
+	 * @throws IOException If a source file could not be written.
+	 */
+	public void generate(Path output) throws IOException {
+		Path directory = output.resolve(schema.getPackageName().replace('.', '/'));
+		Files.createDirectories(directory);
+
+		for (DecoderSchema decoder : schema.getDecoders()) {
+			write(directory, decoder.getName(), decoder(decoder));
+		}
+
+		for (EncoderSchema encoder : schema.getEncoders()) {
+			write(directory, encoder.getName(), encoder(encoder));
+		}
+
+		write(directory, REGISTRAR, registrar());
+	}
+
+	/**
+	 * Generates the source of the class that registers every generated codec with a Release.
+	 *
+	 * @return The source.
+	 */
+	public String registrar() {
+		Set<String> imports = new TreeSet<>();
+		imports.add("org.apollo.net.release.Release");
+
+		StringBuilder body = new StringBuilder();
+		body.append("\t/**\n");
+		body.append("\t * Registers the generated codecs with the specified {@link Release}.\n");
+		body.append("\t *\n");
+		body.append("\t * @param release The Release.\n");
+		body.append("\t */\n");
+		body.append("\tpublic static void register(Release release) {\n");
+
+		for (DecoderSchema decoder : schema.getDecoders()) {
+			String name = decoder.getName();
+			String variable = Character.toLowerCase(name.charAt(0)) + name.substring(1);
+			body.append("\t\t").append(name).append(' ').append(variable).append(" = new ").append(name).append("();\n");
+
+			for (int opcode : decoder.getOpcodes()) {
+				body.append("\t\trelease.register(").append(opcode).append(", ").append(variable).append(");\n");
+			}
+		}
+
+		for (EncoderSchema encoder : schema.getEncoders()) {
+			imports.add(schema.getMessages() + "." + encoder.getMessage());
+			body.append("\t\trelease.register(").append(encoder.getMessage()).append(".class, new ");
+			body.append(encoder.getName()).append("());\n");
+		}
+
+		body.append("\t}\n\n");
+		body.append("\t/**\n");
+		body.append("\t * Sole private constructor to prevent instantiation.\n");
+		body.append("\t */\n");
+		body.append("\tprivate ").append(REGISTRAR).append("() {\n\n");
+		body.append("\t}\n");
+
+		StringBuilder source = header(imports);
+		source.append("/**\n");
+		source.append(" * Registers the codecs generated from {@code ").append(this.source).append("}.\n");
+		source.append(" */\n");
+		source.append("public final class ").append(REGISTRAR).append(" {\n\n");
+		source.append(body);
+		source.append("\n}\n");
+
+		return source.toString();
+	}
+
+	/**
+	 * Creates the package declaration and imports of a generated source file.
+	 *
+	 * @param imports The {@link Set} of fully-qualified names of the imported classes, in order.
+	 * @return The {@link StringBuilder} containing the header.
+	 */
+	private StringBuilder header(Set<String> imports) {
+		StringBuilder source = new StringBuilder();
+		source.append("// Generated from ").append(this.source).append(" by ").append(CodecGenerator.class.getSimpleName());
+		source.append(" - do not edit.\n");
+		source.append("package ").append(schema.getPackageName()).append(";\n\n");
+
+		String group = null;
+		for (String name : imports) {
+			String root = name.substring(0, name.indexOf('.'));
+			if (group != null && !group.equals(root)) {
+				source.append('\n');
+			}
+
+			source.append("import ").append(name).append(";\n");
+			group = root;
+		}
+
+		return source.append('\n');
+	}
+
+	/**
+	 * Creates the expression that reads the specified field from the {@code buffer}.
+	 *
+	 * @param field The {@link FieldSchema}.
+	 * @param imports The {@link Set} of imports, which any classes used by the expression are added to.
+	 * @return The expression.
+	 */
+	private String read(FieldSchema field, Set<String> imports) {
+		DataTransformation transformation = field.getTransformation();
+		FieldType type = field.getType();
+
+		switch (type) {
+			case STRING:
+				imports.add("org.apollo.util.BufferUtil");
+				return "BufferUtil.readString(buffer)";
+			case NAME:
+				imports.add("org.apollo.util.NameUtil");
+				return "NameUtil.decodeBase37(buffer.readLong())";
+			case BOOLEAN:
+				String value = readByte(transformation);
+				return transformation == DataTransformation.NONE ? value + " == 1" : "(" + value + ") == 1";
+			case BYTE:
+				if (!field.isSigned()) {
+					return readByte(transformation);
+				}
+				return transformation == DataTransformation.NONE ? "buffer.readByte()" : "(byte) (" + readByte(transformation) + ")";
+			default:
+				break;
+		}
+
+		if (field.getOrder() == DataOrder.BIG && transformation == DataTransformation.NONE) {
+			switch (type) {
+				case SHORT:
+					return field.isSigned() ? "buffer.readShort()" : "buffer.readUnsignedShort()";
+				case TRI_BYTE:
+					return field.isSigned() ? "buffer.readMedium()" : "buffer.readUnsignedMedium()";
+				case INT:
+					return "buffer.readInt()";
+				default:
+					return "buffer.readLong()";
+			}
+		}
+
+		// Operands are evaluated from left to right, so the bytes are read in the order they are listed.
+		StringBuilder expression = new StringBuilder();
+		for (int shift : shifts(field)) {
+			if (expression.length() > 0) {
+				expression.append(" | ");
+			}
+
+			String term = shift == 0 && transformation != DataTransformation.NONE ? "(" + readByte(transformation) + ")"
+					: "buffer.readUnsignedByte()";
+			expression.append(type == FieldType.LONG ? "(long) " + term : term);
+
+			if (shift != 0) {
+				expression.append(" << ").append(shift);
+			}
+		}
+
+		if (field.isSigned() && type == FieldType.SHORT) {
+			return "(short) (" + expression + ")";
+		} else if (field.isSigned() && type == FieldType.TRI_BYTE) {
+			return "(" + expression + ") << 8 >> 8";
+		}
+
+		return expression.toString();
+	}
+
+	/**
+	 * Creates the expression that reads a single unsigned byte from the {@code buffer}, reversing the specified
+	 * transformation.
+	 *
+	 * @param transformation The {@link DataTransformation}.
+	 * @return The expression.
+	 */
+	private String readByte(DataTransformation transformation) {
+		switch (transformation) {
+			case ADD:
+				return "buffer.readByte() - 128 & 0xFF";
+			case NEGATE:
+				return "-buffer.readByte() & 0xFF";
+			case SUBTRACT:
+				return "128 - buffer.readByte() & 0xFF";
+			default:
+				return "buffer.readUnsignedByte()";
+		}
+	}
+
+	/**
+	 * Gets the shifts of the bytes of the specified field, in the order they are sent. The transformation of a field is
+	 * always applied to the byte with a shift of {@code 0}.
+	 *
+	 * @param field The {@link FieldSchema}.
+	 * @return The shifts, in bits.
+	 */
+	private int[] shifts(FieldSchema field) {
+		switch (field.getOrder()) {
+			case MIDDLE:
+				return new int[] { 8, 0, 24, 16 };
+			case INVERSED_MIDDLE:
+				return new int[] { 16, 24, 0, 8 };
+			default:
+				break;
+		}
+
+		int bytes = field.getType().getBytes();
+		int[] shifts = new int[bytes];
+
+		for (int index = 0; index < bytes; index++) {
+			int significance = field.getOrder() == DataOrder.BIG ? bytes - index - 1 : index;
+			shifts[index] = significance * Byte.SIZE;
+		}
+
+		return shifts;
+	}
+
+	/**
+	 * Applies the specified transformation to the specified value, which is written as a single byte.
+	 *
+	 * @param transformation The {@link DataTransformation}.
+	 * @param value The expression of the value.
+	 * @return The transformed expression.
+	 */
+	private String transform(DataTransformation transformation, String value) {
+		switch (transformation) {
+			case ADD:
+				return value + " + 128";
+			case NEGATE:
+				return "-" + value;
+			case SUBTRACT:
+				return "128 - " + value;
+			default:
+				return value;
+		}
+	}
+
+	/**
+	 * Creates the source of a codec class.
+	 *
+	 * @param name The simple name of the class.
+	 * @param superclass The simple name of the superclass.
+	 * @param message The simple name of the Message class.
+	 * @param imports The {@link Set} of fully-qualified names of the imported classes.
+	 * @param body The body of the class.
+	 * @return The source.
+	 */
+	private String type(String name, String superclass, String message, Set<String> imports, StringBuilder body) {
+		StringBuilder source = header(imports);
+		source.append("/**\n");
+		source.append(" * A {@link ").append(superclass).append("} for the {@link ").append(message);
+		source.append("}, generated from {@code ").append(this.source).append("}.\n");
+		source.append(" */\n");
+		source.append("public final class ").append(name).append(" extends ").append(superclass);
+		source.append('<').append(message).append("> {\n\n");
+		source.append(body);
+		source.append("\n}\n");
+		return source.toString();
+	}
+
+	/**
+	 * Writes the source of a class to the specified directory.
+	 *
+	 * @param directory The directory of the package.
+	 * @param name The simple name of the class.
+	 * @param source The source.
+	 * @throws IOException If the file could not be written.
+	 */
+	private void write(Path directory, String name, String source) throws IOException {
+		Files.write(directory.resolve(name + ".java"), source.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Appends the statements that write the specified field to the {@code buffer}.
+	 *
+	 * @param field The {@link FieldSchema}.
+	 * @param body The {@link StringBuilder} to append the statements to.
+	 * @param imports The {@link Set} of imports, which any classes used by the statements are added to.
+	 */
+	private void write(FieldSchema field, StringBuilder body, Set<String> imports) {
+		DataTransformation transformation = field.getTransformation();
+		String name = field.getName();
+		FieldType type = field.getType();
+
+		switch (type) {
+			case STRING:
+				imports.add("org.apollo.util.BufferUtil");
+				body.append("\t\tBufferUtil.writeString(buffer, ").append(name).append(");\n");
+				return;
+			case NAME:
+				imports.add("org.apollo.util.NameUtil");
+				body.append("\t\tbuffer.writeLong(NameUtil.encodeBase37(").append(name).append("));\n");
+				return;
+			case BOOLEAN:
+				body.append("\t\tbuffer.writeByte(").append(name).append(" ? ").append(transform(transformation, "1"));
+				body.append(" : ").append(transform(transformation, "0")).append(");\n");
+				return;
+			default:
+				break;
+		}
+
+		if (field.getOrder() == DataOrder.BIG && transformation == DataTransformation.NONE) {
+			String method = type == FieldType.BYTE ? "writeByte" : type == FieldType.SHORT ? "writeShort"
+					: type == FieldType.TRI_BYTE ? "writeMedium" : type == FieldType.INT ? "writeInt" : "writeLong";
+			body.append("\t\tbuffer.").append(method).append('(').append(name).append(");\n");
+			return;
+		}
+
+		for (int shift : shifts(field)) {
+			String value = shift == 0 ? transform(transformation, name) : name + " >> " + shift;
+			if (type == FieldType.LONG) {
+				value = "(int) (" + value + ")";
+			}
+
+			body.append("\t\tbuffer.writeByte(").append(value).append(");\n");
+		}
+	}
+
+}
@@ -0,0 +1,77 @@
+package org.apollo.net.release.schema;
+
+import java.util.List;
+
+/**
+ * The schema of a packet, from which a {@link org.apollo.net.release.MessageDecoder} or
+ * {@link org.apollo.net.release.MessageEncoder} is generated.
+ *
+ * @author Major
+ */
+public abstract class CodecSchema {
+
+	/**
+	 * The fields of the packet, in the order they are sent.
+	 */
+	private final List<FieldSchema> fields;
+
+	/**
+	 * The simple name of the Message class.
+	 */
+	private final String message;
+
+	/**
+	 * The simple name of the generated class.
+	 */
+	private final String name;
+
+	/**
+	 * Creates the CodecSchema.
+	 *
+	 * @param name The simple name of the generated class.
+	 * @param message The simple name of the Message class.
+	 * @param fields The {@link List} of fields of the packet, in the order they are sent.
+	 */
+	protected CodecSchema(String name, String message, List<FieldSchema> fields) {
+		this.name = name;
+		this.message = message;
+		this.fields = fields;
+	}
+
+	/**
+	 * Gets the fields of the packet, in the order they are sent.
+	 *
+	 * @return The {@link List} of fields.
+	 */
+	public final List<FieldSchema> getFields() {
+		return fields;
+	}
+
+	/**
+	 * Gets the amount of bytes taken by the fields that are not of variable length.
+	 *
+	 * @return The amount of bytes.
+	 */
+	public final int getFixedLength() {
+		return fields.stream().mapToInt(field -> field.getType().getBytes()).sum();
+	}
+
+	/**
+	 * Gets the simple name of the Message class.
+	 *
+	 * @return The name.
+	 */
+	public final String getMessage() {
+		return message;
+	}
+
+	/**
+	 * Gets the simple name of the generated class.
+	 *
+	 * @return The name.
+	 */
+	public final String getName() {
+		return name;
+	}
+
+}
@@ -0,0 +1,56 @@
+package org.apollo.net.release.schema;
+
+import java.util.List;
+
+/**
+ * The schema of an incoming packet, from which a {@link org.apollo.net.release.MessageDecoder} is generated.
+ *
+ * @author Major
+ */
+public final class DecoderSchema extends CodecSchema {
+
+	/**
+	 * The arguments the Message is constructed with, as a comma-separated list of Java expressions.
+	 */
+	private final String arguments;
+
+	/**
+	 * The opcodes the decoder is registered for.
+	 */
+	private final int[] opcodes;
+
+	/**
+	 * Creates the DecoderSchema.
+	 *
+	 * @param name The simple name of the generated class.
+	 * @param message The simple name of the Message class.
+	 * @param opcodes The opcodes the decoder is registered for.
+	 * @param fields The {@link List} of fields of the packet, in the order they are sent.
+	 * @param arguments The arguments the Message is constructed with, as a comma-separated list of Java expressions,
+	 *            which may refer to the fields by name.
+	 */
+	public DecoderSchema(String name, String message, int[] opcodes, List<FieldSchema> fields, String arguments) {
+		super(name, message, fields);
+		this.opcodes = opcodes;
+		this.arguments = arguments;
+	}
+
+	/**
+	 * Gets the arguments the Message is constructed with, as a comma-separated list of Java expressions.
+	 *
+	 * @return The arguments.
+	 */
+	public String getArguments() {
+		return arguments;
+	}
+
+	/**
+	 * Gets the opcodes the decoder is registered for.
+	 *
+	 * @return The opcodes.
+	 */
+	public int[] getOpcodes() {
+		return opcodes.clone();
+	}
+
+}
@@ -0,0 +1,57 @@
+package org.apollo.net.release.schema;
+
+import java.util.List;
+
+import org.apollo.net.meta.PacketType;
+
+/**
+ * The schema of an outgoing packet, from which a {@link org.apollo.net.release.MessageEncoder} is generated.
+ *
+ * @author Major
+ */
+public final class EncoderSchema extends CodecSchema {
+
+	/**
+	 * The opcode of the packet.
+	 */
+	private final int opcode;
+
+	/**
+	 * The PacketType of the packet.
+	 */
+	private final PacketType type;
+
+	/**
+	 * Creates the EncoderSchema.
+	 *
+	 * @param name The simple name of the generated class.
+	 * @param message The simple name of the Message class.
+	 * @param opcode The opcode of the packet.
+	 * @param type The {@link PacketType} of the packet.
+	 * @param fields The {@link List} of fields of the packet, in the order they are sent.
+	 */
+	public EncoderSchema(String name, String message, int opcode, PacketType type, List<FieldSchema> fields) {
+		super(name, message, fields);
+		this.opcode = opcode;
+		this.type = type;
+	}
+
+	/**
+	 * Gets the opcode of the packet.
+	 *
+	 * @return The opcode.
+	 */
+	public int getOpcode() {
+		return opcode;
+	}
+
+	/**
+	 * Gets the {@link PacketType} of the packet.
+	 *
+	 * @return The PacketType.
+	 */
+	public PacketType getType() {
+		return type;
+	}
+
+}
@@ -0,0 +1,125 @@
+package org.apollo.net.release.schema;
+
+import org.apollo.net.codec.game.DataOrder;
+import org.apollo.net.codec.game.DataTransformation;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * A single field of a packet described by a {@link CodecSchema}.
+ *
+ * @author Major
+ */
+public final class FieldSchema {
+
+	/**
+	 * The name of the field.
+	 */
+	private final String name;
+
+	/**
+	 * The DataOrder of the field.
+	 */
+	private final DataOrder order;
+
+	/**
+	 * Whether or not the field is read as a signed value.
+	 */
+	private final boolean signed;
+
+	/**
+	 * The DataTransformation of the field.
+	 */
+	private final DataTransformation transformation;
+
+	/**
+	 * The FieldType of the field.
+	 */
+	private final FieldType type;
+
+	/**
+	 * The Java expression the value of the field is encoded from, or {@code null} if the field is decoded.
+	 */
+	private final String value;
+
+	/**
+	 * Creates the FieldSchema.
+	 *
+	 * @param name The name of the field.
+	 * @param type The {@link FieldType} of the field.
+	 * @param order The {@link DataOrder} of the field.
+	 * @param transformation The {@link DataTransformation} of the field.
+	 * @param signed Whether or not the field is read as a signed value.
+	 * @param value The Java expression the value of the field is encoded from, or {@code null} if the field is decoded.
+	 */
+	public FieldSchema(String name, FieldType type, DataOrder order, DataTransformation transformation, boolean signed,
+			String value) {
+		this.name = name;
+		this.type = type;
+		this.order = order;
+		this.transformation = transformation;
+		this.signed = signed;
+		this.value = value;
+	}
+
+	/**
+	 * Gets the name of the field.
+	 *
+	 * @return The name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Gets the {@link DataOrder} of the field.
+	 *
+	 * @return The DataOrder.
+	 */
+	public DataOrder getOrder() {
+		return order;
+	}
+
+	/**
+	 * Gets the {@link DataTransformation} of the field.
+	 *
+	 * @return The DataTransformation.
+	 */
+	public DataTransformation getTransformation() {
+		return transformation;
+	}
+
+	/**
+	 * Gets the {@link FieldType} of the field.
+	 *
+	 * @return The FieldType.
+	 */
+	public FieldType getType() {
+		return type;
+	}
+
+	/**
+	 * Gets the Java expression the value of the field is encoded from.
+	 *
+	 * @return The expression, or {@code null} if the field is decoded.
+	 */
+	public String getValue() {
+		return value;
+	}
+
+	/**
+	 * Returns whether or not the field is read as a signed value.
+	 *
+	 * @return {@code true} if the field is signed, otherwise {@code false}.
+	 */
+	public boolean isSigned() {
+		return signed;
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this).add("name", name).add("type", type).add("order", order)
+				.add("transformation", transformation).add("signed", signed).toString();
+	}
+
+}
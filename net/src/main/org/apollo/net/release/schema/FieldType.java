@@ -0,0 +1,109 @@
+package org.apollo.net.release.schema;
+
+import org.apollo.net.codec.game.DataType;
+
+/**
+ * The type of a {@link FieldSchema}.
+ *
+ * @author Major
+ */
+public enum FieldType {
+
+	/**
+	 * A boolean, sent as a byte that is {@code 1} if the value is {@code true}, and {@code 0} otherwise.
+	 */
+	BOOLEAN("boolean", DataType.BYTE),
+
+	/**
+	 * A byte.
+	 */
+	BYTE("int", DataType.BYTE),
+
+	/**
+	 * A short.
+	 */
+	SHORT("int", DataType.SHORT),
+
+	/**
+	 * A 24-bit 'tri-byte'.
+	 */
+	TRI_BYTE("int", DataType.TRI_BYTE),
+
+	/**
+	 * An integer.
+	 */
+	INT("int", DataType.INT),
+
+	/**
+	 * A long.
+	 */
+	LONG("long", DataType.LONG),
+
+	/**
+	 * A player name, sent as a base-37 encoded long.
+	 */
+	NAME("String", DataType.LONG),
+
+	/**
+	 * A string, sent as one byte per character followed by a terminator.
+	 */
+	STRING("String", null);
+
+	/**
+	 * The DataType that values of this FieldType are sent as, or {@code null} if values are of variable length.
+	 */
+	private final DataType dataType;
+
+	/**
+	 * The name of the Java type that values of this FieldType are represented with.
+	 */
+	private final String javaType;
+
+	/**
+	 * Creates the FieldType.
+	 *
+	 * @param javaType The name of the Java type that values of this FieldType are represented with.
+	 * @param dataType The {@link DataType} that values are sent as, or {@code null} if values are of variable length.
+	 */
+	private FieldType(String javaType, DataType dataType) {
+		this.javaType = javaType;
+		this.dataType = dataType;
+	}
+
+	/**
+	 * Gets the amount of bytes values of this FieldType are sent as, or {@code 0} if values are of variable length.
+	 *
+	 * @return The amount of bytes.
+	 */
+	public int getBytes() {
+		return dataType == null ? 0 : dataType.getBytes();
+	}
+
+	/**
+	 * Gets the {@link DataType} that values of this FieldType are sent as.
+	 *
+	 * @return The DataType, or {@code null} if values are of variable length.
+	 */
+	public DataType getDataType() {
+		return dataType;
+	}
+
+	/**
+	 * Gets the name of the Java type that values of this FieldType are represented with.
+	 *
+	 * @return The name of the Java type.
+	 */
+	public String getJavaType() {
+		return javaType;
+	}
+
+	/**
+	 * Returns whether or not values of this FieldType are of variable length.
+	 *
+	 * @return {@code true} if values are of variable length, otherwise {@code false}.
+	 */
+	public boolean isVariable() {
+		return dataType == null;
+	}
+
+}
@@ -0,0 +1,164 @@
+package org.apollo.net.release.schema;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+import org.apollo.net.meta.PacketMetaData;
+import org.apollo.net.meta.PacketMetaDataGroup;
+import org.apollo.net.meta.PacketType;
+
+/**
+ * The packet schema of a {@link org.apollo.net.release.Release}, from which its flat (i.e. fixed-layout) codecs are
+ * generated.
+ *
+ * @author Major
+ */
+public final class ReleaseSchema {
+
+	/**
+	 * Gets the length of a packet of the specified type, as expected by
+	 * {@link PacketMetaDataGroup#createFromArray(int[])}.
+	 *
+	 * @param type The {@link PacketType} of the packet.
+	 * @param fixed The supplier of the length of the packet, if it is fixed.
+	 * @return The length.
+	 * @throws IllegalArgumentException If the packet is raw.
+	 */
+	private static int length(PacketType type, IntSupplier fixed) {
+		switch (type) {
+			case FIXED:
+				return fixed.getAsInt();
+			case VARIABLE_BYTE:
+				return -1;
+			case VARIABLE_SHORT:
+				return -2;
+			default:
+				throw new IllegalArgumentException("Raw packets have no length.");
+		}
+	}
+
+	/**
+	 * The schemas of the incoming packets.
+	 */
+	private final List<DecoderSchema> decoders;
+
+	/**
+	 * The schemas of the outgoing packets.
+	 */
+	private final List<EncoderSchema> encoders;
+
+	/**
+	 * The fully-qualified names of the classes, other than the Message classes, referred to by the schema.
+	 */
+	private final List<String> imports;
+
+	/**
+	 * The package containing the Message classes.
+	 */
+	private final String messages;
+
+	/**
+	 * The package the codecs are generated in.
+	 */
+	private final String packageName;
+
+	/**
+	 * The meta data of the outgoing packets whose encoders are written by hand, mapped to their opcodes.
+	 */
+	private final Map<Integer, PacketMetaData> packets;
+
+	/**
+	 * Creates the ReleaseSchema.
+	 *
+	 * @param packageName The package the codecs are generated in.
+	 * @param messages The package containing the Message classes.
+	 * @param imports The {@link List} of fully-qualified names of the other classes referred to by the schema.
+	 * @param decoders The {@link List} of incoming packet schemas.
+	 * @param encoders The {@link List} of outgoing packet schemas.
+	 * @param packets The {@link Map} of opcodes to the meta data of the outgoing packets with hand-written encoders.
+	 */
+	public ReleaseSchema(String packageName, String messages, List<String> imports, List<DecoderSchema> decoders,
+			List<EncoderSchema> encoders, Map<Integer, PacketMetaData> packets) {
+		this.packageName = packageName;
+		this.messages = messages;
+		this.imports = imports;
+		this.decoders = decoders;
+		this.encoders = encoders;
+		this.packets = packets;
+	}
+
+	/**
+	 * Gets the schemas of the incoming packets.
+	 *
+	 * @return The {@link List} of DecoderSchemas.
+	 */
+	public List<DecoderSchema> getDecoders() {
+		return decoders;
+	}
+
+	/**
+	 * Gets the schemas of the outgoing packets.
+	 *
+	 * @return The {@link List} of EncoderSchemas.
+	 */
+	public List<EncoderSchema> getEncoders() {
+		return encoders;
+	}
+
+	/**
+	 * Gets the fully-qualified names of the classes, other than the Message classes, referred to by the schema.
+	 *
+	 * @return The {@link List} of class names.
+	 */
+	public List<String> getImports() {
+		return imports;
+	}
+
+	/**
+	 * Gets the package containing the Message classes.
+	 *
+	 * @return The package name.
+	 */
+	public String getMessages() {
+		return messages;
+	}
+
+	/**
+	 * Gets the meta data of every outgoing packet: those with a generated encoder, and those whose encoders are written
+	 * by hand. Packets that the release does not send have {@code null} meta data.
+	 *
+	 * @return The {@link PacketMetaDataGroup}.
+	 */
+	public PacketMetaDataGroup getOutgoingMetaData() {
+		int[] lengths = new int[256];
+		Arrays.fill(lengths, -3);
+
+		for (EncoderSchema encoder : encoders) {
+			lengths[encoder.getOpcode()] = length(encoder.getType(), encoder::getFixedLength);
+		}
+
+		packets.forEach((opcode, metaData) -> lengths[opcode] = length(metaData.getType(), metaData::getLength));
+		return PacketMetaDataGroup.createFromArray(lengths);
+	}
+
+	/**
+	 * Gets the package the codecs are generated in.
+	 *
+	 * @return The package name.
+	 */
+	public String getPackageName() {
+		return packageName;
+	}
+
+	/**
+	 * Gets the meta data of the outgoing packets whose encoders are written by hand.
+	 *
+	 * @return The {@link Map} of opcodes to {@link PacketMetaData}.
+	 */
+	public Map<Integer, PacketMetaData> getPackets() {
+		return packets;
+	}
+
+}
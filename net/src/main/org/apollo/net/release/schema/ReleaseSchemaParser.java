@@ -0,0 +1,275 @@
+package org.apollo.net.release.schema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apollo.net.codec.game.DataOrder;
+import org.apollo.net.codec.game.DataTransformation;
+import org.apollo.net.meta.PacketMetaData;
+import org.apollo.net.meta.PacketType;
+import org.apollo.util.xml.XmlNode;
+import org.apollo.util.xml.XmlParser;
+import org.xml.sax.SAXException;
+
+/**
+ * A class that parses a packet schema file to produce a {@link ReleaseSchema}.
+ * <p>
+ * The root {@code release} node has a {@code package} attribute (the package the codecs are generated in) and a
+ * {@code messages} attribute (the package containing the Message classes). It contains {@code import} nodes (naming
+ * any other classes that expressions refer to), and {@code decoder} and {@code encoder} nodes, which both have
+ * {@code name} (the simple name of the generated class) and {@code message} attributes. Decoders list the
+ * {@code opcodes} they are registered for, and may list the {@code arguments} the Message is constructed with (by
+ * default, every field in the order they are sent). Encoders have an {@code opcode} and may have a packet
+ * {@code type} (by default, {@code fixed}).
+ * <p>
+ * Outgoing packets that are too complex for a generated encoder are described by {@code packet} nodes, so that the
+ * meta data of every outgoing packet is available to clients (such as bots). Each has an {@code opcode} and a
+ * {@code type}, and fixed packets also have a {@code length}.
+ * <p>
+ * Each {@code field} node has a {@code name} and a {@code type}, and may have an {@code order} (by default,
+ * {@code big}), a {@code transformation} (by default, {@code none}) and may be {@code signed}. Fields of encoders
+ * have a {@code value}, which is the Java expression the field is encoded from.
+ *
+ * @author Major
+ */
+public final class ReleaseSchemaParser {
+
+	/**
+	 * The source {@link InputStream}.
+	 */
+	private final InputStream is;
+
+	/**
+	 * The {@link XmlParser} instance.
+	 */
+	private final XmlParser parser = new XmlParser();
+
+	/**
+	 * Creates the ReleaseSchemaParser.
+	 *
+	 * @param is The source {@link InputStream}.
+	 * @throws SAXException If a SAX error occurs.
+	 */
+	public ReleaseSchemaParser(InputStream is) throws SAXException {
+		this.is = is;
+	}
+
+	/**
+	 * Parses the XML and produces the {@link ReleaseSchema}.
+	 *
+	 * @return The ReleaseSchema.
+	 * @throws IOException If an I/O error occurs, or if the XML is malformed.
+	 * @throws SAXException If a SAX error occurs.
+	 */
+	public ReleaseSchema parse() throws IOException, SAXException {
+		XmlNode root = parser.parse(is);
+		if (!root.getName().equals("release")) {
+			throw new IOException("Root node name is not 'release'.");
+		}
+
+		List<DecoderSchema> decoders = new ArrayList<>();
+		List<EncoderSchema> encoders = new ArrayList<>();
+		List<String> imports = new ArrayList<>();
+		Map<Integer, PacketMetaData> packets = new HashMap<>();
+
+		for (XmlNode node : root) {
+			if (node.getName().equals("import")) {
+				if (!node.hasValue()) {
+					throw new IOException("Import nodes must have a value.");
+				}
+
+				imports.add(node.getValue().trim());
+				continue;
+			} else if (node.getName().equals("packet")) {
+				int opcode = Integer.parseInt(require(node, "opcode"));
+				if (opcode < 0 || opcode > 255) {
+					throw new IOException("Packet " + opcode + " does not have a valid opcode.");
+				} else if (packets.put(opcode, parsePacket(node)) != null) {
+					throw new IOException("Packet " + opcode + " is described more than once.");
+				}
+
+				continue;
+			}
+
+			String name = require(node, "name");
+			String message = require(node, "message");
+			List<FieldSchema> fields = parseFields(node);
+
+			if (node.getName().equals("decoder")) {
+				if (fields.stream().anyMatch(field -> field.getValue() != null)) {
+					throw new IOException("Fields of decoder " + name + " cannot have a value.");
+				}
+
+				String arguments = node.containsAttribute("arguments") ? node.getAttribute("arguments")
+						: fields.stream().map(FieldSchema::getName).collect(Collectors.joining(", "));
+				decoders.add(new DecoderSchema(name, message, parseOpcodes(node), fields, arguments));
+			} else if (node.getName().equals("encoder")) {
+				if (fields.stream().anyMatch(field -> field.getValue() == null)) {
+					throw new IOException("Fields of encoder " + name + " must have a value.");
+				}
+
+				PacketType type = parseEnum(PacketType.class, node, "type", PacketType.FIXED);
+				int opcode = Integer.parseInt(require(node, "opcode"));
+				encoders.add(new EncoderSchema(name, message, opcode, type, fields));
+			} else {
+				throw new IOException("Only expected nodes named 'import', 'decoder', 'encoder' or 'packet' beneath "
+						+ "the root node.");
+			}
+		}
+
+		for (EncoderSchema encoder : encoders) {
+			if (packets.containsKey(encoder.getOpcode())) {
+				throw new IOException("Packet " + encoder.getOpcode() + " has both an encoder and a packet node.");
+			}
+		}
+
+		return new ReleaseSchema(require(root, "package"), require(root, "messages"), imports, decoders, encoders,
+				packets);
+	}
+
+	/**
+	 * Parses the value of the specified attribute as a constant of the specified enum type.
+	 *
+	 * @param type The type of the enum.
+	 * @param node The {@link XmlNode} containing the attribute.
+	 * @param attribute The name of the attribute.
+	 * @param defaultValue The value to return if the attribute does not exist.
+	 * @return The enum constant.
+	 * @throws IOException If the value is not the (case-insensitive) name of a constant.
+	 */
+	private <E extends Enum<E>> E parseEnum(Class<E> type, XmlNode node, String attribute, E defaultValue)
+			throws IOException {
+		String value = node.getAttribute(attribute);
+		if (value == null) {
+			return defaultValue;
+		}
+
+		try {
+			return Enum.valueOf(type, value.toUpperCase(Locale.ENGLISH));
+		} catch (IllegalArgumentException e) {
+			throw new IOException("Unknown " + attribute + " '" + value + "' in node " + node.getName() + ".", e);
+		}
+	}
+
+	/**
+	 * Parses the fields beneath the specified codec node.
+	 *
+	 * @param codec The {@link XmlNode} of the codec.
+	 * @return The {@link List} of {@link FieldSchema}s.
+	 * @throws IOException If a field is malformed.
+	 */
+	private List<FieldSchema> parseFields(XmlNode codec) throws IOException {
+		List<FieldSchema> fields = new ArrayList<>(codec.getChildCount());
+
+		for (XmlNode field : codec) {
+			if (!field.getName().equals("field")) {
+				throw new IOException("Only expected nodes named 'field' beneath " + codec.getAttribute("name") + ".");
+			}
+
+			String name = require(field, "name");
+			FieldType type = parseEnum(FieldType.class, field, "type", null);
+			if (type == null) {
+				throw new IOException("Field " + name + " must have a 'type' attribute.");
+			}
+
+			DataOrder order = parseEnum(DataOrder.class, field, "order", DataOrder.BIG);
+			DataTransformation transformation = parseEnum(DataTransformation.class, field, "transformation",
+					DataTransformation.NONE);
+			boolean signed = Boolean.parseBoolean(field.getAttribute("signed"));
+
+			validate(name, type, order, transformation);
+			fields.add(new FieldSchema(name, type, order, transformation, signed, field.getAttribute("value")));
+		}
+
+		return fields;
+	}
+
+	/**
+	 * Parses the meta data of the outgoing packet described by the specified {@code packet} node.
+	 *
+	 * @param node The {@link XmlNode}.
+	 * @return The {@link PacketMetaData}.
+	 * @throws IOException If the packet is raw, if a fixed packet does not have a valid length, or if a variable packet
+	 *             has a length.
+	 */
+	private PacketMetaData parsePacket(XmlNode node) throws IOException {
+		PacketType type = parseEnum(PacketType.class, node, "type", PacketType.FIXED);
+		String opcode = node.getAttribute("opcode");
+
+		if (type == PacketType.FIXED) {
+			int length = Integer.parseInt(require(node, "length"));
+			if (length < 0) {
+				throw new IOException("Packet " + opcode + " cannot have a negative length.");
+			}
+
+			return PacketMetaData.createFixed(length);
+		} else if (node.containsAttribute("length")) {
+			throw new IOException("Packet " + opcode + " is not fixed, so cannot have a length.");
+		} else if (type == PacketType.VARIABLE_BYTE) {
+			return PacketMetaData.createVariableByte();
+		} else if (type == PacketType.VARIABLE_SHORT) {
+			return PacketMetaData.createVariableShort();
+		}
+
+		throw new IOException("Packet " + opcode + " is raw, which has no meta data.");
+	}
+
+	/**
+	 * Parses the comma-separated {@code opcodes} attribute of the specified node.
+	 *
+	 * @param node The {@link XmlNode}.
+	 * @return The opcodes.
+	 * @throws IOException If the attribute does not exist.
+	 */
+	private int[] parseOpcodes(XmlNode node) throws IOException {
+		String opcodes = require(node, "opcodes");
+		return Arrays.stream(opcodes.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+	}
+
+	/**
+	 * Gets the value of the specified attribute, which must exist.
+	 *
+	 * @param node The {@link XmlNode} containing the attribute.
+	 * @param attribute The name of the attribute.
+	 * @return The value.
+	 * @throws IOException If the attribute does not exist.
+	 */
+	private String require(XmlNode node, String attribute) throws IOException {
+		String value = node.getAttribute(attribute);
+		if (value == null) {
+			throw new IOException("Node " + node.getName() + " must have a '" + attribute + "' attribute.");
+		}
+
+		return value;
+	}
+
+	/**
+	 * Verifies that the specified combination of type, order and transformation can be encoded.
+	 *
+	 * @param name The name of the field.
+	 * @param type The {@link FieldType} of the field.
+	 * @param order The {@link DataOrder} of the field.
+	 * @param transformation The {@link DataTransformation} of the field.
+	 * @throws IOException If the combination cannot be encoded.
+	 */
+	private void validate(String name, FieldType type, DataOrder order, DataTransformation transformation)
+			throws IOException {
+		boolean middle = order == DataOrder.MIDDLE || order == DataOrder.INVERSED_MIDDLE;
+
+		if (middle && (type != FieldType.INT || transformation != DataTransformation.NONE)) {
+			throw new IOException("Field " + name + " uses middle endian order, which is only valid for untransformed "
+					+ "ints.");
+		} else if ((type == FieldType.STRING || type == FieldType.NAME)
+				&& (order != DataOrder.BIG || transformation != DataTransformation.NONE)) {
+			throw new IOException("Field " + name + " is a " + type + ", which cannot be reordered or transformed.");
+		}
+	}
+
+}
@@ -0,0 +1,113 @@
+package org.apollo.net.codec.game;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import org.apollo.net.message.Message;
+import org.apollo.net.meta.PacketMetaDataGroup;
+import org.apollo.net.meta.PacketType;
+import org.apollo.net.release.MessageDecoder;
+import org.apollo.net.release.Release;
+import org.junit.Test;
+
+/**
+ * Contains tests for {@link GameMessageDecoder}.
+ *
+ * @author Major
+ */
+public final class GameMessageDecoderTests {
+
+	/**
+	 * A {@link Message} containing a single int.
+	 */
+	private static final class IntMessage extends Message {
+
+		/**
+		 * The value.
+		 */
+		private final int value;
+
+		/**
+		 * Creates the IntMessage.
+		 *
+		 * @param value The value.
+		 */
+		public IntMessage(int value) {
+			this.value = value;
+		}
+
+	}
+
+	/**
+	 * The opcode of the {@link IntMessage}.
+	 */
+	private static final int OPCODE = 4;
+
+	/**
+	 * Creates a {@link Release} that decodes {@link IntMessage}s.
+	 *
+	 * @return The Release.
+	 */
+	private static Release release() {
+		Release release = new Release(317, PacketMetaDataGroup.createFromArray(new int[256])) {
+
+		};
+
+		release.register(OPCODE, new MessageDecoder<IntMessage>() {
+
+			@Override
+			public IntMessage decode(GamePacket packet) {
+				return new IntMessage(packet.getPayload().readInt());
+			}
+
+		});
+
+		return release;
+	}
+
+	/**
+	 * Ensures that the {@link GameMessageListener} sees the whole payload of the packet, and that the Message it returns
+	 * is passed on in place of the decoded one.
+	 */
+	@Test
+	public void listener() {
+		byte[][] seen = new byte[1][];
+		Message replacement = new IntMessage(-1);
+
+		EmbeddedChannel channel = new EmbeddedChannel(new GameMessageDecoder(release(), (packet, message) -> {
+			ByteBuf payload = packet.getPayload();
+			seen[0] = new byte[payload.readableBytes()];
+			payload.getBytes(payload.readerIndex(), seen[0]);
+
+			assertEquals(1234, ((IntMessage) message).value);
+			return replacement;
+		}));
+
+		ByteBuf payload = Unpooled.buffer().writeInt(1234);
+		channel.writeInbound(new GamePacket(OPCODE, PacketType.FIXED, payload));
+
+		assertSame(replacement, channel.readInbound());
+		assertArrayEquals(new byte[] { 0, 0, 4, (byte) 210 }, seen[0]);
+		assertEquals(0, payload.refCnt());
+	}
+
+	/**
+	 * Ensures that packets without a decoder are dropped, and that their payload is released.
+	 */
+	@Test
+	public void unidentified() {
+		EmbeddedChannel channel = new EmbeddedChannel(new GameMessageDecoder(release()));
+		ByteBuf payload = Unpooled.buffer().writeInt(1234);
+
+		channel.writeInbound(new GamePacket(OPCODE + 1, PacketType.FIXED, payload));
+		assertNull(channel.readInbound());
+		assertEquals(0, payload.refCnt());
+	}
+
+}
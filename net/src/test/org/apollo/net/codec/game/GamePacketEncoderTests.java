@@ -2,10 +2,12 @@ package org.apollo.net.codec.game;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
 import org.apollo.net.meta.PacketType;
 import org.apollo.util.security.IsaacRandom;
 import org.junit.Test;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -24,13 +26,13 @@ public class GamePacketEncoderTests {
 	public void encode() throws Exception {
 		// generates 243, 141, 34, -223, 121...
 		IsaacRandom random = new IsaacRandom(new int[] { 0, 0, 0, 0 });
-		GamePacketEncoder encoder = new GamePacketEncoder(random);
+		EmbeddedChannel channel = new EmbeddedChannel(new GamePacketEncoder(random));
 
 		ByteBuf payload = Unpooled.wrappedBuffer("Hello".getBytes());
 		GamePacket packet = new GamePacket(10, PacketType.FIXED, payload.copy());
 
-		ByteBuf out = Unpooled.buffer();
-		encoder.encode(null, packet, out);
+		channel.writeOutbound(packet);
+		ByteBuf out = (ByteBuf) channel.readOutbound();
 
 		assertEquals(6, out.readableBytes());
 		assertEquals(253, out.readUnsignedByte());
@@ -41,8 +43,8 @@ public class GamePacketEncoderTests {
 		assertEquals('o', out.readUnsignedByte());
 
 		packet = new GamePacket(9, PacketType.VARIABLE_BYTE, payload.copy());
-		out.clear();
-		encoder.encode(null, packet, out);
+		channel.writeOutbound(packet);
+		out = (ByteBuf) channel.readOutbound();
 
 		assertEquals(7, out.readableBytes());
 		assertEquals(150, out.readUnsignedByte());
@@ -54,8 +56,8 @@ public class GamePacketEncoderTests {
 		assertEquals('o', out.readUnsignedByte());
 
 		packet = new GamePacket(0, PacketType.VARIABLE_SHORT, payload.copy());
-		out.clear();
-		encoder.encode(null, packet, out);
+		channel.writeOutbound(packet);
+		out = (ByteBuf) channel.readOutbound();
 
 		assertEquals(8, out.readableBytes());
 		assertEquals(34, out.readUnsignedByte());
@@ -67,4 +69,41 @@ public class GamePacketEncoderTests {
 		assertEquals('o', out.readUnsignedByte());
 	}
 
+	/**
+	 * Tests that a large {@link GamePacket} can be written more than once, and that its payload is not modified.
+	 *
+	 * @throws Exception If an error occurs.
+	 */
+	@Test
+	public void encodeShared() throws Exception {
+		EmbeddedChannel first = new EmbeddedChannel(new GamePacketEncoder(new IsaacRandom(new int[] { 0, 0, 0, 0 })));
+		EmbeddedChannel second = new EmbeddedChannel(new GamePacketEncoder(new IsaacRandom(new int[] { 1, 2, 3, 4 })));
+
+		byte[] bytes = new byte[1_000];
+		for (int index = 0; index < bytes.length; index++) {
+			bytes[index] = (byte) index;
+		}
+
+		ByteBuf payload = Unpooled.wrappedBuffer(bytes);
+		GamePacket packet = new GamePacket(0, PacketType.VARIABLE_SHORT, payload);
+
+		first.writeOutbound(packet);
+		second.writeOutbound(packet);
+
+		ByteBuf out = (ByteBuf) first.readOutbound();
+		assertEquals(243, out.readUnsignedByte());
+
+		for (ByteBuf buffer : new ByteBuf[] { out, ((ByteBuf) second.readOutbound()).skipBytes(1) }) {
+			assertEquals(bytes.length, buffer.readUnsignedShort());
+
+			byte[] written = new byte[bytes.length];
+			buffer.readBytes(written);
+			assertArrayEquals(bytes, written);
+			buffer.release();
+		}
+
+		assertEquals(1, payload.refCnt());
+		assertEquals(bytes.length, payload.readableBytes());
+	}
+
 }
\ No newline at end of file
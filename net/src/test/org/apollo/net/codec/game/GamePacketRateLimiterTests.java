@@ -0,0 +1,79 @@
+package org.apollo.net.codec.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Contains tests for {@link GamePacketRateLimiter}.
+ *
+ * @author Major
+ */
+public final class GamePacketRateLimiterTests {
+
+	/**
+	 * The opcode placed in the limited category.
+	 */
+	private static final int WALK_OPCODE = 98;
+
+	/**
+	 * Creates the {@link PacketRateLimits} used by each test: a {@code walk} category allowing two packets per second
+	 * with a burst of four, and a generous default category.
+	 *
+	 * @return The PacketRateLimits.
+	 */
+	private static PacketRateLimits limits() {
+		return new PacketRateLimits.Builder(1_000, 1_000).category("walk", 2, 4, WALK_OPCODE).build();
+	}
+
+	/**
+	 * Ensures that a full bucket allows exactly its burst, and then refills at the sustained rate.
+	 */
+	@Test
+	public void burstThenRefill() {
+		GamePacketRateLimiter limiter = new GamePacketRateLimiter(limits());
+		long now = System.nanoTime();
+
+		for (int packet = 0; packet < 4; packet++) {
+			assertTrue(limiter.consume(WALK_OPCODE, now));
+		}
+
+		assertFalse(limiter.consume(WALK_OPCODE, now));
+		assertFalse(limiter.consume(WALK_OPCODE, now + TimeUnit.MILLISECONDS.toNanos(400)));
+		assertTrue(limiter.consume(WALK_OPCODE, now + TimeUnit.MILLISECONDS.toNanos(500)));
+		assertFalse(limiter.consume(WALK_OPCODE, now + TimeUnit.MILLISECONDS.toNanos(600)));
+
+		int walk = limiter.getLimits().getCategory(WALK_OPCODE);
+		assertEquals(5, limiter.getAccepted(walk));
+		assertEquals(3, limiter.getDropped(walk));
+	}
+
+	/**
+	 * Ensures that exhausting one category does not affect another.
+	 */
+	@Test
+	public void independentCategories() {
+		GamePacketRateLimiter limiter = new GamePacketRateLimiter(limits());
+		long now = System.nanoTime();
+
+		for (int packet = 0; packet < 10; packet++) {
+			limiter.consume(WALK_OPCODE, now);
+		}
+
+		assertTrue(limiter.consume(0, now));
+		assertEquals(1, limiter.getAccepted(limiter.getLimits().getCategory(0)));
+	}
+
+	/**
+	 * Ensures that an opcode may not be placed in two categories.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void duplicateOpcode() {
+		new PacketRateLimits.Builder(1, 1).category("first", 1, 1, 5).category("second", 1, 1, 5);
+	}
+
+}
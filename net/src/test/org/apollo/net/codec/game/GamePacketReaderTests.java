@@ -0,0 +1,160 @@
+package org.apollo.net.codec.game;
+
+import static org.junit.Assert.assertEquals;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import org.apollo.net.meta.PacketType;
+import org.junit.Test;
+
+/**
+ * Contains tests for {@link GamePacketReader}.
+ *
+ * @author Graham
+ */
+public final class GamePacketReaderTests {
+
+	/**
+	 * The bytes read by each test.
+	 */
+	private static final byte[] BYTES = { (byte) 0x81, 0x7F, (byte) 0xFF, 0x00, 0x01, (byte) 0x80 };
+
+	/**
+	 * Creates a {@link GamePacketReader} over a copy of {@link #BYTES}.
+	 *
+	 * @return The GamePacketReader.
+	 */
+	private static GamePacketReader reader() {
+		ByteBuf payload = Unpooled.copiedBuffer(BYTES);
+		return new GamePacketReader(new GamePacket(0, PacketType.FIXED, payload));
+	}
+
+	/**
+	 * The unsigned value of each of {@link #BYTES}, with each {@link DataTransformation} reversed, indexed by the
+	 * ordinal of the transformation.
+	 */
+	private static final int[][] UNSIGNED_BYTES = {
+		{ 0x01, 0xFF, 0x7F, 0x80, 0x81, 0x00 }, // ADD
+		{ 0x7F, 0x81, 0x01, 0x00, 0xFF, 0x80 }, // NEGATE
+		{ 0x81, 0x7F, 0xFF, 0x00, 0x01, 0x80 }, // NONE
+		{ 0xFF, 0x01, 0x81, 0x80, 0x7F, 0x00 } // SUBTRACT
+	};
+
+	/**
+	 * The signed value of each of {@link #BYTES}, with each {@link DataTransformation} reversed, indexed by the
+	 * ordinal of the transformation.
+	 */
+	private static final int[][] SIGNED_BYTES = {
+		{ 1, -1, 127, -128, -127, 0 }, // ADD
+		{ 127, -127, 1, 0, -1, -128 }, // NEGATE
+		{ -127, 127, -1, 0, 1, -128 }, // NONE
+		{ -1, 1, -127, -128, 127, 0 } // SUBTRACT
+	};
+
+	/**
+	 * The unsigned value of each pair of {@link #BYTES} read as a big endian short, with each
+	 * {@link DataTransformation} reversed, indexed by the ordinal of the transformation.
+	 */
+	private static final int[][] BIG_SHORTS = {
+		{ 0x81FF, 0xFF80, 0x0100 }, // ADD
+		{ 0x8181, 0xFF00, 0x0180 }, // NEGATE
+		{ 0x817F, 0xFF00, 0x0180 }, // NONE
+		{ 0x8101, 0xFF80, 0x0100 } // SUBTRACT
+	};
+
+	/**
+	 * The unsigned value of each pair of {@link #BYTES} read as a little endian short, with each
+	 * {@link DataTransformation} reversed, indexed by the ordinal of the transformation.
+	 */
+	private static final int[][] LITTLE_SHORTS = {
+		{ 0x7F01, 0x007F, 0x8081 }, // ADD
+		{ 0x7F7F, 0x0001, 0x80FF }, // NEGATE
+		{ 0x7F81, 0x00FF, 0x8001 }, // NONE
+		{ 0x7FFF, 0x0081, 0x807F } // SUBTRACT
+	};
+
+	/**
+	 * Tests the byte methods, both specialised and generic, against the expected values for every transformation.
+	 */
+	@Test
+	public void bytes() {
+		for (DataTransformation transformation : DataTransformation.values()) {
+			int[] unsigned = UNSIGNED_BYTES[transformation.ordinal()];
+			int[] signed = SIGNED_BYTES[transformation.ordinal()];
+			GamePacketReader specialised = reader(), generic = reader();
+
+			for (int value : unsigned) {
+				assertEquals(value, specialised.getUnsignedByte(transformation));
+				assertEquals(value, generic.getUnsigned(DataType.BYTE, transformation));
+			}
+
+			specialised = reader();
+			generic = reader();
+
+			for (int value : signed) {
+				assertEquals(value, specialised.getSignedByte(transformation));
+				assertEquals(value, generic.getSigned(DataType.BYTE, transformation));
+			}
+		}
+	}
+
+	/**
+	 * Tests the short methods, both specialised and generic, against the expected values for both orders and every
+	 * transformation.
+	 */
+	@Test
+	public void shorts() {
+		for (DataOrder order : new DataOrder[] { DataOrder.BIG, DataOrder.LITTLE }) {
+			for (DataTransformation transformation : DataTransformation.values()) {
+				int[] expected = (order == DataOrder.BIG ? BIG_SHORTS : LITTLE_SHORTS)[transformation.ordinal()];
+				GamePacketReader specialised = reader(), generic = reader();
+
+				for (int value : expected) {
+					assertEquals(value, specialised.getUnsignedShort(order, transformation));
+					assertEquals(value, generic.getUnsigned(DataType.SHORT, order, transformation));
+				}
+
+				specialised = reader();
+				generic = reader();
+
+				for (int value : expected) {
+					int signed = value >= 0x8000 ? value - 0x10000 : value;
+					assertEquals(signed, specialised.getSignedShort(order, transformation));
+					assertEquals(signed, generic.getSigned(DataType.SHORT, order, transformation));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests the generic methods for the wider types against the expected values, including the transformation of
+	 * the least significant byte and the middle endian orders.
+	 */
+	@Test
+	public void wider() {
+		assertEquals(0x817FFF00L, reader().getUnsigned(DataType.INT));
+		assertEquals(0x817FFF80L, reader().getUnsigned(DataType.INT, DataTransformation.ADD));
+		assertEquals(0x00FF7F81L, reader().getUnsigned(DataType.INT, DataOrder.LITTLE));
+		assertEquals(0x7F8100FFL, reader().getUnsigned(DataType.INT, DataOrder.INVERSED_MIDDLE));
+		assertEquals(0xFF7FFFL, reader().getUnsigned(DataType.TRI_BYTE, DataOrder.LITTLE, DataTransformation.SUBTRACT));
+
+		GamePacketReader reader = reader();
+		reader.getUnsignedShort();
+		assertEquals(0x0180FF00L, reader.getUnsigned(DataType.INT, DataOrder.MIDDLE));
+	}
+
+	/**
+	 * Tests sign extension of {@link GamePacketReader#getSigned(DataType)} for the wider types.
+	 */
+	@Test
+	public void signed() {
+		GamePacketReader reader = reader();
+		assertEquals(0x817FFF00, reader.getSigned(DataType.INT));
+
+		reader = reader();
+		assertEquals(0x817FFF - 0x1000000, reader.getSigned(DataType.TRI_BYTE));
+		assertEquals(0x800100 - 0x1000000, reader.getSigned(DataType.TRI_BYTE, DataOrder.LITTLE));
+	}
+
+}
@@ -0,0 +1,139 @@
+package org.apollo.net.release.schema;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apollo.net.meta.PacketMetaDataGroup;
+import org.apollo.net.meta.PacketType;
+import org.junit.Test;
+import org.xml.sax.SAXException;
+
+/**
+ * Contains tests for {@link ReleaseSchemaParser} and {@link CodecGenerator}.
+ *
+ * @author Major
+ */
+public final class CodecGeneratorTests {
+
+	/**
+	 * Parses the specified codec nodes as the children of a release node.
+	 *
+	 * @param codecs The codec nodes.
+	 * @return The {@link ReleaseSchema}.
+	 * @throws IOException If the schema is malformed.
+	 * @throws SAXException If a SAX error occurs.
+	 */
+	private static ReleaseSchema parse(String codecs) throws IOException, SAXException {
+		String xml = "<release package=\"org.example\" messages=\"org.example.message\">" + codecs + "</release>";
+		return new ReleaseSchemaParser(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8))).parse();
+	}
+
+	/**
+	 * Ensures that a decoder reads each field with direct buffer calls, in order, and constructs the message from them.
+	 *
+	 * @throws Exception If the schema could not be parsed.
+	 */
+	@Test
+	public void decoder() throws Exception {
+		ReleaseSchema schema = parse("<decoder name=\"SwitchDecoder\" message=\"SwitchMessage\" opcodes=\"214, 215\">"
+				+ "<field name=\"id\" type=\"short\" order=\"little\" transformation=\"add\" />"
+				+ "<field name=\"inserting\" type=\"boolean\" transformation=\"negate\" />"
+				+ "<field name=\"amount\" type=\"int\" order=\"middle\" /></decoder>");
+
+		DecoderSchema decoder = schema.getDecoders().get(0);
+		assertEquals(2, decoder.getOpcodes().length);
+		assertEquals("id, inserting, amount", decoder.getArguments());
+		assertEquals(7, decoder.getFixedLength());
+
+		String source = new CodecGenerator(schema, "test.xml").decoder(decoder);
+		assertTrue(source.contains("int id = (buffer.readByte() - 128 & 0xFF) | buffer.readUnsignedByte() << 8;"));
+		assertTrue(source.contains("boolean inserting = (-buffer.readByte() & 0xFF) == 1;"));
+		assertTrue(source.contains("return new SwitchMessage(id, inserting, amount);"));
+		assertTrue(source.contains("import org.example.message.SwitchMessage;"));
+	}
+
+	/**
+	 * Ensures that an encoder sizes its buffer from the fixed fields and the lengths of its strings.
+	 *
+	 * @throws Exception If the schema could not be parsed.
+	 */
+	@Test
+	public void encoder() throws Exception {
+		ReleaseSchema schema = parse("<encoder name=\"TextEncoder\" message=\"TextMessage\" opcode=\"126\" "
+				+ "type=\"variable_short\">"
+				+ "<field name=\"text\" type=\"string\" value=\"message.getText()\" />"
+				+ "<field name=\"id\" type=\"short\" transformation=\"add\" value=\"message.getId()\" /></encoder>");
+
+		EncoderSchema encoder = schema.getEncoders().get(0);
+		assertEquals(PacketType.VARIABLE_SHORT, encoder.getType());
+
+		String source = new CodecGenerator(schema, "test.xml").encoder(encoder);
+		assertTrue(source.contains("ByteBuf buffer = Unpooled.buffer(3 + text.length());"));
+		assertTrue(source.contains("return new GamePacket(126, PacketType.VARIABLE_SHORT, buffer);"));
+	}
+
+	/**
+	 * Ensures that the registrar registers every codec with the release.
+	 *
+	 * @throws Exception If the schema could not be parsed.
+	 */
+	@Test
+	public void registrar() throws Exception {
+		ReleaseSchema schema = parse("<decoder name=\"EmptyDecoder\" message=\"EmptyMessage\" opcodes=\"1, 2\" />"
+				+ "<encoder name=\"EmptyEncoder\" message=\"LogoutMessage\" opcode=\"109\" />");
+
+		String source = new CodecGenerator(schema, "test.xml").registrar();
+		assertTrue(source.contains("release.register(1, emptyDecoder);"));
+		assertTrue(source.contains("release.register(2, emptyDecoder);"));
+		assertTrue(source.contains("release.register(LogoutMessage.class, new EmptyEncoder());"));
+	}
+
+	/**
+	 * Ensures that the outgoing meta data describes the packets of both the encoders and the packet nodes, and that
+	 * other packets have none.
+	 *
+	 * @throws Exception If the schema could not be parsed.
+	 */
+	@Test
+	public void outgoingMetaData() throws Exception {
+		ReleaseSchema schema = parse("<encoder name=\"IdEncoder\" message=\"IdMessage\" opcode=\"126\">"
+				+ "<field name=\"id\" type=\"short\" value=\"message.getId()\" /></encoder>"
+				+ "<encoder name=\"TextEncoder\" message=\"TextMessage\" opcode=\"63\" type=\"variable_byte\" />"
+				+ "<packet opcode=\"115\" length=\"6\" /><packet opcode=\"90\" type=\"variable_short\" />");
+
+		PacketMetaDataGroup packets = schema.getOutgoingMetaData();
+		assertEquals(2, packets.getMetaData(126).getLength());
+		assertEquals(PacketType.VARIABLE_BYTE, packets.getMetaData(63).getType());
+		assertEquals(6, packets.getMetaData(115).getLength());
+		assertEquals(PacketType.VARIABLE_SHORT, packets.getMetaData(90).getType());
+		assertNull(packets.getMetaData(0));
+	}
+
+	/**
+	 * Ensures that a packet node cannot describe a packet that already has a generated encoder.
+	 *
+	 * @throws Exception If the schema could not be parsed.
+	 */
+	@Test(expected = IOException.class)
+	public void packetWithEncoder() throws Exception {
+		parse("<packet opcode=\"126\" length=\"2\" />"
+				+ "<encoder name=\"EmptyEncoder\" message=\"LogoutMessage\" opcode=\"126\" />");
+	}
+
+	/**
+	 * Ensures that a field with a combination of order and type that cannot be encoded is rejected.
+	 *
+	 * @throws Exception If the schema could not be parsed.
+	 */
+	@Test(expected = IOException.class)
+	public void middleEndianShort() throws Exception {
+		parse("<decoder name=\"BadDecoder\" message=\"BadMessage\" opcodes=\"1\">"
+				+ "<field name=\"id\" type=\"short\" order=\"middle\" /></decoder>");
+	}
+
+}
@@ -65,6 +65,20 @@ public final class BufferUtil {
 		return (buffer.getShort() & 0xFFFF) << 8 | buffer.get() & 0xFF;
 	}
 
+	/**
+	 * Writes a string, followed by the {@link #STRING_TERMINATOR}, to the specified {@link ByteBuf}. Each character is
+	 * written as a single byte.
+	 *
+	 * @param buffer The buffer.
+	 * @param string The string.
+	 */
+	public static void writeString(ByteBuf buffer, String string) {
+		for (int index = 0; index < string.length(); index++) {
+			buffer.writeByte(string.charAt(index));
+		}
+		buffer.writeByte(STRING_TERMINATOR);
+	}
+
 	/**
 	 * The terminator of a string.
 	 */
@@ -0,0 +1,127 @@
+package org.apollo.util.security;
+
+import java.math.BigInteger;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.interfaces.RSAPrivateKey;
+
+/**
+ * An RSA private key, used to decrypt the secure block of the login request.
+ * <p>
+ * If the prime factors of the modulus are known, decryption uses the Chinese remainder theorem: two exponentiations
+ * with half-length exponents and moduli, which is roughly three times faster than a single exponentiation with the full
+ * private exponent.
+ *
+ * @author Major
+ */
+public final class RsaKey {
+
+	/**
+	 * Creates an RsaKey from the specified {@link RSAPrivateKey}, using its prime factors if they are available.
+	 *
+	 * @param key The RSAPrivateKey.
+	 * @return The RsaKey.
+	 */
+	public static RsaKey create(RSAPrivateKey key) {
+		if (key instanceof RSAPrivateCrtKey) {
+			RSAPrivateCrtKey crt = (RSAPrivateCrtKey) key;
+			return new RsaKey(crt.getModulus(), crt.getPrivateExponent(), crt.getPrimeP(), crt.getPrimeQ(),
+				crt.getPrimeExponentP(), crt.getPrimeExponentQ(), crt.getCrtCoefficient());
+		}
+
+		return new RsaKey(key.getModulus(), key.getPrivateExponent(), null, null, null, null, null);
+	}
+
+	/**
+	 * The inverse of q, modulo p, or {@code null} if the prime factors are not known.
+	 */
+	private final BigInteger coefficient;
+
+	/**
+	 * The private exponent.
+	 */
+	private final BigInteger exponent;
+
+	/**
+	 * The private exponent modulo p - 1, or {@code null} if the prime factors are not known.
+	 */
+	private final BigInteger exponentP;
+
+	/**
+	 * The private exponent modulo q - 1, or {@code null} if the prime factors are not known.
+	 */
+	private final BigInteger exponentQ;
+
+	/**
+	 * The modulus.
+	 */
+	private final BigInteger modulus;
+
+	/**
+	 * The first prime factor of the modulus, or {@code null} if it is not known.
+	 */
+	private final BigInteger p;
+
+	/**
+	 * The second prime factor of the modulus, or {@code null} if it is not known.
+	 */
+	private final BigInteger q;
+
+	/**
+	 * Creates the RsaKey.
+	 *
+	 * @param modulus The modulus.
+	 * @param exponent The private exponent.
+	 * @param p The first prime factor of the modulus. May be {@code null}.
+	 * @param q The second prime factor of the modulus. May be {@code null}.
+	 * @param exponentP The private exponent modulo p - 1. May be {@code null}.
+	 * @param exponentQ The private exponent modulo q - 1. May be {@code null}.
+	 * @param coefficient The inverse of q, modulo p. May be {@code null}.
+	 */
+	private RsaKey(BigInteger modulus, BigInteger exponent, BigInteger p, BigInteger q, BigInteger exponentP,
+			BigInteger exponentQ, BigInteger coefficient) {
+		this.modulus = modulus;
+		this.exponent = exponent;
+		this.p = p;
+		this.q = q;
+		this.exponentP = exponentP;
+		this.exponentQ = exponentQ;
+		this.coefficient = coefficient;
+	}
+
+	/**
+	 * Decrypts the specified value.
+	 *
+	 * @param value The encrypted value.
+	 * @return The decrypted value.
+	 */
+	public BigInteger decrypt(BigInteger value) {
+		if (p == null) {
+			return value.modPow(exponent, modulus);
+		}
+
+		BigInteger first = value.modPow(exponentP, p);
+		BigInteger second = value.modPow(exponentQ, q);
+		BigInteger h = first.subtract(second).multiply(coefficient).mod(p);
+
+		return second.add(h.multiply(q));
+	}
+
+	/**
+	 * Gets the modulus of this key.
+	 *
+	 * @return The modulus.
+	 */
+	public BigInteger getModulus() {
+		return modulus;
+	}
+
+	/**
+	 * Returns whether or not this key decrypts using the Chinese remainder theorem.
+	 *
+	 * @return {@code true} if the prime factors of the modulus are known, otherwise {@code false}.
+	 */
+	public boolean isCrt() {
+		return p != null;
+	}
+
+}
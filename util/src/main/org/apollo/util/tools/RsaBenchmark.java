@@ -0,0 +1,108 @@
+package org.apollo.util.tools;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+import org.apollo.util.ThreadUtil;
+import org.apollo.util.security.RsaKey;
+
+/**
+ * Measures how many login RSA blocks can be decrypted per second, with and without the Chinese remainder theorem, using
+ * a freshly-generated key of the same size as the one created by {@link RsaKeyGenerator}.
+ * <p>
+ * The amount of threads may be passed as the first argument, and defaults to the amount of available processors.
+ *
+ * @author Major
+ */
+public final class RsaBenchmark {
+
+	/**
+	 * The bit count of the generated key.
+	 */
+	private static final int BIT_COUNT = 1024;
+
+	/**
+	 * The amount of seconds each measurement lasts.
+	 */
+	private static final int DURATION = 5;
+
+	/**
+	 * The amount of seconds spent warming up before each measurement.
+	 */
+	private static final int WARMUP = 2;
+
+	/**
+	 * The entry point of the RsaBenchmark.
+	 *
+	 * @param args The application arguments.
+	 */
+	public static void main(String[] args) throws Exception {
+		int threads = args.length > 0 ? Integer.parseInt(args[0]) : ThreadUtil.AVAILABLE_PROCESSORS;
+
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(BIT_COUNT);
+		KeyPair pair = generator.generateKeyPair();
+
+		RSAPrivateKey privateKey = (RSAPrivateKey) pair.getPrivate();
+		RSAPublicKey publicKey = (RSAPublicKey) pair.getPublic();
+		RsaKey key = RsaKey.create(privateKey);
+
+		BigInteger block = new BigInteger(BIT_COUNT - 8, new Random()).modPow(publicKey.getPublicExponent(),
+			publicKey.getModulus());
+
+		BigInteger exponent = privateKey.getPrivateExponent(), modulus = privateKey.getModulus();
+		System.out.println("Threads: " + threads);
+		System.out.printf("modPow: %,.0f logins/s%n", measure(threads, value -> value.modPow(exponent, modulus), block));
+		System.out.printf("CRT: %,.0f logins/s%n", measure(threads, key::decrypt, block));
+	}
+
+	/**
+	 * Measures the throughput of the specified decryption function.
+	 *
+	 * @param threads The amount of threads.
+	 * @param decryption The decryption function.
+	 * @param block The encrypted block.
+	 * @return The amount of blocks decrypted per second.
+	 * @throws InterruptedException If the thread is interrupted while waiting for the measurement to finish.
+	 */
+	private static double measure(int threads, UnaryOperator<BigInteger> decryption, BigInteger block)
+			throws InterruptedException {
+		ExecutorService executor = Executors.newFixedThreadPool(threads, ThreadUtil.create("RsaBenchmark-%d"));
+		LongAdder decrypted = new LongAdder();
+		long start = System.nanoTime(), warm = start + TimeUnit.SECONDS.toNanos(WARMUP);
+		long end = warm + TimeUnit.SECONDS.toNanos(DURATION);
+
+		for (int thread = 0; thread < threads; thread++) {
+			executor.execute(() -> {
+				long now;
+				while ((now = System.nanoTime()) < end) {
+					decryption.apply(block);
+					if (now >= warm) {
+						decrypted.increment();
+					}
+				}
+			});
+		}
+
+		executor.shutdown();
+		executor.awaitTermination(WARMUP + DURATION + 10, TimeUnit.SECONDS);
+		return decrypted.sum() / (double) DURATION;
+	}
+
+	/**
+	 * Sole private constructor to prevent instantiation.
+	 */
+	private RsaBenchmark() {
+
+	}
+
+}
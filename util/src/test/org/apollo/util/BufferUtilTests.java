@@ -61,4 +61,19 @@ public final class BufferUtilTests {
 		assertEquals(123 << 16 | 45 << 8 | 67, BufferUtil.readUnsignedMedium(buf));
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Tests that the {@link BufferUtil#writeString} method writes strings that {@link BufferUtil#readString(ByteBuf)}
+	 * reads back.
+	 */
+	@Test
+	public void writtenString() {
+		ByteBuf buffer = Unpooled.buffer();
+		BufferUtil.writeString(buffer, "Hello");
+		BufferUtil.writeString(buffer, "");
+
+		assertEquals(7, buffer.readableBytes());
+		assertEquals("Hello", BufferUtil.readString(buffer));
+		assertEquals("", BufferUtil.readString(buffer));
+	}
+
+}
@@ -0,0 +1,125 @@
+package org.apollo.util.security;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Contains unit tests for {@link RsaKey}s.
+ *
+ * @author Major
+ */
+public final class RsaKeyTests {
+
+	/**
+	 * The generated private key.
+	 */
+	private static RSAPrivateKey privateKey;
+
+	/**
+	 * The generated public key.
+	 */
+	private static RSAPublicKey publicKey;
+
+	/**
+	 * Generates the key pair used by the tests.
+	 *
+	 * @throws Exception If the key pair could not be generated.
+	 */
+	@BeforeClass
+	public static void generateKeys() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(1024);
+
+		KeyPair pair = generator.generateKeyPair();
+		privateKey = (RSAPrivateKey) pair.getPrivate();
+		publicKey = (RSAPublicKey) pair.getPublic();
+	}
+
+	/**
+	 * Tests that decrypting with the prime factors gives the same result as decrypting with the private exponent.
+	 */
+	@Test
+	public void crt() {
+		RsaKey key = RsaKey.create(privateKey);
+		assertTrue(key.isCrt());
+
+		Random random = new Random(0);
+		BigInteger modulus = privateKey.getModulus();
+
+		for (int count = 0; count < 100; count++) {
+			BigInteger value = new BigInteger(modulus.bitLength() - 1, random);
+			if (random.nextBoolean()) {
+				value = value.negate();
+			}
+
+			assertEquals(value.modPow(privateKey.getPrivateExponent(), modulus), key.decrypt(value));
+		}
+	}
+
+	/**
+	 * Tests that a value encrypted with the public key is decrypted.
+	 */
+	@Test
+	public void decrypt() {
+		BigInteger message = new BigInteger("0a0102030405060708", 16);
+		BigInteger encrypted = message.modPow(publicKey.getPublicExponent(), publicKey.getModulus());
+
+		assertEquals(message, RsaKey.create(privateKey).decrypt(encrypted));
+	}
+
+	/**
+	 * Tests that a key without prime factors decrypts using the private exponent.
+	 */
+	@Test
+	public void withoutPrimes() {
+		RSAPrivateKey exponentOnly = new RSAPrivateKey() {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public String getAlgorithm() {
+				return privateKey.getAlgorithm();
+			}
+
+			@Override
+			public byte[] getEncoded() {
+				return null;
+			}
+
+			@Override
+			public String getFormat() {
+				return null;
+			}
+
+			@Override
+			public BigInteger getModulus() {
+				return privateKey.getModulus();
+			}
+
+			@Override
+			public BigInteger getPrivateExponent() {
+				return privateKey.getPrivateExponent();
+			}
+
+		};
+
+		RsaKey key = RsaKey.create(exponentOnly);
+		assertFalse(key.isCrt());
+
+		BigInteger message = BigInteger.valueOf(10);
+		BigInteger encrypted = message.modPow(publicKey.getPublicExponent(), publicKey.getModulus());
+		assertEquals(message, key.decrypt(encrypted));
+	}
+
+}